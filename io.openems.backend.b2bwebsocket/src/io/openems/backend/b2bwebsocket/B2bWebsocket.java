@@ -2,6 +2,8 @@ package io.openems.backend.b2bwebsocket;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -48,9 +50,14 @@ public class B2bWebsocket extends AbstractOpenemsBackendComponent implements Eve
 	@Reference(cardinality = ReferenceCardinality.MANDATORY, policy = ReferencePolicy.DYNAMIC)
 	protected volatile Timedata timeData;
 
-	protected final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10,
+	protected final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1,
 			new ThreadFactoryBuilder().setNameFormat("B2bWebsocket-%d").build());
 
+	protected final SnapshotPublisher snapshotPublisher = new SnapshotPublisher(
+			(edgeId, channels) -> this.timeData.getChannelValues(edgeId, channels));
+
+	private ScheduledFuture<?> snapshotPublisherFuture = null;
+
 	public B2bWebsocket() {
 		super("Backend2Backend.Websocket");
 	}
@@ -60,10 +67,15 @@ public class B2bWebsocket extends AbstractOpenemsBackendComponent implements Eve
 	@Activate
 	private void activate(Config config) {
 		this.config = config;
+		this.snapshotPublisherFuture = this.executor.scheduleWithFixedDelay(this.snapshotPublisher::publish, 0,
+				SnapshotPublisher.UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
 	}
 
 	@Deactivate
 	private void deactivate() {
+		if (this.snapshotPublisherFuture != null) {
+			this.snapshotPublisherFuture.cancel(false);
+		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 		this.stopServer();
 	}
@@ -0,0 +1,283 @@
+package io.openems.backend.b2bwebsocket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.b2bwebsocket.jsonrpc.notification.EdgesCurrentDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Publishes the current data of subscribed Channels to all subscribers of the
+ * B2B websocket.
+ *
+ * <p>
+ * Once per interval the values of every subscribed Edge are queried only once -
+ * independent of the number of subscribers - and rendered to serialized JSON
+ * fragments per Edge. Subscribers with the same set of Channels share these
+ * fragments. Subscribers in delta-only mode receive a full
+ * {@link EdgesCurrentDataNotification} once and afterwards only the values that
+ * changed since the previous interval.
+ *
+ * <p>
+ * Read permissions are checked on every interval; Edges a {@link Subscriber}
+ * is not allowed to read anymore are left out. If querying the values of one
+ * Edge fails, its Channels are published as null.
+ */
+public class SnapshotPublisher {
+
+	public static final int UPDATE_INTERVAL_IN_SECONDS = 2;
+
+	/**
+	 * A subscriber of the {@link SnapshotPublisher}.
+	 */
+	public static interface Subscriber {
+
+		/**
+		 * Gets the subscribed Edge-IDs.
+		 *
+		 * @return a Set of Edge-IDs
+		 */
+		public Set<String> getEdgeIds();
+
+		/**
+		 * Gets the subscribed Channels.
+		 *
+		 * @return a Set of {@link ChannelAddress}es
+		 */
+		public Set<ChannelAddress> getChannels();
+
+		/**
+		 * Should only changed values be sent?.
+		 *
+		 * @return true for delta-only updates
+		 */
+		public boolean isDeltaOnly();
+
+		/**
+		 * Is the subscriber currently allowed to read the data of the Edge?.
+		 *
+		 * @param edgeId the Edge-ID
+		 * @return true if the data may be sent
+		 */
+		public boolean canRead(String edgeId);
+
+		/**
+		 * Sends a serialized {@link EdgesCurrentDataNotification}.
+		 *
+		 * @param message the serialized message
+		 * @return false if the subscriber is not connected anymore
+		 */
+		public boolean send(String message);
+	}
+
+	private static class Subscription {
+		private final Subscriber subscriber;
+		private final List<String> edgeIds;
+		private final boolean delta;
+		private final int fragmentsKey;
+
+		private Subscription(Subscriber subscriber, List<String> edgeIds, boolean delta, int fragmentsKey) {
+			this.subscriber = subscriber;
+			this.edgeIds = edgeIds;
+			this.delta = delta;
+			this.fragmentsKey = fragmentsKey;
+		}
+	}
+
+	private static final String MESSAGE_PREFIX = "{\"jsonrpc\":\"2.0\",\"method\":\""
+			+ EdgesCurrentDataNotification.METHOD + "\",\"params\":{";
+	private static final String MESSAGE_SUFFIX = "}}";
+
+	private final Logger log = LoggerFactory.getLogger(SnapshotPublisher.class);
+
+	private final BiFunction<String, Set<ChannelAddress>, Map<ChannelAddress, JsonElement>> getChannelValues;
+
+	/**
+	 * Subscribers; the value is true if the next update has to be a full update.
+	 */
+	private final ConcurrentHashMap<Subscriber, AtomicBoolean> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * The values of the previous interval.
+	 */
+	private Map<String, Map<ChannelAddress, JsonElement>> previousValues = new HashMap<>();
+
+	/**
+	 * Creates a {@link SnapshotPublisher}.
+	 *
+	 * @param getChannelValues gets the current values of Channels of an Edge, e.g.
+	 *                         via Timedata
+	 */
+	public SnapshotPublisher(
+			BiFunction<String, Set<ChannelAddress>, Map<ChannelAddress, JsonElement>> getChannelValues) {
+		this.getChannelValues = getChannelValues;
+	}
+
+	/**
+	 * Adds a {@link Subscriber} or updates its subscription. The next update for
+	 * this {@link Subscriber} is a full update.
+	 *
+	 * @param subscriber the {@link Subscriber}
+	 */
+	public void subscribe(Subscriber subscriber) {
+		this.subscribers.put(subscriber, new AtomicBoolean(true));
+	}
+
+	/**
+	 * Removes a {@link Subscriber}.
+	 *
+	 * @param subscriber the {@link Subscriber}
+	 */
+	public void unsubscribe(Subscriber subscriber) {
+		this.subscribers.remove(subscriber);
+	}
+
+	/**
+	 * Sends the current values to all {@link Subscriber}s. This is executed
+	 * regularly.
+	 */
+	public synchronized void publish() {
+		try {
+			this.publishUnsynchronized();
+		} catch (RuntimeException e) {
+			this.log.warn("Unable to publish EdgesCurrentData: " + e.getClass().getSimpleName() + ": "
+					+ e.getMessage());
+		}
+	}
+
+	private void publishUnsynchronized() {
+		if (this.subscribers.isEmpty()) {
+			this.previousValues = new HashMap<>();
+			return;
+		}
+
+		// Take a consistent view on all subscriptions; subscribers with equal Channels
+		// share the same rendered fragments
+		var channelSets = new ArrayList<Set<ChannelAddress>>();
+		var channelSetIds = new HashMap<Set<ChannelAddress>, Integer>();
+		var channelsPerEdge = new HashMap<String, Set<ChannelAddress>>();
+		var subscriptions = new ArrayList<Subscription>(this.subscribers.size());
+		for (var entry : this.subscribers.entrySet()) {
+			var subscriber = entry.getKey();
+			var edgeIds = new ArrayList<String>();
+			for (var edgeId : subscriber.getEdgeIds()) {
+				if (subscriber.canRead(edgeId)) {
+					edgeIds.add(edgeId);
+				}
+			}
+			if (edgeIds.isEmpty()) {
+				// read permissions for all Edges were revoked
+				this.subscribers.remove(subscriber);
+				continue;
+			}
+			var channels = subscriber.getChannels();
+			var delta = subscriber.isDeltaOnly() && !entry.getValue().getAndSet(false);
+			var channelSetId = channelSetIds.computeIfAbsent(channels, c -> {
+				channelSets.add(c);
+				return channelSets.size() - 1;
+			});
+			subscriptions.add(new Subscription(subscriber, edgeIds, delta, channelSetId * 2 + (delta ? 1 : 0)));
+			for (var edgeId : edgeIds) {
+				channelsPerEdge.computeIfAbsent(edgeId, e -> new HashSet<>()).addAll(channels);
+			}
+		}
+
+		// Query values once per Edge
+		var currentValues = new HashMap<String, Map<ChannelAddress, JsonElement>>(channelsPerEdge.size());
+		for (var entry : channelsPerEdge.entrySet()) {
+			var edgeId = entry.getKey();
+			Map<ChannelAddress, JsonElement> values;
+			try {
+				values = this.getChannelValues.apply(edgeId, entry.getValue());
+			} catch (RuntimeException e) {
+				this.log.warn("Unable to get current data of Edge [" + edgeId + "]: " + e.getClass().getSimpleName()
+						+ ": " + e.getMessage());
+				values = Map.of();
+			}
+			currentValues.put(edgeId, values);
+		}
+
+		// Render and send
+		var fragments = new HashMap<Integer, Map<String, String>>();
+		for (var subscription : subscriptions) {
+			var channels = channelSets.get(subscription.fragmentsKey / 2);
+			var edgeFragments = fragments.computeIfAbsent(subscription.fragmentsKey, k -> new HashMap<>());
+			var message = new StringBuilder(MESSAGE_PREFIX);
+			var isEmpty = true;
+			for (var edgeId : subscription.edgeIds) {
+				var fragment = edgeFragments.computeIfAbsent(edgeId, e -> renderEdge(e, channels,
+						currentValues.get(e), subscription.delta ? this.previousValues.get(e) : null,
+						subscription.delta));
+				if (fragment.isEmpty()) {
+					continue;
+				}
+				if (!isEmpty) {
+					message.append(',');
+				}
+				message.append(fragment);
+				isEmpty = false;
+			}
+			if (isEmpty && subscription.delta) {
+				// nothing changed
+				continue;
+			}
+			message.append(MESSAGE_SUFFIX);
+			if (!subscription.subscriber.send(message.toString())) {
+				this.subscribers.remove(subscription.subscriber);
+			}
+		}
+
+		this.previousValues = currentValues;
+	}
+
+	/**
+	 * Renders the values of one Edge to a serialized JSON fragment.
+	 *
+	 * @param edgeId         the Edge-ID
+	 * @param channels       the Channels
+	 * @param values         the current values of the Edge; possibly null
+	 * @param previousValues the values of the previous interval; possibly null
+	 * @param delta          render only values that changed since the previous
+	 *                       interval
+	 * @return the serialized fragment; empty if nothing changed in delta mode
+	 */
+	protected static String renderEdge(String edgeId, Set<ChannelAddress> channels,
+			Map<ChannelAddress, JsonElement> values, Map<ChannelAddress, JsonElement> previousValues,
+			boolean delta) {
+		var j = new JsonObject();
+		for (var channel : channels) {
+			JsonElement value = null;
+			if (values != null) {
+				value = values.get(channel);
+			}
+			if (value == null) {
+				value = JsonNull.INSTANCE;
+			}
+			if (delta && previousValues != null
+					&& value.equals(previousValues.getOrDefault(channel, JsonNull.INSTANCE))) {
+				continue;
+			}
+			j.add(channel.toString(), value);
+		}
+		if (delta && j.size() == 0) {
+			return "";
+		}
+		return new JsonPrimitive(edgeId).toString() + ":" + j.toString();
+	}
+
+}
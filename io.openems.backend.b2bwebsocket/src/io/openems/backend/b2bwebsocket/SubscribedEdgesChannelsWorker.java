@@ -1,40 +1,35 @@
 package io.openems.backend.b2bwebsocket;
 
-import java.util.Optional;
+import java.util.Collections;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 
-import io.openems.backend.b2bwebsocket.jsonrpc.notification.EdgesCurrentDataNotification;
 import io.openems.backend.b2bwebsocket.jsonrpc.request.SubscribeEdgesChannelsRequest;
-import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.session.Role;
 import io.openems.common.types.ChannelAddress;
 
-public class SubscribedEdgesChannelsWorker {
-
-	protected static final int UPDATE_INTERVAL_IN_SECONDS = 2;
-
-	private final Logger log = LoggerFactory.getLogger(SubscribedEdgesChannelsWorker.class);
+/**
+ * Holds the subscription of one B2B websocket connection. The data is sent by
+ * the shared {@link SnapshotPublisher}.
+ */
+public class SubscribedEdgesChannelsWorker implements SnapshotPublisher.Subscriber {
 
 	/**
 	 * Holds subscribed edges.
 	 */
-	private final TreeSet<String> edgeIds = new TreeSet<>();
+	private volatile Set<String> edgeIds = Collections.emptySet();
 
 	/**
 	 * Holds subscribed channels.
 	 */
-	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
+	private volatile Set<ChannelAddress> channels = Collections.emptySet();
 
 	/**
-	 * Holds the scheduled task for currentData.
+	 * Send only changed values.
 	 */
-	private Optional<ScheduledFuture<?>> futureOpt = Optional.empty();
+	private volatile boolean deltaOnly = false;
 
 	protected final WsData wsData;
 
@@ -54,7 +49,7 @@ public class SubscribedEdgesChannelsWorker {
 	 */
 	public synchronized void handleSubscribeEdgesChannelsRequest(SubscribeEdgesChannelsRequest request) {
 		if (this.lastRequestCount < request.getCount()) {
-			this.updateSubscription(request.getEdgeIds(), request.getChannels());
+			this.updateSubscription(request.getEdgeIds(), request.getChannels(), request.isDeltaOnly());
 			this.lastRequestCount = request.getCount();
 		}
 	}
@@ -62,44 +57,21 @@ public class SubscribedEdgesChannelsWorker {
 	/**
 	 * Updates the Subscription data.
 	 *
-	 * @param edgeIds  Set of Edge-IDs
-	 * @param channels Set of ChannelAddresses
+	 * @param edgeIds   Set of Edge-IDs
+	 * @param channels  Set of ChannelAddresses
+	 * @param deltaOnly send only changed values
 	 */
-	private synchronized void updateSubscription(Set<String> edgeIds, Set<ChannelAddress> channels) {
-		// stop current thread
-		if (this.futureOpt.isPresent()) {
-			this.futureOpt.get().cancel(true);
-			this.futureOpt = Optional.empty();
-		}
-
-		// clear existing data
-		this.edgeIds.clear();
-		this.channels.clear();
-
-		// set new channels
-		this.edgeIds.addAll(edgeIds);
-		this.channels.addAll(channels);
+	private synchronized void updateSubscription(Set<String> edgeIds, Set<ChannelAddress> channels,
+			boolean deltaOnly) {
+		this.edgeIds = Collections.unmodifiableSet(new TreeSet<>(edgeIds));
+		this.channels = Collections.unmodifiableSet(new TreeSet<>(channels));
+		this.deltaOnly = deltaOnly;
 
 		if (!channels.isEmpty() && !edgeIds.isEmpty()) {
-			// registered channels -> create new thread
-			this.futureOpt = Optional.of(this.parent.executor.scheduleWithFixedDelay(() -> {
-				/*
-				 * This task is executed regularly. Sends data to Websocket.
-				 */
-				var ws = this.wsData.getWebsocket();
-				if (ws == null || !ws.isOpen()) {
-					// disconnected; stop worker
-					this.dispose();
-					return;
-				}
-
-				try {
-					this.wsData.send(this.getCurrentDataNotification());
-				} catch (OpenemsNamedException e) {
-					this.log.warn("Unable to send SubscribedChannels: " + e.getMessage());
-				}
-
-			}, 0, SubscribedEdgesChannelsWorker.UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS));
+			// registered channels -> subscribe; the next update is a full update
+			this.parent.snapshotPublisher.subscribe(this);
+		} else {
+			this.parent.snapshotPublisher.unsubscribe(this);
 		}
 	}
 
@@ -107,32 +79,50 @@ public class SubscribedEdgesChannelsWorker {
 	 * Dispose and deactivate this worker.
 	 */
 	public void dispose() {
-		// unsubscribe regular task
-		if (this.futureOpt.isPresent()) {
-			this.futureOpt.get().cancel(true);
+		this.parent.snapshotPublisher.unsubscribe(this);
+	}
+
+	@Override
+	public Set<String> getEdgeIds() {
+		return this.edgeIds;
+	}
+
+	@Override
+	public Set<ChannelAddress> getChannels() {
+		return this.channels;
+	}
+
+	@Override
+	public boolean isDeltaOnly() {
+		return this.deltaOnly;
+	}
+
+	@Override
+	public boolean canRead(String edgeId) {
+		var sessionUser = this.wsData.getUserOpt();
+		if (!sessionUser.isPresent()) {
+			return false;
 		}
+		// prefer the User as currently known by Metadata to respect changed roles
+		var user = this.parent.metadata.getUser(sessionUser.get().getId()).orElse(sessionUser.get());
+		return user.getRole(edgeId) //
+				.map(role -> role.isAtLeast(Role.GUEST)) //
+				.orElse(false);
 	}
 
-	/**
-	 * Gets a JSON-RPC Notification with all subscribed channels data.
-	 *
-	 * @return the EdgesCurrentDataNotification
-	 * @throws OpenemsNamedException on error
-	 */
-	private EdgesCurrentDataNotification getCurrentDataNotification() throws OpenemsNamedException {
-		var result = new EdgesCurrentDataNotification();
-		var user = this.wsData.getUserWithTimeout(5, TimeUnit.SECONDS);
-
-		for (String edgeId : this.edgeIds) {
-			// assure read permissions of this User for this Edge.
-			user.assertEdgeRoleIsAtLeast("EdgesCurrentDataNotification", edgeId, Role.GUEST);
-
-			var values = this.parent.timeData.getChannelValues(edgeId, this.channels);
-			for (var entry : values.entrySet()) {
-				result.addValue(edgeId, entry.getKey(), entry.getValue());
-			}
+	@Override
+	public boolean send(String message) {
+		var ws = this.wsData.getWebsocket();
+		if (ws == null || !ws.isOpen()) {
+			// disconnected; stop worker
+			return false;
+		}
+		try {
+			ws.send(message);
+			return true;
+		} catch (WebsocketNotConnectedException e) {
+			return false;
 		}
-		return result;
 	}
 
 }
@@ -24,6 +24,7 @@ import io.openems.common.utils.JsonUtils;
  *     "count": number // Request-Counter: the higher count wins
  *     "edgeIds": string[] // Edge-IDs
  *     "channels": string[] // Channel-IDs
+ *     "deltaOnly"?: boolean // send only changed values; defaults to false
  *   }
  * }
  * </pre>
@@ -52,6 +53,7 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 			var address = ChannelAddress.fromString(JsonUtils.getAsString(channel));
 			result.addChannel(address);
 		}
+		result.setDeltaOnly(JsonUtils.getAsOptionalBoolean(p, "deltaOnly").orElse(false));
 		return result;
 	}
 
@@ -69,6 +71,7 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 	private final int count;
 	private final TreeSet<String> edgeIds = new TreeSet<>();
 	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
+	private boolean deltaOnly = false;
 
 	private SubscribeEdgesChannelsRequest(JsonrpcRequest request, int count) {
 		super(request, SubscribeEdgesChannelsRequest.METHOD);
@@ -119,6 +122,19 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 		return this.channels;
 	}
 
+	/**
+	 * Sets whether only changed values should be sent.
+	 *
+	 * @param deltaOnly true to send only changed values
+	 */
+	public void setDeltaOnly(boolean deltaOnly) {
+		this.deltaOnly = deltaOnly;
+	}
+
+	public boolean isDeltaOnly() {
+		return this.deltaOnly;
+	}
+
 	@Override
 	public JsonObject getParams() {
 		var edgeIds = new JsonArray();
@@ -133,6 +149,7 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 				.addProperty("count", this.count) //
 				.add("ids", edgeIds) //
 				.add("channels", channels) //
+				.onlyIf(this.deltaOnly, b -> b.addProperty("deltaOnly", true)) //
 				.build();
 	}
 }
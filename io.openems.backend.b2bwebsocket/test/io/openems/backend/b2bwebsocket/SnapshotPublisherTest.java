@@ -0,0 +1,174 @@
+package io.openems.backend.b2bwebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.b2bwebsocket.jsonrpc.notification.EdgesCurrentDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class SnapshotPublisherTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress GRID = new ChannelAddress("_sum", "GridActivePower");
+
+	private static class DummySubscriber implements SnapshotPublisher.Subscriber {
+		private final Set<String> edgeIds;
+		private final Set<ChannelAddress> channels;
+		private final boolean deltaOnly;
+		private final Set<String> readableEdgeIds;
+		private final List<JsonObject> messages = new ArrayList<>();
+
+		public DummySubscriber(Set<String> edgeIds, Set<ChannelAddress> channels, boolean deltaOnly) {
+			this.edgeIds = new TreeSet<>(edgeIds);
+			this.channels = new TreeSet<>(channels);
+			this.deltaOnly = deltaOnly;
+			this.readableEdgeIds = new HashSet<>(edgeIds);
+		}
+
+		@Override
+		public Set<String> getEdgeIds() {
+			return this.edgeIds;
+		}
+
+		@Override
+		public Set<ChannelAddress> getChannels() {
+			return this.channels;
+		}
+
+		@Override
+		public boolean isDeltaOnly() {
+			return this.deltaOnly;
+		}
+
+		@Override
+		public boolean canRead(String edgeId) {
+			return this.readableEdgeIds.contains(edgeId);
+		}
+
+		@Override
+		public boolean send(String message) {
+			var j = JsonParser.parseString(message).getAsJsonObject();
+			assertEquals(EdgesCurrentDataNotification.METHOD, j.get("method").getAsString());
+			this.messages.add(j.getAsJsonObject("params"));
+			return true;
+		}
+	}
+
+	@Test
+	public void test() {
+		var values = new HashMap<String, Map<ChannelAddress, JsonElement>>();
+		values.put("edge0", new HashMap<>(Map.of(SOC, new JsonPrimitive(50), GRID, new JsonPrimitive(1000))));
+		values.put("edge1", new HashMap<>(Map.of(SOC, new JsonPrimitive(80), GRID, new JsonPrimitive(-500))));
+		var queries = new ArrayList<String>();
+		var sut = new SnapshotPublisher((edgeId, channels) -> {
+			queries.add(edgeId);
+			return new HashMap<>(values.get(edgeId));
+		});
+
+		var full = new DummySubscriber(Set.of("edge0", "edge1"), Set.of(SOC, GRID), false);
+		var delta = new DummySubscriber(Set.of("edge0", "edge1"), Set.of(SOC, GRID), true);
+		var other = new DummySubscriber(Set.of("edge1"), Set.of(SOC), false);
+		sut.subscribe(full);
+		sut.subscribe(delta);
+		sut.subscribe(other);
+
+		sut.publish();
+
+		// Every Edge is queried only once
+		assertEquals(2, queries.size());
+		assertEquals(1, full.messages.size());
+		assertEquals(1000, full.messages.get(0).getAsJsonObject("edge0").get("_sum/GridActivePower").getAsInt());
+		assertEquals(full.messages.get(0), delta.messages.get(0));
+		assertEquals(1, other.messages.get(0).size());
+		assertEquals(1, other.messages.get(0).getAsJsonObject("edge1").size());
+
+		// No changes -> nothing for the delta subscriber
+		sut.publish();
+		assertEquals(2, full.messages.size());
+		assertEquals(1, delta.messages.size());
+
+		// Only changed values for the delta subscriber
+		values.get("edge1").put(GRID, new JsonPrimitive(-600));
+		sut.publish();
+		assertEquals(2, delta.messages.size());
+		var message = delta.messages.get(1);
+		assertFalse(message.has("edge0"));
+		assertEquals(1, message.getAsJsonObject("edge1").size());
+		assertEquals(-600, message.getAsJsonObject("edge1").get("_sum/GridActivePower").getAsInt());
+
+		// Subscribing again results in a full update
+		sut.subscribe(delta);
+		sut.publish();
+		assertEquals(3, delta.messages.size());
+		assertEquals(2, delta.messages.get(2).size());
+
+		sut.unsubscribe(full);
+		sut.publish();
+		assertEquals(4, full.messages.size());
+	}
+
+	@Test
+	public void testEdgeFailure() {
+		var sut = new SnapshotPublisher((edgeId, channels) -> {
+			if (edgeId.equals("edge0")) {
+				throw new IllegalStateException("Timedata not available");
+			}
+			return Map.of(SOC, new JsonPrimitive(80));
+		});
+		var subscriber = new DummySubscriber(Set.of("edge0", "edge1"), Set.of(SOC), false);
+		sut.subscribe(subscriber);
+
+		sut.publish();
+
+		assertEquals(1, subscriber.messages.size());
+		var message = subscriber.messages.get(0);
+		assertTrue(message.getAsJsonObject("edge0").get("_sum/EssSoc").isJsonNull());
+		assertEquals(80, message.getAsJsonObject("edge1").get("_sum/EssSoc").getAsInt());
+	}
+
+	@Test
+	public void testReadPermissionRevoked() {
+		var queries = new ArrayList<String>();
+		var sut = new SnapshotPublisher((edgeId, channels) -> {
+			queries.add(edgeId);
+			return Map.of(SOC, new JsonPrimitive(50));
+		});
+		var subscriber = new DummySubscriber(Set.of("edge0", "edge1"), Set.of(SOC), false);
+		sut.subscribe(subscriber);
+
+		sut.publish();
+		assertEquals(2, subscriber.messages.get(0).size());
+
+		// Edge is left out as soon as the permission is revoked
+		subscriber.readableEdgeIds.remove("edge0");
+		queries.clear();
+		sut.publish();
+		assertEquals(List.of("edge1"), queries);
+		assertFalse(subscriber.messages.get(1).has("edge0"));
+		assertTrue(subscriber.messages.get(1).has("edge1"));
+
+		// Subscription is dropped without any readable Edge
+		subscriber.readableEdgeIds.remove("edge1");
+		sut.publish();
+		subscriber.readableEdgeIds.add("edge1");
+		sut.publish();
+		assertEquals(2, subscriber.messages.size());
+	}
+
+}
@@ -1,19 +1,98 @@
 package io.openems.backend.common.edgewebsocket;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.function.BiConsumer;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.common.types.ChannelAddress;
 
+/**
+ * Holds the latest value of every Channel of one Edge.
+ *
+ * <p>
+ * Every {@link EdgeCache} maps the {@link ChannelAddress}es of its Edge to
+ * slots and only stores compact arrays of values: integers and floating point
+ * numbers are stored as primitive {@code long}s, all other values as
+ * {@link JsonElement}s. The arrays are sized by the number of Channels of this
+ * Edge, not of all Edges. Equal {@link ChannelAddress}es of different Edges
+ * share one weakly interned instance.
+ */
 public class EdgeCache {
 
+	/**
+	 * Maps the {@link ChannelAddress}es of one Edge to slots. Guarded by the lock
+	 * of the {@link EdgeCache}.
+	 */
+	protected static class ChannelIndex {
+
+		private static final Interner<ChannelAddress> ADDRESSES = Interners.newWeakInterner();
+
+		private final HashMap<ChannelAddress, Integer> slots = new HashMap<>();
+		private ChannelAddress[] addresses = new ChannelAddress[16];
+
+		/**
+		 * Gets the slot of a {@link ChannelAddress}; creates a new slot if necessary.
+		 *
+		 * @param address the {@link ChannelAddress}
+		 * @return the slot
+		 */
+		protected int getOrCreateSlot(ChannelAddress address) {
+			var slot = this.slots.get(address);
+			if (slot != null) {
+				return slot;
+			}
+			address = ADDRESSES.intern(address);
+			var size = this.slots.size();
+			if (size == this.addresses.length) {
+				this.addresses = Arrays.copyOf(this.addresses, size * 2);
+			}
+			this.addresses[size] = address;
+			this.slots.put(address, size);
+			return size;
+		}
+
+		/**
+		 * Gets the slot of a {@link ChannelAddress}.
+		 *
+		 * @param address the {@link ChannelAddress}
+		 * @return the slot; -1 if the {@link ChannelAddress} was never cached
+		 */
+		protected int getSlot(ChannelAddress address) {
+			var slot = this.slots.get(address);
+			if (slot == null) {
+				return -1;
+			}
+			return slot;
+		}
+
+		/**
+		 * Gets the {@link ChannelAddress} of a slot.
+		 *
+		 * @param slot the slot
+		 * @return the {@link ChannelAddress}
+		 */
+		protected ChannelAddress getAddress(int slot) {
+			return this.addresses[slot];
+		}
+	}
+
+	private static final byte TYPE_EMPTY = 0;
+	private static final byte TYPE_NULL = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_DOUBLE = 3;
+	private static final byte TYPE_OTHER = 4;
+
 	/**
 	 * The Timestamp of the data in the Cache.
 	 */
@@ -24,7 +103,35 @@ public class EdgeCache {
 	 */
 	private long lastAppliedTimestamp = 0L;
 
-	private final HashMap<ChannelAddress, JsonElement> cacheData = new HashMap<>();
+	/**
+	 * The slots of the Channels of this Edge.
+	 */
+	private final ChannelIndex index = new ChannelIndex();
+
+	/**
+	 * The type of each slot; one of the TYPE_* constants.
+	 */
+	private byte[] types = new byte[0];
+
+	/**
+	 * The values of slots of type {@link #TYPE_LONG} and {@link #TYPE_DOUBLE}.
+	 */
+	private long[] values = new long[0];
+
+	/**
+	 * The values of slots of type {@link #TYPE_OTHER}; allocated on first use.
+	 */
+	private JsonElement[] others = null;
+
+	/**
+	 * The slots that hold a value.
+	 */
+	private final BitSet cached = new BitSet();
+
+	/**
+	 * The slots of the currently handled incoming data.
+	 */
+	private final BitSet incoming = new BitSet();
 
 	/**
 	 * Gets the channel value from cache.
@@ -32,15 +139,12 @@ public class EdgeCache {
 	 * @param address the {@link ChannelAddress} of the channel
 	 * @return the value; empty if it is not in cache
 	 */
-	public final JsonElement getChannelValue(ChannelAddress address) {
-		synchronized (this) {
-			var result = this.cacheData.get(address);
-			if (result == null) {
-				return JsonNull.INSTANCE;
-			} else {
-				return result;
-			}
+	public final synchronized JsonElement getChannelValue(ChannelAddress address) {
+		var slot = this.index.getSlot(address);
+		if (slot < 0 || slot >= this.types.length) {
+			return JsonNull.INSTANCE;
 		}
+		return this.get(slot);
 	}
 
 	/**
@@ -50,7 +154,7 @@ public class EdgeCache {
 	 * @param onInvalidCache callback on invalid cache. Can be used for a log
 	 *                       message.
 	 */
-	public void complementDataFromCache(SortedMap<Long, Map<ChannelAddress, JsonElement>> incomingDatas,
+	public synchronized void complementDataFromCache(SortedMap<Long, Map<ChannelAddress, JsonElement>> incomingDatas,
 			BiConsumer<Instant, Instant> onInvalidCache) {
 		for (Entry<Long, Map<ChannelAddress, JsonElement>> entry : incomingDatas.entrySet()) {
 			var incomingTimestamp = entry.getKey();
@@ -59,46 +163,151 @@ public class EdgeCache {
 			// Check if cache should be applied
 			if (incomingTimestamp < this.cacheTimestamp) {
 				// Incoming data is older than cache -> do not apply cache
+				continue;
+			}
+
+			// Incoming data is more recent than cache
+			var apply = false;
+			if (incomingTimestamp > this.cacheTimestamp + 5 * 60 * 1000) {
+				// Cache is not anymore valid (elder than 5 minutes)
+				if (this.cacheTimestamp != 0L) {
+					onInvalidCache.accept(Instant.ofEpochMilli(incomingTimestamp),
+							Instant.ofEpochMilli(this.cacheTimestamp));
+				}
+				this.clear();
+
+			} else if (incomingTimestamp < this.lastAppliedTimestamp + 2 * 60 * 1000) {
+				// Apply Cache only once every two minutes to throttle writes
 
 			} else {
-				// Incoming data is more recent than cache
+				// Apply Cache; cache is valid (not elder than 5 minutes)
+				this.lastAppliedTimestamp = incomingTimestamp;
+				apply = true;
+			}
 
-				if (incomingTimestamp > this.cacheTimestamp + 5 * 60 * 1000) {
-					// Cache is not anymore valid (elder than 5 minutes)
-					if (this.cacheTimestamp != 0L) {
-						onInvalidCache.accept(Instant.ofEpochMilli(incomingTimestamp),
-								Instant.ofEpochMilli(this.cacheTimestamp));
-					}
-					synchronized (this) {
-						// Clear Cache
-						this.cacheData.clear();
-					}
+			// update cache
+			this.cacheTimestamp = incomingTimestamp;
+			this.incoming.clear();
+			for (Entry<ChannelAddress, JsonElement> e : incomingData.entrySet()) {
+				var slot = this.index.getOrCreateSlot(e.getKey());
+				this.set(slot, e.getValue());
+				this.incoming.set(slot);
+			}
 
-				} else if (incomingTimestamp < this.lastAppliedTimestamp + 2 * 60 * 1000) {
-					// Apply Cache only once every two minutes to throttle writes
-
-				} else {
-					// Apply Cache
-
-					// cache is valid (not elder than 5 minutes)
-					this.lastAppliedTimestamp = incomingTimestamp;
-					synchronized (this) {
-						this.cacheData.entrySet().stream() //
-								.forEach(e -> {
-									// check if there is a current value for this timestamp + channel
-									// if not -> add cache data to write data
-									incomingData.putIfAbsent(e.getKey(), e.getValue());
-								});
+			if (apply) {
+				// add cache data for all Channels without a current value
+				for (var slot = this.cached.nextSetBit(0); slot >= 0; slot = this.cached.nextSetBit(slot + 1)) {
+					if (!this.incoming.get(slot)) {
+						incomingData.put(this.index.getAddress(slot), this.get(slot));
 					}
 				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of allocated slots.
+	 *
+	 * @return the length of the value arrays
+	 */
+	protected synchronized int getCapacity() {
+		return this.types.length;
+	}
+
+	private void clear() {
+		Arrays.fill(this.types, TYPE_EMPTY);
+		this.others = null;
+		this.cached.clear();
+	}
+
+	private JsonElement get(int slot) {
+		switch (this.types[slot]) {
+		case TYPE_LONG:
+			return new JsonPrimitive(this.values[slot]);
+		case TYPE_DOUBLE:
+			return new JsonPrimitive(Double.longBitsToDouble(this.values[slot]));
+		case TYPE_OTHER:
+			return this.others[slot];
+		case TYPE_EMPTY:
+		case TYPE_NULL:
+		default:
+			return JsonNull.INSTANCE;
+		}
+	}
 
-				// update cache
-				this.cacheTimestamp = incomingTimestamp;
-				synchronized (this) {
-					this.cacheData.putAll(incomingData);
+	private void set(int slot, JsonElement value) {
+		if (slot >= this.types.length) {
+			var length = Math.max(slot + 1, this.types.length + (this.types.length >> 1));
+			this.types = Arrays.copyOf(this.types, length);
+			this.values = Arrays.copyOf(this.values, length);
+			if (this.others != null) {
+				this.others = Arrays.copyOf(this.others, length);
+			}
+		}
+		this.cached.set(slot);
+		if (this.others != null) {
+			this.others[slot] = null;
+		}
+
+		if (value == null || value.isJsonNull()) {
+			this.types[slot] = TYPE_NULL;
+			return;
+		}
+		if (value.isJsonPrimitive()) {
+			var primitive = value.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				var number = primitive.getAsNumber();
+				if (number instanceof Integer || number instanceof Long || number instanceof Short
+						|| number instanceof Byte) {
+					this.types[slot] = TYPE_LONG;
+					this.values[slot] = number.longValue();
+					return;
+				}
+				if (number instanceof Double) {
+					this.types[slot] = TYPE_DOUBLE;
+					this.values[slot] = Double.doubleToRawLongBits(number.doubleValue());
+					return;
+				}
+				if (this.setParsed(slot, number.toString())) {
+					return;
 				}
 			}
 		}
+		if (this.others == null) {
+			this.others = new JsonElement[this.types.length];
+		}
+		this.types[slot] = TYPE_OTHER;
+		this.others[slot] = value;
+	}
+
+	/**
+	 * Stores a number, e.g. one that was lazily parsed from JSON, as primitive.
+	 * Timedata services parse the number from its String representation, so a
+	 * value that is a valid {@code long} has to stay a {@code long}.
+	 *
+	 * @param slot  the slot
+	 * @param value the String representation of the number
+	 * @return true if the number was stored
+	 */
+	private boolean setParsed(int slot, String value) {
+		try {
+			this.values[slot] = Long.parseLong(value);
+			this.types[slot] = TYPE_LONG;
+			return true;
+		} catch (NumberFormatException e) {
+			// not a long
+		}
+		try {
+			var d = Double.parseDouble(value);
+			if (Double.isFinite(d)) {
+				this.values[slot] = Double.doubleToRawLongBits(d);
+				this.types[slot] = TYPE_DOUBLE;
+				return true;
+			}
+		} catch (NumberFormatException e) {
+			// not a double
+		}
+		return false;
 	}
 
 }
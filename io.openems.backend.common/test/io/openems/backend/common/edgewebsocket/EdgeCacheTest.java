@@ -0,0 +1,136 @@
+package io.openems.backend.common.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class EdgeCacheTest {
+
+	private static final ChannelAddress A = new ChannelAddress("_sum", "GridActivePower");
+	private static final ChannelAddress B = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress C = new ChannelAddress("_meta", "Version");
+	private static final ChannelAddress D = new ChannelAddress("meter0", "ActivePower");
+
+	private static final long START = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+	private static final long MINUTE = 60 * 1000;
+
+	private static Map<ChannelAddress, JsonElement> complement(EdgeCache sut, long timestamp,
+			Map<ChannelAddress, JsonElement> data, AtomicInteger invalidations) {
+		var incomingDatas = new TreeMap<Long, Map<ChannelAddress, JsonElement>>();
+		incomingDatas.put(timestamp, new HashMap<>(data));
+		sut.complementDataFromCache(incomingDatas, (incoming, cache) -> invalidations.incrementAndGet());
+		return incomingDatas.get(timestamp);
+	}
+
+	@Test
+	public void test() {
+		var sut = new EdgeCache();
+		var invalidations = new AtomicInteger();
+
+		// Parsed from JSON
+		var values = JsonParser.parseString("[1234, 1.5, \"2022.1.0\"]").getAsJsonArray();
+		var data = complement(sut, START, Map.of(//
+				A, values.get(0), //
+				B, values.get(1), //
+				C, values.get(2), //
+				D, JsonNull.INSTANCE), invalidations);
+		assertEquals(4, data.size());
+		assertEquals(0, invalidations.get());
+
+		// Cache is applied immediately, as it was never applied before
+		data = complement(sut, START + MINUTE, Map.of(A, new JsonPrimitive(2000)), invalidations);
+		assertEquals(4, data.size());
+		assertEquals("2000", data.get(A).toString());
+		assertEquals("1.5", data.get(B).toString());
+		assertEquals("\"2022.1.0\"", data.get(C).toString());
+		assertEquals(JsonNull.INSTANCE, data.get(D));
+
+		// Cache is applied only once every two minutes
+		data = complement(sut, START + 2 * MINUTE, Map.of(B, new JsonPrimitive(2.5)), invalidations);
+		assertEquals(1, data.size());
+		data = complement(sut, START + 3 * MINUTE, Map.of(), invalidations);
+		assertEquals(4, data.size());
+		assertEquals("2000", data.get(A).toString());
+		assertEquals("2.5", data.get(B).toString());
+
+		assertEquals("2000", sut.getChannelValue(A).toString());
+		assertEquals(JsonNull.INSTANCE, sut.getChannelValue(new ChannelAddress("foo", "Bar")));
+
+		// Older data is neither complemented nor cached
+		data = complement(sut, START, Map.of(A, new JsonPrimitive(1)), invalidations);
+		assertEquals(1, data.size());
+		assertEquals("2000", sut.getChannelValue(A).toString());
+
+		// Cache is invalidated after five minutes
+		data = complement(sut, START + 9 * MINUTE, Map.of(B, new JsonPrimitive(3)), invalidations);
+		assertEquals(1, invalidations.get());
+		assertEquals(1, data.size());
+		assertEquals(JsonNull.INSTANCE, sut.getChannelValue(A));
+		assertEquals("3", sut.getChannelValue(B).toString());
+	}
+
+	@Test
+	public void testTypes() {
+		var sut = new EdgeCache();
+		var values = JsonParser.parseString("[5, -0, 1e3, 1.10, 12345678901234567890, true]").getAsJsonArray();
+		var addresses = new ChannelAddress[values.size()];
+		var data = new HashMap<ChannelAddress, JsonElement>();
+		for (var i = 0; i < addresses.length; i++) {
+			addresses[i] = new ChannelAddress("types0", "Value" + i);
+			data.put(addresses[i], values.get(i));
+		}
+		complement(sut, START, data, new AtomicInteger());
+
+		// Timedata parses numbers as long if possible
+		assertEquals("5", sut.getChannelValue(addresses[0]).toString());
+		assertEquals("0", sut.getChannelValue(addresses[1]).toString());
+		assertEquals(1000.0, sut.getChannelValue(addresses[2]).getAsDouble(), 0.0);
+		assertFalse(isLong(sut.getChannelValue(addresses[2])));
+		assertEquals(1.1, sut.getChannelValue(addresses[3]).getAsDouble(), 0.0);
+		assertFalse(isLong(sut.getChannelValue(addresses[4])));
+		assertTrue(sut.getChannelValue(addresses[5]).getAsBoolean());
+	}
+
+	@Test
+	public void testCapacityPerEdge() {
+		var large = new EdgeCache();
+		var data = new HashMap<ChannelAddress, JsonElement>();
+		for (var i = 0; i < 1000; i++) {
+			data.put(new ChannelAddress("large0", "Value" + i), new JsonPrimitive(i));
+		}
+		complement(large, START, data, new AtomicInteger());
+		assertTrue(large.getCapacity() >= 1000);
+
+		// Channels of other Edges do not grow the slots of this Edge
+		var small = new EdgeCache();
+		complement(small, START, Map.of(A, new JsonPrimitive(1), B, new JsonPrimitive(2)), new AtomicInteger());
+		assertEquals(2, small.getCapacity());
+		assertEquals("1", small.getChannelValue(A).toString());
+		assertEquals(JsonNull.INSTANCE, small.getChannelValue(new ChannelAddress("large0", "Value0")));
+	}
+
+	private static boolean isLong(JsonElement value) {
+		try {
+			Long.parseLong(value.toString());
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+}
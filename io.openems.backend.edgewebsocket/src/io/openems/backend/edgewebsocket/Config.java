@@ -11,7 +11,7 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "The port of the websocket server.")
 	int port() default 8081;
 
-	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
+	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks. The websocket lanes start poolSize + poolSize/2 + poolSize/4 threads, i.e. about 1.75 times this value")
 	int poolSize() default 10;
 
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
@@ -1,14 +1,11 @@
 package io.openems.backend.edgewebsocket;
 
-import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-
 import io.openems.backend.common.metadata.Edge.Events;
 import io.openems.common.channel.Level;
 import io.openems.common.event.EventBuilder;
@@ -19,11 +16,14 @@ import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SemanticVersion;
-import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
+	private static final ChannelAddress SUM_STATE = new ChannelAddress("_sum", "State");
+	private static final ChannelAddress META_VERSION = new ChannelAddress("_meta", "Version");
+
 	private final Logger log = LoggerFactory.getLogger(OnNotification.class);
 	private final EdgeWebsocketImpl parent;
 
@@ -126,20 +126,21 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 
 		// Read some specific channels
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
-		for (Entry<String, JsonElement> entry : message.getParams().entrySet()) {
-			var d = JsonUtils.getAsJsonObject(entry.getValue());
+		for (var d : data.rowMap().values()) {
 
 			// set specific Edge values
-			if (d.has("_sum/State") && d.get("_sum/State").isJsonPrimitive()) {
-				var sumState = Level.fromJson(d, "_sum/State").orElse(Level.FAULT);
+			var sumStateValue = d.get(SUM_STATE);
+			if (sumStateValue != null && sumStateValue.isJsonPrimitive()) {
+				var sumState = Level.fromJson(sumStateValue).orElse(Level.FAULT);
 				EventBuilder.from(this.parent.eventAdmin, Events.ON_SET_SUM_STATE)
 						.addArg(Events.OnSetSumState.EDGE, edge) //
 						.addArg(Events.OnSetSumState.SUM_STATE, sumState) //
 						.send();
 			}
 
-			if (d.has("_meta/Version") && d.get("_meta/Version").isJsonPrimitive()) {
-				var version = JsonUtils.getAsPrimitive(d, "_meta/Version").getAsString();
+			var versionValue = d.get(META_VERSION);
+			if (versionValue != null && versionValue.isJsonPrimitive()) {
+				var version = versionValue.getAsString();
 				edge.setVersion(SemanticVersion.fromString(version));
 			}
 
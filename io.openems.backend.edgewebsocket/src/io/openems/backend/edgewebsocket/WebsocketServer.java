@@ -65,6 +65,11 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 				ws -> ws.getAttachment() != null && ((WsData) ws.getAttachment()).getEdgeId().equals(edgeIdOpt));
 	}
 
+	@Override
+	protected boolean isBinaryEncodingSupported() {
+		return true;
+	}
+
 	@Override
 	protected OnOpen getOnOpen() {
 		return this.onOpen;
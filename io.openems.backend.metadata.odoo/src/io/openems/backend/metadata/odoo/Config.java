@@ -25,6 +25,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Odoo Password", description = "The odoo login password")
 	String odooPassword();
 
+	@AttributeDefinition(name = "Odoo Max Concurrent Requests", description = "The maximum number of concurrent requests to Odoo; further requests wait for up to 'Odoo Request Timeout'")
+	int odooMaxConcurrentRequests() default 10;
+
+	@AttributeDefinition(name = "Odoo Request Timeout [ms]", description = "The maximum time to wait for a free slot for a request to Odoo")
+	int odooRequestTimeout() default 30_000;
+
 	@AttributeDefinition(name = "Postgres Host", description = "The Postgres host")
 	String pgHost() default "localhost";
 
@@ -37,6 +43,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Postgres Password", description = "The Postgres password")
 	String pgPassword();
 
+	@AttributeDefinition(name = "Postgres Max Connections", description = "The maximum number of pooled Postgres connections")
+	int pgMaxConnections() default 10;
+
+	@AttributeDefinition(name = "Postgres Connection Timeout [ms]", description = "The maximum time to wait for a pooled Postgres connection")
+	int pgConnectionTimeout() default 30_000;
+
 	@AttributeDefinition(name = "Database", description = "The database name")
 	String database();
 
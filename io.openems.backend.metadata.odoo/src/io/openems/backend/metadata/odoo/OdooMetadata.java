@@ -66,7 +66,6 @@ import io.openems.common.utils.ThreadPoolUtils;
 })
 public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer, EventHandler {
 
-	private static final int EXECUTOR_MIN_THREADS = 1;
 	private static final int EXECUTOR_MAX_THREADS = 50;
 
 	private final Logger log = LoggerFactory.getLogger(OdooMetadata.class);
@@ -77,9 +76,16 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 	protected OdooHandler odooHandler = null;
 	protected PostgresHandler postgresHandler = null;
 
-	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(EXECUTOR_MIN_THREADS, EXECUTOR_MAX_THREADS, 60L,
-			TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
-			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.Worker-%d").build());
+	/**
+	 * Executes blocking writes to Odoo and Postgres outside of the EventAdmin
+	 * thread.
+	 *
+	 * <p>
+	 * A {@link ThreadPoolExecutor} with an unbounded queue never starts more than
+	 * its core threads, so core and maximum are equal and idle threads time out
+	 * instead.
+	 */
+	private final ThreadPoolExecutor executor = createExecutor();
 
 	@Reference
 	private EventAdmin eventAdmin;
@@ -331,7 +337,10 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 			// Set Version in Odoo
 			this.logInfo(this.log, "Edge [" + edge.getId() + "]: Update OpenEMS Edge version to [" + version
 					+ "]. It was [" + edge.getVersion() + "]");
-			this.odooHandler.writeEdge(edge, new FieldValue<>(Field.EdgeDevice.OPENEMS_VERSION, version.toString()));
+			this.executor.execute(() -> {
+				this.odooHandler.writeEdge(edge,
+						new FieldValue<>(Field.EdgeDevice.OPENEMS_VERSION, version.toString()));
+			});
 		}
 			break;
 
@@ -405,6 +414,14 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 		});
 	}
 
+	private static ThreadPoolExecutor createExecutor() {
+		var result = new ThreadPoolExecutor(EXECUTOR_MAX_THREADS, EXECUTOR_MAX_THREADS, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.Worker-%d").build());
+		result.allowCoreThreadTimeOut(true);
+		return result;
+	}
+
 	@Override
 	public EdgeHandler edge() {
 		return this.edgeHandler;
@@ -16,7 +16,7 @@ public class Credentials {
 	public static Credentials fromConfig(Config config) {
 		return new Credentials(//
 				config.odooProtocol(), config.odooHost(), config.odooPort(), config.odooUid(), config.odooPassword(),
-				config.database());
+				config.database(), new RequestLimiter(config.odooMaxConcurrentRequests(), config.odooRequestTimeout()));
 	}
 
 	private final Protocol protocol;
@@ -26,8 +26,10 @@ public class Credentials {
 	private final int uid;
 	private final String password;
 	private final String database;
+	private final RequestLimiter requestLimiter;
 
-	public Credentials(Protocol protocol, String host, int port, int uid, String password, String database) {
+	public Credentials(Protocol protocol, String host, int port, int uid, String password, String database,
+			RequestLimiter requestLimiter) {
 		this.protocol = protocol;
 		this.host = host;
 		this.port = port;
@@ -35,6 +37,7 @@ public class Credentials {
 		this.password = password;
 		this.url = protocol.expression + "://" + host + ":" + port;
 		this.database = database;
+		this.requestLimiter = requestLimiter;
 	}
 
 	public Protocol getProtocol() {
@@ -64,4 +67,8 @@ public class Credentials {
 	public String getDatabase() {
 		return this.database;
 	}
+
+	public RequestLimiter getRequestLimiter() {
+		return this.requestLimiter;
+	}
 }
@@ -188,7 +188,8 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on login error
 	 */
 	public String authenticate(String username, String password) throws OpenemsNamedException {
-		return OdooUtils.login(this.credentials, username, password);
+		return this.credentials.getRequestLimiter()
+				.execute(() -> OdooUtils.login(this.credentials, username, password));
 	}
 
 	/**
@@ -199,9 +200,10 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public JsonObject authenticateSession(String sessionId) throws OpenemsNamedException {
-		return JsonUtils
-				.getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/info",
-						"session_id=" + sessionId, new JsonObject()).result);
+		var response = this.credentials.getRequestLimiter()
+				.execute(() -> OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/info",
+						"session_id=" + sessionId, new JsonObject()));
+		return JsonUtils.getAsJsonObject(response.result);
 	}
 
 	/**
@@ -212,8 +214,9 @@ public class OdooHandler {
 	 */
 	public void logout(String sessionId) {
 		try {
-			OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/web/session/destroy", "session_id=" + sessionId,
-					new JsonObject());
+			this.credentials.getRequestLimiter()
+					.execute(() -> OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/web/session/destroy",
+							"session_id=" + sessionId, new JsonObject()));
 		} catch (OpenemsNamedException e) {
 			this.log.warn("Unable to logout session [" + sessionId + "]: " + e.getMessage());
 		}
@@ -933,9 +936,10 @@ public class OdooHandler {
 				.build();
 
 		// call odoo api
-		return JsonUtils.getAsJsonObject(
-				OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
-						"session_id=" + user.getToken(), request).result);
+		var response = this.credentials.getRequestLimiter().execute(() -> OdooUtils.sendJsonrpcRequest(
+				this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
+				"session_id=" + user.getToken(), request));
+		return JsonUtils.getAsJsonObject(response.result);
 	}
 
 	/**
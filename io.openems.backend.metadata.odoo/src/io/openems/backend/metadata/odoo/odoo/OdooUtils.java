@@ -188,8 +188,11 @@ public class OdooUtils {
 
 	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
 			JsonObject request, int timeout) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request, timeout);
+		return credentials.getRequestLimiter().execute(() -> {
+			var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
+			return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request,
+					timeout);
+		});
 	}
 
 	/**
@@ -203,8 +206,10 @@ public class OdooUtils {
 	 */
 	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
 			JsonObject request) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request);
+		return credentials.getRequestLimiter().execute(() -> {
+			var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
+			return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request);
+		});
 	}
 
 	/**
@@ -233,6 +238,10 @@ public class OdooUtils {
 	/**
 	 * Authenticates a user using Username and Password.
 	 *
+	 * <p>
+	 * Does not acquire a permit of the {@link RequestLimiter}; callers execute it
+	 * within {@link RequestLimiter#execute}.
+	 *
 	 * @param credentials used to get Odoo url
 	 * @param username    the Username
 	 * @param password    the Password
@@ -260,17 +269,17 @@ public class OdooUtils {
 	}
 
 	private static Object executeKw(Credentials creds, String model, String action, Object[] arg)
-			throws MalformedURLException, XMLRPCException {
+			throws MalformedURLException, XMLRPCException, OpenemsException {
 		return executeKw(creds, model, action, arg, null);
 	}
 
 	private static Object executeKw(Credentials creds, String model, String action, Object[] arg, Map<String, ?> kw)
-			throws MalformedURLException, XMLRPCException {
+			throws MalformedURLException, XMLRPCException, OpenemsException {
 		var params = new Object[] { creds.getDatabase(), creds.getUid(), creds.getPassword(), model, action, arg, kw };
 		var client = new XMLRPCClient(new URL(String.format("%s/xmlrpc/2/object", creds.getUrl())),
 				XMLRPCClient.FLAGS_NIL);
 		client.setTimeout(60 /* seconds */);
-		return client.call("execute_kw", params);
+		return creds.getRequestLimiter().execute(() -> client.call("execute_kw", params));
 	}
 
 	protected static String[] getAsStringArray(Field... fields) {
@@ -586,26 +595,28 @@ public class OdooUtils {
 	 * @throws OpenemsNamedException on error
 	 */
 	protected static byte[] getOdooReport(Credentials credentials, String report, int id) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-
-		HttpURLConnection connection = null;
-		try {
-			connection = (HttpURLConnection) new URL(
-					credentials.getUrl() + "/report/pdf/" + report + "/" + id + "?session_id=" + session)
-					.openConnection();
-			connection.setConnectTimeout(5000);
-			connection.setReadTimeout(5000);
-			connection.setRequestMethod("GET");
-			connection.setDoOutput(true);
+		return credentials.getRequestLimiter().execute(() -> {
+			var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
 
-			return ByteStreams.toByteArray(connection.getInputStream());
-		} catch (Exception e) {
-			throw OpenemsError.GENERIC.exception(e.getMessage());
-		} finally {
-			if (connection != null) {
-				connection.disconnect();
+			HttpURLConnection connection = null;
+			try {
+				connection = (HttpURLConnection) new URL(
+						credentials.getUrl() + "/report/pdf/" + report + "/" + id + "?session_id=" + session)
+						.openConnection();
+				connection.setConnectTimeout(5000);
+				connection.setReadTimeout(5000);
+				connection.setRequestMethod("GET");
+				connection.setDoOutput(true);
+
+				return ByteStreams.toByteArray(connection.getInputStream());
+			} catch (Exception e) {
+				throw OpenemsError.GENERIC.exception(e.getMessage());
+			} finally {
+				if (connection != null) {
+					connection.disconnect();
+				}
 			}
-		}
+		});
 	}
 
 }
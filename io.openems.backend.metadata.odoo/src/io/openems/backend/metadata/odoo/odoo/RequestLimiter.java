@@ -0,0 +1,79 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * Limits the number of concurrent requests to Odoo.
+ *
+ * <p>
+ * Requests to Odoo block the calling thread. Without a limit a slow Odoo server
+ * would occupy all threads of the callers, e.g. of the Edge and UI Websockets.
+ * With a limit, callers wait at most the given timeout for a permit and then
+ * fail fast.
+ */
+public class RequestLimiter {
+
+	private final Semaphore semaphore;
+	private final int maxConcurrentRequests;
+	private final long timeoutMillis;
+	private final AtomicLong rejected = new AtomicLong();
+
+	public RequestLimiter(int maxConcurrentRequests, long timeoutMillis) {
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+		this.semaphore = new Semaphore(this.maxConcurrentRequests, true);
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Executes a request as soon as a permit is available.
+	 *
+	 * @param <T>      the type of the result
+	 * @param <E>      the type of the exception of the request
+	 * @param supplier the request
+	 * @return the result of the request
+	 * @throws E               on error of the request
+	 * @throws OpenemsException if no permit was available within the timeout
+	 */
+	public <T, E extends Exception> T execute(ThrowingSupplier<T, E> supplier) throws E, OpenemsException {
+		try {
+			if (!this.semaphore.tryAcquire(this.timeoutMillis, TimeUnit.MILLISECONDS)) {
+				this.rejected.incrementAndGet();
+				throw new OpenemsException(
+						"Too many concurrent requests to Odoo. Limit is [" + this.maxConcurrentRequests + "]");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while waiting for a request to Odoo");
+		}
+		try {
+			return supplier.get();
+		} finally {
+			this.semaphore.release();
+		}
+	}
+
+	/**
+	 * Gets the number of currently running requests.
+	 *
+	 * @return the number of running requests
+	 */
+	public int getActiveRequests() {
+		return this.maxConcurrentRequests - this.semaphore.availablePermits();
+	}
+
+	/**
+	 * Gets the number of requests that were rejected because no permit was
+	 * available within the timeout.
+	 *
+	 * @return the number of rejected requests
+	 */
+	public long getRejectedCount() {
+		return this.rejected.get();
+	}
+
+}
@@ -83,6 +83,8 @@ public class PostgresHandler {
 		}
 		var result = new HikariDataSource();
 		result.setDataSource(pgds);
+		result.setMaximumPoolSize(config.pgMaxConnections());
+		result.setConnectionTimeout(config.pgConnectionTimeout());
 		return result;
 	}
 
@@ -0,0 +1,78 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class RequestLimiterTest {
+
+	@Test
+	public void testLimit() throws Exception {
+		var sut = new RequestLimiter(2, 10_000);
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+
+		var executor = Executors.newFixedThreadPool(10);
+		var futures = new ArrayList<Future<Integer>>();
+		for (var i = 0; i < 10; i++) {
+			final var value = i;
+			futures.add(executor.submit(() -> sut.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				// Simulates a slow Odoo server
+				Thread.sleep(20);
+				running.decrementAndGet();
+				return value;
+			})));
+		}
+		for (var i = 0; i < 10; i++) {
+			assertEquals(i, (int) futures.get(i).get(5, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		assertEquals(2, maxRunning.get());
+		assertEquals(0, sut.getActiveRequests());
+		assertEquals(0, sut.getRejectedCount());
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		var sut = new RequestLimiter(1, 50);
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+
+		var executor = Executors.newSingleThreadExecutor();
+		var blocking = executor.submit(() -> sut.execute(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertEquals(1, sut.getActiveRequests());
+
+		try {
+			sut.execute(() -> true);
+			fail("Expected OpenemsException");
+		} catch (OpenemsException e) {
+			// expected
+		}
+		assertEquals(1, sut.getRejectedCount());
+
+		release.countDown();
+		assertTrue(blocking.get(5, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		// Permit is available again
+		assertTrue(sut.execute(() -> true));
+	}
+
+}
@@ -27,6 +27,9 @@ public @interface Config {
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to TimescaleDB.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Write-Mode", description = "BATCH: batched INSERTs; COPY: binary COPY in parallel writers partitioned by Edge")
+	WriteMode writeMode() default WriteMode.BATCH;
+
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
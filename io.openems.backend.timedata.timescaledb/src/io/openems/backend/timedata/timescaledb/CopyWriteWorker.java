@@ -0,0 +1,183 @@
+package io.openems.backend.timedata.timescaledb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.worker.AbstractImmediateWorker;
+
+/**
+ * Writes {@link Point}s of a partition of Edges via PostgreSQL 'COPY ... FROM
+ * STDIN (FORMAT binary)'.
+ *
+ * <p>
+ * The number of Points per COPY adapts to the load: it doubles (up to
+ * {@link #MAX_POINTS_PER_COPY}) if more Points are queued after a write and
+ * halves (down to {@link #MIN_POINTS_PER_COPY}) if the previous write was not
+ * even half full.
+ */
+public class CopyWriteWorker extends AbstractImmediateWorker {
+
+	private static final int MIN_POINTS_PER_COPY = 1_000;
+	private static final int MAX_POINTS_PER_COPY = 100_000;
+	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
+
+	private final Logger log = LoggerFactory.getLogger(CopyWriteWorker.class);
+	private final TimescaledbImpl parent;
+	private final BlockingQueue<Point> pointsQueue;
+
+	private int pointsPerCopy = MIN_POINTS_PER_COPY;
+
+	public CopyWriteWorker(TimescaledbImpl parent, int queueSize) {
+		this.parent = parent;
+		this.pointsQueue = new ArrayBlockingQueue<>(queueSize);
+	}
+
+	/**
+	 * Adds Points to the queue of this worker.
+	 *
+	 * @param points the {@link Point}s
+	 * @throws IllegalStateException if the queue is full
+	 */
+	public void addAll(Collection<Point> points) throws IllegalStateException {
+		this.pointsQueue.addAll(points);
+	}
+
+	/**
+	 * Gets the number of queued Points.
+	 *
+	 * @return the number of Points
+	 */
+	public int getQueueSize() {
+		return this.pointsQueue.size();
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		var points = this.pollPoints();
+		if (points.isEmpty()) {
+			return;
+		}
+
+		try (var con = this.parent.dataSource.getConnection()) {
+			this.write(con, points);
+
+		} catch (SQLException e) {
+			// 'Expected errors', e.g. PostgreSQL server stopped
+			// -> short error log
+			this.parent.logError(this.log,
+					"Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+
+		} catch (Exception e) {
+			// 'Unexpected errors' -> long stacktrace
+			this.parent.logError(this.log,
+					"Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			e.printStackTrace();
+		}
+
+		// Adapt batch size
+		if (this.pointsQueue.size() > this.pointsPerCopy) {
+			this.pointsPerCopy = Math.min(this.pointsPerCopy * 2, MAX_POINTS_PER_COPY);
+		} else if (points.size() < this.pointsPerCopy / 2) {
+			this.pointsPerCopy = Math.max(this.pointsPerCopy / 2, MIN_POINTS_PER_COPY);
+		}
+	}
+
+	/**
+	 * Poll Points till {@link #pointsPerCopy} is reached or
+	 * {@link #MAX_AGGREGATE_WAIT} passed.
+	 *
+	 * @return a list of Points
+	 * @throws InterruptedException on error
+	 */
+	private List<Point> pollPoints() throws InterruptedException {
+		final var maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
+		var points = new ArrayList<Point>(this.pointsPerCopy);
+		while (points.size() < this.pointsPerCopy) {
+			this.pointsQueue.drainTo(points, this.pointsPerCopy - points.size());
+			if (points.size() >= this.pointsPerCopy) {
+				break;
+			}
+			var wait = maxWait.toEpochMilli() - Instant.now().toEpochMilli();
+			if (wait <= 0) {
+				break;
+			}
+			var point = this.pointsQueue.poll(wait, TimeUnit.MILLISECONDS);
+			if (point == null) {
+				break;
+			}
+			points.add(point);
+		}
+		return points;
+	}
+
+	/**
+	 * Writes the Points via one COPY per {@link Type}.
+	 *
+	 * @param con    the database {@link Connection}
+	 * @param points the {@link Point}s
+	 * @throws SQLException on error
+	 * @throws IOException  on error
+	 */
+	private void write(Connection con, List<Point> points) throws SQLException, IOException {
+		var streams = new EnumMap<Type, ByteArrayOutputStream>(Type.class);
+		var outs = new EnumMap<Type, DataOutputStream>(Type.class);
+
+		// Rows are encoded into a temporary buffer first, so that an invalid value
+		// does not corrupt the COPY stream
+		var row = new ByteArrayOutputStream(64);
+		var rowOut = new DataOutputStream(row);
+
+		for (var point : points) {
+			try {
+				var channel = this.parent.schema.getChannel(point, con);
+				if (channel == null) {
+					continue;
+				}
+				row.reset();
+				channel.type.fillCopy(rowOut, point, channel);
+
+				var out = outs.get(channel.type);
+				if (out == null) {
+					var stream = new ByteArrayOutputStream(points.size() * 32);
+					out = new DataOutputStream(stream);
+					Type.writeCopyHeader(out);
+					streams.put(channel.type, stream);
+					outs.put(channel.type, out);
+				}
+				row.writeTo(out);
+
+			} catch (Exception e) {
+				this.parent.logWarn(this.log, "Unable to add Point [" + point.edgeId + "/" + point.channelAddress + ":"
+						+ point.value + "]: " + e.getMessage());
+			}
+		}
+
+		var copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+		for (var entry : outs.entrySet()) {
+			var type = entry.getKey();
+			Type.writeCopyTrailer(entry.getValue());
+			try {
+				copyManager.copyIn(type.getSqlCopy(), new ByteArrayInputStream(streams.get(type).toByteArray()));
+			} catch (SQLException e) {
+				this.parent.logWarn(this.log, "Unable to COPY [Type:" + type + "]: " + e.getMessage());
+			}
+		}
+	}
+
+}
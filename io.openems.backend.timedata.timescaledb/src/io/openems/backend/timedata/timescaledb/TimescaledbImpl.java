@@ -61,15 +61,20 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbImpl.class);
-	private final HikariDataSource dataSource;
 	private final boolean isReadOnly;
+	private final WriteMode writeMode;
 	private final BlockingQueue<Point> pointsQueue = new ArrayBlockingQueue<>(POINTS_QUEUE_SIZE);
+	private final CopyWriteWorker[] copyWriteWorkers;
 
 	private final ThreadPoolExecutor executor;
 	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
 	private final ExecutorService mergePointsExecutor = Executors.newSingleThreadExecutor();
 
-	private Schema schema = null;
+	protected final HikariDataSource dataSource;
+	protected volatile Schema schema = null;
+
+	/** Set on deactivate(); guarded by 'copyWriteWorkers' for activating them. */
+	private volatile boolean deactivated = false;
 
 	@Activate
 	public TimescaledbImpl(@Reference Metadata metadata, Config config) throws SQLException {
@@ -80,6 +85,7 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 				+ "@" + config.host() + ":" + config.port() //
 				+ "/" + config.database() //
 				+ (config.isReadOnly() ? "|READ_ONLY_MODE" : "") //
+				+ "|" + config.writeMode() //
 				+ "]");
 
 		// Configuration
@@ -87,29 +93,48 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 				config.host(), config.port(), config.database(), //
 				config.user(), config.password());
 		this.isReadOnly = config.isReadOnly();
-
-		// Executors for debug, merge points and write to database
-		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
-				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
+		this.writeMode = config.writeMode();
+
+		if (this.writeMode == WriteMode.COPY) {
+			// COPY-Writers; each one is responsible for a partition of Edges
+			this.executor = null;
+			this.copyWriteWorkers = new CopyWriteWorker[config.poolSize()];
+			for (var i = 0; i < this.copyWriteWorkers.length; i++) {
+				this.copyWriteWorkers[i] = new CopyWriteWorker(this, POINTS_QUEUE_SIZE / this.copyWriteWorkers.length);
+			}
+		} else {
+			// Executor for write to database
+			this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
+					new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
+			this.copyWriteWorkers = new CopyWriteWorker[0];
+		}
 
 		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
-			int pointsQueueSize = this.pointsQueue.size();
-			this.log.info(new StringBuilder("[monitor] TimescaleDB ") //
-					.append("Pool: ").append(this.executor.getPoolSize()).append(", ") //
-					.append("Active: ").append(this.executor.getActiveCount()).append(", ") //
-					.append("Pending: ").append(this.executor.getQueue().size()).append(", ") //
-					.append("Completed: ").append(this.executor.getCompletedTaskCount()).append(", ") //
-					.append("QueuedPoints: ").append(this.pointsQueue.size()).append(", ") //
-					.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? "!!!POINTS BACKPRESSURE!!!" : "") //
+			int pointsQueueSize = this.getNumberOfQueuedPoints();
+			var b = new StringBuilder("[monitor] TimescaleDB ");
+			if (this.executor != null) {
+				b //
+						.append("Pool: ").append(this.executor.getPoolSize()).append(", ") //
+						.append("Active: ").append(this.executor.getActiveCount()).append(", ") //
+						.append("Pending: ").append(this.executor.getQueue().size()).append(", ") //
+						.append("Completed: ").append(this.executor.getCompletedTaskCount()).append(", ");
+			} else {
+				b.append("CopyWriters: ").append(this.copyWriteWorkers.length).append(", ");
+			}
+			this.log.info(b //
+					.append("QueuedPoints: ").append(pointsQueueSize).append(", ") //
+					.append((pointsQueueSize >= POINTS_QUEUE_SIZE) ? "!!!POINTS BACKPRESSURE!!!" : "") //
 					.toString());
 		}, 10, 10, TimeUnit.SECONDS);
 
 		this.mergePointsExecutor.execute(() -> {
-			// TODO stop on deactivate()
 			/*
 			 * Load Schema cache
 			 */
 			while (this.schema == null) {
+				if (this.deactivated) {
+					return;
+				}
 				try {
 					this.schema = Schema.initialize(this.dataSource);
 
@@ -119,9 +144,25 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 					try {
 						Thread.sleep(10000);
 					} catch (InterruptedException e1) {
-						e1.printStackTrace();
+						this.log.info("MergePointsExecutor was interrupted");
+						return;
+					}
+				}
+			}
+
+			/*
+			 * In COPY mode the CopyWriteWorkers poll and write their partitions of Points.
+			 */
+			if (this.writeMode == WriteMode.COPY) {
+				synchronized (this.copyWriteWorkers) {
+					if (this.deactivated) {
+						return;
+					}
+					for (var i = 0; i < this.copyWriteWorkers.length; i++) {
+						this.copyWriteWorkers[i].activate("TimescaleDB-Copy-" + i);
 					}
 				}
+				return;
 			}
 
 			/**
@@ -211,8 +252,14 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 	}
 
 	@Deactivate
-	private void deactivate() {
+	protected void deactivate() {
 		this.logInfo(this.log, "Deactivate");
+		synchronized (this.copyWriteWorkers) {
+			this.deactivated = true;
+			for (var worker : this.copyWriteWorkers) {
+				worker.deactivate();
+			}
+		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.mergePointsExecutor, 0);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 0);
@@ -229,9 +276,46 @@ public class TimescaledbImpl extends AbstractOpenemsBackendComponent implements
 			return;
 		}
 
-		this.pointsQueue.addAll(data.cellSet().stream() //
+		var points = data.cellSet().stream() //
 				.map(cell -> new Point(cell.getRowKey(), edgeId, cell.getColumnKey(), cell.getValue())) //
-				.collect(Collectors.toList()));
+				.collect(Collectors.toList());
+		switch (this.writeMode) {
+		case BATCH:
+			this.pointsQueue.addAll(points);
+			break;
+		case COPY:
+			// Partition by Edge-ID
+			this.copyWriteWorkers[Math.floorMod(edgeId.hashCode(), this.copyWriteWorkers.length)].addAll(points);
+			break;
+		}
+	}
+
+	/**
+	 * Gets the number of Points that are waiting to be written.
+	 *
+	 * @return the number of Points
+	 */
+	protected int getNumberOfQueuedPoints() {
+		var result = this.pointsQueue.size();
+		for (var worker : this.copyWriteWorkers) {
+			result += worker.getQueueSize();
+		}
+		return result;
+	}
+
+	@Override
+	protected void logInfo(Logger log, String message) {
+		super.logInfo(log, message);
+	}
+
+	@Override
+	protected void logWarn(Logger log, String message) {
+		super.logWarn(log, message);
+	}
+
+	@Override
+	protected void logError(Logger log, String message) {
+		super.logError(log, message);
 	}
 
 	/**
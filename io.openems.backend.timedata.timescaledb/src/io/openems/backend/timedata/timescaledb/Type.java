@@ -1,5 +1,8 @@
 package io.openems.backend.timedata.timescaledb;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -22,19 +25,31 @@ import io.openems.common.utils.JsonUtils;
 
 public enum Type {
 	INTEGER(1, "data_integer", "bigint" /* 8 bytes; covers Java byte, int and long */, //
-			new String[] { "avg", "min", "max" }, AddValueToStatement.INTEGER, ParseValueFromResultSet.INTEGER,
-			Subtract.INTEGER), //
+			new String[] { "avg", "min", "max" }, AddValueToStatement.INTEGER, AddValueToCopy.INTEGER,
+			ParseValueFromResultSet.INTEGER, Subtract.INTEGER), //
 	FLOAT(2, "data_float", "double precision" /* 8 bytes; covers Java float and double */, //
-			new String[] { "avg", "min", "max" }, AddValueToStatement.FLOAT, ParseValueFromResultSet.FLOAT,
-			Subtract.FLOAT), //
+			new String[] { "avg", "min", "max" }, AddValueToStatement.FLOAT, AddValueToCopy.FLOAT,
+			ParseValueFromResultSet.FLOAT, Subtract.FLOAT), //
 	STRING(3, "data_string", "text" /* variable-length character string */, //
-			new String[] { "max" }, AddValueToStatement.STRING, ParseValueFromResultSet.STRING, Subtract.STRING), //
+			new String[] { "max" }, AddValueToStatement.STRING, AddValueToCopy.STRING, ParseValueFromResultSet.STRING,
+			Subtract.STRING), //
 	;
 
 	private static final int IDX_TIME = 1;
 	private static final int IDX_CHANNEL_ID = 2;
 	private static final int IDX_VALUE = 3;
 
+	/**
+	 * Signature of the PostgreSQL binary COPY format.
+	 */
+	private static final byte[] COPY_SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+	/**
+	 * 2000-01-01T00:00:00Z, the epoch of PostgreSQL timestamps, in epoch
+	 * milliseconds.
+	 */
+	private static final long POSTGRES_EPOCH_MILLIS = 946_684_800_000L;
+
 	public final int id;
 	public final String sqlDataType;
 	public final String tableRaw;
@@ -43,12 +58,15 @@ public enum Type {
 	public final String[] aggregateFunctions;
 
 	private final String sqlInsert;
+	private final String sqlCopy;
 	private final ThrowingBiConsumer<PreparedStatement, JsonElement, Exception> addValueToStatement;
+	private final ThrowingBiConsumer<DataOutputStream, JsonElement, Exception> addValueToCopy;
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
 
 	private Type(int id, String prefix, String sqlDataType, String[] aggregateFunctions,
 			ThrowingBiConsumer<PreparedStatement, JsonElement, Exception> addValueToStatement,
+			ThrowingBiConsumer<DataOutputStream, JsonElement, Exception> addValueToCopy,
 			ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet,
 			ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction) {
 		this.id = id;
@@ -56,9 +74,11 @@ public enum Type {
 		this.tableRaw = prefix + "_raw";
 		this.tableAggregate5m = prefix + "_5m";
 		this.sqlInsert = "INSERT INTO " + this.tableRaw + " (time, channel_id, value) VALUES (?, ?, ?);";
+		this.sqlCopy = "COPY " + this.tableRaw + " (time, channel_id, value) FROM STDIN (FORMAT binary);";
 		this.aggregateFunctions = aggregateFunctions;
 		this.defaultAggregateFunction = aggregateFunctions[0];
 		this.addValueToStatement = addValueToStatement;
+		this.addValueToCopy = addValueToCopy;
 		this.parseValueFromResultSet = parseValueFromResultSet;
 		this.subtractFunction = subtractFunction;
 	}
@@ -91,6 +111,58 @@ public enum Type {
 		this.addValueToStatement.accept(pst, point.value);
 	}
 
+	/**
+	 * Gets the SQL for a binary COPY to the 'raw' table of this {@link Type}.
+	 *
+	 * @return the SQL statement
+	 */
+	public String getSqlCopy() {
+		return this.sqlCopy;
+	}
+
+	/**
+	 * Writes the header of the PostgreSQL binary COPY format.
+	 *
+	 * @param out the {@link DataOutputStream}
+	 * @throws IOException on error
+	 */
+	public static void writeCopyHeader(DataOutputStream out) throws IOException {
+		out.write(COPY_SIGNATURE);
+		out.writeInt(0); // Flags field
+		out.writeInt(0); // Header extension area length
+	}
+
+	/**
+	 * Writes the trailer of the PostgreSQL binary COPY format.
+	 *
+	 * @param out the {@link DataOutputStream}
+	 * @throws IOException on error
+	 */
+	public static void writeCopyTrailer(DataOutputStream out) throws IOException {
+		out.writeShort(-1);
+	}
+
+	/**
+	 * Writes one row (timestamp, channel_id and value) in the PostgreSQL binary
+	 * COPY format.
+	 *
+	 * @param out     the {@link DataOutputStream}; initialized via
+	 *                {@link #writeCopyHeader(DataOutputStream)}
+	 * @param point   the {@link Point} holding data
+	 * @param channel the {@link ChannelMeta} object
+	 * @throws Exception on error
+	 */
+	public void fillCopy(DataOutputStream out, Point point, ChannelMeta channel) throws Exception {
+		out.writeShort(3); // Number of fields
+		// 'timestamptz': microseconds since PostgreSQL epoch
+		out.writeInt(Long.BYTES);
+		out.writeLong((point.timestamp - POSTGRES_EPOCH_MILLIS) * 1000);
+		// 'integer'
+		out.writeInt(Integer.BYTES);
+		out.writeInt(channel.id);
+		this.addValueToCopy.accept(out, point.value);
+	}
+
 	/**
 	 * Parses a value from a {@link ResultSet} to {@link JsonElement}.
 	 * 
@@ -244,6 +316,58 @@ public enum Type {
 		};
 	}
 
+	private static class AddValueToCopy {
+
+		/**
+		 * Parse a {@link JsonElement} value to binary 'bigint' and adds it to the
+		 * COPY stream.
+		 *
+		 * @param value the {@link JsonElement} value
+		 */
+		private static final ThrowingBiConsumer<DataOutputStream, JsonElement, Exception> INTEGER = (out, json) -> {
+			Long value = JsonUtils.getAsType(OpenemsType.LONG, json);
+			if (value != null) {
+				out.writeInt(Long.BYTES);
+				out.writeLong(value);
+			} else {
+				out.writeInt(-1);
+			}
+		};
+
+		/**
+		 * Parse a {@link JsonElement} value to binary 'double precision' and adds it
+		 * to the COPY stream.
+		 *
+		 * @param value the {@link JsonElement} value
+		 */
+		private static final ThrowingBiConsumer<DataOutputStream, JsonElement, Exception> FLOAT = (out, json) -> {
+			Double value = JsonUtils.getAsType(OpenemsType.DOUBLE, json);
+			if (value != null) {
+				out.writeInt(Double.BYTES);
+				out.writeDouble(value);
+			} else {
+				out.writeInt(-1);
+			}
+		};
+
+		/**
+		 * Parse a {@link JsonElement} value to binary 'text' and adds it to the COPY
+		 * stream.
+		 *
+		 * @param value the {@link JsonElement} value
+		 */
+		private static final ThrowingBiConsumer<DataOutputStream, JsonElement, Exception> STRING = (out, json) -> {
+			String value = JsonUtils.getAsType(OpenemsType.STRING, json);
+			if (value != null) {
+				var bytes = value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			} else {
+				out.writeInt(-1);
+			}
+		};
+	}
+
 	private static class ParseValueFromResultSet {
 
 		private static final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> INTEGER = (rs,
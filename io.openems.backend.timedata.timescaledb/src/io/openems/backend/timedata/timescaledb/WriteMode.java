@@ -0,0 +1,13 @@
+package io.openems.backend.timedata.timescaledb;
+
+public enum WriteMode {
+	/**
+	 * Merge up to 1000 Points and insert them via batched PreparedStatements.
+	 */
+	BATCH, //
+	/**
+	 * Stream Points via PostgreSQL 'COPY ... FROM STDIN (FORMAT binary)' in
+	 * parallel writer threads that are partitioned by Edge-ID.
+	 */
+	COPY;
+}
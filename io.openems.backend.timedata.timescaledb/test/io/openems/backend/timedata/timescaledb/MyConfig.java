@@ -13,6 +13,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		public String password;
 		public String database;
 		public boolean isReadOnly;
+		public WriteMode writeMode = WriteMode.BATCH;
 		public int poolSize;
 
 		private Builder() {
@@ -52,7 +53,12 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			this.isReadOnly = isReadOnly;
 			return this;
 		}
-		
+
+		public Builder setWriteMode(WriteMode writeMode) {
+			this.writeMode = writeMode;
+			return this;
+		}
+
 		public Builder setPoolSize(int poolSize) {
 			this.poolSize = poolSize;
 			return this;
@@ -109,6 +115,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.isReadOnly;
 	}
 
+	@Override
+	public WriteMode writeMode() {
+		return this.builder.writeMode;
+	}
+
 	@Override
 	public int poolSize() {
 		return this.builder.poolSize;
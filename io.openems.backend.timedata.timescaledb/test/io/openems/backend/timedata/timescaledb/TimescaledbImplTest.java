@@ -9,6 +9,10 @@ import java.util.Set;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
 import io.openems.backend.timedata.utils.DummyMetadata;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
@@ -59,4 +63,55 @@ public class TimescaledbImplTest {
 
 	}
 
+	/**
+	 * Compares the write throughput of {@link WriteMode#BATCH} and
+	 * {@link WriteMode#COPY} against the database configured in
+	 * {@link Credentials}.
+	 */
+	@Ignore
+	@Test
+	public void benchmarkWriteModes() throws SQLException, InterruptedException, OpenemsNamedException {
+		final var numberOfEdges = 100;
+		final var numberOfChannels = 100;
+		final var numberOfTimestamps = 20;
+		final var timestamp = ZonedDateTime.of(2022, 06, 23, 0, 0, 0, 0, ZoneId.of("UTC")).toInstant().toEpochMilli();
+
+		for (var writeMode : WriteMode.values()) {
+			var config = MyConfig.create() //
+					.setHost(Credentials.HOST) //
+					.setPort(5432) //
+					.setUser(Credentials.USER) //
+					.setPassword(Credentials.PASSWORD) //
+					.setDatabase(Credentials.DATABASE) //
+					.setReadOnly(false) //
+					.setWriteMode(writeMode) //
+					.setPoolSize(10) //
+					.build();
+			var sut = new TimescaledbImpl(new DummyMetadata(), config);
+
+			var start = System.nanoTime();
+			for (var t = 0; t < numberOfTimestamps; t++) {
+				for (var e = 0; e < numberOfEdges; e++) {
+					var data = TreeBasedTable.<Long, ChannelAddress, JsonElement>create();
+					for (var c = 0; c < numberOfChannels; c++) {
+						data.put(timestamp + t * 1000L, new ChannelAddress("benchmark" + c, "Value"),
+								new JsonPrimitive(e * c + t));
+					}
+					sut.write("benchmark" + e, data);
+				}
+			}
+			while (sut.getNumberOfQueuedPoints() > 0) {
+				Thread.sleep(10);
+			}
+			// Give the writers time to finish the last write
+			Thread.sleep(1000);
+			var duration = (System.nanoTime() - start) / 1_000_000;
+
+			var points = numberOfEdges * numberOfChannels * numberOfTimestamps;
+			System.out.println(writeMode + ": " + points + " Points in " + duration + " ms -> "
+					+ points * 1000L / Math.max(1, duration) + " Points/s");
+			sut.deactivate();
+		}
+	}
+
 }
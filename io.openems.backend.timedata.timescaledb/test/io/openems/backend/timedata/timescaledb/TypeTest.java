@@ -1,12 +1,20 @@
 package io.openems.backend.timedata.timescaledb;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
+import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
+import io.openems.backend.timedata.timescaledb.Schema.ChannelMeta;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 
@@ -26,4 +34,45 @@ public class TypeTest {
 		}
 	}
 
+	@Test
+	public void testFillCopy() throws Exception {
+		var stream = new ByteArrayOutputStream();
+		var out = new DataOutputStream(stream);
+		var address = new ChannelAddress("_sum", "EssSoc");
+		Type.writeCopyHeader(out);
+		Type.INTEGER.fillCopy(out, new Point(946_684_800_001L, "edge0", address, new JsonPrimitive(42)),
+				new ChannelMeta(7, Type.INTEGER));
+		Type.INTEGER.fillCopy(out, new Point(946_684_800_000L, "edge0", address, JsonNull.INSTANCE),
+				new ChannelMeta(7, Type.INTEGER));
+		Type.writeCopyTrailer(out);
+
+		var b = ByteBuffer.wrap(stream.toByteArray());
+		var signature = new byte[11];
+		b.get(signature);
+		assertArrayEquals(new byte[] { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 }, signature);
+		assertEquals(0, b.getInt()); // Flags
+		assertEquals(0, b.getInt()); // Header extension
+
+		// Row 1
+		assertEquals(3, b.getShort());
+		assertEquals(8, b.getInt());
+		assertEquals(1000L, b.getLong()); // 1 ms after PostgreSQL epoch
+		assertEquals(4, b.getInt());
+		assertEquals(7, b.getInt());
+		assertEquals(8, b.getInt());
+		assertEquals(42L, b.getLong());
+
+		// Row 2
+		assertEquals(3, b.getShort());
+		assertEquals(8, b.getInt());
+		assertEquals(0L, b.getLong());
+		assertEquals(4, b.getInt());
+		assertEquals(7, b.getInt());
+		assertEquals(-1, b.getInt()); // NULL
+
+		// Trailer
+		assertEquals(-1, b.getShort());
+		assertEquals(0, b.remaining());
+	}
+
 }
@@ -0,0 +1,89 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds an index of Edge-ID to UI sessions that subscribed Channels of this
+ * Edge.
+ *
+ * <p>
+ * The index is maintained on SubscribeChannelsRequests and on close of the UI
+ * websocket. It allows {@link UiWebsocketImpl#sendSubscribedChannels} to only
+ * touch sessions that are actually interested in an Edge, instead of
+ * iterating over all open connections for every notification.
+ */
+public class SubscriptionIndex {
+
+	private final ConcurrentHashMap<String, Set<WsData>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers a UI session as subscriber of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the {@link WsData} of the UI session
+	 */
+	public void subscribe(String edgeId, WsData wsData) {
+		this.subscribers.compute(edgeId, (key, set) -> {
+			if (set == null) {
+				set = ConcurrentHashMap.newKeySet();
+			}
+			set.add(wsData);
+			return set;
+		});
+	}
+
+	/**
+	 * Unregisters a UI session as subscriber of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the {@link WsData} of the UI session
+	 */
+	public void unsubscribe(String edgeId, WsData wsData) {
+		this.subscribers.computeIfPresent(edgeId, (key, set) -> {
+			set.remove(wsData);
+			if (set.isEmpty()) {
+				return null; // removes the entry
+			}
+			return set;
+		});
+	}
+
+	/**
+	 * Unregisters a UI session from all given Edges.
+	 *
+	 * @param edgeIds the Edge-IDs
+	 * @param wsData  the {@link WsData} of the UI session
+	 */
+	public void unsubscribeAll(Iterable<String> edgeIds, WsData wsData) {
+		for (var edgeId : edgeIds) {
+			this.unsubscribe(edgeId, wsData);
+		}
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed Channels of the given Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return a weakly consistent view on the subscribers; empty set if there are
+	 *         none
+	 */
+	public Set<WsData> getSubscribers(String edgeId) {
+		var result = this.subscribers.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of Edges that have at least one subscriber.
+	 *
+	 * @return the number of subscribed Edges
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.subscribers.size();
+	}
+
+}
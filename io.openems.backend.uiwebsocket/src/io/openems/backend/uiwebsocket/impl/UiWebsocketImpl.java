@@ -47,6 +47,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 	private final Logger log = LoggerFactory.getLogger(UiWebsocket.class);
 	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
 
+	protected final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 	protected WebsocketServer server = null;
 
 	@Reference
@@ -74,6 +76,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 			this.log.info(new StringBuilder("[monitor] ") //
 					.append("UI-Connections: ") //
 					.append(this.server != null ? this.server.getConnections().size() : "initializing") //
+					.append(", Subscribed-Edges: ") //
+					.append(this.subscriptionIndex.getNumberOfSubscribedEdges()) //
 					.toString());
 		}, 10, 10, TimeUnit.SECONDS);
 	}
@@ -210,9 +214,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
+		// Only touch sessions that subscribed Channels of this Edge
+		for (var wsData : this.subscriptionIndex.getSubscribers(edgeId)) {
 			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
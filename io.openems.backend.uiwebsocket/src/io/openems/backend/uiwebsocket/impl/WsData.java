@@ -2,8 +2,10 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 
 import org.slf4j.Logger;
@@ -61,8 +63,26 @@ public class WsData extends io.openems.common.websocket.WsData {
 			return result;
 		}
 
-		protected void dispose() {
+		/**
+		 * Gets whether any Channel of the given Edge is subscribed.
+		 *
+		 * @param edgeId the Edge-ID
+		 * @return true if at least one Channel is subscribed
+		 */
+		public synchronized boolean isSubscribed(String edgeId) {
+			var subscribedChannels = this.subscribedChannels.get(edgeId);
+			return subscribedChannels != null && !subscribedChannels.isEmpty();
+		}
+
+		/**
+		 * Clears all subscriptions.
+		 *
+		 * @return the Edge-IDs that had been subscribed
+		 */
+		protected synchronized Set<String> dispose() {
+			var edgeIds = new HashSet<>(this.subscribedChannels.keySet());
 			this.subscribedChannels.clear();
+			return edgeIds;
 		}
 	}
 
@@ -83,7 +103,24 @@ public class WsData extends io.openems.common.websocket.WsData {
 	public void logout() {
 		this.unsetToken();
 		this.unsetUserId();
-		this.subscribedChannels.dispose();
+		this.disposeSubscribedChannels();
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.disposeSubscribedChannels();
+	}
+
+	/**
+	 * Clears all Channel subscriptions and removes this session from the
+	 * {@link SubscriptionIndex}. Synchronized with
+	 * {@link #handleSubscribeChannelsRequest(String, SubscribeChannelsRequest)}
+	 * to not leave a stale entry in the {@link SubscriptionIndex}.
+	 */
+	private synchronized void disposeSubscribedChannels() {
+		var edgeIds = this.subscribedChannels.dispose();
+		this.parent.parent.subscriptionIndex.unsubscribeAll(edgeIds, this);
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -174,6 +211,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 */
 	public synchronized void handleSubscribeChannelsRequest(String edgeId, SubscribeChannelsRequest request) {
 		this.subscribedChannels.handleSubscribeChannelsRequest(edgeId, request);
+
+		// Keep the SubscriptionIndex in sync
+		var subscriptionIndex = this.parent.parent.subscriptionIndex;
+		if (this.subscribedChannels.isSubscribed(edgeId)) {
+			subscriptionIndex.subscribe(edgeId, this);
+		} else {
+			subscriptionIndex.unsubscribe(edgeId, this);
+		}
 	}
 
 	/**
@@ -195,7 +240,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 		} catch (OpenemsException e) {
 			// Log & stop subscribes
 			this.parent.logWarn(this.log, "Unable to send CurrentDataNotification: " + e.getMessage());
-			this.subscribedChannels.dispose();
+			this.disposeSubscribedChannels();
 		}
 	}
 
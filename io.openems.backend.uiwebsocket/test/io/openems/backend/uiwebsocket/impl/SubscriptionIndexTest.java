@@ -0,0 +1,35 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class SubscriptionIndexTest {
+
+	@Test
+	public void test() {
+		var sut = new SubscriptionIndex();
+		var wsData0 = new WsData(null);
+		var wsData1 = new WsData(null);
+
+		sut.subscribe("edge0", wsData0);
+		sut.subscribe("edge0", wsData1);
+		sut.subscribe("edge1", wsData1);
+		assertEquals(2, sut.getSubscribers("edge0").size());
+		assertEquals(1, sut.getSubscribers("edge1").size());
+		assertTrue(sut.getSubscribers("edge2").isEmpty());
+		assertEquals(2, sut.getNumberOfSubscribedEdges());
+
+		sut.unsubscribe("edge0", wsData0);
+		assertEquals(1, sut.getSubscribers("edge0").size());
+
+		sut.unsubscribeAll(List.of("edge0", "edge1"), wsData1);
+		assertTrue(sut.getSubscribers("edge0").isEmpty());
+		assertTrue(sut.getSubscribers("edge1").isEmpty());
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+	}
+
+}
@@ -0,0 +1,428 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Compact binary encoding of {@link TimestampedDataNotification}s for websocket
+ * binary frames.
+ *
+ * <p>
+ * The encoding is stateful per connection: {@link ChannelAddress}es are sent
+ * only once and then referred to by an index into a per-connection dictionary;
+ * timestamps and integral values are delta-encoded against the previous value
+ * as zig-zag varints. {@link Encoder} and {@link Decoder} therefore have to
+ * see the exact same sequence of messages and must be reset whenever the
+ * connection is (re)opened.
+ *
+ * <p>
+ * Use of the encoding is negotiated during the websocket handshake via the
+ * {@link #HTTP_HEADER} header: the client announces {@link #VERSION}; the
+ * server echoes it if it supports the encoding. JSON stays the fallback.
+ *
+ * <pre>
+ * [version: byte][message type: byte]
+ * [number of new addresses: varint] ([length: varint][address: UTF-8])*
+ * [number of timestamps: varint]
+ *   ([timestamp delta: zig-zag varint][number of values: varint]
+ *     ([address index: varint][value type: byte][value])*)*
+ * </pre>
+ */
+public class TimestampedDataBinaryCodec {
+
+	/**
+	 * HTTP header that is used to negotiate the binary encoding.
+	 */
+	public static final String HTTP_HEADER = "X-OpenEMS-Binary-Encoding";
+
+	/**
+	 * The current version of the binary encoding.
+	 */
+	public static final String VERSION = "1";
+
+	private static final byte VERSION_BYTE = 1;
+	private static final byte MESSAGE_TYPE_TIMESTAMPED_DATA = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_FALSE = 1;
+	private static final byte TYPE_TRUE = 2;
+	private static final byte TYPE_LONG = 3;
+	private static final byte TYPE_FLOAT = 4;
+	private static final byte TYPE_DOUBLE = 5;
+	private static final byte TYPE_STRING = 6;
+	private static final byte TYPE_JSON = 7;
+
+	private TimestampedDataBinaryCodec() {
+	}
+
+	/**
+	 * Encodes {@link TimestampedDataNotification}s for one connection.
+	 *
+	 * <p>
+	 * This class is not thread-safe. Callers have to make sure that encoding and
+	 * sending of a message happen atomically, so that messages arrive in the
+	 * order they were encoded.
+	 */
+	public static class Encoder {
+
+		private final HashMap<ChannelAddress, Integer> dictionary = new HashMap<>();
+		private final Output body = new Output(1024);
+		private final Output header = new Output(256);
+		private long[] lastLongs = new long[256];
+		private long lastTimestamp = 0L;
+
+		/**
+		 * Resets the state, e.g. on (re)connect.
+		 */
+		public void reset() {
+			this.dictionary.clear();
+			Arrays.fill(this.lastLongs, 0L);
+			this.lastTimestamp = 0L;
+		}
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification}.
+		 *
+		 * @param notification the {@link TimestampedDataNotification}
+		 * @return the encoded message, ready to be sent as binary frame
+		 */
+		public ByteBuffer encode(TimestampedDataNotification notification) {
+			this.body.reset();
+			this.header.reset();
+
+			var newAddresses = new ArrayList<ChannelAddress>();
+			var rows = notification.getData().rowMap();
+			this.body.writeVarLong(rows.size());
+			for (var row : rows.entrySet()) {
+				long timestamp = row.getKey();
+				this.body.writeVarLong(zigZag(timestamp - this.lastTimestamp));
+				this.lastTimestamp = timestamp;
+
+				var values = row.getValue();
+				this.body.writeVarLong(values.size());
+				for (Entry<ChannelAddress, JsonElement> entry : values.entrySet()) {
+					var index = this.dictionary.get(entry.getKey());
+					if (index == null) {
+						index = this.dictionary.size();
+						this.dictionary.put(entry.getKey(), index);
+						newAddresses.add(entry.getKey());
+						if (index >= this.lastLongs.length) {
+							this.lastLongs = Arrays.copyOf(this.lastLongs, this.lastLongs.length * 2);
+						}
+					}
+					this.body.writeVarLong(index);
+					this.writeValue(index, entry.getValue());
+				}
+			}
+
+			this.header.writeByte(VERSION_BYTE);
+			this.header.writeByte(MESSAGE_TYPE_TIMESTAMPED_DATA);
+			this.header.writeVarLong(newAddresses.size());
+			for (var address : newAddresses) {
+				this.header.writeString(address.toString());
+			}
+
+			var result = ByteBuffer.allocate(this.header.size + this.body.size);
+			result.put(this.header.buffer, 0, this.header.size);
+			result.put(this.body.buffer, 0, this.body.size);
+			return result.flip();
+		}
+
+		private void writeValue(int index, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				this.body.writeByte(TYPE_NULL);
+				return;
+			}
+			if (!value.isJsonPrimitive()) {
+				this.body.writeByte(TYPE_JSON);
+				this.body.writeString(value.toString());
+				return;
+			}
+			var primitive = value.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				this.body.writeByte(primitive.getAsBoolean() ? TYPE_TRUE : TYPE_FALSE);
+
+			} else if (primitive.isString()) {
+				this.body.writeByte(TYPE_STRING);
+				this.body.writeString(primitive.getAsString());
+
+			} else {
+				var number = primitive.getAsNumber();
+				if (isIntegral(number)) {
+					var longValue = number.longValue();
+					this.body.writeByte(TYPE_LONG);
+					this.body.writeVarLong(zigZag(longValue - this.lastLongs[index]));
+					this.lastLongs[index] = longValue;
+
+				} else if (number instanceof Float) {
+					this.body.writeByte(TYPE_FLOAT);
+					this.body.writeInt(Float.floatToIntBits(number.floatValue()));
+
+				} else {
+					this.body.writeByte(TYPE_DOUBLE);
+					this.body.writeLong(Double.doubleToLongBits(number.doubleValue()));
+				}
+			}
+		}
+
+		private static boolean isIntegral(Number number) {
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				return true;
+			}
+			if (number instanceof Float || number instanceof Double) {
+				return false;
+			}
+			// e.g. a LazilyParsedNumber from Gson
+			var string = number.toString();
+			for (var i = 0; i < string.length(); i++) {
+				var c = string.charAt(i);
+				if ((c < '0' || c > '9') && !(i == 0 && c == '-')) {
+					return false;
+				}
+			}
+			try {
+				Long.parseLong(string);
+			} catch (NumberFormatException e) {
+				return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Decodes {@link TimestampedDataNotification}s of one connection.
+	 *
+	 * <p>
+	 * Decoding a message is atomic: if it fails, the dictionary and the delta
+	 * state are restored to the state before the message.
+	 */
+	public static class Decoder {
+
+		private final List<ChannelAddress> dictionary = new ArrayList<>();
+		private long[] lastLongs = new long[256];
+		private long lastTimestamp = 0L;
+
+		/**
+		 * Previous values of changed lastLongs as pairs of index and value; used to
+		 * roll back a failed message.
+		 */
+		private long[] undoLog = new long[64];
+		private int undoLogSize = 0;
+
+		/**
+		 * Resets the state, e.g. on (re)connect.
+		 */
+		public synchronized void reset() {
+			this.dictionary.clear();
+			Arrays.fill(this.lastLongs, 0L);
+			this.lastTimestamp = 0L;
+			this.undoLogSize = 0;
+		}
+
+		/**
+		 * Decodes a binary message to a {@link TimestampedDataNotification}.
+		 *
+		 * @param bytes the binary message
+		 * @return the {@link TimestampedDataNotification}
+		 * @throws OpenemsNamedException on error; the state is left unchanged
+		 */
+		public synchronized TimestampedDataNotification decode(ByteBuffer bytes) throws OpenemsNamedException {
+			var dictionarySize = this.dictionary.size();
+			var lastTimestamp = this.lastTimestamp;
+			this.undoLogSize = 0;
+			var isSuccessful = false;
+			try {
+				var result = this.decodeMessage(bytes);
+				isSuccessful = true;
+				return result;
+
+			} catch (BufferUnderflowException e) {
+				throw new OpenemsException("Binary message is truncated");
+
+			} finally {
+				if (!isSuccessful) {
+					// Roll back
+					this.dictionary.subList(dictionarySize, this.dictionary.size()).clear();
+					this.lastTimestamp = lastTimestamp;
+					for (var i = this.undoLogSize - 2; i >= 0; i -= 2) {
+						this.lastLongs[(int) this.undoLog[i]] = this.undoLog[i + 1];
+					}
+				}
+				this.undoLogSize = 0;
+			}
+		}
+
+		private TimestampedDataNotification decodeMessage(ByteBuffer bytes) throws OpenemsNamedException {
+			var version = bytes.get();
+			if (version != VERSION_BYTE) {
+				throw new OpenemsException("Unsupported binary encoding version [" + version + "]");
+			}
+			var messageType = bytes.get();
+			if (messageType != MESSAGE_TYPE_TIMESTAMPED_DATA) {
+				throw new OpenemsException("Unsupported binary message type [" + messageType + "]");
+			}
+
+			// Dictionary
+			var numberOfNewAddresses = (int) readVarLong(bytes);
+			for (var i = 0; i < numberOfNewAddresses; i++) {
+				this.dictionary.add(ChannelAddress.fromString(readString(bytes)));
+			}
+			if (this.dictionary.size() > this.lastLongs.length) {
+				this.lastLongs = Arrays.copyOf(this.lastLongs,
+						Math.max(this.lastLongs.length * 2, this.dictionary.size()));
+			}
+
+			// Data
+			var result = new TimestampedDataNotification();
+			var numberOfTimestamps = (int) readVarLong(bytes);
+			for (var i = 0; i < numberOfTimestamps; i++) {
+				this.lastTimestamp += unZigZag(readVarLong(bytes));
+				var numberOfValues = (int) readVarLong(bytes);
+				for (var j = 0; j < numberOfValues; j++) {
+					var index = (int) readVarLong(bytes);
+					if (index < 0 || index >= this.dictionary.size()) {
+						throw new OpenemsException("Unknown Channel-Address index [" + index + "]");
+					}
+					result.add(this.lastTimestamp, this.dictionary.get(index), this.readValue(index, bytes));
+				}
+			}
+			return result;
+		}
+
+		private JsonElement readValue(int index, ByteBuffer bytes) throws OpenemsNamedException {
+			var type = bytes.get();
+			switch (type) {
+			case TYPE_NULL:
+				return JsonNull.INSTANCE;
+			case TYPE_FALSE:
+				return new JsonPrimitive(false);
+			case TYPE_TRUE:
+				return new JsonPrimitive(true);
+			case TYPE_LONG:
+				var delta = unZigZag(readVarLong(bytes));
+				if (this.undoLogSize + 2 > this.undoLog.length) {
+					this.undoLog = Arrays.copyOf(this.undoLog, this.undoLog.length * 2);
+				}
+				this.undoLog[this.undoLogSize++] = index;
+				this.undoLog[this.undoLogSize++] = this.lastLongs[index];
+				this.lastLongs[index] += delta;
+				return new JsonPrimitive(this.lastLongs[index]);
+			case TYPE_FLOAT:
+				return new JsonPrimitive(Float.intBitsToFloat(bytes.getInt()));
+			case TYPE_DOUBLE:
+				return new JsonPrimitive(Double.longBitsToDouble(bytes.getLong()));
+			case TYPE_STRING:
+				return new JsonPrimitive(readString(bytes));
+			case TYPE_JSON:
+				return JsonUtils.parse(readString(bytes));
+			}
+			throw new OpenemsException("Unsupported binary value type [" + type + "]");
+		}
+	}
+
+	/**
+	 * Simple growable byte buffer.
+	 */
+	private static class Output {
+
+		private byte[] buffer;
+		private int size = 0;
+
+		private Output(int initialCapacity) {
+			this.buffer = new byte[initialCapacity];
+		}
+
+		private void reset() {
+			this.size = 0;
+		}
+
+		private void ensureCapacity(int additional) {
+			if (this.size + additional > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + additional));
+			}
+		}
+
+		private void writeByte(byte value) {
+			this.ensureCapacity(1);
+			this.buffer[this.size++] = value;
+		}
+
+		private void writeVarLong(long value) {
+			this.ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.buffer[this.size++] = (byte) value;
+		}
+
+		private void writeInt(int value) {
+			this.ensureCapacity(4);
+			for (var shift = 24; shift >= 0; shift -= 8) {
+				this.buffer[this.size++] = (byte) (value >>> shift);
+			}
+		}
+
+		private void writeLong(long value) {
+			this.ensureCapacity(8);
+			for (var shift = 56; shift >= 0; shift -= 8) {
+				this.buffer[this.size++] = (byte) (value >>> shift);
+			}
+		}
+
+		private void writeString(String value) {
+			var bytes = value.getBytes(StandardCharsets.UTF_8);
+			this.writeVarLong(bytes.length);
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+			this.size += bytes.length;
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static long readVarLong(ByteBuffer bytes) throws OpenemsException {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			var b = bytes.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Malformed varint in binary message");
+	}
+
+	private static String readString(ByteBuffer bytes) throws OpenemsException {
+		var length = (int) readVarLong(bytes);
+		if (length < 0 || length > bytes.remaining()) {
+			throw new OpenemsException("Invalid string length [" + length + "] in binary message");
+		}
+		var result = new byte[length];
+		bytes.get(result);
+		return new String(result, StandardCharsets.UTF_8);
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.common.jsonrpc.notification;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -51,6 +52,20 @@ public class TimestampedDataNotification extends JsonrpcNotification {
 		return result;
 	}
 
+	/**
+	 * Parses a binary message to a {@link TimestampedDataNotification}.
+	 *
+	 * @param bytes   the binary message
+	 * @param decoder the connection specific
+	 *                {@link TimestampedDataBinaryCodec.Decoder}
+	 * @return the {@link TimestampedDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static TimestampedDataNotification from(ByteBuffer bytes, TimestampedDataBinaryCodec.Decoder decoder)
+			throws OpenemsNamedException {
+		return decoder.decode(bytes);
+	}
+
 	public static final String METHOD = "timestampedData";
 
 	private final TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
@@ -97,6 +112,17 @@ public class TimestampedDataNotification extends JsonrpcNotification {
 		return p;
 	}
 
+	/**
+	 * Encodes this notification to a binary message.
+	 *
+	 * @param encoder the connection specific
+	 *                {@link TimestampedDataBinaryCodec.Encoder}
+	 * @return the binary message
+	 */
+	public ByteBuffer toBinary(TimestampedDataBinaryCodec.Encoder encoder) {
+		return encoder.encode(this);
+	}
+
 	public TreeBasedTable<Long, ChannelAddress, JsonElement> getData() {
 		return this.data;
 	}
@@ -22,6 +22,8 @@ import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.TimestampedDataBinaryCodec;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.utils.StringUtils;
 
 /**
@@ -68,6 +70,11 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 			@Override
 			public void onOpen(ServerHandshake handshake) {
 				try {
+					// Use binary encoding if the server acknowledged it
+					WsData wsData = AbstractWebsocketClient.this.ws.getAttachment();
+					wsData.setBinaryEncoding(TimestampedDataBinaryCodec.VERSION
+							.equals(handshake.getFieldValue(TimestampedDataBinaryCodec.HTTP_HEADER)));
+
 					var jHandshake = WebsocketUtils.handshakeToJsonObject(handshake);
 					AbstractWebsocketClient.this.execute(new OnOpenHandler(AbstractWebsocketClient.this,
 							AbstractWebsocketClient.this.ws, jHandshake));
@@ -206,7 +213,16 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 	 */
 	public void sendMessageOrError(JsonrpcMessage message) throws OpenemsException {
 		try {
-			this.ws.send(message.toString());
+			WsData wsData = this.ws.getAttachment();
+			var binaryEncoder = wsData.getBinaryEncoder();
+			if (binaryEncoder != null && message instanceof TimestampedDataNotification) {
+				// Encoding and sending needs to be atomic to keep the encoding state in sync
+				synchronized (binaryEncoder) {
+					this.ws.send(((TimestampedDataNotification) message).toBinary(binaryEncoder));
+				}
+			} else {
+				this.ws.send(message.toString());
+			}
 		} catch (Exception e) {
 			if (e instanceof WebsocketNotConnectedException) {
 				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
@@ -2,7 +2,9 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
@@ -12,28 +14,53 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.framing.CloseFrame;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
+import io.openems.common.jsonrpc.base.JsonrpcResponseError;
+import io.openems.common.jsonrpc.notification.TimestampedDataBinaryCodec;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.jsonrpc.request.EdgeRpcRequest;
+import io.openems.common.jsonrpc.request.QueryHistoricTimeseriesDataRequest;
+import io.openems.common.jsonrpc.request.QueryHistoricTimeseriesEnergyPerPeriodRequest;
+import io.openems.common.jsonrpc.request.QueryHistoricTimeseriesEnergyRequest;
+import io.openems.common.jsonrpc.request.QueryHistoricTimeseriesExportXlxsRequest;
+import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.ThreadPoolUtils;
 
 public abstract class AbstractWebsocketServer<T extends WsData> extends AbstractWebsocket<T> {
 
 	/**
-	 * Shared {@link ExecutorService}.
+	 * JSON-RPC methods that are executed in the {@link Lane#HEAVY_REQUEST} lane.
+	 */
+	private static final Set<String> HEAVY_REQUEST_METHODS = Set.of(//
+			QueryHistoricTimeseriesDataRequest.METHOD, //
+			QueryHistoricTimeseriesEnergyRequest.METHOD, //
+			QueryHistoricTimeseriesEnergyPerPeriodRequest.METHOD, //
+			QueryHistoricTimeseriesExportXlxsRequest.METHOD);
+
+	/**
+	 * Shared {@link ExecutorService} of the {@link Lane#NOTIFICATION} lane.
 	 */
 	protected final ThreadPoolExecutor executor;
 
+	private final LaneExecutor notificationLane;
+	private final LaneExecutor requestLane;
+	private final LaneExecutor heavyRequestLane;
+
 	/*
 	 * This Executor is used if Debug-Mode is activated.
 	 */
@@ -48,7 +75,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 *
 	 * @param name          to identify this server
 	 * @param port          to listen on
-	 * @param poolSize      number of threads dedicated to handle the tasks
+	 * @param poolSize      number of threads dedicated to handle the tasks; see
+	 *                      {@link Lane} for the threads per lane
 	 * @param debugMode     activate a regular debug log about the state of the
 	 *                      tasks
 	 * @param debugCallback additional callback on regular debug log
@@ -56,8 +84,10 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	protected AbstractWebsocketServer(String name, int port, int poolSize, boolean debugMode,
 			Consumer<ThreadPoolExecutor> debugCallback) {
 		super(name);
-		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
-				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.notificationLane = new LaneExecutor(name, Lane.NOTIFICATION, poolSize);
+		this.requestLane = new LaneExecutor(name, Lane.REQUEST, poolSize);
+		this.heavyRequestLane = new LaneExecutor(name, Lane.HEAVY_REQUEST, poolSize);
+		this.executor = this.notificationLane.getExecutor();
 
 		// Debug-Mode
 		if (debugMode) {
@@ -69,6 +99,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 								this.executor.getActiveCount(), //
 								this.executor.getQueue().size(), //
 								this.executor.getCompletedTaskCount())); //
+				this.logInfo(this.log, "[monitor] " + this.notificationLane.getMetrics() + ", "
+						+ this.requestLane.getMetrics() + ", " + this.heavyRequestLane.getMetrics());
 				if (debugCallback != null) {
 					debugCallback.accept(this.executor);
 				}
@@ -118,25 +150,61 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 					}
 
 					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+						AbstractWebsocketServer.this.executeRequest(ws, (JsonrpcRequest) message);
 
 					} else if (message instanceof JsonrpcResponse) {
 						AbstractWebsocketServer.this.execute(
 								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
 
 					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+						AbstractWebsocketServer.this.executeNotification(ws, new OnNotificationHandler(
+								AbstractWebsocketServer.this, ws, (JsonrpcNotification) message));
+					}
+
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
+
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer bytes) {
+				try {
+					final JsonrpcNotification message;
+					try {
+						if (!AbstractWebsocketServer.this.isBinaryEncodingSupported()) {
+							throw new OpenemsException("Binary messages are not supported");
+						}
+						WsData wsData = ws.getAttachment();
+						// Decode synchronously to keep the encoding state in order
+						message = wsData.decodeBinaryMessage(bytes);
+
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						// Encoder of the client and Decoder are out of sync now -> start again
+						ws.close(CloseFrame.PROTOCOL_ERROR, "Unable to decode binary message");
+						return;
 					}
 
+					AbstractWebsocketServer.this.executeNotification(ws,
+							new OnNotificationHandler(AbstractWebsocketServer.this, ws, message));
+
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				// Acknowledge binary encoding if requested by the client and supported
+				if (AbstractWebsocketServer.this.isBinaryEncodingSupported() && TimestampedDataBinaryCodec.VERSION
+						.equals(request.getFieldValue(TimestampedDataBinaryCodec.HTTP_HEADER))) {
+					response.put(TimestampedDataBinaryCodec.HTTP_HEADER, TimestampedDataBinaryCodec.VERSION);
+				}
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -225,13 +293,90 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	}
 
 	/**
-	 * Execute a {@link Runnable} using the shared {@link ExecutorService}.
+	 * Execute a {@link Runnable} using the shared {@link ExecutorService} of the
+	 * {@link Lane#NOTIFICATION} lane.
+	 *
+	 * <p>
+	 * This is used for websocket events and JSON-RPC Responses, which must never
+	 * be dropped. If the queue is full, the {@link Runnable} is executed on the
+	 * calling thread.
 	 *
 	 * @param command the {@link Runnable}
 	 */
 	@Override
 	protected void execute(Runnable command) throws RejectedExecutionException {
-		this.executor.execute(command);
+		this.notificationLane.executeOrRun(command);
+	}
+
+	/**
+	 * Gets the {@link Lane} for a JSON-RPC Request.
+	 *
+	 * <p>
+	 * Queries of historic data - also if wrapped in an {@link EdgeRpcRequest} - are
+	 * executed in the {@link Lane#HEAVY_REQUEST} lane, all other Requests in the
+	 * {@link Lane#REQUEST} lane. Override to classify additional methods.
+	 *
+	 * @param request the {@link JsonrpcRequest}
+	 * @return the {@link Lane}
+	 */
+	protected Lane getLane(JsonrpcRequest request) {
+		var method = request.getMethod();
+		if (EdgeRpcRequest.METHOD.equals(method)) {
+			method = JsonUtils.getAsOptionalJsonObject(request.getParams(), "payload") //
+					.flatMap(payload -> JsonUtils.getAsOptionalString(payload, "method")) //
+					.orElse(method);
+		}
+		if (HEAVY_REQUEST_METHODS.contains(method)) {
+			return Lane.HEAVY_REQUEST;
+		}
+		return Lane.REQUEST;
+	}
+
+	/**
+	 * Executes a JSON-RPC Request in its {@link Lane}. Requests beyond the
+	 * running limit of the connection wait in order in the queue of the
+	 * connection. If the lane or that queue is full, the Request is answered
+	 * immediately with a {@link OpenemsError#JSONRPC_TOO_MANY_REQUESTS} error.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param request the {@link JsonrpcRequest}
+	 */
+	private void executeRequest(WebSocket ws, JsonrpcRequest request) {
+		var lane = this.getLane(request);
+		var laneExecutor = lane == Lane.HEAVY_REQUEST ? this.heavyRequestLane : this.requestLane;
+		var handler = new OnRequestHandler(this, ws, request, response -> {
+			this.sendMessage(ws, response);
+		});
+		if (laneExecutor.tryExecute(getConnectionTasks(ws, lane), handler)) {
+			return;
+		}
+		this.logWarn(this.log, "Rejected Request [" + request.getMethod() + "] for "
+				+ WebsocketUtils.getWsDataString(ws) + ": lane [" + lane.name() + "] is saturated");
+		this.sendMessage(ws, new JsonrpcResponseError(request.getId(),
+				OpenemsError.JSONRPC_TOO_MANY_REQUESTS.exception(request.getMethod())));
+	}
+
+	/**
+	 * Executes a JSON-RPC Notification in the {@link Lane#NOTIFICATION} lane. If
+	 * the lane or the connection is saturated, the Notification is handled on the
+	 * calling thread; this applies backpressure to the sender instead of dropping
+	 * data.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param handler the {@link OnNotificationHandler}
+	 */
+	private void executeNotification(WebSocket ws, OnNotificationHandler handler) {
+		if (!this.notificationLane.tryExecute(getConnectionTasks(ws, Lane.NOTIFICATION), handler)) {
+			handler.run();
+		}
+	}
+
+	private static LaneExecutor.ConnectionTasks getConnectionTasks(WebSocket ws, Lane lane) {
+		WsData wsData = ws.getAttachment();
+		if (wsData == null) {
+			return null;
+		}
+		return wsData.getConnectionTasks(lane);
 	}
 
 	/**
@@ -240,7 +385,9 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	@Override
 	public void stop() {
 		// Shutdown executors
-		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		this.notificationLane.shutdown();
+		this.requestLane.shutdown();
+		this.heavyRequestLane.shutdown();
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 5);
 
 		var tries = 3;
@@ -262,6 +409,19 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		super.stop();
 	}
 
+	/**
+	 * Does this server accept binary encoded {@link TimestampedDataNotification}s
+	 * (see {@link TimestampedDataBinaryCodec})?.
+	 *
+	 * <p>
+	 * Override to enable negotiation of the binary encoding.
+	 *
+	 * @return true if binary encoding is supported
+	 */
+	protected boolean isBinaryEncodingSupported() {
+		return false;
+	}
+
 	/**
 	 * Handle Non-JSON-RPC messages.
 	 * 
@@ -0,0 +1,77 @@
+package io.openems.common.websocket;
+
+/**
+ * The lanes of an {@link AbstractWebsocketServer}. Every lane is executed by its
+ * own bounded {@link LaneExecutor}, so that e.g. a burst of historic queries
+ * cannot delay the handling of notifications.
+ *
+ * <p>
+ * With the configured pool size 'n' the lanes start n + n/2 + n/4 threads in
+ * total, i.e. about 1.75 times the pool size.
+ */
+public enum Lane {
+	/**
+	 * JSON-RPC Notifications and websocket events like OnOpen, OnClose, OnError
+	 * and JSON-RPC Responses.
+	 */
+	NOTIFICATION(1, 10_000, 100, 0), //
+	/**
+	 * Short JSON-RPC Requests.
+	 */
+	REQUEST(2, 1_000, 10, 100), //
+	/**
+	 * Long running JSON-RPC Requests, like queries of historic data and exports.
+	 */
+	HEAVY_REQUEST(4, 100, 2, 50);
+
+	private final int poolSizeDivisor;
+	private final int queueCapacity;
+	private final int maxRunningPerConnection;
+	private final int maxQueuedPerConnection;
+
+	private Lane(int poolSizeDivisor, int queueCapacity, int maxRunningPerConnection, int maxQueuedPerConnection) {
+		this.poolSizeDivisor = poolSizeDivisor;
+		this.queueCapacity = queueCapacity;
+		this.maxRunningPerConnection = maxRunningPerConnection;
+		this.maxQueuedPerConnection = maxQueuedPerConnection;
+	}
+
+	/**
+	 * Gets the number of threads of this lane.
+	 *
+	 * @param poolSize the configured pool size of the server
+	 * @return the number of threads; at least one
+	 */
+	public int getPoolSize(int poolSize) {
+		return Math.max(1, poolSize / this.poolSizeDivisor);
+	}
+
+	/**
+	 * Gets the maximum number of tasks that wait for a free thread.
+	 *
+	 * @return the capacity of the queue
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Gets the maximum number of tasks of one connection that are handed to the
+	 * executor, i.e. that are running or wait for a free thread.
+	 *
+	 * @return the maximum number of running tasks per connection
+	 */
+	public int getMaxRunningPerConnection() {
+		return this.maxRunningPerConnection;
+	}
+
+	/**
+	 * Gets the maximum number of tasks of one connection that wait in the
+	 * connection's own queue for one of its running tasks to finish.
+	 *
+	 * @return the maximum number of queued tasks per connection
+	 */
+	public int getMaxQueuedPerConnection() {
+		return this.maxQueuedPerConnection;
+	}
+}
@@ -0,0 +1,259 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
+
+/**
+ * Executes the tasks of one {@link Lane} on a fixed number of threads with a
+ * bounded queue.
+ *
+ * <p>
+ * Additionally the number of running tasks per connection is limited. Further
+ * tasks of the connection wait in its own bounded FIFO queue and are handed to
+ * the executor one by one when a running task of the connection finishes. If
+ * either the queue of the lane or the queue of the connection is full,
+ * {@link #tryExecute(ConnectionTasks, Runnable)} rejects the task immediately,
+ * so that the caller can answer without waiting. Tasks of a connection are
+ * never run on the calling thread.
+ */
+public class LaneExecutor {
+
+	/**
+	 * Holds the running and queued tasks of one connection in one {@link Lane}.
+	 */
+	public static class ConnectionTasks {
+
+		private final Deque<Runnable> queue = new ArrayDeque<>();
+		private int running = 0;
+
+		/**
+		 * Gets the number of tasks that were handed to the executor and did not
+		 * finish yet.
+		 *
+		 * @return the number of running tasks
+		 */
+		public synchronized int getRunning() {
+			return this.running;
+		}
+
+		/**
+		 * Gets the number of tasks that wait for a running task of the connection
+		 * to finish.
+		 *
+		 * @return the number of queued tasks
+		 */
+		public synchronized int getQueued() {
+			return this.queue.size();
+		}
+	}
+
+	private final Lane lane;
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong totalLatencyNanos = new AtomicLong();
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+	public LaneExecutor(String name, Lane lane, int poolSize) {
+		this.lane = lane;
+		var threads = lane.getPoolSize(poolSize);
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(lane.getQueueCapacity()),
+				new ThreadFactoryBuilder().setNameFormat(name + "-" + lane.name() + "-%d").build());
+	}
+
+	/**
+	 * Gets the {@link Lane}.
+	 *
+	 * @return the {@link Lane}
+	 */
+	public Lane getLane() {
+		return this.lane;
+	}
+
+	/**
+	 * Gets the underlying {@link ThreadPoolExecutor}.
+	 *
+	 * @return the {@link ThreadPoolExecutor}
+	 */
+	public ThreadPoolExecutor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Executes a task if neither the connection nor the lane is saturated. If
+	 * the connection already has the maximum number of running tasks, the task
+	 * is queued for the connection.
+	 *
+	 * @param connection the tasks of the connection in this lane; null if unknown
+	 * @param command    the {@link Runnable}
+	 * @return true if the task was accepted; false if it was rejected
+	 */
+	public boolean tryExecute(ConnectionTasks connection, Runnable command) {
+		final var task = this.measure(connection, command);
+		var next = task;
+		if (connection != null) {
+			synchronized (connection) {
+				if (connection.running >= this.lane.getMaxRunningPerConnection()) {
+					if (connection.queue.size() >= this.lane.getMaxQueuedPerConnection()) {
+						this.rejected.incrementAndGet();
+						return false;
+					}
+					connection.queue.add(task);
+					return true;
+				}
+				connection.running++;
+				if (!connection.queue.isEmpty()) {
+					// keep the order of tasks that were queued while the lane was full
+					connection.queue.add(task);
+					next = connection.queue.poll();
+				}
+			}
+		}
+		try {
+			this.executor.execute(next);
+			return true;
+
+		} catch (RejectedExecutionException e) {
+			this.rejected.incrementAndGet();
+			if (connection != null) {
+				// release the slot; never run a task on the calling websocket thread
+				synchronized (connection) {
+					connection.running--;
+					if (next != task) {
+						connection.queue.remove(task);
+						connection.queue.addFirst(next);
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Executes a task that must not be dropped. If the queue is full, the task is
+	 * run on the calling thread; this slows down reading from the websocket.
+	 *
+	 * @param command the {@link Runnable}
+	 * @throws RejectedExecutionException if the executor was shut down
+	 */
+	public void executeOrRun(Runnable command) throws RejectedExecutionException {
+		var task = this.measure(null, command);
+		try {
+			this.executor.execute(task);
+
+		} catch (RejectedExecutionException e) {
+			if (this.executor.isShutdown()) {
+				throw e;
+			}
+			task.run();
+		}
+	}
+
+	/**
+	 * Gets the metrics of this lane and resets the latencies.
+	 *
+	 * @return a human readable string
+	 */
+	public String getMetrics() {
+		var completed = this.completed.getAndSet(0);
+		var totalLatency = this.totalLatencyNanos.getAndSet(0);
+		var maxLatency = this.maxLatencyNanos.getAndSet(0);
+		return String.format(
+				"%s [Active: %d, Pending: %d, Rejected: %d, Completed: %d, Latency avg: %d ms, max: %d ms]", //
+				this.lane.name(), //
+				this.executor.getActiveCount(), //
+				this.executor.getQueue().size(), //
+				this.rejected.get(), //
+				completed, //
+				completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / completed), //
+				TimeUnit.NANOSECONDS.toMillis(maxLatency));
+	}
+
+	/**
+	 * Gets the total number of rejected tasks.
+	 *
+	 * @return the number of rejected tasks
+	 */
+	public long getRejectedCount() {
+		return this.rejected.get();
+	}
+
+	/**
+	 * Shuts down the executor.
+	 */
+	public void shutdown() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+	}
+
+	/**
+	 * Wraps the task to measure the latency from enqueuing to completion and to
+	 * hand over the slot of the connection to its next queued task.
+	 *
+	 * @param connection the tasks of the connection; possibly null
+	 * @param command    the {@link Runnable}
+	 * @return the wrapped {@link Runnable}
+	 */
+	private Runnable measure(ConnectionTasks connection, Runnable command) {
+		var enqueued = System.nanoTime();
+		return () -> {
+			try {
+				command.run();
+			} finally {
+				var latency = System.nanoTime() - enqueued;
+				this.completed.incrementAndGet();
+				this.totalLatencyNanos.addAndGet(latency);
+				this.maxLatencyNanos.accumulateAndGet(latency, Math::max);
+				if (connection != null) {
+					this.executeNext(connection);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Hands the slot of a finished task over to the next queued task of the
+	 * connection or releases it if the queue is empty.
+	 *
+	 * <p>
+	 * If the queue of the lane is full, the next task is run on the current thread
+	 * instead, so that queued tasks are never lost. This method is only called by
+	 * the threads of the lane when a task finishes.
+	 *
+	 * @param connection the tasks of the connection
+	 */
+	private void executeNext(ConnectionTasks connection) {
+		Runnable next;
+		synchronized (connection) {
+			next = connection.queue.poll();
+			if (next == null) {
+				connection.running--;
+				return;
+			}
+		}
+		try {
+			this.executor.execute(next);
+
+		} catch (RejectedExecutionException e) {
+			if (this.executor.isShutdown()) {
+				synchronized (connection) {
+					connection.queue.clear();
+					connection.running = 0;
+				}
+				return;
+			}
+			next.run();
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.common.websocket;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,6 +17,8 @@ import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
 import io.openems.common.jsonrpc.base.JsonrpcResponseError;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.TimestampedDataBinaryCodec;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
 /**
  * Objects of this class are used to store additional data with websocket
@@ -33,6 +36,22 @@ public abstract class WsData {
 	 */
 	private final ConcurrentHashMap<UUID, CompletableFuture<JsonrpcResponseSuccess>> requestFutures = new ConcurrentHashMap<>();
 
+	/**
+	 * Holds the Encoder for binary messages; null if binary encoding was not
+	 * negotiated for this connection.
+	 */
+	private volatile TimestampedDataBinaryCodec.Encoder binaryEncoder = null;
+
+	/**
+	 * Holds the Decoder for binary messages.
+	 */
+	private final TimestampedDataBinaryCodec.Decoder binaryDecoder = new TimestampedDataBinaryCodec.Decoder();
+
+	/**
+	 * Holds the running and queued tasks per {@link Lane}.
+	 */
+	private final LaneExecutor.ConnectionTasks[] connectionTasks = createConnectionTasks();
+
 	/**
 	 * This method is called on close of the parent websocket. Use it to release
 	 * blocked resources.
@@ -62,6 +81,53 @@ public abstract class WsData {
 		return this.websocket;
 	}
 
+	/**
+	 * Gets the running and queued tasks of this connection in a {@link Lane}.
+	 *
+	 * @param lane the {@link Lane}
+	 * @return the {@link LaneExecutor.ConnectionTasks}
+	 */
+	public LaneExecutor.ConnectionTasks getConnectionTasks(Lane lane) {
+		return this.connectionTasks[lane.ordinal()];
+	}
+
+	/**
+	 * Enables or disables binary encoding of outgoing
+	 * {@link TimestampedDataNotification}s. Resets the encoding state; call this
+	 * whenever the connection is (re)opened.
+	 *
+	 * @param enabled true to enable binary encoding
+	 */
+	public synchronized void setBinaryEncoding(boolean enabled) {
+		this.binaryDecoder.reset();
+		if (enabled) {
+			this.binaryEncoder = new TimestampedDataBinaryCodec.Encoder();
+		} else {
+			this.binaryEncoder = null;
+		}
+	}
+
+	/**
+	 * Gets the Encoder for binary messages.
+	 *
+	 * @return the {@link TimestampedDataBinaryCodec.Encoder}; null if binary
+	 *         encoding is not enabled
+	 */
+	public TimestampedDataBinaryCodec.Encoder getBinaryEncoder() {
+		return this.binaryEncoder;
+	}
+
+	/**
+	 * Decodes a binary message of this connection.
+	 *
+	 * @param bytes the binary message
+	 * @return the decoded {@link TimestampedDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public TimestampedDataNotification decodeBinaryMessage(ByteBuffer bytes) throws OpenemsNamedException {
+		return TimestampedDataNotification.from(bytes, this.binaryDecoder);
+	}
+
 	/**
 	 * Sends a JSON-RPC request to a Websocket and registers a callback.
 	 *
@@ -138,6 +204,14 @@ public abstract class WsData {
 		}
 	}
 
+	private static LaneExecutor.ConnectionTasks[] createConnectionTasks() {
+		var result = new LaneExecutor.ConnectionTasks[Lane.values().length];
+		for (var i = 0; i < result.length; i++) {
+			result[i] = new LaneExecutor.ConnectionTasks();
+		}
+		return result;
+	}
+
 	/**
 	 * Provides a specific toString method.
 	 *
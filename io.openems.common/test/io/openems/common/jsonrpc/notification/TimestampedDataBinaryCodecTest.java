@@ -0,0 +1,107 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class TimestampedDataBinaryCodecTest {
+
+	@Test
+	public void testRoundTrip() throws OpenemsNamedException {
+		var encoder = new TimestampedDataBinaryCodec.Encoder();
+		var decoder = new TimestampedDataBinaryCodec.Decoder();
+
+		var n = new TimestampedDataNotification();
+		n.add(1000L, new ChannelAddress("_sum", "State"), new JsonPrimitive(0));
+		n.add(1000L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(55L));
+		n.add(1000L, new ChannelAddress("ess0", "Voltage"), new JsonPrimitive(230.5F));
+		n.add(1000L, new ChannelAddress("ess0", "Current"), new JsonPrimitive(-1.25D));
+		n.add(1000L, new ChannelAddress("_meta", "Version"), new JsonPrimitive("2022.12.0"));
+		n.add(1000L, new ChannelAddress("io0", "Relay1"), new JsonPrimitive(true));
+		n.add(1000L, new ChannelAddress("meter0", "ActivePower"), JsonNull.INSTANCE);
+		n.add(2000L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(-54));
+		n.add(2000L, new ChannelAddress("ctrl0", "Array"), new JsonArray());
+		assertEquals(n.getData(), decoder.decode(encoder.encode(n)).getData());
+
+		// Dictionary and deltas are kept between messages
+		var n2 = new TimestampedDataNotification();
+		n2.add(500L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(Long.MAX_VALUE));
+		n2.add(500L, new ChannelAddress("ess1", "Soc"), new JsonPrimitive(Long.MIN_VALUE));
+		assertEquals(n2.getData(), decoder.decode(encoder.encode(n2)).getData());
+
+		// JSON parsed numbers
+		var n3 = TimestampedDataNotification.from(GenericJsonrpcNotification.from(n2.toString()));
+		assertEquals(n2.getData(), decoder.decode(encoder.encode(n3)).getData());
+	}
+
+	@Test
+	public void testRollbackOnError() throws OpenemsNamedException {
+		var encoder = new TimestampedDataBinaryCodec.Encoder();
+		var decoder = new TimestampedDataBinaryCodec.Decoder();
+
+		var n1 = new TimestampedDataNotification();
+		n1.add(1000L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(50));
+		assertEquals(n1.getData(), decoder.decode(encoder.encode(n1)).getData());
+
+		// New address and changed deltas
+		var n2 = new TimestampedDataNotification();
+		n2.add(2000L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(51));
+		n2.add(2000L, new ChannelAddress("_sum", "GridActivePower"), new JsonPrimitive(1000));
+		var message = encoder.encode(n2);
+
+		// Truncated message fails and leaves the state unchanged
+		var truncated = message.duplicate();
+		truncated.limit(truncated.limit() - 1);
+		try {
+			decoder.decode(truncated);
+			fail();
+		} catch (OpenemsNamedException e) {
+			// expected
+		}
+		assertEquals(n2.getData(), decoder.decode(message).getData());
+	}
+
+	@Test
+	public void testCompressionRatio() throws OpenemsNamedException {
+		var encoder = new TimestampedDataBinaryCodec.Encoder();
+		var decoder = new TimestampedDataBinaryCodec.Decoder();
+		var random = new Random(0);
+
+		// Simulate 5 minutes of an Edge with 1000 Channels; 10 % of values change
+		// per Cycle
+		var values = new int[1000];
+		var jsonBytes = 0L;
+		var binaryBytes = 0L;
+		for (var cycle = 0; cycle < 300; cycle++) {
+			var n = new TimestampedDataNotification();
+			var timestamp = 1_600_000_000_000L + cycle * 1000L;
+			for (var i = 0; i < values.length; i++) {
+				if (cycle == 0 || random.nextInt(10) == 0) {
+					values[i] += random.nextInt(200) - 100;
+					n.add(timestamp, new ChannelAddress("component" + i / 50, "Channel" + i % 50),
+							new JsonPrimitive(values[i]));
+				}
+			}
+			var binary = encoder.encode(n);
+			binaryBytes += binary.remaining();
+			jsonBytes += n.toString().getBytes(StandardCharsets.UTF_8).length;
+			assertEquals(n.getData(), decoder.decode(binary).getData());
+		}
+
+		assertTrue("Binary [" + binaryBytes + "] JSON [" + jsonBytes + "]", binaryBytes * 5 < jsonBytes);
+	}
+
+}
@@ -0,0 +1,170 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LaneExecutorTest {
+
+	@Test
+	public void testMaxPerConnection() throws InterruptedException {
+		var sut = new LaneExecutor("test", Lane.HEAVY_REQUEST, 4);
+		var maxRunning = Lane.HEAVY_REQUEST.getMaxRunningPerConnection();
+		var maxQueued = Lane.HEAVY_REQUEST.getMaxQueuedPerConnection();
+		var release = new CountDownLatch(1);
+		var finished = new CountDownLatch(maxRunning + maxQueued);
+		Runnable blocking = () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			finished.countDown();
+		};
+
+		var connection1 = new LaneExecutor.ConnectionTasks();
+		var connection2 = new LaneExecutor.ConnectionTasks();
+		for (var i = 0; i < maxRunning; i++) {
+			assertTrue(sut.tryExecute(connection1, blocking));
+		}
+		assertEquals(maxRunning, connection1.getRunning());
+
+		// Further tasks wait in the queue of the connection
+		var order = Collections.synchronizedList(new ArrayList<Integer>());
+		for (var i = 0; i < maxQueued; i++) {
+			var index = i;
+			assertTrue(sut.tryExecute(connection1, () -> {
+				order.add(index);
+				blocking.run();
+			}));
+		}
+		assertEquals(maxRunning, connection1.getRunning());
+		assertEquals(maxQueued, connection1.getQueued());
+		assertEquals(0, sut.getRejectedCount());
+
+		// Queue of the connection is full
+		assertFalse(sut.tryExecute(connection1, blocking));
+		assertEquals(1, sut.getRejectedCount());
+
+		// Other connections are not affected
+		assertTrue(sut.tryExecute(connection2, () -> {
+		}));
+
+		release.countDown();
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		sut.shutdown();
+		assertEquals(0, connection1.getRunning());
+		assertEquals(0, connection1.getQueued());
+		assertEquals(0, connection2.getRunning());
+
+		// Queued tasks are executed in order
+		for (var i = 0; i < maxQueued; i++) {
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+
+	@Test
+	public void testQueueFull() throws InterruptedException {
+		var sut = new LaneExecutor("test", Lane.HEAVY_REQUEST, 1);
+		var release = new CountDownLatch(1);
+		Runnable blocking = () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		// One running, the others queued
+		for (var i = 0; i <= Lane.HEAVY_REQUEST.getQueueCapacity(); i++) {
+			assertTrue(sut.tryExecute(null, blocking));
+		}
+		assertFalse(sut.tryExecute(null, blocking));
+		assertEquals(1, sut.getRejectedCount());
+
+		// Tasks that must not be dropped run on the calling thread
+		var caller = Thread.currentThread();
+		var ranOnCaller = new AtomicInteger();
+		sut.executeOrRun(() -> {
+			if (Thread.currentThread() == caller) {
+				ranOnCaller.incrementAndGet();
+			}
+		});
+		assertEquals(1, ranOnCaller.get());
+
+		release.countDown();
+		sut.shutdown();
+	}
+
+	@Test
+	public void testQueueFullWithQueuedConnectionTasks() throws InterruptedException {
+		var sut = new LaneExecutor("test", Lane.HEAVY_REQUEST, 1);
+		var release = new CountDownLatch(1);
+		Runnable blocking = () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		// One task of the connection is running, the queue of the lane is full
+		var connection = new LaneExecutor.ConnectionTasks();
+		assertTrue(sut.tryExecute(connection, blocking));
+		for (var i = 0; i < Lane.HEAVY_REQUEST.getQueueCapacity(); i++) {
+			assertTrue(sut.tryExecute(null, blocking));
+		}
+
+		// Two websocket threads race for the free slot of the connection; the
+		// loser queues its task, the winner gets rejected by the lane
+		Set<Thread> callers = ConcurrentHashMap.newKeySet();
+		Set<Thread> ranOn = ConcurrentHashMap.newKeySet();
+		var accepted = new AtomicInteger();
+		var executed = new AtomicInteger();
+		Runnable caller = () -> {
+			callers.add(Thread.currentThread());
+			for (var i = 0; i < 10_000; i++) {
+				if (sut.tryExecute(connection, () -> {
+					ranOn.add(Thread.currentThread());
+					executed.incrementAndGet();
+				})) {
+					accepted.incrementAndGet();
+				}
+			}
+		};
+		var thread1 = new Thread(caller);
+		var thread2 = new Thread(caller);
+		thread1.start();
+		thread2.start();
+		thread1.join();
+		thread2.join();
+
+		// No task ran on a websocket thread
+		for (var thread : callers) {
+			assertFalse(ranOn.contains(thread));
+		}
+		assertTrue(connection.getQueued() <= Lane.HEAVY_REQUEST.getMaxQueuedPerConnection());
+
+		// Queued tasks are not lost
+		release.countDown();
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executed.get() < accepted.get() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(accepted.get(), executed.get());
+		sut.shutdown();
+		assertEquals(0, connection.getRunning());
+		assertEquals(0, connection.getQueued());
+	}
+
+}
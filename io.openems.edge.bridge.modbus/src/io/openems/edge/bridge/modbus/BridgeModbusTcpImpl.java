@@ -61,7 +61,7 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	protected void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasksMaxGap());
 		this.setIpAddress(InetAddress.getByName(config.ip()));
 		this.port = config.port();
 	}
@@ -42,5 +42,8 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce Read-Tasks: max gap", description = "Merge Read-Tasks of a device into fewer requests, reading up to this number of unused registers in between. Only for devices that allow reading unused registers; -1 to disable.")
+	int coalesceReadTasksMaxGap() default -1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
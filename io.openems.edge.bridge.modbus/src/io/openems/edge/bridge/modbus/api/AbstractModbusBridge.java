@@ -4,6 +4,7 @@ import org.osgi.service.component.ComponentContext;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
@@ -34,8 +35,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	protected static final int DEFAULT_RETRIES = 1;
 
+	private final Logger log = LoggerFactory.getLogger(AbstractModbusBridge.class);
+
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
 	private int invalidateElementsAfterReadErrors = 1;
+	private int coalesceReadTasksMaxGap = -1;
 
 	protected final ModbusWorker worker = new ModbusWorker(this);
 
@@ -50,9 +54,15 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.activate(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, -1);
+	}
+
+	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int coalesceReadTasksMaxGap) {
 		super.activate(context, id, alias, enabled);
 		this.logVerbosity = logVerbosity;
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
 		if (this.isEnabled()) {
 			this.worker.activate(id);
 		}
@@ -80,6 +90,12 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	@Override
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
+		protocol.setCoalescingMaxGap(this.coalesceReadTasksMaxGap);
+		if (this.coalesceReadTasksMaxGap >= 0) {
+			this.logInfo(this.log, "Coalesced Read-Tasks of [" + sourceId + "]: ["
+					+ protocol.getReadTasksManager().countTasks() + "] Tasks -> ["
+					+ protocol.getCoalescedReadTasksManager().countTasks() + "] requests");
+		}
 		this.worker.addProtocol(sourceId, protocol);
 	}
 
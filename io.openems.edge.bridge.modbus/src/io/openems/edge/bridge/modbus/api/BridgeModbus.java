@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -19,7 +20,16 @@ public interface BridgeModbus extends OpenemsComponent {
 		CYCLE_TIME_IS_TOO_SHORT(Doc.of(Level.INFO) //
 				.debounce(10, Debounce.TRUE_VALUES_IN_A_ROW_TO_SET_TRUE)), //
 		EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS));
+				.unit(Unit.MILLISECONDS)), //
+		PLAN_BUFFER(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Safety buffer of the current plan, sized from the jitter of the Unit-IDs")), //
+		PLANNED_LOW_PRIORITY_TASKS(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of Low-Priority Read-Tasks in the current plan")), //
+		OVERDUE_LOW_PRIORITY_TASKS(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of Low-Priority Read-Tasks that are past their refresh deadline and not planned")), //
+		PLAN_MISSES(Doc.of(OpenemsType.LONG) //
+				.text("Number of Cycles in which the plan was not finished in time"));
 
 		private final Doc doc;
 
@@ -91,6 +101,122 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getExecutionDurationChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#PLAN_BUFFER}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPlanBufferChannel() {
+		return this.channel(ChannelId.PLAN_BUFFER);
+	}
+
+	/**
+	 * Gets the safety buffer of the current plan in [ms], see
+	 * {@link ChannelId#PLAN_BUFFER}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPlanBuffer() {
+		return this.getPlanBufferChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PLAN_BUFFER}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlanBuffer(long value) {
+		this.getPlanBufferChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getPlannedLowPriorityTasksChannel() {
+		return this.channel(ChannelId.PLANNED_LOW_PRIORITY_TASKS);
+	}
+
+	/**
+	 * Gets the number of Low-Priority Read-Tasks in the current plan, see
+	 * {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getPlannedLowPriorityTasks() {
+		return this.getPlannedLowPriorityTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlannedLowPriorityTasks(int value) {
+		this.getPlannedLowPriorityTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OVERDUE_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOverdueLowPriorityTasksChannel() {
+		return this.channel(ChannelId.OVERDUE_LOW_PRIORITY_TASKS);
+	}
+
+	/**
+	 * Gets the number of overdue Low-Priority Read-Tasks, see
+	 * {@link ChannelId#OVERDUE_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOverdueLowPriorityTasks() {
+		return this.getOverdueLowPriorityTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OVERDUE_LOW_PRIORITY_TASKS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOverdueLowPriorityTasks(int value) {
+		this.getOverdueLowPriorityTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PLAN_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPlanMissesChannel() {
+		return this.channel(ChannelId.PLAN_MISSES);
+	}
+
+	/**
+	 * Gets the number of Cycles in which the plan was not finished in time, see
+	 * {@link ChannelId#PLAN_MISSES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPlanMisses() {
+		return this.getPlanMissesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PLAN_MISSES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlanMisses(long value) {
+		this.getPlanMissesChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskCoalescer;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.TasksManager;
@@ -24,6 +25,18 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<WriteTask> writeTaskManager = new TasksManager<>();
 
+	/**
+	 * TaskManager for the ReadTasks as they are executed by the Bridge, i.e.
+	 * after coalescing. See {@link ReadTaskCoalescer}.
+	 */
+	private final TasksManager<ReadTask> coalescedReadTaskManager = new TasksManager<>();
+
+	/**
+	 * Maximum number of unused registers between coalesced ReadTasks; negative if
+	 * coalescing is disabled.
+	 */
+	private int coalescingMaxGap = -1;
+
 	/**
 	 * Creates a new {@link ModbusProtocol}.
 	 *
@@ -72,6 +85,7 @@ public class ModbusProtocol {
 		 */
 		if (task instanceof ReadTask) {
 			this.readTaskManager.addTask((ReadTask) task);
+			this.updateCoalescedReadTasks();
 		}
 	}
 
@@ -83,12 +97,30 @@ public class ModbusProtocol {
 	public synchronized void removeTask(Task task) {
 		if (task instanceof ReadTask) {
 			this.readTaskManager.removeTask((ReadTask) task);
+			this.updateCoalescedReadTasks();
 		}
 		if (task instanceof WriteTask) {
 			this.writeTaskManager.removeTask((WriteTask) task);
 		}
 	}
 
+	/**
+	 * Sets the maximum number of unused registers between two ReadTasks that are
+	 * coalesced into one request. See {@link ReadTaskCoalescer}.
+	 *
+	 * @param maxGap the maximum gap; negative to disable coalescing
+	 */
+	public synchronized void setCoalescingMaxGap(int maxGap) {
+		this.coalescingMaxGap = maxGap;
+		this.updateCoalescedReadTasks();
+	}
+
+	private void updateCoalescedReadTasks() {
+		// reuse unchanged CoalescedReadTasks to keep their TaskStatistics
+		this.coalescedReadTaskManager.replaceTasks(ReadTaskCoalescer.coalesce(this.readTaskManager.getTasks(),
+				this.coalescingMaxGap, this.coalescedReadTaskManager.getTasks()));
+	}
+
 	/**
 	 * Gets the Read-Tasks Manager.
 	 *
@@ -98,6 +130,16 @@ public class ModbusProtocol {
 		return this.readTaskManager;
 	}
 
+	/**
+	 * Gets the Read-Tasks Manager with the ReadTasks as they are executed by the
+	 * Bridge, i.e. after coalescing.
+	 *
+	 * @return a the TaskManager
+	 */
+	public TasksManager<ReadTask> getCoalescedReadTasksManager() {
+		return this.coalescedReadTaskManager;
+	}
+
 	/**
 	 * Gets the Write-Tasks Manager.
 	 *
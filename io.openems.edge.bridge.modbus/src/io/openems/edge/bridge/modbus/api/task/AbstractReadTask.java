@@ -1,15 +1,10 @@
 package io.openems.edge.bridge.modbus.api.task;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ghgande.j2mod.modbus.ModbusException;
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
-import com.ghgande.j2mod.modbus.procimg.InputRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
@@ -35,75 +30,11 @@ public abstract class AbstractReadTask<T> extends AbstractTask implements ReadTa
 
 	@Override
 	public int _execute(AbstractModbusBridge bridge) throws OpenemsException {
-		T[] response;
-		try {
-			/*
-			 * First try
-			 */
-			response = this.readElements(bridge);
-
-		} catch (OpenemsException | ModbusException e) {
-			/*
-			 * Second try: with new connection
-			 */
-			bridge.closeModbusConnection();
-			try {
-				response = this.readElements(bridge);
-
-			} catch (ModbusException e2) {
-				for (ModbusElement<?> elem : this.getElements()) {
-					if (!elem.isIgnored()) {
-						elem.invalidate(bridge);
-					}
-				}
-				throw new OpenemsException("Transaction failed: " + e.getMessage(), e2);
-			}
-		}
-
-		// Verify response length
-		if (response.length < this.getLength()) {
-			throw new OpenemsException("Received message is too short. Expected [" + this.getLength() + "], got ["
-					+ response.length + "]");
-		}
-
+		var response = Utils.readWithRetry(this, bridge, this.log, this::getRequest, this::handleResponse);
 		this.fillElements(response);
 		return 1;
 	}
 
-	protected T[] readElements(AbstractModbusBridge bridge) throws OpenemsException, ModbusException {
-		var request = this.getRequest();
-		int unitId = this.getParent().getUnitId();
-		var response = Utils.getResponse(request, this.getParent().getUnitId(), bridge);
-
-		var result = this.handleResponse(response);
-
-		// debug output
-		switch (this.getLogVerbosity(bridge)) {
-		case READS_AND_WRITES:
-			bridge.logInfo(this.log, this.getActiondescription() //
-					+ " [" + unitId + ":" + this.getStartAddress() + "/0x" + Integer.toHexString(this.getStartAddress())
-					+ "]: " //
-					+ Arrays.stream(result).map(r -> {
-						if (r instanceof InputRegister) {
-							return String.format("%4s", Integer.toHexString(((InputRegister) r).getValue()))
-									.replace(' ', '0');
-						}
-						if (r instanceof Boolean) {
-							return (Boolean) r ? "x" : "-";
-						} else {
-							return r.toString();
-						}
-					}) //
-							.collect(Collectors.joining(" ")));
-			break;
-		case WRITES:
-		case NONE:
-			break;
-		}
-
-		return result;
-	}
-
 	protected void fillElements(T[] response) {
 		var position = 0;
 		for (ModbusElement<?> modbusElement : this.getElements()) {
@@ -0,0 +1,110 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the register ranges of multiple {@link FC3ReadRegistersTask}s or
+ * {@link FC4ReadInputRegistersTask}s of the same Unit-ID and Priority with one
+ * request and splits the response back to the Elements of the original Tasks.
+ *
+ * <p>
+ * Created by {@link ReadTaskCoalescer}. The original Tasks stay the owners of
+ * their Elements.
+ */
+public class CoalescedReadTask extends AbstractTask implements ReadTask {
+
+	private final Logger log = LoggerFactory.getLogger(CoalescedReadTask.class);
+
+	private final AbstractReadInputRegistersTask[] tasks;
+	private final int length;
+	private final ModbusElement<?>[] elements;
+
+	/**
+	 * Builds a {@link CoalescedReadTask}.
+	 *
+	 * @param tasks the original Tasks of the same type and Priority, sorted by
+	 *              start address
+	 */
+	protected CoalescedReadTask(AbstractReadInputRegistersTask... tasks) {
+		super(tasks[0].getStartAddress());
+		this.tasks = tasks;
+		this.setParent(tasks[0].getParent());
+		var end = 0;
+		for (var task : tasks) {
+			end = Math.max(end, task.getStartAddress() + task.getLength());
+		}
+		this.length = end - this.getStartAddress();
+		this.elements = Arrays.stream(tasks) //
+				.flatMap(task -> Arrays.stream(task.getElements())) //
+				.toArray(ModbusElement<?>[]::new);
+	}
+
+	/**
+	 * Gets the original Tasks.
+	 *
+	 * @return the Tasks
+	 */
+	public AbstractReadInputRegistersTask[] getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement<?>[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.tasks[0].getPriority();
+	}
+
+	@Override
+	protected int _execute(AbstractModbusBridge bridge) throws OpenemsException {
+		var response = Utils.readWithRetry(this, bridge, this.log, this::getRequest, this.tasks[0]::handleResponse);
+		this.fillTasks(response);
+		return 1;
+	}
+
+	/**
+	 * Splits the response to the original Tasks.
+	 *
+	 * @param response the registers of the whole range
+	 */
+	protected void fillTasks(InputRegister[] response) {
+		for (var task : this.tasks) {
+			var offset = task.getStartAddress() - this.getStartAddress();
+			task.fillElements(Arrays.copyOfRange(response, offset, offset + task.getLength()));
+		}
+	}
+
+	private ModbusRequest getRequest() {
+		if (this.tasks[0] instanceof FC4ReadInputRegistersTask) {
+			return new ReadInputRegistersRequest(this.getStartAddress(), this.length);
+		}
+		return new ReadMultipleRegistersRequest(this.getStartAddress(), this.length);
+	}
+
+	@Override
+	protected String getActiondescription() {
+		return this.tasks[0].getActiondescription() + "[coalesced " + this.tasks.length + "]";
+	}
+
+}
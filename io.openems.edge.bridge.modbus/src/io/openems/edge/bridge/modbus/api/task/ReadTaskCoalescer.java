@@ -0,0 +1,120 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s
+ * of the same function code and Priority into the fewest requests.
+ *
+ * <p>
+ * Tasks are merged if the merged range does not exceed
+ * {@link #MAX_REGISTERS_PER_REQUEST} and if there are at most 'maxGap'
+ * registers between them. Registers in the gap are read but ignored. All other
+ * Tasks are kept as they are.
+ *
+ * <p>
+ * A {@link CoalescedReadTask} of a previous run is reused if it merges exactly
+ * the same Tasks, so that per-Task state like statistics survives adding or
+ * removing unrelated Tasks.
+ */
+public class ReadTaskCoalescer {
+
+	/** Maximum number of registers per read request as per Modbus spec. */
+	public static final int MAX_REGISTERS_PER_REQUEST = 125;
+
+	private ReadTaskCoalescer() {
+	}
+
+	/**
+	 * Coalesces Read-Tasks of one Modbus Unit-ID.
+	 *
+	 * @param tasks  the Read-Tasks
+	 * @param maxGap the maximum number of unused registers between two merged
+	 *               Tasks; negative to disable merging
+	 * @return the Read-Tasks to be executed; merged Tasks are replaced by a
+	 *         {@link CoalescedReadTask}
+	 */
+	public static List<ReadTask> coalesce(List<ReadTask> tasks, int maxGap) {
+		return coalesce(tasks, maxGap, List.of());
+	}
+
+	/**
+	 * Coalesces Read-Tasks of one Modbus Unit-ID and reuses
+	 * {@link CoalescedReadTask}s of a previous run.
+	 *
+	 * @param tasks    the Read-Tasks
+	 * @param maxGap   the maximum number of unused registers between two merged
+	 *                 Tasks; negative to disable merging
+	 * @param previous the result of a previous run
+	 * @return the Read-Tasks to be executed; merged Tasks are replaced by a
+	 *         {@link CoalescedReadTask}
+	 */
+	public static List<ReadTask> coalesce(List<ReadTask> tasks, int maxGap, List<ReadTask> previous) {
+		if (maxGap < 0) {
+			return new ArrayList<>(tasks);
+		}
+
+		// AbstractTask does not override equals(), so the keys compare by identity
+		var reusable = new HashMap<List<AbstractReadInputRegistersTask>, CoalescedReadTask>();
+		for (var task : previous) {
+			if (task instanceof CoalescedReadTask) {
+				var coalesced = (CoalescedReadTask) task;
+				reusable.put(List.of(coalesced.getTasks()), coalesced);
+			}
+		}
+
+		var result = new ArrayList<ReadTask>();
+		var groups = new LinkedHashMap<List<Object>, List<AbstractReadInputRegistersTask>>();
+		for (var task : tasks) {
+			if (task.getClass() == FC3ReadRegistersTask.class || task.getClass() == FC4ReadInputRegistersTask.class) {
+				groups.computeIfAbsent(List.of(task.getClass(), task.getPriority()), k -> new ArrayList<>()) //
+						.add((AbstractReadInputRegistersTask) task);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(AbstractReadInputRegistersTask::getStartAddress));
+			var merged = new ArrayList<AbstractReadInputRegistersTask>();
+			var start = 0;
+			var end = 0;
+			for (var task : group) {
+				var taskEnd = task.getStartAddress() + task.getLength();
+				if (!merged.isEmpty() //
+						&& task.getStartAddress() - end <= maxGap //
+						&& Math.max(end, taskEnd) - start <= MAX_REGISTERS_PER_REQUEST) {
+					merged.add(task);
+					end = Math.max(end, taskEnd);
+					continue;
+				}
+				flush(merged, reusable, result);
+				merged.add(task);
+				start = task.getStartAddress();
+				end = taskEnd;
+			}
+			flush(merged, reusable, result);
+		}
+		return result;
+	}
+
+	private static void flush(List<AbstractReadInputRegistersTask> merged,
+			Map<List<AbstractReadInputRegistersTask>, CoalescedReadTask> reusable, List<ReadTask> result) {
+		if (merged.size() == 1) {
+			result.add(merged.get(0));
+		} else if (merged.size() > 1) {
+			var task = reusable.get(merged);
+			if (task == null) {
+				task = new CoalescedReadTask(merged.toArray(new AbstractReadInputRegistersTask[merged.size()]));
+			}
+			result.add(task);
+		}
+		merged.clear();
+	}
+
+}
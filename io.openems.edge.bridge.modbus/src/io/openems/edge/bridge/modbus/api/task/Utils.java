@@ -1,9 +1,12 @@
 package io.openems.edge.bridge.modbus.api.task;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.slf4j.Logger;
+
 import com.ghgande.j2mod.modbus.ModbusException;
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
@@ -11,7 +14,9 @@ import com.ghgande.j2mod.modbus.procimg.InputRegister;
 import com.ghgande.j2mod.modbus.util.BitVector;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingFunction;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 
 public class Utils {
 
@@ -61,6 +66,91 @@ public class Utils {
 		return transaction.getResponse();
 	}
 
+	/**
+	 * Executes the read request of a Read-Task. On error the request is retried
+	 * once with a new connection; if that fails too, all Elements of the Task
+	 * are invalidated.
+	 *
+	 * @param <T>            the type of the response values
+	 * @param task           the Read-Task
+	 * @param bridge         the {@link AbstractModbusBridge}
+	 * @param log            the {@link Logger} for debug output
+	 * @param request        creates a new {@link ModbusRequest} for each try
+	 * @param handleResponse converts the {@link ModbusResponse}
+	 * @return the response values; at least {@link AbstractTask#getLength()}
+	 * @throws OpenemsException on error
+	 */
+	protected static <T> T[] readWithRetry(AbstractTask task, AbstractModbusBridge bridge, Logger log,
+			Supplier<ModbusRequest> request, ThrowingFunction<ModbusResponse, T[], OpenemsException> handleResponse)
+			throws OpenemsException {
+		T[] response;
+		try {
+			/*
+			 * First try
+			 */
+			response = read(task, bridge, log, request, handleResponse);
+
+		} catch (OpenemsException | ModbusException e) {
+			/*
+			 * Second try: with new connection
+			 */
+			bridge.closeModbusConnection();
+			try {
+				response = read(task, bridge, log, request, handleResponse);
+
+			} catch (ModbusException e2) {
+				for (ModbusElement<?> elem : task.getElements()) {
+					if (!elem.isIgnored()) {
+						elem.invalidate(bridge);
+					}
+				}
+				throw new OpenemsException("Transaction failed: " + e.getMessage(), e2);
+			}
+		}
+
+		// Verify response length
+		if (response.length < task.getLength()) {
+			throw new OpenemsException("Received message is too short. Expected [" + task.getLength() + "], got ["
+					+ response.length + "]");
+		}
+		return response;
+	}
+
+	private static <T> T[] read(AbstractTask task, AbstractModbusBridge bridge, Logger log,
+			Supplier<ModbusRequest> request, ThrowingFunction<ModbusResponse, T[], OpenemsException> handleResponse)
+			throws OpenemsException, ModbusException {
+		int unitId = task.getParent().getUnitId();
+		var response = getResponse(request.get(), unitId, bridge);
+
+		var result = handleResponse.apply(response);
+
+		// debug output
+		switch (task.getLogVerbosity(bridge)) {
+		case READS_AND_WRITES:
+			bridge.logInfo(log, task.getActiondescription() //
+					+ " [" + unitId + ":" + task.getStartAddress() + "/0x" + Integer.toHexString(task.getStartAddress())
+					+ "]: " //
+					+ Arrays.stream(result).map(r -> {
+						if (r instanceof InputRegister) {
+							return String.format("%4s", Integer.toHexString(((InputRegister) r).getValue()))
+									.replace(' ', '0');
+						}
+						if (r instanceof Boolean) {
+							return (Boolean) r ? "x" : "-";
+						} else {
+							return r.toString();
+						}
+					}) //
+							.collect(Collectors.joining(" ")));
+			break;
+		case WRITES:
+		case NONE:
+			break;
+		}
+
+		return result;
+	}
+
 	/**
 	 * Converts an array of {@link InputRegister}s to a String.
 	 * 
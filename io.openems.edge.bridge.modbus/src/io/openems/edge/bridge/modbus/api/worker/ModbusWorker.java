@@ -2,9 +2,13 @@ package io.openems.edge.bridge.modbus.api.worker;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
@@ -36,21 +40,32 @@ import io.openems.edge.common.taskmanager.Priority;
  * TOPIC_CYCLE_EXECUTE_WRITE event) and all Read-Tasks as late as possible to
  * have correct values available exactly when they are needed (i.e. at the
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event).
+ *
+ * <p>
+ * The plan is sized from the expected durations of the Tasks and the jitter of
+ * the involved Modbus Unit-IDs (see {@link TaskStatistics}). Remaining time of
+ * the cycle is given to Low-Priority Read-Tasks by earliest deadline.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
-	private static final long TASK_DURATION_BUFFER = 50;
+	private static final long MIN_TASK_DURATION_BUFFER = 10;
 
 	private final Logger log = LoggerFactory.getLogger(ModbusWorker.class);
 	private final Stopwatch stopwatch = Stopwatch.createUnstarted();
 	private final LinkedBlockingDeque<Task> tasksQueue = new LinkedBlockingDeque<>();
 	private final MetaTasksManager<ReadTask> readTasksManager = new MetaTasksManager<>();
 	private final MetaTasksManager<WriteTask> writeTasksManager = new MetaTasksManager<>();
+	private final TaskStatistics statistics = new TaskStatistics();
 	private final AbstractModbusBridge parent;
 
 	// The measured duration between BeforeProcessImage event and ExecuteWrite event
 	private long durationBetweenBeforeProcessImageTillExecuteWrite = 0;
 
+	// The number of cycles the current plan requires and the cycles passed since
+	private long plannedCycles = 1;
+	private long cyclesSincePlan = 0;
+	private long planMisses = 0;
+
 	public ModbusWorker(AbstractModbusBridge parent) {
 		this.parent = parent;
 	}
@@ -65,37 +80,56 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		// If the current tasks queue spans multiple cycles and we are in-between ->
 		// stop here
 		if (!this.tasksQueue.isEmpty()) {
+			this.cyclesSincePlan++;
+			if (this.cyclesSincePlan >= this.plannedCycles) {
+				// the plan should have been finished already
+				this.planMisses++;
+				this.parent._setPlanMisses(this.planMisses);
+			}
 			return;
 		}
 
+		var now = nowMillis();
+		var plannedUnitIds = new HashSet<Integer>();
+
 		// Collect the next read-tasks
-		List<ReadTask> nextReadTasks = new ArrayList<>();
-		var lowPriorityTask = this.getOneLowPriorityReadTask();
-		if (lowPriorityTask != null) {
-			nextReadTasks.add(lowPriorityTask);
-		}
-		nextReadTasks.addAll(this.getAllHighPriorityReadTasks());
-		var readTasksDuration = 0L;
-		for (ReadTask task : nextReadTasks) {
-			readTasksDuration += task.getExecuteDuration();
-		}
+		List<ReadTask> nextReadTasks = new ArrayList<>(this.getAllHighPriorityReadTasks());
+		var readTasksDuration = this.getExpectedDuration(nextReadTasks, plannedUnitIds);
 
 		// collect the next write-tasks
-		var writeTasksDuration = 0L;
 		var nextWriteTasks = this.getAllWriteTasks();
-		for (WriteTask task : nextWriteTasks) {
-			writeTasksDuration += task.getExecuteDuration();
+		var writeTasksDuration = this.getExpectedDuration(nextWriteTasks, plannedUnitIds);
+
+		// size the buffer from the jitter of the involved Unit-IDs
+		var buffer = MIN_TASK_DURATION_BUFFER;
+		for (var unitId : plannedUnitIds) {
+			buffer += this.statistics.getJitter(unitId);
 		}
 
+		// fill the remaining time of the cycle with low-priority read-tasks
+		var cycleTime = this.parent.getCycle().getCycleTime();
+		var lowPriorityTasks = this.getAllLowPriorityReadTasks();
+		var lowPriorityPlan = planLowPriorityTasks(lowPriorityTasks, //
+				cycleTime - readTasksDuration - writeTasksDuration - buffer, //
+				Math.max(1, lowPriorityTasks.size()) * (long) cycleTime, now, this.statistics, plannedUnitIds);
+		nextReadTasks.addAll(0, lowPriorityPlan.tasks);
+		readTasksDuration += lowPriorityPlan.duration;
+
 		// plan the execution for the next cycles
 		var totalDuration = readTasksDuration + writeTasksDuration;
-		var totalDurationWithBuffer = totalDuration + TASK_DURATION_BUFFER;
-		var cycleTime = this.parent.getCycle().getCycleTime();
+		var totalDurationWithBuffer = totalDuration + buffer;
 		var noOfRequiredCycles = ceilDiv(totalDurationWithBuffer, cycleTime);
+		this.plannedCycles = noOfRequiredCycles;
+		this.cyclesSincePlan = 0;
 
 		// Set EXECUTION_DURATION channel
 		this.parent._setExecutionDuration(totalDuration);
 
+		// Set planning channels
+		this.parent._setPlanBuffer(buffer);
+		this.parent._setPlannedLowPriorityTasks(lowPriorityPlan.tasks.size());
+		this.parent._setOverdueLowPriorityTasks(lowPriorityPlan.overdue);
+
 		// Set CYCLE_TIME_IS_TOO_SHORT state-channel
 		if (noOfRequiredCycles > 1) {
 			this.parent._setCycleTimeIsTooShort(true);
@@ -110,7 +144,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				break;
 			}
 			noOfTasksBeforeExecuteWriteEvent++;
-			durationOfTasksBeforeExecuteWriteEvent += task.getExecuteDuration();
+			durationOfTasksBeforeExecuteWriteEvent += this.statistics.getExpectedDuration(task);
 		}
 
 		// Build Queue
@@ -142,6 +176,83 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.tasksQueue.addAll(tasksQueue);
 	}
 
+	/**
+	 * Sums up the expected durations of Tasks and collects their Unit-IDs.
+	 *
+	 * @param tasks   the Tasks
+	 * @param unitIds the Unit-IDs; Unit-IDs of the Tasks are added
+	 * @return the expected duration in [ms]
+	 */
+	private long getExpectedDuration(List<? extends Task> tasks, Set<Integer> unitIds) {
+		var duration = 0L;
+		for (Task task : tasks) {
+			duration += this.statistics.getExpectedDuration(task);
+			unitIds.add(TaskStatistics.getUnitId(task));
+		}
+		return duration;
+	}
+
+	/**
+	 * The low-priority Read-Tasks planned for one cycle.
+	 */
+	protected static class LowPriorityPlan {
+		protected final List<ReadTask> tasks = new ArrayList<>();
+		protected long duration = 0;
+		protected int overdue = 0;
+	}
+
+	/**
+	 * Plans the low-priority Read-Tasks for one cycle by earliest deadline.
+	 *
+	 * <p>
+	 * Every low-priority Task should be executed once per refresh period; its
+	 * deadline is its last execution plus the refresh period. Tasks are added by
+	 * earliest deadline as long as their expected duration fits into the budget.
+	 * The Task with the earliest deadline is always added, so that every Task is
+	 * executed eventually. Tasks that are past their deadline but do not fit into
+	 * the budget are counted as overdue.
+	 *
+	 * @param candidates    the low-priority Read-Tasks
+	 * @param budget        the available time in [ms]
+	 * @param refreshPeriod the refresh period in [ms]
+	 * @param now           the current timestamp in [ms]
+	 * @param statistics    the {@link TaskStatistics}
+	 * @param unitIds       the Unit-IDs that are already planned; the jitter of
+	 *                      other Unit-IDs is added to the expected duration
+	 * @return the {@link LowPriorityPlan}
+	 */
+	protected static LowPriorityPlan planLowPriorityTasks(List<ReadTask> candidates, long budget,
+			long refreshPeriod, long now, TaskStatistics statistics, Set<Integer> unitIds) {
+		var plan = new LowPriorityPlan();
+		if (candidates.isEmpty()) {
+			return plan;
+		}
+
+		var deadlines = new IdentityHashMap<ReadTask, Long>();
+		for (var task : candidates) {
+			var lastExecution = statistics.getLastExecution(task);
+			deadlines.put(task, lastExecution == Long.MIN_VALUE ? Long.MIN_VALUE : lastExecution + refreshPeriod);
+		}
+		var sorted = new ArrayList<>(candidates);
+		sorted.sort(Comparator.comparing(deadlines::get)); // stable
+
+		for (var task : sorted) {
+			var unitId = TaskStatistics.getUnitId(task);
+			var duration = statistics.getExpectedDuration(task);
+			if (!unitIds.contains(unitId)) {
+				duration += statistics.getJitter(unitId);
+			}
+			if (plan.tasks.isEmpty() || plan.duration + duration <= budget) {
+				plan.tasks.add(task);
+				plan.duration += duration;
+				unitIds.add(unitId);
+			} else if (deadlines.get(task) < now) {
+				plan.overdue++;
+			}
+		}
+		return plan;
+	}
+
 	/**
 	 * This is called on TOPIC_CYCLE_EXECUTE_WRITE cycle event.
 	 */
@@ -168,7 +279,14 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		var modbusComponent = task.getParent();
 		try {
 			// execute the task
-			var noOfExecutedSubTasks = task.execute(this.parent);
+			int noOfExecutedSubTasks;
+			try {
+				noOfExecutedSubTasks = task.execute(this.parent);
+			} finally {
+				if (!(task instanceof WaitTask)) {
+					this.statistics.record(task, task.getExecuteDuration(), nowMillis());
+				}
+			}
 
 			if (noOfExecutedSubTasks > 0) {
 				// no exception & at least one sub-task executed -> remove this component from
@@ -194,13 +312,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Gets one Read-Tasks with priority Low or Once.
+	 * Gets all the Low-Priority Read-Tasks.
 	 *
-	 * @return a list of ReadTasks by Source-ID
+	 * @return a list of ReadTasks
 	 */
-	private ReadTask getOneLowPriorityReadTask() {
-		var lowPriorityTask = this.readTasksManager.getOneTask(Priority.LOW);
-		return lowPriorityTask;
+	private List<ReadTask> getAllLowPriorityReadTasks() {
+		return new ArrayList<>(this.readTasksManager.getAllTasksBySourceId(Priority.LOW).values());
 	}
 
 	/**
@@ -275,7 +392,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * @param protocol the ModbusProtocol
 	 */
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
-		this.readTasksManager.addTasksManager(sourceId, protocol.getReadTasksManager());
+		this.readTasksManager.addTasksManager(sourceId, protocol.getCoalescedReadTasksManager());
 		this.writeTasksManager.addTasksManager(sourceId, protocol.getWriteTasksManager());
 	}
 
@@ -303,4 +420,8 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private static long ceilDiv(long x, long y) {
 		return -Math.floorDiv(-x, y);
 	}
+
+	private static long nowMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+	}
 }
\ No newline at end of file
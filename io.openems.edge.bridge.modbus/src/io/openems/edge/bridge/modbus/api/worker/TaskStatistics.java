@@ -0,0 +1,161 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Keeps round-trip statistics of executed Modbus {@link Task}s per Modbus
+ * Unit-ID and per Task.
+ *
+ * <p>
+ * The expected duration of a Task is the exponentially weighted moving average
+ * (EWMA) of its own executions. The jitter of a Unit-ID is the difference
+ * between the 90th percentile and the EWMA of the latest executions of all its
+ * Tasks; it is used to size the safety buffer of a plan.
+ */
+public class TaskStatistics {
+
+	/**
+	 * Fallback for Tasks and Unit-IDs without any measurement. Unmeasured Tasks
+	 * are planned as if they took no time, so that they are executed - and
+	 * measured - as soon as possible.
+	 */
+	protected static final long DEFAULT_DURATION = 0; // [ms]
+
+	private static final double EWMA_ALPHA = 0.3;
+	private static final int SAMPLES = 32;
+	private static final double PERCENTILE = 0.9;
+
+	private static class TaskEntry {
+		private double ewma;
+		private long lastExecution;
+
+		private TaskEntry(long duration, long now) {
+			this.ewma = duration;
+			this.lastExecution = now;
+		}
+	}
+
+	private static class UnitEntry {
+		private final long[] samples = new long[SAMPLES];
+		private int count = 0;
+		private double ewma;
+
+		private UnitEntry(long duration) {
+			this.ewma = duration;
+		}
+
+		private void add(long duration) {
+			this.ewma += EWMA_ALPHA * (duration - this.ewma);
+			this.samples[this.count % SAMPLES] = duration;
+			this.count++;
+		}
+
+		private long getPercentile() {
+			var size = Math.min(this.count, SAMPLES);
+			var sorted = Arrays.copyOf(this.samples, size);
+			Arrays.sort(sorted);
+			return sorted[Math.min(size - 1, (int) Math.ceil(PERCENTILE * size) - 1)];
+		}
+	}
+
+	// Tasks are held weakly, so that Tasks of removed Protocols are released
+	private final Map<Task, TaskEntry> tasks = new WeakHashMap<>();
+	private final Map<Integer, UnitEntry> units = new HashMap<>();
+
+	/**
+	 * Records the execution of a {@link Task}.
+	 *
+	 * @param task     the {@link Task}
+	 * @param duration the duration of the execution in [ms]
+	 * @param now      the current timestamp in [ms]
+	 */
+	public synchronized void record(Task task, long duration, long now) {
+		var taskEntry = this.tasks.get(task);
+		if (taskEntry == null) {
+			this.tasks.put(task, new TaskEntry(duration, now));
+		} else {
+			taskEntry.ewma += EWMA_ALPHA * (duration - taskEntry.ewma);
+			taskEntry.lastExecution = now;
+		}
+
+		var unitId = getUnitId(task);
+		var unitEntry = this.units.get(unitId);
+		if (unitEntry == null) {
+			unitEntry = new UnitEntry(duration);
+			this.units.put(unitId, unitEntry);
+		}
+		unitEntry.add(duration);
+	}
+
+	/**
+	 * Gets the expected duration of a {@link Task}.
+	 *
+	 * @param task the {@link Task}
+	 * @return the duration in [ms]
+	 */
+	public synchronized long getExpectedDuration(Task task) {
+		var taskEntry = this.tasks.get(task);
+		if (taskEntry != null) {
+			return Math.round(taskEntry.ewma);
+		}
+		var unitEntry = this.units.get(getUnitId(task));
+		if (unitEntry != null) {
+			return unitEntry.getPercentile();
+		}
+		return DEFAULT_DURATION;
+	}
+
+	/**
+	 * Gets the jitter of a Unit-ID, i.e. the 90th percentile minus the EWMA of
+	 * the round-trip times.
+	 *
+	 * @param unitId the Unit-ID
+	 * @return the jitter in [ms]; 0 if unknown
+	 */
+	public synchronized long getJitter(int unitId) {
+		var unitEntry = this.units.get(unitId);
+		if (unitEntry == null) {
+			return 0;
+		}
+		return Math.max(0, unitEntry.getPercentile() - Math.round(unitEntry.ewma));
+	}
+
+	/**
+	 * Gets the timestamp of the last execution of a {@link Task}.
+	 *
+	 * @param task the {@link Task}
+	 * @return the timestamp in [ms]; {@link Long#MIN_VALUE} if the Task was never
+	 *         executed
+	 */
+	public synchronized long getLastExecution(Task task) {
+		var taskEntry = this.tasks.get(task);
+		if (taskEntry == null) {
+			return Long.MIN_VALUE;
+		}
+		return taskEntry.lastExecution;
+	}
+
+	/**
+	 * Gets the Modbus Unit-ID of the parent of a {@link Task}.
+	 *
+	 * @param task the {@link Task}
+	 * @return the Unit-ID; -1 if unknown
+	 */
+	protected static int getUnitId(Task task) {
+		var parent = task.getParent();
+		if (parent instanceof AbstractOpenemsModbusComponent) {
+			var unitId = ((AbstractOpenemsModbusComponent) parent).getUnitId();
+			if (unitId != null) {
+				return unitId;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -17,6 +17,7 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		public Parity parity;
 		public LogVerbosity logVerbosity;
 		public int invalidateElementsAfterReadErrors;
+		public int coalesceReadTasksMaxGap = -1;
 
 		private Builder() {
 		}
@@ -61,6 +62,11 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -117,4 +123,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+}
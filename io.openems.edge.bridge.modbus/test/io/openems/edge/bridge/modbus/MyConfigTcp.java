@@ -12,6 +12,7 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		public int port;
 		public LogVerbosity logVerbosity;
 		public int invalidateElementsAfterReadErrors;
+		public int coalesceReadTasksMaxGap = -1;
 
 		private Builder() {
 		}
@@ -41,6 +42,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +88,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+}
@@ -0,0 +1,120 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
+import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTaskCoalescerTest {
+
+	private static FC3ReadRegistersTask fc3(int address, int length, Priority priority) {
+		var elements = new UnsignedWordElement[length];
+		for (var i = 0; i < length; i++) {
+			elements[i] = new UnsignedWordElement(address + i);
+		}
+		return new FC3ReadRegistersTask(address, priority, elements);
+	}
+
+	@Test
+	public void testCoalesce() {
+		var t1 = fc3(0, 2, Priority.HIGH);
+		var t2 = fc3(2, 1, Priority.HIGH); // adjacent
+		var t3 = fc3(8, 2, Priority.HIGH); // gap of 5
+		var t4 = fc3(100, 30, Priority.HIGH); // too far
+		var t5 = fc3(3, 1, Priority.LOW); // other priority
+		var t6 = new FC4ReadInputRegistersTask(3, Priority.HIGH, new UnsignedWordElement(3)); // other function code
+		List<ReadTask> tasks = List.of(t1, t2, t3, t4, t5, t6);
+
+		// Disabled
+		assertEquals(tasks, ReadTaskCoalescer.coalesce(tasks, -1));
+
+		// Only adjacent
+		var result = ReadTaskCoalescer.coalesce(tasks, 0);
+		assertEquals(5, result.size());
+		var coalesced = (CoalescedReadTask) result.get(0);
+		assertEquals(List.of(t1, t2), List.of(coalesced.getTasks()));
+		assertEquals(0, coalesced.getStartAddress());
+		assertEquals(3, coalesced.getLength());
+		assertEquals(3, coalesced.getElements().length);
+
+		// With gap
+		result = ReadTaskCoalescer.coalesce(tasks, 5);
+		assertEquals(4, result.size());
+		coalesced = (CoalescedReadTask) result.get(0);
+		assertEquals(List.of(t1, t2, t3), List.of(coalesced.getTasks()));
+		assertEquals(10, coalesced.getLength());
+		assertSame(t4, result.get(1));
+
+		// 125-register limit keeps t4 separate
+		result = ReadTaskCoalescer.coalesce(tasks, 100);
+		assertEquals(4, result.size());
+		assertSame(t4, result.get(1));
+	}
+
+	@Test
+	public void testMaxRegisters() {
+		var t1 = fc3(0, 100, Priority.HIGH);
+		var t2 = fc3(100, 25, Priority.HIGH);
+		var t3 = fc3(125, 1, Priority.HIGH);
+		var result = ReadTaskCoalescer.coalesce(List.of(t3, t2, t1), 0);
+		assertEquals(2, result.size());
+		assertEquals(ReadTaskCoalescer.MAX_REGISTERS_PER_REQUEST, result.get(0).getLength());
+		assertSame(t3, result.get(1));
+	}
+
+	@Test
+	public void testReusePrevious() {
+		var t1 = fc3(0, 2, Priority.HIGH);
+		var t2 = fc3(2, 1, Priority.HIGH);
+		var t3 = fc3(50, 1, Priority.HIGH);
+		var t4 = fc3(51, 1, Priority.HIGH);
+		var previous = ReadTaskCoalescer.coalesce(List.of(t1, t2, t3), 0);
+
+		// Adding an unrelated Task keeps the CoalescedReadTask of t1 and t2
+		var result = ReadTaskCoalescer.coalesce(List.of(t1, t2, t3, t4), 0, previous);
+		assertEquals(2, result.size());
+		assertSame(previous.get(0), result.get(0));
+		assertEquals(List.of(t3, t4), List.of(((CoalescedReadTask) result.get(1)).getTasks()));
+
+		// Changing the merged Tasks creates a new CoalescedReadTask
+		var t5 = fc3(3, 1, Priority.HIGH);
+		previous = result;
+		result = ReadTaskCoalescer.coalesce(List.of(t1, t2, t5, t3), 0, previous);
+		assertNotSame(previous.get(0), result.get(0));
+		assertEquals(List.of(t1, t2, t5), List.of(((CoalescedReadTask) result.get(0)).getTasks()));
+	}
+
+	@Test
+	public void testFillTasks() {
+		var values = new ArrayList<Object>();
+		var t1 = new FC3ReadRegistersTask(10, Priority.HIGH, //
+				new UnsignedWordElement(10).onUpdateCallback(values::add), //
+				new DummyRegisterElement(11), //
+				new UnsignedDoublewordElement(12).onUpdateCallback(values::add));
+		var t2 = new FC3ReadRegistersTask(16, Priority.HIGH, //
+				new UnsignedWordElement(16).onUpdateCallback(values::add));
+		var coalesced = (CoalescedReadTask) ReadTaskCoalescer.coalesce(List.of(t1, t2), 2).get(0);
+		assertEquals(7, coalesced.getLength());
+
+		var response = new InputRegister[7];
+		for (var i = 0; i < response.length; i++) {
+			response[i] = new SimpleInputRegister(i + 1);
+		}
+		coalesced.fillTasks(response);
+
+		assertEquals(List.of(1, 0x30004L, 7), values);
+	}
+
+}
@@ -0,0 +1,90 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusWorkerTest {
+
+	private static ReadTask lowTask(int address) {
+		return new FC3ReadRegistersTask(address, Priority.LOW, new UnsignedWordElement(address));
+	}
+
+	@Test
+	public void testTaskStatistics() {
+		var sut = new TaskStatistics();
+		var task1 = lowTask(0);
+		var task2 = lowTask(1);
+
+		assertEquals(TaskStatistics.DEFAULT_DURATION, sut.getExpectedDuration(task1));
+		assertEquals(Long.MIN_VALUE, sut.getLastExecution(task1));
+		assertEquals(0, sut.getJitter(-1));
+
+		sut.record(task1, 100, 1000);
+		assertEquals(100, sut.getExpectedDuration(task1));
+		assertEquals(1000, sut.getLastExecution(task1));
+		// unknown Task of a known Unit-ID -> percentile of the Unit-ID
+		assertEquals(100, sut.getExpectedDuration(task2));
+
+		// EWMA
+		sut.record(task1, 200, 2000);
+		assertEquals(130, sut.getExpectedDuration(task1));
+
+		// Jitter = P90 - EWMA of the Unit-ID
+		for (var i = 0; i < 9; i++) {
+			sut.record(task2, 20, 3000);
+		}
+		sut.record(task2, 500, 4000);
+		assertTrue(sut.getJitter(-1) > 0);
+	}
+
+	@Test
+	public void testPlanLowPriorityTasks() {
+		var statistics = new TaskStatistics();
+		var task1 = lowTask(0);
+		var task2 = lowTask(1);
+		var task3 = lowTask(2);
+		var candidates = List.of(task1, task2, task3);
+		statistics.record(task1, 40, 0);
+		statistics.record(task2, 40, 100);
+		statistics.record(task3, 40, 200);
+
+		// Budget for two Tasks; oldest executions first
+		var plan = ModbusWorker.planLowPriorityTasks(candidates, 100, 1000, 500, statistics, new HashSet<>(List.of(-1)));
+		assertEquals(List.of(task1, task2), plan.tasks);
+		assertEquals(80, plan.duration);
+		assertEquals(0, plan.overdue);
+
+		// No budget: still the Task with the earliest deadline; others are overdue
+		plan = ModbusWorker.planLowPriorityTasks(candidates, 0, 1000, 5000, statistics, new HashSet<>(List.of(-1)));
+		assertEquals(List.of(task1), plan.tasks);
+		assertEquals(2, plan.overdue);
+
+		// After execution, task1 has the latest deadline
+		statistics.record(task1, 40, 5000);
+		plan = ModbusWorker.planLowPriorityTasks(candidates, 0, 1000, 5000, statistics, new HashSet<>(List.of(-1)));
+		assertEquals(List.of(task2), plan.tasks);
+		assertEquals(1, plan.overdue);
+	}
+
+	@Test
+	public void testPlanUnmeasuredTasks() {
+		var statistics = new TaskStatistics();
+		var candidates = List.of(lowTask(0), lowTask(1), lowTask(2));
+
+		// Tasks without measurement do not use up the budget
+		var plan = ModbusWorker.planLowPriorityTasks(candidates, 100, 1000, 0, statistics, new HashSet<>(List.of(-1)));
+		assertEquals(candidates, plan.tasks);
+		assertEquals(0, plan.duration);
+	}
+
+}
@@ -1,6 +1,7 @@
 package io.openems.edge.common.channel;
 
 import java.time.LocalDateTime;
+import java.util.NavigableMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -9,7 +10,6 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.type.CircularTreeMap;
 import io.openems.edge.common.type.TypeUtils;
 
 /**
@@ -167,10 +167,14 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * The returned map is a read-only view that holds the latest
+	 * {@link #NO_OF_PAST_VALUES} values with a precision of one millisecond.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
-	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues();
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues();
 
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
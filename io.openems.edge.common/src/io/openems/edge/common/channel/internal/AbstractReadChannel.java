@@ -2,6 +2,7 @@ package io.openems.edge.common.channel.internal;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
@@ -19,7 +20,6 @@ import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.type.CircularTreeMap;
 
 public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implements Channel<T> {
 
@@ -33,7 +33,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final CircularTreeMap<LocalDateTime, Value<T>> pastValues = new CircularTreeMap<>(NO_OF_PAST_VALUES);
+	private final PastValues<T> pastValues;
 
 	private volatile Value<T> nextValue = null;
 	private volatile Value<T> activeValue = null;
@@ -43,6 +43,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = new PastValues<>(this, type, NO_OF_PAST_VALUES);
 		this.nextValue = new Value<>(this, null);
 		this.activeValue = new Value<>(this, null);
 
@@ -108,12 +109,20 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		} else {
 			valueHasChanged = !Objects.equals(oldValue.get(), this.nextValue.get());
 		}
-		this.activeValue = this.nextValue;
-		this.onUpdateCallbacks.forEach(callback -> callback.accept(this.activeValue));
-		if (valueHasChanged) {
-			this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, this.activeValue));
+		var activeValue = this.nextValue;
+		this.activeValue = activeValue;
+		// Avoid Iterator allocation for the majority of Channels without callbacks
+		if (!this.onUpdateCallbacks.isEmpty()) {
+			for (var callback : this.onUpdateCallbacks) {
+				callback.accept(activeValue);
+			}
+		}
+		if (valueHasChanged && !this.onChangeCallbacks.isEmpty()) {
+			for (var callback : this.onChangeCallbacks) {
+				callback.accept(oldValue, activeValue);
+			}
 		}
-		this.pastValues.put(this.activeValue.getTimestamp(), this.activeValue);
+		this.pastValues.add(activeValue.get());
 	}
 
 	@Override
@@ -134,11 +143,19 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	@Override
 	@Deprecated
 	public void _setNextValue(T value) {
-		this.nextValue = new Value<>(this, value);
+		// Reuse the Value object if the value did not change
+		var nextValue = this.nextValue;
+		if (nextValue == null || !Objects.equals(nextValue.get(), value)) {
+			this.nextValue = new Value<>(this, value);
+		}
 		if (this.channelDoc.isDebug()) {
 			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
 		}
-		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(this.nextValue));
+		if (!this.onSetNextValueCallbacks.isEmpty()) {
+			for (var callback : this.onSetNextValueCallbacks) {
+				callback.accept(this.nextValue);
+			}
+		}
 	}
 
 	@Override
@@ -257,8 +274,8 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * @return a map of recording time and historic value at that time
 	 */
 	@Override
-	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.asMap();
 	}
 
 	/**
@@ -0,0 +1,621 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a {@link Channel} in a fixed-capacity ring buffer.
+ *
+ * <p>
+ * Timestamps are stored as local epoch milliseconds in a primitive long array.
+ * Values of numeric {@link OpenemsType}s and {@link OpenemsType#BOOLEAN} are
+ * stored as primitive long bits, so adding a value does not allocate.
+ * {@link #asMap()} provides a read-only {@link NavigableMap} view that creates
+ * {@link Value} objects on access.
+ *
+ * <p>
+ * Timestamps are expected to be non-decreasing. Adding a value with the same
+ * millisecond as the latest value replaces it; adding a value with an older
+ * timestamp (e.g. after the system clock was set back) discards all newer
+ * values.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	private final Channel<T> channel;
+	private final OpenemsType type;
+	private final int capacity;
+
+	private final long[] timestamps;
+	private final boolean[] defined;
+	private final long[] numbers;
+	private final Object[] objects;
+
+	/**
+	 * Sequence number of the next value; the slot of a sequence number is
+	 * 'sequence % capacity'.
+	 */
+	private long nextSequence = 0;
+	private int size = 0;
+
+	private final View root = new View(null, true, null, true);
+
+	public PastValues(Channel<T> channel, OpenemsType type, int capacity) {
+		this.channel = channel;
+		this.type = type;
+		this.capacity = capacity;
+		this.timestamps = new long[capacity];
+		this.defined = new boolean[capacity];
+		if (type == OpenemsType.STRING) {
+			this.numbers = null;
+			this.objects = new Object[capacity];
+		} else {
+			this.numbers = new long[capacity];
+			this.objects = null;
+		}
+	}
+
+	/**
+	 * Adds a value with the current system time as timestamp. If the buffer is
+	 * full, the oldest value is overwritten.
+	 *
+	 * @param value the value
+	 */
+	public void add(T value) {
+		this.add(LocalClock.currentTimeMillis(), value);
+	}
+
+	/**
+	 * Adds a value. If the buffer is full, the oldest value is overwritten.
+	 *
+	 * @param timestamp the timestamp
+	 * @param value     the value
+	 */
+	public void add(LocalDateTime timestamp, T value) {
+		this.add(toEpochMilli(timestamp), value);
+	}
+
+	private synchronized void add(long timestamp, T value) {
+		while (this.size > 0) {
+			var last = this.timestamps[this.slot(this.nextSequence - 1)];
+			if (last < timestamp) {
+				break;
+			}
+			// Replace value with same timestamp; discard newer values
+			this.nextSequence--;
+			this.size--;
+		}
+
+		var slot = this.slot(this.nextSequence);
+		this.timestamps[slot] = timestamp;
+		this.set(slot, value);
+		this.nextSequence++;
+		if (this.size < this.capacity) {
+			this.size++;
+		}
+	}
+
+	/**
+	 * Gets a read-only {@link NavigableMap} view of recording time and historic
+	 * value at that time.
+	 *
+	 * <p>
+	 * The view reflects later changes of the buffer. Key precision is one
+	 * millisecond.
+	 *
+	 * @return the map view
+	 */
+	public NavigableMap<LocalDateTime, Value<T>> asMap() {
+		return this.root;
+	}
+
+	private int slot(long sequence) {
+		return (int) (sequence % this.capacity);
+	}
+
+	private void set(int slot, T value) {
+		if (this.objects != null) {
+			this.defined[slot] = value != null;
+			this.objects[slot] = value;
+			return;
+		}
+		if (value instanceof Number) {
+			var number = (Number) value;
+			switch (this.type) {
+			case SHORT:
+			case INTEGER:
+			case LONG:
+				this.numbers[slot] = number.longValue();
+				this.defined[slot] = true;
+				return;
+			case FLOAT:
+				this.numbers[slot] = Float.floatToRawIntBits(number.floatValue());
+				this.defined[slot] = true;
+				return;
+			case DOUBLE:
+				this.numbers[slot] = Double.doubleToRawLongBits(number.doubleValue());
+				this.defined[slot] = true;
+				return;
+			case BOOLEAN:
+			case STRING:
+				break;
+			}
+		} else if (value instanceof Boolean && this.type == OpenemsType.BOOLEAN) {
+			this.numbers[slot] = (Boolean) value ? 1L : 0L;
+			this.defined[slot] = true;
+			return;
+		}
+		// null or a value that does not match the type of the Channel
+		this.defined[slot] = false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(int slot) {
+		if (!this.defined[slot]) {
+			return null;
+		}
+		if (this.objects != null) {
+			return (T) this.objects[slot];
+		}
+		var bits = this.numbers[slot];
+		switch (this.type) {
+		case BOOLEAN:
+			return (T) Boolean.valueOf(bits != 0L);
+		case SHORT:
+			return (T) Short.valueOf((short) bits);
+		case INTEGER:
+			return (T) Integer.valueOf((int) bits);
+		case LONG:
+			return (T) Long.valueOf(bits);
+		case FLOAT:
+			return (T) Float.valueOf(Float.intBitsToFloat((int) bits));
+		case DOUBLE:
+			return (T) Double.valueOf(Double.longBitsToDouble(bits));
+		case STRING:
+			break;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the oldest valid sequence number.
+	 *
+	 * @return the sequence number
+	 */
+	private long firstSequence() {
+		return this.nextSequence - this.size;
+	}
+
+	/**
+	 * Finds the first sequence number in [from, to) whose timestamp in
+	 * nanoseconds is greater than (or equal to, if 'inclusive') the given bound.
+	 *
+	 * @param from      the first sequence number
+	 * @param to        the sequence number after the last one
+	 * @param bound     the bound in epoch nanoseconds
+	 * @param inclusive true if timestamps equal to bound are included
+	 * @return the sequence number; 'to' if there is none
+	 */
+	private long search(long from, long to, long bound, boolean inclusive) {
+		while (from < to) {
+			var mid = (from + to) >>> 1;
+			var nanos = millisToNanos(this.timestamps[this.slot(mid)]);
+			if (nanos > bound || inclusive && nanos == bound) {
+				to = mid;
+			} else {
+				from = mid + 1;
+			}
+		}
+		return from;
+	}
+
+	private Map.Entry<LocalDateTime, Value<T>> entry(long sequence) {
+		var slot = this.slot(sequence);
+		var timestamp = toLocalDateTime(this.timestamps[slot]);
+		return new AbstractMap.SimpleImmutableEntry<>(timestamp, new Value<>(this.channel, this.get(slot), timestamp));
+	}
+
+	/**
+	 * A live, read-only view on a range of keys.
+	 */
+	private class View extends AbstractMap<LocalDateTime, Value<T>>
+			implements NavigableMap<LocalDateTime, Value<T>> {
+
+		private final LocalDateTime lo;
+		private final boolean loInclusive;
+		private final LocalDateTime hi;
+		private final boolean hiInclusive;
+
+		private View(LocalDateTime lo, boolean loInclusive, LocalDateTime hi, boolean hiInclusive) {
+			this.lo = lo;
+			this.loInclusive = loInclusive;
+			this.hi = hi;
+			this.hiInclusive = hiInclusive;
+		}
+
+		/**
+		 * Gets the range of sequence numbers of this view. Must be called
+		 * synchronized on the buffer.
+		 *
+		 * @return [from, to)
+		 */
+		private long[] range() {
+			var from = PastValues.this.firstSequence();
+			var to = PastValues.this.nextSequence;
+			if (this.lo != null) {
+				from = PastValues.this.search(from, to, toEpochNanos(this.lo), this.loInclusive);
+			}
+			if (this.hi != null) {
+				to = PastValues.this.search(from, to, toEpochNanos(this.hi), !this.hiInclusive);
+			}
+			return new long[] { from, to };
+		}
+
+		private boolean inRange(LocalDateTime key) {
+			if (this.lo != null) {
+				var c = key.compareTo(this.lo);
+				if (c < 0 || c == 0 && !this.loInclusive) {
+					return false;
+				}
+			}
+			if (this.hi != null) {
+				var c = key.compareTo(this.hi);
+				if (c > 0 || c == 0 && !this.hiInclusive) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Gets the entry at the first sequence number in this view whose key
+		 * matches the bound.
+		 *
+		 * @param key       the key; null for the first/last entry
+		 * @param ascending true to search upwards from key; false to search downwards
+		 * @param inclusive true to include an entry with exactly this key
+		 * @return the entry or null
+		 */
+		private Map.Entry<LocalDateTime, Value<T>> find(LocalDateTime key, boolean ascending, boolean inclusive) {
+			synchronized (PastValues.this) {
+				var range = this.range();
+				var from = range[0];
+				var to = range[1];
+				if (key != null) {
+					var nanos = toEpochNanos(key);
+					if (ascending) {
+						from = PastValues.this.search(from, to, nanos, inclusive);
+					} else {
+						to = PastValues.this.search(from, to, nanos, !inclusive);
+					}
+				}
+				if (from >= to) {
+					return null;
+				}
+				return PastValues.this.entry(ascending ? from : to - 1);
+			}
+		}
+
+		private LocalDateTime key(Map.Entry<LocalDateTime, Value<T>> entry) {
+			return entry == null ? null : entry.getKey();
+		}
+
+		private LocalDateTime keyOrThrow(Map.Entry<LocalDateTime, Value<T>> entry) {
+			if (entry == null) {
+				throw new NoSuchElementException();
+			}
+			return entry.getKey();
+		}
+
+		private View subView(LocalDateTime fromKey, boolean fromInclusive, LocalDateTime toKey,
+				boolean toInclusive) {
+			var lo = this.lo;
+			var loInclusive = this.loInclusive;
+			if (fromKey != null && (lo == null || fromKey.compareTo(lo) > 0
+					|| fromKey.compareTo(lo) == 0 && !fromInclusive)) {
+				lo = fromKey;
+				loInclusive = fromInclusive;
+			}
+			var hi = this.hi;
+			var hiInclusive = this.hiInclusive;
+			if (toKey != null
+					&& (hi == null || toKey.compareTo(hi) < 0 || toKey.compareTo(hi) == 0 && !toInclusive)) {
+				hi = toKey;
+				hiInclusive = toInclusive;
+			}
+			return new View(lo, loInclusive, hi, hiInclusive);
+		}
+
+		@Override
+		public int size() {
+			synchronized (PastValues.this) {
+				var range = this.range();
+				return (int) (range[1] - range[0]);
+			}
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.get(key) != null;
+		}
+
+		@Override
+		public Value<T> get(Object key) {
+			if (!(key instanceof LocalDateTime) || !this.inRange((LocalDateTime) key)) {
+				return null;
+			}
+			var entry = this.find((LocalDateTime) key, true, true);
+			if (entry == null || !entry.getKey().equals(key)) {
+				return null;
+			}
+			return entry.getValue();
+		}
+
+		@Override
+		public Set<Map.Entry<LocalDateTime, Value<T>>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Map.Entry<LocalDateTime, Value<T>>> iterator() {
+					long[] range;
+					synchronized (PastValues.this) {
+						range = View.this.range();
+					}
+					return new EntryIterator(range[0], range[1]);
+				}
+
+				@Override
+				public int size() {
+					return View.this.size();
+				}
+			};
+		}
+
+		@Override
+		public Comparator<? super LocalDateTime> comparator() {
+			return null;
+		}
+
+		@Override
+		public LocalDateTime firstKey() {
+			return this.keyOrThrow(this.firstEntry());
+		}
+
+		@Override
+		public LocalDateTime lastKey() {
+			return this.keyOrThrow(this.lastEntry());
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> firstEntry() {
+			return this.find(null, true, true);
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> lastEntry() {
+			return this.find(null, false, true);
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> lowerEntry(LocalDateTime key) {
+			return this.find(key, false, false);
+		}
+
+		@Override
+		public LocalDateTime lowerKey(LocalDateTime key) {
+			return this.key(this.lowerEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> floorEntry(LocalDateTime key) {
+			return this.find(key, false, true);
+		}
+
+		@Override
+		public LocalDateTime floorKey(LocalDateTime key) {
+			return this.key(this.floorEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> ceilingEntry(LocalDateTime key) {
+			return this.find(key, true, true);
+		}
+
+		@Override
+		public LocalDateTime ceilingKey(LocalDateTime key) {
+			return this.key(this.ceilingEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> higherEntry(LocalDateTime key) {
+			return this.find(key, true, false);
+		}
+
+		@Override
+		public LocalDateTime higherKey(LocalDateTime key) {
+			return this.key(this.higherEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> pollFirstEntry() {
+			throw new UnsupportedOperationException("Past values are read-only");
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> pollLastEntry() {
+			throw new UnsupportedOperationException("Past values are read-only");
+		}
+
+		/*
+		 * Descending views are rarely used; they are served from a snapshot.
+		 */
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> descendingMap() {
+			return new TreeMap<>(this).descendingMap();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> navigableKeySet() {
+			return new TreeMap<>(this).navigableKeySet();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> descendingKeySet() {
+			return new TreeMap<>(this).descendingKeySet();
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> subMap(LocalDateTime fromKey, boolean fromInclusive,
+				LocalDateTime toKey, boolean toInclusive) {
+			return this.subView(fromKey, fromInclusive, toKey, toInclusive);
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> headMap(LocalDateTime toKey, boolean inclusive) {
+			return this.subView(null, true, toKey, inclusive);
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> tailMap(LocalDateTime fromKey, boolean inclusive) {
+			return this.subView(fromKey, inclusive, null, true);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> subMap(LocalDateTime fromKey, LocalDateTime toKey) {
+			return this.subMap(fromKey, true, toKey, false);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> headMap(LocalDateTime toKey) {
+			return this.headMap(toKey, false);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> tailMap(LocalDateTime fromKey) {
+			return this.tailMap(fromKey, true);
+		}
+	}
+
+	/**
+	 * Iterates a range of sequence numbers. Entries that are overwritten while
+	 * iterating are skipped.
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<LocalDateTime, Value<T>>> {
+
+		private final long to;
+		private long sequence;
+
+		private EntryIterator(long from, long to) {
+			this.sequence = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean hasNext() {
+			synchronized (PastValues.this) {
+				this.sequence = Math.max(this.sequence, PastValues.this.firstSequence());
+				return this.sequence < this.to && this.sequence < PastValues.this.nextSequence;
+			}
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> next() {
+			synchronized (PastValues.this) {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return PastValues.this.entry(this.sequence++);
+			}
+		}
+	}
+
+	/**
+	 * Provides the current time as epoch milliseconds of the system default
+	 * time-zone, i.e. compatible with {@link LocalDateTime#now()}, without
+	 * allocating objects.
+	 */
+	private static final class LocalClock {
+
+		private static final long MAX_VALIDITY = 3_600_000; // [ms]
+
+		private static volatile LocalClock current = new LocalClock(Long.MIN_VALUE, 0);
+
+		private final long validUntil;
+		private final long offset;
+
+		private LocalClock(long validUntil, long offset) {
+			this.validUntil = validUntil;
+			this.offset = offset;
+		}
+
+		private static long currentTimeMillis() {
+			var now = System.currentTimeMillis();
+			var clock = current;
+			if (now >= clock.validUntil) {
+				// Offset changes on daylight saving transitions and if the system
+				// time-zone is changed; recheck at least every hour
+				var instant = Instant.ofEpochMilli(now);
+				var rules = ZoneId.systemDefault().getRules();
+				var validUntil = now + MAX_VALIDITY;
+				var transition = rules.nextTransition(instant);
+				if (transition != null) {
+					validUntil = Math.min(validUntil, transition.toEpochSecond() * 1_000);
+				}
+				clock = new LocalClock(validUntil, rules.getOffset(instant).getTotalSeconds() * 1_000L);
+				current = clock;
+			}
+			return now + clock.offset;
+		}
+	}
+
+	private static long toEpochMilli(LocalDateTime timestamp) {
+		return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000 + timestamp.getNano() / 1_000_000;
+	}
+
+	private static long millisToNanos(long epochMilli) {
+		return epochMilli * 1_000_000;
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} to nanoseconds; saturates outside of the
+	 * representable range.
+	 *
+	 * @param timestamp the {@link LocalDateTime}
+	 * @return the epoch nanoseconds
+	 */
+	private static long toEpochNanos(LocalDateTime timestamp) {
+		var seconds = timestamp.toEpochSecond(ZoneOffset.UTC);
+		if (seconds >= Long.MAX_VALUE / 1_000_000_000L) {
+			return Long.MAX_VALUE;
+		}
+		if (seconds <= Long.MIN_VALUE / 1_000_000_000L) {
+			return Long.MIN_VALUE;
+		}
+		return seconds * 1_000_000_000L + timestamp.getNano();
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMilli) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1_000),
+				(int) Math.floorMod(epochMilli, 1_000) * 1_000_000, ZoneOffset.UTC);
+	}
+
+}
@@ -45,9 +45,13 @@ public class Value<T> {
 	private final LocalDateTime timestamp;
 
 	public Value(Channel<T> parent, T value) {
+		this(parent, value, LocalDateTime.now());
+	}
+
+	public Value(Channel<T> parent, T value, LocalDateTime timestamp) {
 		this.parent = parent;
 		this.value = value;
-		this.timestamp = LocalDateTime.now();
+		this.timestamp = timestamp;
 	}
 
 	/**
@@ -211,6 +215,10 @@ public class Value<T> {
 	/**
 	 * Gets the timestamp when the value was created.
 	 *
+	 * <p>
+	 * Channels reuse their Value object as long as the value does not change, so
+	 * this is the time since when the Channel holds this value.
+	 *
 	 * @return the timestamp
 	 */
 	public LocalDateTime getTimestamp() {
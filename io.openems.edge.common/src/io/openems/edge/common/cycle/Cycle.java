@@ -27,6 +27,105 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the process image phase in [ms], i.e. from
+		 * BEFORE_PROCESS_IMAGE till AFTER_PROCESS_IMAGE event.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the controllers phase in [ms], i.e. from
+		 * BEFORE_CONTROLLERS till AFTER_CONTROLLERS event.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the write phase in [ms], i.e. from BEFORE_WRITE till
+		 * AFTER_WRITE event.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The 99th percentile of the duration of the process image phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROCESS_IMAGE_TIME_P99(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The maximum of the duration of the process image phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROCESS_IMAGE_TIME_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The 99th percentile of the duration of the controllers phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CONTROLLERS_TIME_P99(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The maximum of the duration of the controllers phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CONTROLLERS_TIME_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The 99th percentile of the duration of the write phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		WRITE_TIME_P99(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The maximum of the duration of the write phase in [ms] over the profiling window.
+		 * Only available if profiling is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		WRITE_TIME_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +187,267 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Process Image Time in [ms]. See
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredProcessImageTime() {
+		return this.getMeasuredProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredProcessImageTime(long value) {
+		this.getMeasuredProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredControllersTimeChannel() {
+		return this.channel(ChannelId.MEASURED_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Measured Controllers Time in [ms]. See
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredControllersTime() {
+		return this.getMeasuredControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredControllersTime(long value) {
+		this.getMeasuredControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredWriteTimeChannel() {
+		return this.channel(ChannelId.MEASURED_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Write Time in [ms]. See
+	 * {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredWriteTime() {
+		return this.getMeasuredWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredWriteTime(long value) {
+		this.getMeasuredWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROCESS_IMAGE_TIME_P99}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProcessImageTimeP99Channel() {
+		return this.channel(ChannelId.PROCESS_IMAGE_TIME_P99);
+	}
+
+	/**
+	 * Gets the 99th percentile of the process image phase duration in [ms]. See
+	 * {@link ChannelId#PROCESS_IMAGE_TIME_P99}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProcessImageTimeP99() {
+		return this.getProcessImageTimeP99Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROCESS_IMAGE_TIME_P99} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProcessImageTimeP99(Long value) {
+		this.getProcessImageTimeP99Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROCESS_IMAGE_TIME_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProcessImageTimeMaxChannel() {
+		return this.channel(ChannelId.PROCESS_IMAGE_TIME_MAX);
+	}
+
+	/**
+	 * Gets the maximum process image phase duration in [ms]. See
+	 * {@link ChannelId#PROCESS_IMAGE_TIME_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProcessImageTimeMax() {
+		return this.getProcessImageTimeMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROCESS_IMAGE_TIME_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProcessImageTimeMax(Long value) {
+		this.getProcessImageTimeMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CONTROLLERS_TIME_P99}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getControllersTimeP99Channel() {
+		return this.channel(ChannelId.CONTROLLERS_TIME_P99);
+	}
+
+	/**
+	 * Gets the 99th percentile of the controllers phase duration in [ms]. See
+	 * {@link ChannelId#CONTROLLERS_TIME_P99}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getControllersTimeP99() {
+		return this.getControllersTimeP99Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#CONTROLLERS_TIME_P99} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setControllersTimeP99(Long value) {
+		this.getControllersTimeP99Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CONTROLLERS_TIME_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getControllersTimeMaxChannel() {
+		return this.channel(ChannelId.CONTROLLERS_TIME_MAX);
+	}
+
+	/**
+	 * Gets the maximum controllers phase duration in [ms]. See
+	 * {@link ChannelId#CONTROLLERS_TIME_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getControllersTimeMax() {
+		return this.getControllersTimeMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#CONTROLLERS_TIME_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setControllersTimeMax(Long value) {
+		this.getControllersTimeMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_TIME_P99}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteTimeP99Channel() {
+		return this.channel(ChannelId.WRITE_TIME_P99);
+	}
+
+	/**
+	 * Gets the 99th percentile of the write phase duration in [ms]. See
+	 * {@link ChannelId#WRITE_TIME_P99}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWriteTimeP99() {
+		return this.getWriteTimeP99Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITE_TIME_P99} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteTimeP99(Long value) {
+		this.getWriteTimeP99Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_TIME_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteTimeMaxChannel() {
+		return this.channel(ChannelId.WRITE_TIME_MAX);
+	}
+
+	/**
+	 * Gets the maximum write phase duration in [ms]. See
+	 * {@link ChannelId#WRITE_TIME_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWriteTimeMax() {
+		return this.getWriteTimeMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITE_TIME_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteTimeMax(Long value) {
+		this.getWriteTimeMaxChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -11,8 +11,8 @@ import io.openems.edge.common.component.OpenemsComponent;
 
 /**
  * {@link ModbusRecordCycleValue}s allow to receive a {@link ModbusRecord} via a
- * {@link Function}. The Function is executed in the 'run()' method of the
- * Modbus-TCP-Api-Controller.
+ * {@link Function}. The Function is executed once per Cycle by the
+ * Modbus-TCP-Api-Controller, after the process image was switched.
  *
  * @param <T> the {@link OpenemsComponent}
  */
@@ -48,9 +48,8 @@ public class ModbusRecordCycleValue<T extends OpenemsComponent> extends ModbusRe
 	 * Update the Value of this ModbusRecord.
 	 * 
 	 * <p>
-	 * This method is called on every cycle by the run()-method of the
-	 * Modbus-TCP-Api-Controller. Value is set to 'null' if provided 'component' is
-	 * null.
+	 * This method is called on every cycle by the Modbus-TCP-Api-Controller.
+	 * Value is set to 'null' if provided 'component' is null.
 	 * 
 	 * @param component the {@link OpenemsComponent}
 	 */
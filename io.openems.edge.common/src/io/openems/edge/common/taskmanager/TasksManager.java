@@ -1,8 +1,8 @@
 package io.openems.edge.common.taskmanager;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -12,11 +12,15 @@ import java.util.stream.Collectors;
  * A useful application for TasksManager is to provide a list of Tasks that need
  * to be handled on an OpenEMS Cycle run.
  *
+ * <p>
+ * Tasks are held in an immutable list that is replaced on every change, so
+ * readers always see a consistent list of Tasks.
+ *
  * @param <T> the type of the actual {@link ManagedTask}
  */
 public class TasksManager<T extends ManagedTask> {
 
-	private final List<T> tasks = new CopyOnWriteArrayList<>();
+	private volatile List<T> tasks = Collections.emptyList();
 
 	private int nextTaskIndex = 0;
 
@@ -54,7 +58,9 @@ public class TasksManager<T extends ManagedTask> {
 	 * @param task the Task
 	 */
 	public synchronized void addTask(T task) {
-		this.tasks.add(task);
+		var tasks = new ArrayList<>(this.tasks);
+		tasks.add(task);
+		this.tasks = Collections.unmodifiableList(tasks);
 	}
 
 	/**
@@ -63,14 +69,25 @@ public class TasksManager<T extends ManagedTask> {
 	 * @param task the Task
 	 */
 	public synchronized void removeTask(T task) {
-		this.tasks.remove(task);
+		var tasks = new ArrayList<>(this.tasks);
+		tasks.remove(task);
+		this.tasks = Collections.unmodifiableList(tasks);
+	}
+
+	/**
+	 * Replaces all Tasks atomically.
+	 *
+	 * @param tasks the new Tasks
+	 */
+	public synchronized void replaceTasks(List<T> tasks) {
+		this.tasks = Collections.unmodifiableList(new ArrayList<>(tasks));
 	}
 
 	/**
 	 * Clears all Tasks lists.
 	 */
 	public synchronized void clearAll() {
-		this.tasks.clear();
+		this.tasks = Collections.emptyList();
 	}
 
 	/**
@@ -78,17 +95,17 @@ public class TasksManager<T extends ManagedTask> {
 	 * 
 	 * @return number of Tasks
 	 */
-	public synchronized int countTasks() {
+	public int countTasks() {
 		return this.tasks.size();
 	}
 
 	/**
 	 * Gets all Tasks.
 	 *
-	 * @return a list of all Tasks.
+	 * @return an unmodifiable snapshot of all Tasks
 	 */
-	public synchronized List<T> getTasks() {
-		return Collections.unmodifiableList(this.tasks);
+	public List<T> getTasks() {
+		return this.tasks;
 	}
 
 	/**
@@ -97,7 +114,7 @@ public class TasksManager<T extends ManagedTask> {
 	 * @param priority the Priority
 	 * @return a list of Tasks
 	 */
-	public synchronized List<T> getTasks(Priority priority) {
+	public List<T> getTasks(Priority priority) {
 		return this.tasks.stream() //
 				.filter(t -> t.getPriority() == priority) //
 				.collect(Collectors.toUnmodifiableList());
@@ -109,14 +126,15 @@ public class TasksManager<T extends ManagedTask> {
 	 * @return the next task; null if there are no tasks
 	 */
 	public synchronized T getOneTask() {
-		if (this.tasks.isEmpty()) {
+		var tasks = this.tasks;
+		if (tasks.isEmpty()) {
 			return null;
 		}
-		if (this.nextTaskIndex > this.tasks.size() - 1) {
+		if (this.nextTaskIndex > tasks.size() - 1) {
 			// start over
 			this.nextTaskIndex = 0;
 		}
-		return this.tasks.get(this.nextTaskIndex++);
+		return tasks.get(this.nextTaskIndex++);
 	}
 
 }
\ No newline at end of file
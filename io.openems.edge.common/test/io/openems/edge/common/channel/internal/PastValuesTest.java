@@ -0,0 +1,144 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+	private static <T> void add(PastValues<T> sut, int second, T value) {
+		sut.add(START.plusSeconds(second), value);
+	}
+
+	private static <T> List<T> values(Map<LocalDateTime, Value<T>> map) {
+		return map.values().stream().map(Value::get).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testCircular() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, 3);
+		var map = sut.asMap();
+		assertTrue(map.isEmpty());
+
+		add(sut, 1, 1);
+		add(sut, 2, null);
+		add(sut, 3, 3);
+		add(sut, 4, 4);
+
+		assertEquals(3, map.size());
+		assertEquals(List.of(START.plusSeconds(2), START.plusSeconds(3), START.plusSeconds(4)),
+				List.copyOf(map.keySet()));
+		assertEquals(Arrays.asList(null, 3, 4), values(map));
+		assertEquals(START.plusSeconds(2), map.firstKey());
+		assertEquals(START.plusSeconds(4), map.lastEntry().getValue().getTimestamp());
+	}
+
+	@Test
+	public void testNavigation() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, 10);
+		for (var i = 0; i < 15; i++) {
+			add(sut, i, i);
+		}
+		var map = sut.asMap();
+
+		assertEquals(List.of(12, 13, 14), values(map.tailMap(START.plusSeconds(12), true)));
+		assertEquals(List.of(13, 14), values(map.tailMap(START.plusSeconds(12), false)));
+		assertEquals(List.of(13, 14), values(map.tailMap(START.plusSeconds(12).plusNanos(1), true)));
+		assertEquals(List.of(5, 6), values(map.headMap(START.plusSeconds(7))));
+		assertEquals(List.of(8, 9), values(map.subMap(START.plusSeconds(8), START.plusSeconds(10))));
+		assertEquals(List.of(9), values(map.tailMap(START.plusSeconds(8), false).headMap(START.plusSeconds(10))));
+
+		assertEquals(START.plusSeconds(9), map.lowerKey(START.plusSeconds(10)));
+		assertEquals(START.plusSeconds(10), map.floorKey(START.plusSeconds(10)));
+		assertEquals(START.plusSeconds(11), map.higherKey(START.plusSeconds(10)));
+		assertNull(map.lowerKey(START.plusSeconds(5)));
+		assertNull(map.higherKey(START.plusSeconds(14)));
+
+		assertEquals(Integer.valueOf(7), map.get(START.plusSeconds(7)).get());
+		assertNull(map.get(START.plusSeconds(2)));
+		assertFalse(map.containsKey(START.plusSeconds(7).plusNanos(1)));
+
+		// Views are live
+		var tail = map.tailMap(START.plusSeconds(13), true);
+		add(sut, 15, 15);
+		assertEquals(List.of(13, 14, 15), values(tail));
+	}
+
+	@Test
+	public void testSameAndOlderTimestamp() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, 10);
+		add(sut, 1, 1);
+		add(sut, 2, 2);
+		add(sut, 2, 22); // replaces
+		assertEquals(List.of(1, 22), values(sut.asMap()));
+
+		add(sut, 3, 3);
+		add(sut, 4, 4);
+		add(sut, 2, 222); // clock was set back
+		assertEquals(List.of(1, 222), values(sut.asMap()));
+	}
+
+	@Test
+	public void testCurrentTime() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, 3);
+		var before = LocalDateTime.now().minusNanos(1_000_000);
+		sut.add(1);
+		var after = LocalDateTime.now();
+		var timestamp = sut.asMap().firstKey();
+		assertTrue(!timestamp.isBefore(before) && !timestamp.isAfter(after));
+	}
+
+	@Test
+	public void testTypes() {
+		{
+			var sut = new PastValues<Boolean>(null, OpenemsType.BOOLEAN, 3);
+			add(sut, 1, true);
+			add(sut, 2, false);
+			add(sut, 3, null);
+			assertEquals(Arrays.asList(true, false, null), values(sut.asMap()));
+		}
+		{
+			var sut = new PastValues<Short>(null, OpenemsType.SHORT, 3);
+			add(sut, 1, (short) -5);
+			assertEquals(List.of((short) -5), values(sut.asMap()));
+		}
+		{
+			var sut = new PastValues<Long>(null, OpenemsType.LONG, 3);
+			add(sut, 1, Long.MIN_VALUE);
+			add(sut, 2, Long.MAX_VALUE);
+			assertEquals(List.of(Long.MIN_VALUE, Long.MAX_VALUE), values(sut.asMap()));
+		}
+		{
+			var sut = new PastValues<Float>(null, OpenemsType.FLOAT, 3);
+			add(sut, 1, 1.5F);
+			add(sut, 2, -0.1F);
+			assertEquals(List.of(1.5F, -0.1F), values(sut.asMap()));
+		}
+		{
+			var sut = new PastValues<Double>(null, OpenemsType.DOUBLE, 3);
+			add(sut, 1, Math.PI);
+			assertEquals(List.of(Math.PI), values(sut.asMap()));
+		}
+		{
+			var sut = new PastValues<String>(null, OpenemsType.STRING, 3);
+			add(sut, 1, "foo");
+			add(sut, 2, null);
+			assertEquals(Arrays.asList("foo", null), values(sut.asMap()));
+		}
+	}
+
+}
@@ -2,6 +2,8 @@ package io.openems.edge.common.taskmanager;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
+
 import org.junit.Test;
 
 public class TasksManagerTest {
@@ -33,4 +35,21 @@ public class TasksManagerTest {
 
 	}
 
+	@Test
+	public void testReplaceTasks() {
+		ManagedTask l1 = new Task(Priority.LOW);
+		ManagedTask l2 = new Task(Priority.LOW);
+		ManagedTask h1 = new Task(Priority.HIGH);
+
+		var m = new TasksManager<>(l1, h1);
+		var before = m.getTasks();
+
+		m.replaceTasks(List.of(l2));
+
+		// Readers keep a consistent snapshot
+		assertEquals(List.of(l1, h1), before);
+		assertEquals(List.of(l2), m.getTasks());
+		assertEquals(0, m.getTasks(Priority.HIGH).size());
+	}
+
 }
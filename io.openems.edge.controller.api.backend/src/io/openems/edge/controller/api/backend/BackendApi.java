@@ -7,6 +7,8 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.StringReadChannel;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -23,8 +25,11 @@ public interface BackendApi extends Controller, OpenemsComponent, PaxAppender, E
 		LAST_SUCCESSFUL_RESEND(Doc.of(OpenemsType.LONG) //
 				// Make sure this is always persisted, as it is required for resending
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Latest timestamp of successfully resent data")) //
-		// TODO: resend algorithm still needs to be implemented
+				.text("Latest timestamp of successfully resent data")), //
+		RESEND_BACKLOG(Doc.of(OpenemsType.LONG) //
+				.text("Number of journaled cycles that still need to be resent")), //
+		RESEND_THROUGHPUT(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of journaled cycles that were resent per second")) //
 		;
 
 		private final Doc doc;
@@ -56,4 +61,61 @@ public interface BackendApi extends Controller, OpenemsComponent, PaxAppender, E
 	public default StateChannel getUnableToSendChannel() {
 		return this.channel(ChannelId.UNABLE_TO_SEND);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#LAST_SUCCESSFUL_RESEND}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getLastSuccessfulResendChannel() {
+		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#LAST_SUCCESSFUL_RESEND} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setLastSuccessfulResend(long value) {
+		this.getLastSuccessfulResendChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#RESEND_BACKLOG}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getResendBacklogChannel() {
+		return this.channel(ChannelId.RESEND_BACKLOG);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#RESEND_BACKLOG}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setResendBacklog(long value) {
+		this.getResendBacklogChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#RESEND_THROUGHPUT}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getResendThroughputChannel() {
+		return this.channel(ChannelId.RESEND_THROUGHPUT);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#RESEND_THROUGHPUT} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setResendThroughput(int value) {
+		this.getResendThroughputChannel().setNextValue(value);
+	}
 }
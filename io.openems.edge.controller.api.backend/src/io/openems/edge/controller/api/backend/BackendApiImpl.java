@@ -34,6 +34,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataBinaryCodec;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
@@ -65,6 +66,8 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 
 	protected final SendChannelValuesWorker sendChannelValuesWorker = new SendChannelValuesWorker(this);
 
+	protected final ResendWorker resendWorker = new ResendWorker(this);
+
 	protected final ApiWorker apiWorker = new ApiWorker(this);
 
 	private final Logger log = LoggerFactory.getLogger(BackendApiImpl.class);
@@ -132,10 +135,17 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryEncoding()) {
+			// Request binary encoding; falls back to JSON if the Backend does not support it
+			httpHeaders.put(TimestampedDataBinaryCodec.HTTP_HEADER, TimestampedDataBinaryCodec.VERSION);
+		}
 
 		// Create Websocket instance
 		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
 		this.websocket.start();
+
+		// Start resending of journaled data
+		this.resendWorker.activate(config);
 	}
 
 	@Override
@@ -143,6 +153,7 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 	protected void deactivate() {
 		super.deactivate();
 		this.sendChannelValuesWorker.deactivate();
+		this.resendWorker.deactivate();
 		if (this.websocket != null) {
 			this.websocket.stop();
 		}
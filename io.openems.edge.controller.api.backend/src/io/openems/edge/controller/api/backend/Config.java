@@ -44,6 +44,21 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Binary encoding?", description = "Use a compact binary encoding for Channel values if the Backend supports it.")
+	boolean binaryEncoding() default false;
+
+	@AttributeDefinition(name = "Resend-Journal enabled?", description = "Keep data that could not be sent in a journal on disk and resend it once the connection is available again.")
+	boolean resendJournalEnabled() default false;
+
+	@AttributeDefinition(name = "Resend-Journal max size [MB]", description = "Maximum size of the Resend-Journal. Oldest data is dropped first.")
+	int resendJournalMaxSize() default 100;
+
+	@AttributeDefinition(name = "Resend-Journal max age [h]", description = "Maximum age of data in the Resend-Journal. Older data is dropped.")
+	int resendJournalMaxAge() default 72;
+
+	@AttributeDefinition(name = "Resend batch size", description = "Number of journaled cycles that are resent per second.")
+	int resendBatchSize() default 60;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -0,0 +1,456 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Bounded, append-only on-disk journal for {@link TimestampedDataNotification}s
+ * that could not be sent to OpenEMS Backend.
+ *
+ * <p>
+ * The journal is organized in segment files in one directory. Each segment is
+ * named by the timestamp of its first record and holds a sequence of records:
+ *
+ * <pre>
+ * [timestamp: long][length: int][JSON-RPC notification: UTF-8 bytes]
+ * </pre>
+ *
+ * <p>
+ * Records are read in the order they were written. Fully replayed segments are
+ * deleted. The read position within the oldest segment is persisted in a
+ * checkpoint file, so acknowledged records are not resent after a restart. If
+ * the configured maximum size or age is exceeded, the oldest segments are
+ * dropped.
+ */
+public class ResendJournal {
+
+	private static final String SEGMENT_SUFFIX = ".journal";
+	private static final String CHECKPOINT_FILE = "read.checkpoint";
+	private static final long MAX_SEGMENT_SIZE = 1024 * 1024; /* 1 MB */
+	private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+	/**
+	 * A batch of journaled records that is ready to be resent.
+	 */
+	public static class Batch {
+
+		private final Segment segment;
+		private final long endPosition;
+		private final int numberOfRecords;
+		private final long lastTimestamp;
+		private final TimestampedDataNotification notification;
+
+		private Batch(Segment segment, long endPosition, int numberOfRecords, long lastTimestamp,
+				TimestampedDataNotification notification) {
+			this.segment = segment;
+			this.endPosition = endPosition;
+			this.numberOfRecords = numberOfRecords;
+			this.lastTimestamp = lastTimestamp;
+			this.notification = notification;
+		}
+
+		/**
+		 * Gets the merged {@link TimestampedDataNotification} of all records in this
+		 * batch.
+		 *
+		 * @return the notification
+		 */
+		public TimestampedDataNotification getNotification() {
+			return this.notification;
+		}
+
+		/**
+		 * Gets the number of records in this batch.
+		 *
+		 * @return the number of records
+		 */
+		public int getNumberOfRecords() {
+			return this.numberOfRecords;
+		}
+
+		/**
+		 * Gets the timestamp of the last record in this batch.
+		 *
+		 * @return the timestamp in epoch milliseconds
+		 */
+		public long getLastTimestamp() {
+			return this.lastTimestamp;
+		}
+	}
+
+	private static class Segment {
+		private final long key;
+		private final Path path;
+		private long size = 0;
+		private long records = 0;
+		private long lastTimestamp;
+
+		private Segment(long key, Path path) {
+			this.key = key;
+			this.path = path;
+			this.lastTimestamp = key;
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ResendJournal.class);
+
+	private final Path directory;
+	private final Path checkpoint;
+	private final long maxSize;
+	private final Duration maxAge;
+
+	/**
+	 * Segments sorted by their key, i.e. oldest first.
+	 */
+	private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+	private Segment writeSegment = null;
+	private FileChannel writeChannel = null;
+
+	/**
+	 * Read position within the oldest segment.
+	 */
+	private long readPosition = 0L;
+
+	private long totalSize = 0L;
+	private long totalRecords = 0L;
+
+	/**
+	 * Opens the journal in the given directory. Existing segments are kept for
+	 * replay.
+	 *
+	 * @param directory the journal directory; created if it does not exist
+	 * @param maxSize   the maximum size of all segments in bytes
+	 * @param maxAge    the maximum age of journaled records
+	 * @throws IOException on error
+	 */
+	public ResendJournal(Path directory, long maxSize, Duration maxAge) throws IOException {
+		this.directory = directory;
+		this.checkpoint = directory.resolve(CHECKPOINT_FILE);
+		this.maxSize = maxSize;
+		this.maxAge = maxAge;
+
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (var path : (Iterable<Path>) files::iterator) {
+				var fileName = path.getFileName().toString();
+				if (!fileName.endsWith(SEGMENT_SUFFIX)) {
+					continue;
+				}
+				try {
+					var key = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+					this.segments.put(key, new Segment(key, path));
+				} catch (NumberFormatException e) {
+					this.log.warn("Ignoring unknown file in journal [" + path + "]");
+				}
+			}
+		}
+
+		// Restore the read position of the oldest segment
+		var readCheckpoint = this.readCheckpoint();
+		for (var segment : this.segments.values()) {
+			var skipUntil = 0L;
+			if (readCheckpoint != null && segment == this.segments.firstEntry().getValue()
+					&& segment.key == readCheckpoint[0]) {
+				skipUntil = readCheckpoint[1];
+			}
+			if (this.scan(segment, skipUntil)) {
+				this.readPosition = skipUntil;
+			}
+			this.totalSize += segment.size;
+			this.totalRecords += segment.records;
+		}
+	}
+
+	/**
+	 * Appends a {@link TimestampedDataNotification} to the journal.
+	 *
+	 * @param notification the notification
+	 * @throws IOException on error
+	 */
+	public synchronized void append(TimestampedDataNotification notification) throws IOException {
+		var data = notification.getData();
+		if (data.isEmpty()) {
+			return;
+		}
+		var timestamp = data.rowKeySet().last();
+		var payload = notification.toString().getBytes(StandardCharsets.UTF_8);
+
+		var segment = this.getWriteSegment(data.rowKeySet().first());
+		var buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+		buffer.putLong(timestamp).putInt(payload.length).put(payload).flip();
+		while (buffer.hasRemaining()) {
+			this.writeChannel.write(buffer);
+		}
+		segment.size += buffer.limit();
+		segment.records++;
+		segment.lastTimestamp = timestamp;
+		this.totalSize += buffer.limit();
+		this.totalRecords++;
+
+		this.applyLimits(timestamp);
+	}
+
+	/**
+	 * Reads the next batch of records without removing them from the journal.
+	 * Call {@link #acknowledge(Batch)} once the batch was sent successfully.
+	 *
+	 * @param maxRecords the maximum number of records in the batch
+	 * @return the {@link Batch}; empty if the journal is empty
+	 * @throws IOException on error
+	 */
+	public synchronized Optional<Batch> nextBatch(int maxRecords) throws IOException {
+		var entry = this.segments.firstEntry();
+		if (entry == null) {
+			return Optional.empty();
+		}
+		var segment = entry.getValue();
+		if (this.readPosition >= segment.size) {
+			if (segment == this.writeSegment) {
+				return Optional.empty();
+			}
+			// Should not happen: segment was fully read but not yet removed
+			this.removeFirstSegment();
+			return this.nextBatch(maxRecords);
+		}
+
+		var notification = new TimestampedDataNotification();
+		var position = this.readPosition;
+		var records = 0;
+		var lastTimestamp = 0L;
+		try (var channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+			var header = ByteBuffer.allocate(HEADER_SIZE);
+			while (records < maxRecords && position + HEADER_SIZE <= segment.size) {
+				readFully(channel, header.clear(), position);
+				header.flip();
+				lastTimestamp = header.getLong();
+				var payload = ByteBuffer.allocate(header.getInt());
+				readFully(channel, payload, position + HEADER_SIZE);
+				position += HEADER_SIZE + payload.capacity();
+				records++;
+
+				try {
+					var record = TimestampedDataNotification.from(GenericJsonrpcNotification
+							.from(new String(payload.array(), StandardCharsets.UTF_8)));
+					notification.getData().putAll(record.getData());
+				} catch (OpenemsNamedException e) {
+					this.log.warn("Skipping invalid record in journal [" + segment.path + "]: " + e.getMessage());
+				}
+			}
+		}
+		return Optional.of(new Batch(segment, position, records, lastTimestamp, notification));
+	}
+
+	/**
+	 * Removes the records of a successfully sent {@link Batch} from the journal.
+	 *
+	 * @param batch the {@link Batch}
+	 * @throws IOException on error
+	 */
+	public synchronized void acknowledge(Batch batch) throws IOException {
+		var entry = this.segments.firstEntry();
+		if (entry == null || entry.getValue() != batch.segment) {
+			// Segment was dropped in the meantime
+			return;
+		}
+		var segment = entry.getValue();
+		this.readPosition = batch.endPosition;
+		segment.records -= batch.numberOfRecords;
+		this.totalRecords -= batch.numberOfRecords;
+
+		if (this.readPosition >= segment.size) {
+			this.removeFirstSegment();
+		} else {
+			this.writeCheckpoint(segment.key, this.readPosition);
+		}
+	}
+
+	/**
+	 * Drops the oldest segments if maximum size or age are exceeded.
+	 *
+	 * @param now the current timestamp in epoch milliseconds
+	 * @throws IOException on error
+	 */
+	public synchronized void applyLimits(long now) throws IOException {
+		var minTimestamp = now - this.maxAge.toMillis();
+		while (!this.segments.isEmpty() //
+				&& (this.totalSize > this.maxSize || this.segments.firstEntry().getValue().lastTimestamp < minTimestamp)) {
+			var segment = this.segments.firstEntry().getValue();
+			this.log.warn("Dropping journal segment [" + segment.path.getFileName() + "] with [" + segment.records
+					+ "] records");
+			this.removeFirstSegment();
+		}
+	}
+
+	/**
+	 * Gets the number of records that are waiting to be resent.
+	 *
+	 * @return the number of records
+	 */
+	public synchronized long getNumberOfRecords() {
+		return this.totalRecords;
+	}
+
+	/**
+	 * Gets the total size of all segments in bytes.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getSize() {
+		return this.totalSize;
+	}
+
+	/**
+	 * Closes the journal. Segments are kept on disk.
+	 */
+	public synchronized void close() {
+		this.closeWriteChannel();
+	}
+
+	private Segment getWriteSegment(long timestamp) throws IOException {
+		if (this.writeSegment != null && this.writeSegment.size < MAX_SEGMENT_SIZE) {
+			return this.writeSegment;
+		}
+		this.closeWriteChannel();
+
+		// Make sure keys are strictly increasing
+		var key = timestamp;
+		if (!this.segments.isEmpty()) {
+			key = Math.max(key, this.segments.lastKey() + 1);
+		}
+		var segment = new Segment(key, this.directory.resolve(String.format("%020d", key) + SEGMENT_SUFFIX));
+		this.writeChannel = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.writeSegment = segment;
+		this.segments.put(key, segment);
+		return segment;
+	}
+
+	private void removeFirstSegment() throws IOException {
+		var segment = this.segments.pollFirstEntry().getValue();
+		if (segment == this.writeSegment) {
+			this.closeWriteChannel();
+		}
+		this.totalSize -= segment.size;
+		this.totalRecords -= segment.records;
+		this.readPosition = 0L;
+		Files.deleteIfExists(this.checkpoint);
+		Files.deleteIfExists(segment.path);
+	}
+
+	/**
+	 * Reads the checkpoint file.
+	 *
+	 * @return the segment key and the read position; null if there is no valid
+	 *         checkpoint
+	 */
+	private long[] readCheckpoint() {
+		if (!Files.exists(this.checkpoint)) {
+			return null;
+		}
+		try {
+			var buffer = ByteBuffer.wrap(Files.readAllBytes(this.checkpoint));
+			if (buffer.remaining() == 2 * Long.BYTES) {
+				return new long[] { buffer.getLong(), buffer.getLong() };
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to read journal checkpoint: " + e.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Atomically writes the checkpoint file.
+	 *
+	 * @param key      the key of the oldest segment
+	 * @param position the read position within the oldest segment
+	 * @throws IOException on error
+	 */
+	private void writeCheckpoint(long key, long position) throws IOException {
+		var tmp = this.directory.resolve(CHECKPOINT_FILE + ".tmp");
+		Files.write(tmp, ByteBuffer.allocate(2 * Long.BYTES).putLong(key).putLong(position).array());
+		Files.move(tmp, this.checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void closeWriteChannel() {
+		if (this.writeChannel != null) {
+			try {
+				this.writeChannel.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close journal segment: " + e.getMessage());
+			}
+		}
+		this.writeChannel = null;
+		this.writeSegment = null;
+	}
+
+	/**
+	 * Counts the complete records of an existing segment. A partially written
+	 * record at the end (e.g. after a power failure) is ignored.
+	 *
+	 * @param segment   the {@link Segment}
+	 * @param skipUntil the persisted read position; records before it were
+	 *                  already acknowledged and are not counted
+	 * @return true if skipUntil is a valid record boundary
+	 * @throws IOException on error
+	 */
+	private boolean scan(Segment segment, long skipUntil) throws IOException {
+		var isValidBoundary = skipUntil == 0L;
+		try (var channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+			var fileSize = channel.size();
+			var header = ByteBuffer.allocate(HEADER_SIZE);
+			var position = 0L;
+			var skippedRecords = 0L;
+			while (position + HEADER_SIZE <= fileSize) {
+				readFully(channel, header.clear(), position);
+				header.flip();
+				var timestamp = header.getLong();
+				var end = position + HEADER_SIZE + header.getInt();
+				if (end > fileSize) {
+					break;
+				}
+				segment.lastTimestamp = timestamp;
+				segment.records++;
+				if (end <= skipUntil) {
+					skippedRecords++;
+				}
+				if (end == skipUntil) {
+					isValidBoundary = true;
+				}
+				position = end;
+			}
+			segment.size = position;
+			if (isValidBoundary) {
+				segment.records -= skippedRecords;
+			}
+		}
+		return isValidBoundary;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			var read = channel.read(buffer, position + buffer.position());
+			if (read < 0) {
+				throw new EOFException("Unexpected end of journal segment");
+			}
+		}
+	}
+
+}
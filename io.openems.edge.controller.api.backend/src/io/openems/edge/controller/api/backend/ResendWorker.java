@@ -0,0 +1,133 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Keeps {@link TimestampedDataNotification}s that could not be sent to OpenEMS
+ * Backend in a {@link ResendJournal} and resends them in batched, rate-limited
+ * chunks once the connection is available again.
+ *
+ * <p>
+ * Every {@link #RESEND_INTERVAL_SECONDS} at most one batch of
+ * {@link Config#resendBatchSize()} journaled records is sent.
+ */
+public class ResendWorker {
+
+	private static final String JOURNAL_PATH = "backend";
+	private static final int RESEND_INTERVAL_SECONDS = 1;
+
+	private final Logger log = LoggerFactory.getLogger(ResendWorker.class);
+
+	private final BackendApiImpl parent;
+
+	private ResendJournal journal = null;
+	private ScheduledFuture<?> future = null;
+	private int batchSize;
+
+	protected ResendWorker(BackendApiImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Opens the {@link ResendJournal} and starts resending.
+	 *
+	 * @param config the {@link Config}
+	 */
+	public synchronized void activate(Config config) {
+		if (!config.resendJournalEnabled()) {
+			return;
+		}
+		this.batchSize = Math.max(1, config.resendBatchSize());
+		try {
+			this.journal = new ResendJournal(//
+					Paths.get(OpenemsConstants.getOpenemsDataDir(), JOURNAL_PATH, config.id()), //
+					config.resendJournalMaxSize() * 1024L * 1024L /* MB */, //
+					Duration.ofHours(config.resendJournalMaxAge()));
+		} catch (IOException e) {
+			this.parent.logError(this.log, "Unable to open Resend-Journal: " + e.getMessage());
+			return;
+		}
+		this.future = this.parent.scheduleWithFixedDelay(this::resend, RESEND_INTERVAL_SECONDS,
+				RESEND_INTERVAL_SECONDS, TimeUnit.SECONDS);
+		this.updateChannels(0);
+	}
+
+	/**
+	 * Stops resending and closes the {@link ResendJournal}.
+	 */
+	public synchronized void deactivate() {
+		if (this.future != null) {
+			this.future.cancel(false);
+			this.future = null;
+		}
+		if (this.journal != null) {
+			this.journal.close();
+			this.journal = null;
+		}
+	}
+
+	/**
+	 * Adds a {@link TimestampedDataNotification} that could not be sent to the
+	 * journal.
+	 *
+	 * @param notification the notification
+	 */
+	public synchronized void addToJournal(TimestampedDataNotification notification) {
+		if (this.journal == null) {
+			return;
+		}
+		try {
+			this.journal.append(notification);
+		} catch (IOException e) {
+			this.parent.logWarn(this.log, "Unable to write to Resend-Journal: " + e.getMessage());
+		}
+		this.updateChannels(0);
+	}
+
+	/**
+	 * Resends one batch of journaled records, if the connection is available.
+	 */
+	private synchronized void resend() {
+		if (this.journal == null) {
+			return;
+		}
+		var resentRecords = 0;
+		try {
+			this.journal.applyLimits(Instant.now(this.parent.componentManager.getClock()).toEpochMilli());
+
+			var ws = this.parent.websocket;
+			if (ws != null && ws.isConnected() && this.journal.getNumberOfRecords() > 0) {
+				var batchOpt = this.journal.nextBatch(this.batchSize);
+				if (batchOpt.isPresent()) {
+					var batch = batchOpt.get();
+					if (batch.getNotification().getData().isEmpty() || ws.sendMessage(batch.getNotification())) {
+						this.journal.acknowledge(batch);
+						resentRecords = batch.getNumberOfRecords();
+						this.parent._setLastSuccessfulResend(batch.getLastTimestamp());
+					}
+				}
+			}
+
+		} catch (IOException e) {
+			this.parent.logWarn(this.log, "Unable to read from Resend-Journal: " + e.getMessage());
+		}
+		this.updateChannels(resentRecords / RESEND_INTERVAL_SECONDS);
+	}
+
+	private void updateChannels(int resendThroughput) {
+		this.parent._setResendBacklog(this.journal.getNumberOfRecords());
+		this.parent._setResendThroughput(resendThroughput);
+	}
+
+}
@@ -208,6 +208,10 @@ public class SendChannelValuesWorker {
 					// 'lastSentValues' was empty, i.e. all values were sent
 					this.parent.lastSendValuesOfAllChannels = this.timestamp;
 				}
+
+			} else {
+				// Keep in journal for resending
+				this.parent.parent.resendWorker.addToJournal(message);
 			}
 
 		}
@@ -46,6 +46,7 @@ public class BackendApiImplTest {
 							.setProxyType(Type.DIRECT) //
 							.setProxyAddress("") //
 							.setPersistencePriority(PersistencePriority.VERY_LOW) //
+							.setResendJournalEnabled(false) //
 							.build());
 
 			// Stop connection
@@ -17,6 +17,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		public Type proxyType;
 		public int apiTimeout;
 		public PersistencePriority persistencePriority;
+		public boolean binaryEncoding;
+		public boolean resendJournalEnabled;
+		public int resendJournalMaxSize;
+		public int resendJournalMaxAge;
+		public int resendBatchSize;
 		public boolean debugMode;
 
 		private Builder() {
@@ -62,6 +67,31 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryEncoding(boolean binaryEncoding) {
+			this.binaryEncoding = binaryEncoding;
+			return this;
+		}
+
+		public Builder setResendJournalEnabled(boolean resendJournalEnabled) {
+			this.resendJournalEnabled = resendJournalEnabled;
+			return this;
+		}
+
+		public Builder setResendJournalMaxSize(int resendJournalMaxSize) {
+			this.resendJournalMaxSize = resendJournalMaxSize;
+			return this;
+		}
+
+		public Builder setResendJournalMaxAge(int resendJournalMaxAge) {
+			this.resendJournalMaxAge = resendJournalMaxAge;
+			return this;
+		}
+
+		public Builder setResendBatchSize(int resendBatchSize) {
+			this.resendBatchSize = resendBatchSize;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -123,6 +153,31 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.persistencePriority;
 	}
 
+	@Override
+	public boolean binaryEncoding() {
+		return this.builder.binaryEncoding;
+	}
+
+	@Override
+	public boolean resendJournalEnabled() {
+		return this.builder.resendJournalEnabled;
+	}
+
+	@Override
+	public int resendJournalMaxSize() {
+		return this.builder.resendJournalMaxSize;
+	}
+
+	@Override
+	public int resendJournalMaxAge() {
+		return this.builder.resendJournalMaxAge;
+	}
+
+	@Override
+	public int resendBatchSize() {
+		return this.builder.resendBatchSize;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
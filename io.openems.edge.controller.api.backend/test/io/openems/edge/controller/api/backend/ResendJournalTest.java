@@ -0,0 +1,104 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class ResendJournalTest {
+
+	private static final ChannelAddress SUM_ESS_SOC = new ChannelAddress("_sum", "EssSoc");
+
+	private Path directory;
+
+	@Before
+	public void before() throws IOException {
+		this.directory = Files.createTempDirectory("journal");
+	}
+
+	@After
+	public void after() throws IOException {
+		try (var files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()) //
+					.forEach(path -> path.toFile().delete());
+		}
+	}
+
+	private static TimestampedDataNotification notification(long timestamp, int value) {
+		var result = new TimestampedDataNotification();
+		result.add(timestamp, SUM_ESS_SOC, new JsonPrimitive(value));
+		return result;
+	}
+
+	@Test
+	public void testAppendAndReplay() throws IOException {
+		var sut = new ResendJournal(this.directory, Long.MAX_VALUE, Duration.ofDays(1));
+		for (var i = 0; i < 10; i++) {
+			sut.append(notification(1000L * i, i));
+		}
+		assertEquals(10, sut.getNumberOfRecords());
+
+		var batch = sut.nextBatch(4).get();
+		assertEquals(4, batch.getNumberOfRecords());
+		assertEquals(3000L, batch.getLastTimestamp());
+		assertEquals(new JsonPrimitive(2), batch.getNotification().getData().get(2000L, SUM_ESS_SOC));
+		sut.acknowledge(batch);
+		assertEquals(6, sut.getNumberOfRecords());
+
+		// Reopen: only unacknowledged records are replayed
+		sut.close();
+		sut = new ResendJournal(this.directory, Long.MAX_VALUE, Duration.ofDays(1));
+		assertEquals(6, sut.getNumberOfRecords());
+
+		batch = sut.nextBatch(100).get();
+		assertEquals(6, batch.getNumberOfRecords());
+		assertEquals(new JsonPrimitive(4), batch.getNotification().getData().get(4000L, SUM_ESS_SOC));
+		assertFalse(batch.getNotification().getData().containsRow(3000L));
+		sut.acknowledge(batch);
+		assertEquals(0, sut.getNumberOfRecords());
+		assertFalse(sut.nextBatch(100).isPresent());
+		sut.close();
+
+		// Reopen: nothing left to replay
+		sut = new ResendJournal(this.directory, Long.MAX_VALUE, Duration.ofDays(1));
+		assertEquals(0, sut.getNumberOfRecords());
+		assertFalse(sut.nextBatch(100).isPresent());
+		sut.close();
+	}
+
+	@Test
+	public void testLimits() throws IOException {
+		var sut = new ResendJournal(this.directory, Long.MAX_VALUE, Duration.ofSeconds(10));
+		sut.append(notification(0L, 0));
+		sut.append(notification(1000L, 1));
+		assertEquals(2, sut.getNumberOfRecords());
+
+		// Too old
+		sut.applyLimits(60_000L);
+		assertEquals(0, sut.getNumberOfRecords());
+		assertEquals(0, sut.getSize());
+		sut.close();
+
+		// Too big
+		sut = new ResendJournal(this.directory, 1, Duration.ofDays(1));
+		sut.append(notification(0L, 0));
+		assertEquals(0, sut.getNumberOfRecords());
+		assertTrue(sut.nextBatch(1).isEmpty());
+		sut.close();
+	}
+
+}
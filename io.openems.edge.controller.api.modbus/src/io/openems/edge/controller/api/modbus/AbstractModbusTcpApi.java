@@ -7,6 +7,8 @@ import java.util.concurrent.CompletableFuture;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,6 +25,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.common.modbusslave.ModbusRecord;
@@ -43,7 +46,7 @@ import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolRequest;
 import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolResponse;
 
 public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
-		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi {
+		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi, EventHandler {
 
 	public static final int UNIT_ID = 1;
 	public static final int DEFAULT_PORT = 502;
@@ -66,6 +69,11 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	 */
 	private final TreeMap<Integer, String> components = new TreeMap<>();
 
+	/**
+	 * The register values of the current Cycle; served to Modbus/TCP clients.
+	 */
+	private volatile RegisterSnapshot registerSnapshot = RegisterSnapshot.EMPTY;
+
 	private int port = DEFAULT_PORT;
 	private int maxConcurrentConnections = DEFAULT_MAX_CONCURRENT_CONNECTIONS;
 
@@ -109,6 +117,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 		// Initialize Modbus Records
 		this.initializeModbusRecords(metaComponent, componentIds);
+		this.updateRegisterSnapshot();
 
 		// Start Modbus-Server
 		this.startApiWorker.activate(id);
@@ -118,6 +127,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	protected void deactivate() {
 		this.startApiWorker.deactivate();
 		ModbusSlaveFactory.close();
+		this.registerSnapshot = RegisterSnapshot.EMPTY;
 		super.deactivate();
 	}
 
@@ -294,10 +304,39 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 	@Override
 	public void run() throws OpenemsNamedException {
-		this.updateCycleValues();
 		this.apiWorker.run();
 	}
 
+	@Override
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			this.updateCycleValues();
+			this.updateRegisterSnapshot();
+			break;
+		}
+	}
+
+	/**
+	 * Builds a new {@link RegisterSnapshot} from the current values of all
+	 * {@link ModbusRecord}s.
+	 */
+	private void updateRegisterSnapshot() {
+		this.registerSnapshot = new RegisterSnapshot(this.records, this::getComponent);
+	}
+
+	/**
+	 * Gets the {@link RegisterSnapshot} of the current Cycle.
+	 *
+	 * @return the {@link RegisterSnapshot}
+	 */
+	protected RegisterSnapshot getRegisterSnapshot() {
+		return this.registerSnapshot;
+	}
+
 	@SuppressWarnings("unchecked")
 	/**
 	 * Once every cycle: update the values for each registered
@@ -0,0 +1,185 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
+/**
+ * An immutable image of all Modbus registers, built once per Cycle from the
+ * {@link ModbusRecord}s.
+ *
+ * <p>
+ * Reads only copy from arrays; no locks, no map lookups and no Channel access
+ * are required. Writes to the returned {@link Register}s are forwarded to the
+ * {@link ModbusRecord}.
+ */
+public class RegisterSnapshot {
+
+	/** The value of an unused ('reserved') register. */
+	public static final short UNDEFINED_VALUE = (short) 0xFFFF;
+
+	/** A {@link RegisterSnapshot} without any records. */
+	public static final RegisterSnapshot EMPTY = new RegisterSnapshot(new TreeMap<>(), id -> null);
+
+	private final Function<String, ? extends OpenemsComponent> getComponent;
+	private final Consumer<MyRegister> onSetValue = this::writeValue;
+
+	/** The register values. */
+	private final short[] values;
+
+	/** The {@link ModbusRecord} at its start address; null otherwise. */
+	private final ModbusRecord[] records;
+
+	/** The start address of the {@link ModbusRecord} covering an address. */
+	private final int[] recordStarts;
+
+	/**
+	 * Builds a {@link RegisterSnapshot}.
+	 *
+	 * @param records      the {@link ModbusRecord}s by start address
+	 * @param getComponent gets a Component by its Component-ID
+	 */
+	public RegisterSnapshot(SortedMap<Integer, ModbusRecord> records,
+			Function<String, ? extends OpenemsComponent> getComponent) {
+		this.getComponent = getComponent;
+		var length = 0;
+		for (var entry : records.entrySet()) {
+			length = Math.max(length, entry.getKey() + entry.getValue().getType().getWords());
+		}
+		this.values = new short[length];
+		this.records = new ModbusRecord[length];
+		this.recordStarts = new int[length];
+		Arrays.fill(this.values, UNDEFINED_VALUE);
+		Arrays.fill(this.recordStarts, -1);
+
+		for (var entry : records.entrySet()) {
+			int address = entry.getKey();
+			if (address < 0) {
+				continue;
+			}
+			var record = entry.getValue();
+			var words = record.getType().getWords();
+			this.records[address] = record;
+			for (var i = 0; i < words; i++) {
+				this.recordStarts[address + i] = address;
+			}
+
+			byte[] value;
+			try {
+				value = record.getValue(getComponent.apply(record.getComponentId()));
+			} catch (RuntimeException e) {
+				// Keep UNDEFINED_VALUE
+				continue;
+			}
+			for (var i = 0; i < words && i * 2 + 1 < value.length; i++) {
+				this.values[address + i] = (short) ((value[i * 2] & 0xff) << 8 | value[i * 2 + 1] & 0xff);
+			}
+		}
+	}
+
+	/**
+	 * Gets the Registers of a range.
+	 *
+	 * <p>
+	 * Addresses without {@link ModbusRecord} - including addresses within a
+	 * multi-word {@link ModbusRecord} that are not its start address - are
+	 * returned as {@link #UNDEFINED_VALUE}.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of registers
+	 * @return the {@link Register}s
+	 * @throws IllegalArgumentException if a {@link ModbusRecord} does not fit in
+	 *                                  the range
+	 */
+	public Register[] getRegisterRange(int offset, int count) throws IllegalArgumentException {
+		var result = new Register[count];
+		for (var i = 0; i < count;) {
+			var ref = offset + i;
+			var record = this.getRecord(ref);
+			if (record == null) {
+				result[i] = this.toRegister(-1, UNDEFINED_VALUE);
+				i++;
+				continue;
+			}
+
+			// make sure this Record fits
+			var words = record.getType().getWords();
+			if (count < i + words) {
+				throw new IllegalArgumentException("Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			for (var j = 0; j < words; j++) {
+				result[i + j] = this.toRegister(ref + j, this.values[ref + j]);
+			}
+			i += words;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the Register of a single-word {@link ModbusRecord}.
+	 *
+	 * @param ref the address
+	 * @return the {@link Register}
+	 * @throws IllegalArgumentException if there is no {@link ModbusRecord} at
+	 *                                  this address or it requires more than one
+	 *                                  Register
+	 */
+	public Register getRegister(int ref) throws IllegalArgumentException {
+		var record = this.getRecord(ref);
+		if (record == null) {
+			throw new IllegalArgumentException("Record for Modbus address [" + ref + "] is not available.");
+		}
+		if (record.getType().getWords() > 1) {
+			throw new IllegalArgumentException(
+					"Record for Modbus address [" + ref + "] requires more than one Register.");
+		}
+		return this.toRegister(ref, this.values[ref]);
+	}
+
+	/**
+	 * Gets the number of registers in this snapshot.
+	 *
+	 * @return the number of registers
+	 */
+	public int getLength() {
+		return this.values.length;
+	}
+
+	private ModbusRecord getRecord(int ref) {
+		if (ref < 0 || ref >= this.records.length) {
+			return null;
+		}
+		return this.records[ref];
+	}
+
+	/**
+	 * Creates a {@link MyRegister}. The 'index' of the {@link MyRegister} is the
+	 * Modbus address; -1 for registers that do not accept writes.
+	 *
+	 * @param ref   the Modbus address
+	 * @param value the value
+	 * @return the {@link MyRegister}
+	 */
+	private MyRegister toRegister(int ref, short value) {
+		return new MyRegister(ref, (byte) (value >> 8), (byte) value, this.onSetValue);
+	}
+
+	private void writeValue(MyRegister register) {
+		var ref = register.getIndex();
+		if (ref < 0 || ref >= this.recordStarts.length || this.recordStarts[ref] < 0) {
+			return;
+		}
+		var start = this.recordStarts[ref];
+		var record = this.records[start];
+		record.writeValue(this.getComponent.apply(record.getComponentId()), ref - start, register.getByte1(),
+				register.getByte2());
+	}
+
+}
@@ -0,0 +1,153 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+import io.openems.edge.common.modbusslave.ModbusType;
+
+public class RegisterSnapshotTest {
+
+	private static class WritableRecord extends ModbusRecord {
+
+		private final List<String> writes = new ArrayList<>();
+
+		public WritableRecord(int offset) {
+			super(offset, ModbusType.UINT16);
+		}
+
+		@Override
+		public String getName() {
+			return "Writable";
+		}
+
+		@Override
+		public String getValueDescription() {
+			return "";
+		}
+
+		@Override
+		public byte[] getValue(OpenemsComponent component) {
+			return new byte[] { 0x00, 0x05 };
+		}
+
+		@Override
+		public void writeValue(OpenemsComponent component, int index, byte byte1, byte byte2) {
+			this.writes.add(index + ":" + byte1 + ":" + byte2);
+		}
+
+		@Override
+		public AccessMode getAccessMode() {
+			return AccessMode.READ_WRITE;
+		}
+	}
+
+	private static int[] toValues(Register[] registers) {
+		var result = new int[registers.length];
+		for (var i = 0; i < registers.length; i++) {
+			result[i] = registers[i].getValue();
+		}
+		return result;
+	}
+
+	@Test
+	public void testRead() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16(0, "a", (short) 7));
+		records.put(1, new ModbusRecordUint32(1, "b", 0x10002));
+		records.put(3, new WritableRecord(3));
+		var sut = new RegisterSnapshot(records, id -> null);
+
+		assertEquals(4, sut.getLength());
+		assertArrayEquals(new int[] { 7, 1, 2, 5 }, toValues(sut.getRegisterRange(0, 4)));
+
+		// Within a multi-word Record and beyond the last Record
+		assertArrayEquals(new int[] { 0xFFFF, 5, 0xFFFF, 0xFFFF }, toValues(sut.getRegisterRange(2, 4)));
+
+		assertEquals(5, sut.getRegister(3).getValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRecordDoesNotFit() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(1, new ModbusRecordUint32(1, "b", 0x10002));
+		new RegisterSnapshot(records, id -> null).getRegisterRange(0, 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetRegisterOfMultiWordRecord() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(1, new ModbusRecordUint32(1, "b", 0x10002));
+		new RegisterSnapshot(records, id -> null).getRegister(1);
+	}
+
+	@Test
+	public void testWrite() {
+		var record = new WritableRecord(3);
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(3, record);
+		var sut = new RegisterSnapshot(records, id -> null);
+
+		sut.getRegister(3).setValue(0x0102);
+		sut.getRegisterRange(2, 2)[1].setValue(0x0304);
+		sut.getRegisterRange(2, 2)[0].setValue(0x0506); // reserved: ignored
+
+		assertEquals(List.of("0:1:2", "0:3:4"), record.writes);
+	}
+
+	/**
+	 * Multiple clients read 100 registers concurrently from the same snapshot.
+	 */
+	@Test
+	public void testConcurrentReads() throws InterruptedException {
+		final var numberOfRecords = 500;
+		final var clients = 4;
+		final var requestsPerClient = 200;
+
+		var records = new TreeMap<Integer, ModbusRecord>();
+		for (var i = 0; i < numberOfRecords; i++) {
+			records.put(i, new ModbusRecordUint16(i, "r" + i, (short) i));
+		}
+		var sut = new RegisterSnapshot(records, id -> null);
+
+		var errors = new AtomicLong();
+		var executor = Executors.newFixedThreadPool(clients);
+		for (var c = 0; c < clients; c++) {
+			final var client = c;
+			executor.execute(() -> {
+				for (var i = 0; i < requestsPerClient; i++) {
+					var offset = (client * 100 + i) % (numberOfRecords - 100);
+					var values = toValues(sut.getRegisterRange(offset, 100));
+					if (values.length != 100) {
+						errors.incrementAndGet();
+					}
+					for (var j = 0; j < values.length; j++) {
+						if (values[j] != offset + j) {
+							errors.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		assertEquals(0, errors.get());
+	}
+
+}
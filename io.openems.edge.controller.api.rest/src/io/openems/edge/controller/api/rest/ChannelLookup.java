@@ -0,0 +1,153 @@
+package io.openems.edge.controller.api.rest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Finds the Channels of enabled Components for a {@link ChannelAddress} that
+ * may contain regular expressions.
+ *
+ * <p>
+ * Component-IDs and Channel-IDs without special characters are looked up
+ * directly via {@link ComponentManager#getComponent(String)} and
+ * {@link OpenemsComponent#_channel(String)} instead of scanning all
+ * Components and Channels. Regular expressions are compiled only once and kept
+ * in a bounded cache.
+ */
+public class ChannelLookup {
+
+	public static final int DEFAULT_MAX_PATTERNS = 64;
+
+	private final Map<String, Pattern> patterns;
+
+	public ChannelLookup() {
+		this(DEFAULT_MAX_PATTERNS);
+	}
+
+	public ChannelLookup(int maxPatterns) {
+		this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+				return this.size() > maxPatterns;
+			}
+		};
+	}
+
+	/**
+	 * Finds all Channels of enabled Components that match the given
+	 * {@link ChannelAddress}.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @param channelAddress   the {@link ChannelAddress}; Component-ID and
+	 *                         Channel-ID may be regular expressions
+	 * @return a list of matching Channels; empty if nothing matched
+	 * @throws OpenemsException on syntax error in a regular expression
+	 */
+	public List<Channel<?>> find(ComponentManager componentManager, ChannelAddress channelAddress)
+			throws OpenemsException {
+		var componentId = channelAddress.getComponentId();
+		var channelId = channelAddress.getChannelId();
+		var result = new ArrayList<Channel<?>>();
+
+		if (isLiteral(componentId)) {
+			// Exact match: get Component from ComponentManager
+			OpenemsComponent component;
+			try {
+				component = componentManager.getComponent(componentId);
+			} catch (OpenemsNamedException e) {
+				return result;
+			}
+			this.addChannels(result, component, channelId);
+
+		} else {
+			// Regular expression: loop over all enabled Components
+			var componentPattern = this.getPattern(componentId);
+			for (OpenemsComponent component : componentManager.getEnabledComponents()) {
+				if (componentPattern.matcher(component.id()).matches()) {
+					this.addChannels(result, component, channelId);
+				}
+			}
+		}
+		return result;
+	}
+
+	private void addChannels(List<Channel<?>> result, OpenemsComponent component, String channelId)
+			throws OpenemsException {
+		if (isLiteral(channelId)) {
+			// Exact match: get Channel from Component
+			var channel = component._channel(channelId);
+			if (channel != null) {
+				result.add(channel);
+			}
+
+		} else {
+			// Regular expression: loop over all Channels of the Component
+			var channelPattern = this.getPattern(channelId);
+			for (Channel<?> channel : component.channels()) {
+				if (channelPattern.matcher(channel.channelId().id()).matches()) {
+					result.add(channel);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the compiled {@link Pattern} for a regular expression from the cache.
+	 *
+	 * @param regex the regular expression
+	 * @return the {@link Pattern}
+	 * @throws OpenemsException on syntax error
+	 */
+	protected synchronized Pattern getPattern(String regex) throws OpenemsException {
+		var pattern = this.patterns.get(regex);
+		if (pattern == null) {
+			try {
+				pattern = Pattern.compile(regex);
+			} catch (PatternSyntaxException e) {
+				throw new OpenemsException("Syntax error in regular expression [" + regex + "]");
+			}
+			this.patterns.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+	/**
+	 * Gets the number of cached {@link Pattern}s.
+	 *
+	 * @return the number of Patterns
+	 */
+	public synchronized int getNumberOfCachedPatterns() {
+		return this.patterns.size();
+	}
+
+	/**
+	 * Checks whether the given ID matches only itself as a regular expression,
+	 * i.e. it contains only letters, digits and underscores.
+	 *
+	 * @param id the Component-ID or Channel-ID
+	 * @return true if the ID contains no special characters
+	 */
+	protected static boolean isLiteral(String id) {
+		for (var i = 0; i < id.length(); i++) {
+			var c = id.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -4,17 +4,16 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import javax.servlet.ServletException;
@@ -56,7 +55,6 @@ import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.UuidUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.ComponentManager;
-import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.user.User;
 
@@ -65,6 +63,8 @@ public class RestHandler extends AbstractHandler {
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
+	private final SessionTokens sessionTokens = new SessionTokens(Clock.systemDefaultZone());
+	private final ChannelLookup channelLookup = new ChannelLookup();
 
 	public RestHandler(AbstractRestApi parent) {
 		this.parent = parent;
@@ -74,7 +74,7 @@ public class RestHandler extends AbstractHandler {
 	public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
 			throws IOException, ServletException {
 		try {
-			var user = this.authenticate(request);
+			var user = this.authenticate(request, response);
 
 			List<String> targets = Arrays.asList(//
 					target.substring(1) // remove leading '/'
@@ -118,21 +118,36 @@ public class RestHandler extends AbstractHandler {
 	/**
 	 * Authenticate a user.
 	 *
-	 * @param request the HttpServletRequest
+	 * <p>
+	 * Supports HTTP Basic Authentication and session tokens via 'Authorization:
+	 * Bearer &lt;token&gt;'. After a successful Basic Authentication a new session
+	 * token is sent in the {@link SessionTokens#HEADER} response header, unless
+	 * the bounds of {@link SessionTokens} are reached.
+	 *
+	 * @param request  the HttpServletRequest
+	 * @param response the HttpServletResponse
 	 * @return the User
 	 * @throws OpenemsNamedException on error
 	 */
-	private User authenticate(HttpServletRequest request) throws OpenemsNamedException {
+	private User authenticate(HttpServletRequest request, HttpServletResponse response)
+			throws OpenemsNamedException {
 		var authHeader = request.getHeader("Authorization");
 		if (authHeader != null) {
 			var st = new StringTokenizer(authHeader);
 			if (st.hasMoreTokens()) {
-				var basic = st.nextToken();
-				if (basic.equalsIgnoreCase("Basic")) {
+				var scheme = st.nextToken();
+				if (scheme.equalsIgnoreCase("Bearer") && st.hasMoreTokens()) {
+					// authenticate using session token
+					var userOpt = this.sessionTokens.get(st.nextToken());
+					if (userOpt.isPresent()) {
+						return userOpt.get();
+					}
+
+				} else if (scheme.equalsIgnoreCase("Basic") && st.hasMoreTokens()) {
 					String credentials;
 					try {
 						credentials = new String(Base64.getDecoder().decode(st.nextToken()), "UTF-8");
-					} catch (UnsupportedEncodingException e) {
+					} catch (UnsupportedEncodingException | IllegalArgumentException e) {
 						throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
 					}
 					var p = credentials.indexOf(":");
@@ -141,13 +156,15 @@ public class RestHandler extends AbstractHandler {
 						var password = credentials.substring(p + 1).trim();
 						// authenticate using username & password
 						var userOpt = this.parent.getUserService().authenticate(username, password);
-						if (userOpt.isPresent()) {
-							return userOpt.get();
+						if (userOpt.isEmpty()) {
+							// authenticate using password only
+							userOpt = this.parent.getUserService().authenticate(password);
 						}
-						// authenticate using password only
-						userOpt = this.parent.getUserService().authenticate(password);
 						if (userOpt.isPresent()) {
-							return userOpt.get();
+							var user = userOpt.get();
+							this.sessionTokens.create(user) //
+									.ifPresent(token -> response.setHeader(SessionTokens.HEADER, token));
+							return user;
 						}
 					}
 				}
@@ -169,6 +186,9 @@ public class RestHandler extends AbstractHandler {
 		case "channel":
 			return this.handleChannel(user, remainingTargets, baseRequest, request, response);
 
+		case "channels":
+			return this.handleChannels(user, baseRequest, request, response);
+
 		default:
 			throw new OpenemsException("Unhandled REST target [" + thisTarget + "]");
 		}
@@ -218,26 +238,13 @@ public class RestHandler extends AbstractHandler {
 			HttpServletResponse response) throws OpenemsNamedException {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
-		List<Channel<?>> channellist = new ArrayList<>();
-
 		if (this.parent.isDebugModeEnabled()) {
 			this.parent.logInfo(this.log,
 					"REST call by User [" + user.getName() + "]: GET Channel [" + channelAddress.toString() + "]");
 		}
 
-		// Build list of all channels where components are enabled
-		var componentList = this.parent.getComponentManager().getEnabledComponents();
-		for (OpenemsComponent component : componentList) {
-			// Loop over enabled ComponentIds, look for exact or RegExp match
-			if (this.matchesSafely(component.id(), channelAddress.getComponentId())) {
-				for (Channel<?> channel : component.channels()) {
-					// Loop over attached channels, look for exact or RegExp match
-					if (this.matchesSafely(channelAddress.getChannelId(), channel.channelId().id())) {
-						channellist.add(channel);
-					}
-				}
-			}
-		}
+		// Find all channels where components are enabled
+		var channellist = this.channelLookup.find(this.parent.getComponentManager(), channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channellist.size() == 0) {
@@ -250,20 +257,7 @@ public class RestHandler extends AbstractHandler {
 		// Creating JSON response for all matched channels
 		var channeljson = new JsonArray();
 		for (Channel<?> channel : channellist) {
-			var j = new JsonObject();
-			// name
-			j.addProperty("address", channel.address().toString());
-			// type
-			j.addProperty("type", channel.getType().name());
-			// accessMode
-			j.addProperty("accessMode", channel.channelDoc().getAccessMode().getAbbreviation());
-			// text
-			j.addProperty("text", channel.channelDoc().getText());
-			// unit
-			j.addProperty("unit", channel.channelDoc().getUnit().getSymbol());
-			// value
-			j.add("value", channel.value().asJson());
-			channeljson.add(j);
+			channeljson.add(RestHandler.toJson(channel));
 		}
 
 		// if this a request for a single channel only return a single JsonObject, not
@@ -279,19 +273,69 @@ public class RestHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Safely matches a regular expression against a string.
+	 * Handles HTTP POST request to read many Channels at once.
 	 *
-	 * @param str   the string
-	 * @param regex the regular expression
-	 * @return true on match
-	 * @throws OpenemsException on error
+	 * <p>
+	 * The request body contains the Channel-Addresses, which may include RegExp,
+	 * e.g. {"addresses": ["_sum/EssSoc", "meter0/Active.*Power"]}. The response is
+	 * an array of all matched Channels; addresses without match are skipped.
+	 *
+	 * @param user        the {@link User}
+	 * @param baseRequest the HTTP POST base-request
+	 * @param request     the HTTP POST request
+	 * @param response    the result to be returned
+	 * @return false if ok response was not sent
+	 * @throws OpenemsNamedException on error
 	 */
-	private boolean matchesSafely(String str, String regex) throws OpenemsException {
-		try {
-			return Pattern.matches(str, regex);
-		} catch (PatternSyntaxException e) {
-			throw new OpenemsException("Syntax error in regular expression [" + regex + "]");
+	private boolean handleChannels(User user, Request baseRequest, HttpServletRequest request,
+			HttpServletResponse response) throws OpenemsNamedException {
+		if (!request.getMethod().equals("POST")) {
+			throw new OpenemsException("Unhandled REST Channels request method [" + request.getMethod() + "]");
 		}
+		user.assertRoleIsAtLeast("HTTP POST Channels", Role.GUEST);
+
+		var jAddresses = JsonUtils.getAsJsonArray(RestHandler.parseJson(baseRequest), "addresses");
+
+		if (this.parent.isDebugModeEnabled()) {
+			this.parent.logInfo(this.log,
+					"REST call by User [" + user.getName() + "]: POST Channels " + jAddresses.toString());
+		}
+
+		// Find all channels; every channel is returned only once
+		var channels = new LinkedHashSet<Channel<?>>();
+		for (JsonElement jAddress : jAddresses) {
+			var channelAddress = ChannelAddress.fromString(JsonUtils.getAsString(jAddress));
+			channels.addAll(this.channelLookup.find(this.parent.getComponentManager(), channelAddress));
+		}
+
+		var result = new JsonArray();
+		for (Channel<?> channel : channels) {
+			result.add(RestHandler.toJson(channel));
+		}
+		return this.sendOkResponse(baseRequest, response, result);
+	}
+
+	/**
+	 * Converts a Channel and its current value to JSON.
+	 *
+	 * @param channel the {@link Channel}
+	 * @return the {@link JsonObject}
+	 */
+	private static JsonObject toJson(Channel<?> channel) {
+		var j = new JsonObject();
+		// name
+		j.addProperty("address", channel.address().toString());
+		// type
+		j.addProperty("type", channel.getType().name());
+		// accessMode
+		j.addProperty("accessMode", channel.channelDoc().getAccessMode().getAbbreviation());
+		// text
+		j.addProperty("text", channel.channelDoc().getText());
+		// unit
+		j.addProperty("unit", channel.channelDoc().getUnit().getSymbol());
+		// value
+		j.add("value", channel.value().asJson());
+		return j;
 	}
 
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
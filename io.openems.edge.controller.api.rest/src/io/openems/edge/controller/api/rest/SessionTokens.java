@@ -0,0 +1,151 @@
+package io.openems.edge.controller.api.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import io.openems.edge.common.user.User;
+
+/**
+ * Holds the session tokens of the REST-Api.
+ *
+ * <p>
+ * After a successful authentication via HTTP Basic Authentication a token is
+ * sent in the {@link #HEADER} response header. Subsequent requests can use
+ * this token via 'Authorization: Bearer &lt;token&gt;' and so skip the
+ * password validation. Every successful Basic Authentication creates a new
+ * random token. Tokens expire if they are not used for the configured
+ * time-to-live and at the latest after the configured maximum lifetime.
+ *
+ * <p>
+ * The number of sessions is bounded in total and per {@link User}. Live
+ * sessions are never evicted: if a bound is reached, no new token is created
+ * and the client keeps using Basic Authentication. A client that authenticates
+ * via Basic Authentication on every request and ignores the token therefore
+ * cannot invalidate the tokens of other clients.
+ */
+public class SessionTokens {
+
+	public static final String HEADER = "X-OpenEMS-Session-Token";
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+	public static final Duration DEFAULT_MAX_LIFETIME = Duration.ofHours(1);
+	public static final int DEFAULT_MAX_SIZE = 16;
+	public static final int DEFAULT_MAX_SIZE_PER_USER = 4;
+
+	private static final int TOKEN_LENGTH = 32;
+
+	private static class Session {
+		private final byte[] digest;
+		private final User user;
+		private final Instant notAfter;
+		private Instant expiresAt;
+
+		private Session(byte[] digest, User user, Instant notAfter) {
+			this.digest = digest;
+			this.user = user;
+			this.notAfter = notAfter;
+		}
+
+		private void extend(Instant expiresAt) {
+			this.expiresAt = expiresAt.isBefore(this.notAfter) ? expiresAt : this.notAfter;
+		}
+	}
+
+	private final SecureRandom random = new SecureRandom();
+	private final Clock clock;
+	private final Duration timeToLive;
+	private final Duration maxLifetime;
+	private final int maxSize;
+	private final int maxSizePerUser;
+
+	private final List<Session> sessions = new ArrayList<>();
+
+	public SessionTokens(Clock clock) {
+		this(clock, DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_LIFETIME, DEFAULT_MAX_SIZE, DEFAULT_MAX_SIZE_PER_USER);
+	}
+
+	public SessionTokens(Clock clock, Duration timeToLive, Duration maxLifetime, int maxSize, int maxSizePerUser) {
+		this.clock = clock;
+		this.timeToLive = timeToLive;
+		this.maxLifetime = maxLifetime;
+		this.maxSize = maxSize;
+		this.maxSizePerUser = maxSizePerUser;
+	}
+
+	/**
+	 * Creates a new session with a new random token, if neither the total number
+	 * of sessions nor the number of sessions of the {@link User} is at its bound.
+	 *
+	 * @param user the authenticated {@link User}
+	 * @return the token; empty if no session was created
+	 */
+	public synchronized Optional<String> create(User user) {
+		var now = Instant.now(this.clock);
+		this.sessions.removeIf(s -> !s.expiresAt.isAfter(now));
+		if (this.sessions.size() >= this.maxSize) {
+			return Optional.empty();
+		}
+		var sessionsOfUser = this.sessions.stream() //
+				.filter(s -> s.user.getId().equals(user.getId())) //
+				.count();
+		if (sessionsOfUser >= this.maxSizePerUser) {
+			return Optional.empty();
+		}
+		var bytes = new byte[TOKEN_LENGTH];
+		this.random.nextBytes(bytes);
+		var token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		var session = new Session(digest(token), user, now.plus(this.maxLifetime));
+		session.extend(now.plus(this.timeToLive));
+		this.sessions.add(session);
+		return Optional.of(token);
+	}
+
+	/**
+	 * Gets the {@link User} of a valid session and extends the session, but not
+	 * beyond its maximum lifetime.
+	 *
+	 * @param token the token
+	 * @return the {@link User}; empty if the token is unknown or expired
+	 */
+	public synchronized Optional<User> get(String token) {
+		var digest = digest(token);
+		var now = Instant.now(this.clock);
+		this.sessions.removeIf(s -> !s.expiresAt.isAfter(now));
+		Session result = null;
+		for (Session session : this.sessions) {
+			// check every session to not leak the position via timing
+			if (MessageDigest.isEqual(session.digest, digest)) {
+				result = session;
+			}
+		}
+		if (result == null) {
+			return Optional.empty();
+		}
+		result.extend(now.plus(this.timeToLive));
+		return Optional.of(result.user);
+	}
+
+	/**
+	 * Removes all sessions.
+	 */
+	public synchronized void clear() {
+		this.sessions.clear();
+	}
+
+	private static byte[] digest(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,154 @@
+package io.openems.edge.controller.api.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class ChannelLookupTest {
+
+	private static class TestChannelId implements io.openems.edge.common.channel.ChannelId {
+
+		private final String name;
+		private final Doc doc = Doc.of(OpenemsType.INTEGER);
+
+		private TestChannelId(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String name() {
+			return this.name;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		public DummyComponent(String id, io.openems.edge.common.channel.ChannelId[] channelIds) {
+			super(OpenemsComponent.ChannelId.values(), channelIds);
+			super.activate(null, id, "", true);
+		}
+	}
+
+	private static ComponentManager createComponentManager(int noOfComponents, int noOfChannels) {
+		var channelIds = new TestChannelId[noOfChannels];
+		for (var i = 0; i < noOfChannels; i++) {
+			channelIds[i] = new TestChannelId("CHANNEL_" + i);
+		}
+		var componentManager = new DummyComponentManager();
+		for (var i = 0; i < noOfComponents; i++) {
+			componentManager.addComponent(new DummyComponent("meter" + i, channelIds));
+		}
+		return componentManager;
+	}
+
+	@Test
+	public void test() throws OpenemsException {
+		var componentManager = createComponentManager(12, 12);
+		var sut = new ChannelLookup(2);
+
+		// Exact match
+		var channels = sut.find(componentManager, new ChannelAddress("meter3", "Channel7"));
+		assertEquals(1, channels.size());
+		assertEquals("meter3/Channel7", channels.get(0).address().toString());
+		assertEquals(0, sut.getNumberOfCachedPatterns());
+
+		// Not existing
+		assertTrue(sut.find(componentManager, new ChannelAddress("meter99", "Channel7")).isEmpty());
+		assertTrue(sut.find(componentManager, new ChannelAddress("meter3", "Channel99")).isEmpty());
+
+		// Regular expression for Component-ID
+		channels = sut.find(componentManager, new ChannelAddress("meter1.*", "Channel7"));
+		assertEquals(3, channels.size());
+		assertEquals("meter1/Channel7", channels.get(0).address().toString());
+		assertEquals("meter10/Channel7", channels.get(1).address().toString());
+
+		// Regular expression for Channel-ID
+		channels = sut.find(componentManager, new ChannelAddress("meter3", "Channel1.*"));
+		assertEquals(3, channels.size());
+
+		// Regular expression for both
+		channels = sut.find(componentManager, new ChannelAddress("meter[0-1]", "Channel[0-2]"));
+		assertEquals(6, channels.size());
+
+		// Pattern cache is bounded
+		assertEquals(2, sut.getNumberOfCachedPatterns());
+
+		// Syntax error
+		try {
+			sut.find(componentManager, new ChannelAddress("meter[", "Channel1"));
+			assertTrue(false);
+		} catch (OpenemsException e) {
+			// ok
+		}
+	}
+
+	@Test
+	public void testIsLiteral() {
+		assertTrue(ChannelLookup.isLiteral("_sum"));
+		assertTrue(ChannelLookup.isLiteral("ActivePowerL1"));
+		assertTrue(!ChannelLookup.isLiteral(".*"));
+		assertTrue(!ChannelLookup.isLiteral("meter[0-9]"));
+		assertTrue(!ChannelLookup.isLiteral("ess0|ess1"));
+	}
+
+	/**
+	 * Runs lookups of 50 of 5000 Channels with the previous full scan and with
+	 * {@link ChannelLookup}, e.g. for profiling.
+	 */
+	@Ignore
+	@Test
+	public void testBenchmark() throws OpenemsException {
+		final var runs = 100;
+		var componentManager = createComponentManager(100, 50);
+		var addresses = new ArrayList<ChannelAddress>();
+		for (var i = 0; i < 50; i++) {
+			addresses.add(new ChannelAddress("meter" + i * 2, "Channel" + i));
+		}
+		var sut = new ChannelLookup();
+
+		// Previous implementation: scan all Components and Channels
+		for (var run = 0; run < runs; run++) {
+			for (ChannelAddress address : addresses) {
+				List<Channel<?>> result = new ArrayList<>();
+				for (OpenemsComponent component : componentManager.getEnabledComponents()) {
+					if (Pattern.matches(address.getComponentId(), component.id())) {
+						for (Channel<?> channel : component.channels()) {
+							if (Pattern.matches(address.getChannelId(), channel.channelId().id())) {
+								result.add(channel);
+							}
+						}
+					}
+				}
+				assertEquals(1, result.size());
+			}
+		}
+
+		for (var run = 0; run < runs; run++) {
+			for (ChannelAddress address : addresses) {
+				assertEquals(1, sut.find(componentManager, address).size());
+			}
+		}
+	}
+
+}
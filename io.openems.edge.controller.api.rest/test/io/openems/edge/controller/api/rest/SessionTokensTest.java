@@ -0,0 +1,101 @@
+package io.openems.edge.controller.api.rest;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+import io.openems.edge.common.test.DummyUser;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class SessionTokensTest {
+
+	@Test
+	public void test() {
+		var clock = new TimeLeapClock();
+		var sut = new SessionTokens(clock, Duration.ofMinutes(10), Duration.ofHours(1), 3, 2);
+		var owner = new DummyUser("owner", "owner", Language.DEFAULT, Role.OWNER);
+		var guest = new DummyUser("guest", "guest", Language.DEFAULT, Role.GUEST);
+
+		// Every authentication creates a new token
+		var ownerToken = sut.create(owner).get();
+		var ownerToken2 = sut.create(owner).get();
+		assertNotEquals(ownerToken, ownerToken2);
+		assertSame(owner, sut.get(ownerToken).get());
+		assertSame(owner, sut.get(ownerToken2).get());
+		assertFalse(sut.get("invalid").isPresent());
+
+		// Bounded size per User: no new session, live sessions are kept
+		assertFalse(sut.create(owner).isPresent());
+		assertSame(owner, sut.get(ownerToken).get());
+
+		// Bounded total size: no new session, live sessions are kept
+		var guestToken = sut.create(guest).get();
+		assertSame(guest, sut.get(guestToken).get());
+		assertFalse(sut.create(new DummyUser("admin", "admin", Language.DEFAULT, Role.ADMIN)).isPresent());
+		assertSame(owner, sut.get(ownerToken).get());
+		assertSame(owner, sut.get(ownerToken2).get());
+
+		// Sessions are extended on use
+		clock.leap(9, ChronoUnit.MINUTES);
+		assertSame(owner, sut.get(ownerToken2).get());
+		clock.leap(9, ChronoUnit.MINUTES);
+		assertSame(owner, sut.get(ownerToken2).get());
+		assertFalse(sut.get(guestToken).isPresent());
+
+		sut.clear();
+		assertFalse(sut.get(ownerToken2).isPresent());
+	}
+
+	@Test
+	public void testMaxLifetime() {
+		var clock = new TimeLeapClock();
+		var sut = new SessionTokens(clock, Duration.ofMinutes(10), Duration.ofMinutes(30), 2, 2);
+		var owner = new DummyUser("owner", "owner", Language.DEFAULT, Role.OWNER);
+
+		var token = sut.create(owner).get();
+		for (var i = 0; i < 5; i++) {
+			clock.leap(5, ChronoUnit.MINUTES);
+			assertSame(owner, sut.get(token).get());
+		}
+
+		// Expires after 30 minutes although it is used regularly
+		clock.leap(5, ChronoUnit.MINUTES);
+		assertFalse(sut.get(token).isPresent());
+	}
+
+	@Test
+	public void testBasicPollerAndBearerClient() {
+		var clock = new TimeLeapClock();
+		var sut = new SessionTokens(clock);
+		var owner = new DummyUser("owner", "owner", Language.DEFAULT, Role.OWNER);
+		var guest = new DummyUser("guest", "guest", Language.DEFAULT, Role.GUEST);
+
+		// Bearer clients authenticate once via Basic Authentication
+		var ownerToken = sut.create(owner).get();
+		var guestToken = sut.create(guest).get();
+
+		// Poller authenticates via Basic Authentication 10 times per second and
+		// ignores the token; Bearer clients use their token once per second
+		for (var second = 0; second < 30 * 60; second++) {
+			for (var i = 0; i < 10; i++) {
+				sut.create(owner);
+				clock.leap(100, ChronoUnit.MILLIS);
+			}
+			assertSame(owner, sut.get(ownerToken).get());
+			assertSame(guest, sut.get(guestToken).get());
+		}
+
+		// Another User still gets a session
+		var admin = new DummyUser("admin", "admin", Language.DEFAULT, Role.ADMIN);
+		assertTrue(sut.create(admin).isPresent());
+	}
+
+}
@@ -1,11 +1,14 @@
 package io.openems.edge.controller.api;
 
+import java.util.Set;
+
 import org.osgi.annotation.versioning.ProviderType;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -16,6 +19,11 @@ import io.openems.edge.common.modbusslave.ModbusType;
 @ProviderType
 public interface Controller extends OpenemsComponent {
 
+	/**
+	 * Wildcard Channel-ID for {@link #getWriteTargets()}.
+	 */
+	public static final String ALL_CHANNELS = "*";
+
 	/**
 	 * Executes the Controller logic.
 	 *
@@ -23,6 +31,24 @@ public interface Controller extends OpenemsComponent {
 	 */
 	public void run() throws OpenemsNamedException;
 
+	/**
+	 * Declares the Channels this Controller writes to during {@link #run()}.
+	 *
+	 * <p>
+	 * Used by Core.Cycle in parallel Controller execution mode: Controllers whose
+	 * write targets do not overlap may run concurrently; Controllers with
+	 * overlapping write targets keep their Scheduler order. Use
+	 * {@link #ALL_CHANNELS} as Channel-ID to declare all Channels of a Component.
+	 * Shared services that are accessed indirectly (e.g. the ESS Power solver
+	 * via '_power') have to be declared as well.
+	 *
+	 * @return the written Channels; null if unknown, i.e. the Controller is never
+	 *         executed concurrently with any other Controller
+	 */
+	public default Set<ChannelAddress> getWriteTargets() {
+		return null;
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
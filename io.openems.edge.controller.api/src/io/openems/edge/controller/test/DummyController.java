@@ -1,5 +1,8 @@
 package io.openems.edge.controller.test;
 
+import java.util.Set;
+
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -12,6 +15,7 @@ import io.openems.edge.controller.api.Controller;
 public class DummyController extends AbstractOpenemsComponent implements Controller, OpenemsComponent {
 
 	private Runnable runCallback = null;
+	private Set<ChannelAddress> writeTargets = null;
 
 	protected DummyController(String id, String alias,
 			io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
@@ -45,6 +49,23 @@ public class DummyController extends AbstractOpenemsComponent implements Control
 		return this;
 	}
 
+	/**
+	 * Set the write targets of this {@link DummyController}. See
+	 * {@link Controller#getWriteTargets()}.
+	 *
+	 * @param writeTargets the written Channels
+	 * @return myself
+	 */
+	public DummyController withWriteTargets(ChannelAddress... writeTargets) {
+		this.writeTargets = Set.of(writeTargets);
+		return this;
+	}
+
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return this.writeTargets;
+	}
+
 	@Override
 	public void run() {
 		if (this.runCallback != null) {
@@ -1,6 +1,7 @@
 package io.openems.edge.controller.evcs.fixactivepower;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -11,6 +12,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -68,6 +70,11 @@ public class EvcsFixActivePower extends AbstractOpenemsComponent implements Cont
 		super.deactivate();
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return Set.of(new ChannelAddress(this.config.evcs_id(), Controller.ALL_CHANNELS));
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var now = LocalDateTime.now(this.componentManager.getClock());
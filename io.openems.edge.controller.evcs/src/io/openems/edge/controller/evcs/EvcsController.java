@@ -2,6 +2,7 @@ package io.openems.edge.controller.evcs;
 
 import java.io.IOException;
 import java.time.Clock;
+import java.util.Set;
 
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -21,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -105,6 +107,11 @@ public class EvcsController extends AbstractOpenemsComponent implements Controll
 		super.deactivate();
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return Set.of(new ChannelAddress(this.config.evcs_id(), Controller.ALL_CHANNELS));
+	}
+
 	/**
 	 * If the EVCS is clustered the method will set the charge power request.
 	 * Otherwise it will set directly the charge power limit.
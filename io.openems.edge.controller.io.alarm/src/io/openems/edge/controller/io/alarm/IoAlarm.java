@@ -1,5 +1,7 @@
 package io.openems.edge.controller.io.alarm;
 
+import java.util.Set;
+
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -34,6 +36,7 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 	protected ComponentManager componentManager;
 
 	private Config config;
+	private Set<ChannelAddress> writeTargets = null;
 
 	public IoAlarm() {
 		super(//
@@ -61,6 +64,12 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 	void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
+		try {
+			this.writeTargets = Set.of(ChannelAddress.fromString(config.outputChannelAddress()));
+		} catch (OpenemsNamedException e) {
+			// invalid address is reported by run(); execute as a barrier
+			this.writeTargets = null;
+		}
 	}
 
 	@Override
@@ -69,6 +78,11 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 		super.deactivate();
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return this.writeTargets;
+	}
+
 	@Override
 	public void run() throws IllegalArgumentException, OpenemsNamedException {
 		var setOutput = false;
@@ -45,6 +45,7 @@ public class ChannelSingleThresholdImpl extends AbstractOpenemsComponent
 	private final Set<ChannelAddress> outputChannelAdresses = new HashSet<>();
 
 	private Config config;
+	private volatile Set<ChannelAddress> writeTargets = Set.of();
 	private LocalDateTime lastStateChange = LocalDateTime.MIN;
 
 	/**
@@ -83,6 +84,7 @@ public class ChannelSingleThresholdImpl extends AbstractOpenemsComponent
 			}
 			this.outputChannelAdresses.add(ChannelAddress.fromString(channel));
 		}
+		this.writeTargets = Set.copyOf(this.outputChannelAdresses);
 	}
 
 	@Override
@@ -91,6 +93,11 @@ public class ChannelSingleThresholdImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return this.writeTargets;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var outputChannels = this.getOutputChannels();
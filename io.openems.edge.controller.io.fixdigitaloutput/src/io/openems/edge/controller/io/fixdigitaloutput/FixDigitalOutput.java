@@ -1,6 +1,7 @@
 package io.openems.edge.controller.io.fixdigitaloutput;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -77,6 +78,11 @@ public class FixDigitalOutput extends AbstractOpenemsComponent implements Contro
 		super.deactivate();
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return Set.of(this.outputChannelAddress);
+	}
+
 	@Override
 	public void run() throws IllegalArgumentException, OpenemsNamedException {
 		if (this.isOn) {
@@ -1,5 +1,9 @@
 package io.openems.edge.controller.io.fixdigitaloutput;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
 import org.junit.Test;
 
 import io.openems.common.types.ChannelAddress;
@@ -25,6 +29,20 @@ public class FixDigitalOutputTest {
 		this.testSwitch(false);
 	}
 
+	@Test
+	public void testWriteTargets() throws Exception {
+		var sut = new FixDigitalOutput();
+		new ControllerTest(sut) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.addComponent(new DummyInputOutput(IO_ID)) //
+				.activate(MyConfig.create() //
+						.setId(CTRL_ID) //
+						.setOutputChannelAddress(IO_INPUT_OUTPUT0.toString()) //
+						.setOn(true) //
+						.build());
+		assertEquals(Set.of(IO_INPUT_OUTPUT0), sut.getWriteTargets());
+	}
+
 	private void testSwitch(boolean on) throws Exception {
 		new ControllerTest(new FixDigitalOutput()) //
 				.addReference("componentManager", new DummyComponentManager()) //
@@ -3,6 +3,7 @@ package io.openems.edge.controller.io.heatingelement;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -75,6 +76,11 @@ public class ControllerHeatingElementImpl extends AbstractOpenemsComponent
 	 */
 	private long minimumTotalPhaseTime;
 
+	/**
+	 * Holds the output Channels of all phases; null if they cannot be parsed.
+	 */
+	private volatile Set<ChannelAddress> writeTargets = null;
+
 	@Reference
 	protected ComponentManager componentManager;
 
@@ -116,6 +122,30 @@ public class ControllerHeatingElementImpl extends AbstractOpenemsComponent
 	private void updateConfig(Config config) {
 		this.config = config;
 		this.minimumTotalPhaseTime = calculateMinimumTotalPhaseTime(config);
+		this.writeTargets = parseWriteTargets(config);
+	}
+
+	/**
+	 * Parses the output Channels of all phases.
+	 *
+	 * @param config the {@link Config}
+	 * @return the output Channels; null if any of them is invalid, which is
+	 *         reported by {@link #run()}
+	 */
+	private static Set<ChannelAddress> parseWriteTargets(Config config) {
+		try {
+			return Set.of(//
+					ChannelAddress.fromString(config.outputChannelPhaseL1()), //
+					ChannelAddress.fromString(config.outputChannelPhaseL2()), //
+					ChannelAddress.fromString(config.outputChannelPhaseL3()));
+		} catch (OpenemsNamedException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return this.writeTargets;
 	}
 
 	@Override
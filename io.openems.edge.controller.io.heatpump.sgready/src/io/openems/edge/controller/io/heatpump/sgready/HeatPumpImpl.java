@@ -1,6 +1,7 @@
 package io.openems.edge.controller.io.heatpump.sgready;
 
 import java.time.Instant;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -49,6 +50,11 @@ public class HeatPumpImpl extends AbstractOpenemsComponent
 
 	private Config config = null;
 
+	/**
+	 * Holds both output Channels; null if they cannot be parsed.
+	 */
+	private volatile Set<ChannelAddress> writeTargets = null;
+
 	protected Status activeState = Status.UNDEFINED;
 
 	protected Instant lastStateChange = Instant.MIN;
@@ -87,13 +93,31 @@ public class HeatPumpImpl extends AbstractOpenemsComponent
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
-
+		this.writeTargets = parseWriteTargets(config);
 	}
 
 	@Modified
 	void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
+		this.writeTargets = parseWriteTargets(config);
+	}
+
+	/**
+	 * Parses both output Channels.
+	 *
+	 * @param config the {@link Config}
+	 * @return the output Channels; null if any of them is invalid, which is
+	 *         reported by {@link #run()}
+	 */
+	private static Set<ChannelAddress> parseWriteTargets(Config config) {
+		try {
+			return Set.of(//
+					ChannelAddress.fromString(config.outputChannel1()), //
+					ChannelAddress.fromString(config.outputChannel2()));
+		} catch (OpenemsNamedException | IllegalArgumentException e) {
+			return null;
+		}
 	}
 
 	@Override
@@ -116,6 +140,11 @@ public class HeatPumpImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	@Override
+	public Set<ChannelAddress> getWriteTargets() {
+		return this.writeTargets;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 
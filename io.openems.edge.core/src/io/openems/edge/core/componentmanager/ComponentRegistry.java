@@ -0,0 +1,242 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+import org.osgi.util.tracker.ServiceTracker;
+import org.osgi.util.tracker.ServiceTrackerCustomizer;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Tracks the registration, modification (e.g. of the 'enabled' property) and
+ * unregistration of {@link OpenemsComponent} services and serves lookups from
+ * an immutable {@link Snapshot}.
+ *
+ * <p>
+ * The {@link Snapshot} is rebuilt on every change. Lookups by Component-ID are
+ * hash map lookups; lookups by type are cached per {@link Snapshot}.
+ */
+public class ComponentRegistry implements ServiceTrackerCustomizer<OpenemsComponent, OpenemsComponent> {
+
+	private static class Entry {
+		private final OpenemsComponent component;
+		private final String id;
+		private final boolean enabled;
+		private final boolean isComponentManager;
+
+		private Entry(OpenemsComponent component, String id, boolean enabled, boolean isComponentManager) {
+			this.component = component;
+			this.id = id;
+			this.enabled = enabled;
+			this.isComponentManager = isComponentManager;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the registered Components.
+	 */
+	protected static class Snapshot {
+
+		private static final Snapshot EMPTY = new Snapshot(Collections.emptyList());
+
+		private final List<OpenemsComponent> allComponents;
+		private final List<OpenemsComponent> enabledComponents;
+		private final Map<String, OpenemsComponent> allById;
+		private final Map<String, OpenemsComponent> enabledById;
+		private final Map<Class<?>, List<?>> enabledByType = new ConcurrentHashMap<>();
+
+		private Snapshot(Collection<Entry> entries) {
+			var allComponents = new ArrayList<OpenemsComponent>(entries.size());
+			var enabledComponents = new ArrayList<OpenemsComponent>(entries.size());
+			var allById = new HashMap<String, OpenemsComponent>();
+			var enabledById = new HashMap<String, OpenemsComponent>();
+			for (var entry : entries) {
+				if (!entry.isComponentManager) {
+					allComponents.add(entry.component);
+					if (entry.enabled) {
+						enabledComponents.add(entry.component);
+					}
+				}
+				if (entry.id == null) {
+					continue;
+				}
+				// Prefer enabled Components with duplicated IDs
+				if (entry.enabled) {
+					enabledById.putIfAbsent(entry.id, entry.component);
+					allById.put(entry.id, enabledById.get(entry.id));
+				} else if (!enabledById.containsKey(entry.id)) {
+					allById.putIfAbsent(entry.id, entry.component);
+				}
+			}
+			this.allComponents = Collections.unmodifiableList(allComponents);
+			this.enabledComponents = Collections.unmodifiableList(enabledComponents);
+			this.allById = allById;
+			this.enabledById = enabledById;
+		}
+	}
+
+	private final Map<Object, Entry> entries = new LinkedHashMap<>();
+	private final BundleContext bundleContext;
+
+	private ServiceTracker<OpenemsComponent, OpenemsComponent> tracker = null;
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	public ComponentRegistry(BundleContext bundleContext) {
+		this.bundleContext = bundleContext;
+	}
+
+	/**
+	 * Starts tracking {@link OpenemsComponent} services.
+	 */
+	public void open() {
+		ServiceTracker<OpenemsComponent, OpenemsComponent> tracker;
+		synchronized (this) {
+			if (this.tracker != null || this.bundleContext == null) {
+				return;
+			}
+			tracker = new ServiceTracker<>(this.bundleContext, OpenemsComponent.class, this);
+			this.tracker = tracker;
+		}
+		// Callbacks for already registered services happen within open()
+		tracker.open();
+	}
+
+	/**
+	 * Stops tracking {@link OpenemsComponent} services.
+	 */
+	public void close() {
+		ServiceTracker<OpenemsComponent, OpenemsComponent> tracker;
+		synchronized (this) {
+			tracker = this.tracker;
+			this.tracker = null;
+		}
+		if (tracker != null) {
+			tracker.close();
+		}
+		synchronized (this) {
+			this.entries.clear();
+			this.snapshot = Snapshot.EMPTY;
+		}
+	}
+
+	@Override
+	public OpenemsComponent addingService(ServiceReference<OpenemsComponent> reference) {
+		var component = this.bundleContext.getService(reference);
+		if (component == null) {
+			return null;
+		}
+		this.put(reference, component, reference);
+		return component;
+	}
+
+	@Override
+	public void modifiedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+		this.put(reference, component, reference);
+	}
+
+	@Override
+	public void removedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+		this.remove(reference);
+		this.bundleContext.ungetService(reference);
+	}
+
+	private void put(Object key, OpenemsComponent component, ServiceReference<?> reference) {
+		var id = reference.getProperty("id");
+		this.put(key, component, id == null ? null : id.toString(), //
+				Boolean.TRUE.equals(reference.getProperty("enabled"))
+						|| "true".equals(reference.getProperty("enabled")), //
+				ComponentManager.SINGLETON_SERVICE_PID.equals(reference.getProperty("service.factoryPid")));
+	}
+
+	/**
+	 * Adds or updates a Component.
+	 *
+	 * @param key                a unique key, e.g. the {@link ServiceReference}
+	 * @param component          the {@link OpenemsComponent}
+	 * @param id                 the Component-ID
+	 * @param enabled            the value of the 'enabled' property
+	 * @param isComponentManager true for the {@link ComponentManager} itself
+	 */
+	protected synchronized void put(Object key, OpenemsComponent component, String id, boolean enabled,
+			boolean isComponentManager) {
+		this.entries.put(key, new Entry(component, id, enabled, isComponentManager));
+		this.snapshot = new Snapshot(this.entries.values());
+	}
+
+	/**
+	 * Removes a Component.
+	 *
+	 * @param key the unique key
+	 */
+	protected synchronized void remove(Object key) {
+		if (this.entries.remove(key) != null) {
+			this.snapshot = new Snapshot(this.entries.values());
+		}
+	}
+
+	/**
+	 * Gets all enabled Components, except the {@link ComponentManager}.
+	 *
+	 * @return an unmodifiable list of Components
+	 */
+	public List<OpenemsComponent> getEnabledComponents() {
+		return this.snapshot.enabledComponents;
+	}
+
+	/**
+	 * Gets all Components, except the {@link ComponentManager}.
+	 *
+	 * @return an unmodifiable list of Components
+	 */
+	public List<OpenemsComponent> getAllComponents() {
+		return this.snapshot.allComponents;
+	}
+
+	/**
+	 * Gets all enabled Components of the given type.
+	 *
+	 * @param <T>   the type
+	 * @param clazz the type
+	 * @return an unmodifiable list of Components
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+		var snapshot = this.snapshot;
+		return (List<T>) snapshot.enabledByType.computeIfAbsent(clazz, c -> {
+			var result = new ArrayList<T>();
+			for (var component : snapshot.enabledComponents) {
+				if (clazz.isInstance(component)) {
+					result.add(clazz.cast(component));
+				}
+			}
+			return Collections.unmodifiableList(result);
+		});
+	}
+
+	/**
+	 * Gets a Component by its Component-ID.
+	 *
+	 * @param componentId    the Component-ID
+	 * @param hasToBeEnabled if the Component has to be enabled
+	 * @return the Component; null if there is no (enabled) Component with this
+	 *         ID
+	 */
+	public OpenemsComponent getComponent(String componentId, boolean hasToBeEnabled) {
+		var snapshot = this.snapshot;
+		if (hasToBeEnabled) {
+			return snapshot.enabledById.get(componentId);
+		}
+		return snapshot.allById.get(componentId);
+	}
+
+}
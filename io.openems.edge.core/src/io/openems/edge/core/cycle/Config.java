@@ -13,6 +13,15 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Profiling", description = "Record latency histograms of Cycle phases, events and Controllers")
+	boolean profilingEnabled() default false;
+
+	@AttributeDefinition(name = "Controller Execution", description = "Execute Controllers serially or - if they declare their write targets - in parallel. Controllers without declared write targets are always executed one after the other")
+	ControllerExecutionMode controllerExecution() default ControllerExecutionMode.SERIAL;
+
+	@AttributeDefinition(name = "Controller Threads", description = "Number of threads for parallel Controller execution")
+	int controllerThreads() default 4;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.openems.edge.core.cycle;
+
+public enum ControllerExecutionMode {
+	/**
+	 * Controllers are executed one after the other on the Cycle thread.
+	 */
+	SERIAL,
+	/**
+	 * Controllers without overlapping write targets are executed concurrently.
+	 * See {@link io.openems.edge.controller.api.Controller#getWriteTargets()}.
+	 *
+	 * <p>
+	 * Only Controllers that declare their write targets take part; currently
+	 * these are the EVCS, the digital output and the heating Controllers. All
+	 * other Controllers act as barriers, so this mode has no effect on a
+	 * configuration without such Controllers.
+	 */
+	PARALLEL;
+}
@@ -2,6 +2,7 @@ package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -20,11 +21,16 @@ import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,7 +41,7 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
 
@@ -59,6 +65,17 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * The {@link CycleProfiler}; null if profiling is disabled.
+	 */
+	protected volatile CycleProfiler profiler = null;
+
+	/**
+	 * The {@link ParallelControllerExecutor}; null in
+	 * {@link ControllerExecutionMode#SERIAL}.
+	 */
+	protected volatile ParallelControllerExecutor controllerExecutor = null;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -76,6 +93,23 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE, //
+			target = "(&(enabled=true)(!(component.name=" + Cycle.SINGLETON_SERVICE_PID + ")))")
+	protected void addComponent(OpenemsComponent component) {
+		this.worker.invalidateChannelRegistry();
+	}
+
+	protected void updatedComponent(OpenemsComponent component) {
+		this.worker.invalidateChannelRegistry();
+	}
+
+	protected void removeComponent(OpenemsComponent component) {
+		this.worker.invalidateChannelRegistry();
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -87,6 +121,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyProfilingConfig(config);
+		this.applyControllerExecutionConfig(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +134,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyProfilingConfig(config);
+		this.applyControllerExecutionConfig(config);
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +148,82 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.shutdownControllerExecutor();
+	}
+
+	private void applyControllerExecutionConfig(Config config) {
+		this.shutdownControllerExecutor();
+		if (config.controllerExecution() == ControllerExecutionMode.PARALLEL) {
+			this.controllerExecutor = new ParallelControllerExecutor(config.controllerThreads());
+		}
+	}
+
+	private void shutdownControllerExecutor() {
+		var executor = this.controllerExecutor;
+		this.controllerExecutor = null;
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private void applyProfilingConfig(Config config) {
+		if (!config.profilingEnabled()) {
+			this.profiler = null;
+			this.updateProfilingChannels(null);
+		} else if (this.profiler == null) {
+			this.profiler = new CycleProfiler();
+		}
+	}
+
+	/**
+	 * Updates the profiling Channels from the {@link CycleProfiler}.
+	 *
+	 * @param profiler the {@link CycleProfiler}; null to clear the Channels
+	 */
+	protected void updateProfilingChannels(CycleProfiler profiler) {
+		this._setProcessImageTimeP99(getPercentileMillis(profiler, CycleProfiler.PHASE_PROCESS_IMAGE));
+		this._setProcessImageTimeMax(getMaxMillis(profiler, CycleProfiler.PHASE_PROCESS_IMAGE));
+		this._setControllersTimeP99(getPercentileMillis(profiler, CycleProfiler.PHASE_CONTROLLERS));
+		this._setControllersTimeMax(getMaxMillis(profiler, CycleProfiler.PHASE_CONTROLLERS));
+		this._setWriteTimeP99(getPercentileMillis(profiler, CycleProfiler.PHASE_WRITE));
+		this._setWriteTimeMax(getMaxMillis(profiler, CycleProfiler.PHASE_WRITE));
+	}
+
+	private static Long getPercentileMillis(CycleProfiler profiler, String phase) {
+		if (profiler == null) {
+			return null;
+		}
+		return profiler.getPhasePercentile(phase, 99) / 1_000;
+	}
+
+	private static Long getMaxMillis(CycleProfiler profiler, String phase) {
+		if (profiler == null) {
+			return null;
+		}
+		return profiler.getPhaseMax(phase) / 1_000;
+	}
+
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.ADMIN);
+
+		switch (request.getMethod()) {
+		case GetCycleProfileRequest.METHOD:
+			return this.handleGetCycleProfileRequest(user, GetCycleProfileRequest.from(request));
+		}
+		return null;
+	}
+
+	private CompletableFuture<? extends JsonrpcResponseSuccess> handleGetCycleProfileRequest(User user,
+			GetCycleProfileRequest request) throws OpenemsNamedException {
+		var profiler = this.profiler;
+		if (profiler == null) {
+			throw new OpenemsException("Profiling is disabled. Enable it in the configuration of Core Cycle.");
+		}
+		return CompletableFuture.completedFuture(new GetCycleProfileResponse(request.getId(),
+				CycleProfiler.WINDOW_SECONDS, profiler.getPhaseSnapshots(), profiler.getEventSnapshots(),
+				profiler.getControllerSnapshots()));
 	}
 
 	@Override
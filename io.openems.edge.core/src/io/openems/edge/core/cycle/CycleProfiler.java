@@ -0,0 +1,136 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records latency histograms of the phases of a Cycle, of each Cycle event
+ * topic and of each Controller.
+ *
+ * <p>
+ * Recording is thread-safe and does not allocate objects, except for the first
+ * recording of a new event topic or Controller. Snapshots may be taken from any
+ * thread.
+ */
+public class CycleProfiler {
+
+	public static final String PHASE_PROCESS_IMAGE = "processImage";
+	public static final String PHASE_CONTROLLERS = "controllers";
+	public static final String PHASE_WRITE = "write";
+
+	/** Length of the sliding window in [s]. */
+	public static final int WINDOW_SECONDS = 300;
+	private static final int NUMBER_OF_SLOTS = 10;
+
+	private final Map<String, SlidingWindowHistogram> phases = new ConcurrentHashMap<>();
+	private final Map<String, SlidingWindowHistogram> events = new ConcurrentHashMap<>();
+	private final Map<String, SlidingWindowHistogram> controllers = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the duration of a Cycle phase.
+	 *
+	 * @param phase      the phase, e.g. {@link #PHASE_PROCESS_IMAGE}
+	 * @param startNanos the {@link System#nanoTime()} at the start of the phase
+	 */
+	public void recordPhase(String phase, long startNanos) {
+		record(this.phases, phase, startNanos);
+	}
+
+	/**
+	 * Records the duration of sending a Cycle event.
+	 *
+	 * @param topic      the event topic
+	 * @param startNanos the {@link System#nanoTime()} before sending the event
+	 */
+	public void recordEvent(String topic, long startNanos) {
+		record(this.events, topic, startNanos);
+	}
+
+	/**
+	 * Records the duration of a Controller run.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param startNanos   the {@link System#nanoTime()} before running the
+	 *                     Controller
+	 */
+	public void recordController(String controllerId, long startNanos) {
+		record(this.controllers, controllerId, startNanos);
+	}
+
+	/**
+	 * Gets the value at the given percentile of a Cycle phase within the sliding
+	 * window.
+	 *
+	 * @param phase      the phase, e.g. {@link #PHASE_PROCESS_IMAGE}
+	 * @param percentile the percentile in [0, 100]
+	 * @return the value in [us]
+	 */
+	public long getPhasePercentile(String phase, double percentile) {
+		var histogram = this.phases.get(phase);
+		if (histogram == null) {
+			return 0;
+		}
+		return histogram.getValueAtPercentile(percentile, System.nanoTime());
+	}
+
+	/**
+	 * Gets the maximum duration of a Cycle phase within the sliding window.
+	 *
+	 * @param phase the phase, e.g. {@link #PHASE_PROCESS_IMAGE}
+	 * @return the value in [us]
+	 */
+	public long getPhaseMax(String phase) {
+		var histogram = this.phases.get(phase);
+		if (histogram == null) {
+			return 0;
+		}
+		return histogram.getMax(System.nanoTime());
+	}
+
+	/**
+	 * Gets {@link SlidingWindowHistogram.Snapshot}s of all phases.
+	 *
+	 * @return a map of phase to snapshot
+	 */
+	public TreeMap<String, SlidingWindowHistogram.Snapshot> getPhaseSnapshots() {
+		return getSnapshots(this.phases);
+	}
+
+	/**
+	 * Gets {@link SlidingWindowHistogram.Snapshot}s of all event topics.
+	 *
+	 * @return a map of topic to snapshot
+	 */
+	public TreeMap<String, SlidingWindowHistogram.Snapshot> getEventSnapshots() {
+		return getSnapshots(this.events);
+	}
+
+	/**
+	 * Gets {@link SlidingWindowHistogram.Snapshot}s of all Controllers.
+	 *
+	 * @return a map of Controller-ID to snapshot
+	 */
+	public TreeMap<String, SlidingWindowHistogram.Snapshot> getControllerSnapshots() {
+		return getSnapshots(this.controllers);
+	}
+
+	private static void record(Map<String, SlidingWindowHistogram> histograms, String key, long startNanos) {
+		var now = System.nanoTime();
+		var histogram = histograms.get(key);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(key,
+					k -> new SlidingWindowHistogram(WINDOW_SECONDS, NUMBER_OF_SLOTS));
+		}
+		histogram.record(now - startNanos, now);
+	}
+
+	private static TreeMap<String, SlidingWindowHistogram.Snapshot> getSnapshots(
+			Map<String, SlidingWindowHistogram> histograms) {
+		var now = System.nanoTime();
+		var result = new TreeMap<String, SlidingWindowHistogram.Snapshot>();
+		histograms.forEach((key, histogram) -> result.put(key, histogram.getSnapshot(now)));
+		return result;
+	}
+
+}
@@ -1,16 +1,18 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.base.Stopwatch;
-
 import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
@@ -21,6 +23,16 @@ public class CycleWorker extends AbstractWorker {
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
 
+	/*
+	 * Flat registry of Components and their Channels, whose process image is
+	 * switched every Cycle. Only accessed by the Cycle thread.
+	 */
+	private final AtomicBoolean channelRegistryIsInvalid = new AtomicBoolean(true);
+	private OpenemsComponent[] components = new OpenemsComponent[0];
+	private int[] channelCounts = new int[0];
+	private Channel<?>[] channels = new Channel<?>[0];
+	private Channel<?>[] sumChannels = new Channel<?>[0];
+
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
 	}
@@ -33,7 +45,7 @@ public class CycleWorker extends AbstractWorker {
 	@Override
 	protected void forever() {
 		// Prepare Cycle-Time measurement
-		var stopwatch = Stopwatch.createStarted();
+		var cycleStart = System.nanoTime();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -43,43 +55,50 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Profiler is null if profiling is disabled
+		var profiler = this.parent.profiler;
+
 		try {
+			var phaseStart = System.nanoTime();
+
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
-			this.parent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
+			this.updateChannelRegistry();
+			var channels = this.channels;
+			for (var i = 0; i < channels.length; i++) {
+				channels[i].nextProcessImage();
+			}
 
 			/*
 			 * Update the Channels in the Sum-Component.
 			 */
 			this.parent.sumComponent.updateChannelsBeforeProcessImage();
-			this.parent.sumComponent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
+			var sumChannels = this.sumChannels;
+			for (var i = 0; i < sumChannels.length; i++) {
+				sumChannels[i].nextProcessImage();
+			}
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.parent._setMeasuredProcessImageTime(elapsedMillis(phaseStart));
+			if (profiler != null) {
+				profiler.recordPhase(CycleProfiler.PHASE_PROCESS_IMAGE, phaseStart);
+			}
+
+			phaseStart = System.nanoTime();
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
 
@@ -89,6 +108,9 @@ public class CycleWorker extends AbstractWorker {
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
 			} else {
+				var executor = this.parent.controllerExecutor;
+				var controllers = executor == null ? null : new ArrayList<Controller>();
+
 				for (Scheduler scheduler : this.parent.schedulers) {
 					var schedulerControllerIsMissing = false;
 
@@ -109,35 +131,20 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
+						if (controllers != null) {
+							controllers.add(controller);
+						} else {
+							this.runController(controller, profiler);
 						}
 					}
 
 					// announce Scheduler Controller is missing
 					scheduler._setControllerIsMissing(schedulerControllerIsMissing);
 				}
+
+				if (controllers != null) {
+					executor.execute(controllers, controller -> this.runController(controller, profiler));
+				}
 			}
 
 			// announce ignoring disabled Controllers.
@@ -146,22 +153,32 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.parent._setMeasuredControllersTime(elapsedMillis(phaseStart));
+			if (profiler != null) {
+				profiler.recordPhase(CycleProfiler.PHASE_CONTROLLERS, phaseStart);
+			}
+
+			phaseStart = System.nanoTime();
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(profiler, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.parent._setMeasuredWriteTime(elapsedMillis(phaseStart));
+			if (profiler != null) {
+				profiler.recordPhase(CycleProfiler.PHASE_WRITE, phaseStart);
+			}
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -172,7 +189,126 @@ public class CycleWorker extends AbstractWorker {
 		}
 
 		// Measure actual Cycle-Time
-		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		this.parent._setMeasuredCycleTime(elapsedMillis(cycleStart));
+
+		if (profiler != null) {
+			this.parent.updateProfilingChannels(profiler);
+		}
+	}
+
+	/**
+	 * Runs a Controller and announces the result via its RunFailed Channel.
+	 *
+	 * @param controller the {@link Controller}
+	 * @param profiler   the {@link CycleProfiler}; null if profiling is disabled
+	 */
+	private void runController(Controller controller, CycleProfiler profiler) {
+		var controllerStart = System.nanoTime();
+		try {
+			// Execute Controller logic
+			controller.run();
+
+			// announce running was ok
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} catch (Exception e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			if (e instanceof ClassCastException || e instanceof NullPointerException
+					|| e instanceof IllegalArgumentException) {
+				e.printStackTrace();
+			}
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} finally {
+			if (profiler != null) {
+				profiler.recordController(controller.id(), controllerStart);
+			}
+		}
+	}
+
+	/**
+	 * Sends a Cycle event and records its duration if profiling is enabled.
+	 *
+	 * @param profiler the {@link CycleProfiler}; null if profiling is disabled
+	 * @param topic    the event topic
+	 */
+	private void sendEvent(CycleProfiler profiler, String topic) {
+		if (profiler == null) {
+			EventBuilder.send(this.parent.eventAdmin, topic);
+			return;
+		}
+		var start = System.nanoTime();
+		EventBuilder.send(this.parent.eventAdmin, topic);
+		profiler.recordEvent(topic, start);
+	}
+
+	/**
+	 * Marks the Channel registry as invalid, e.g. because a Component was
+	 * activated, modified or deactivated. The registry is rebuilt at the
+	 * beginning of the next Cycle.
+	 */
+	public void invalidateChannelRegistry() {
+		this.channelRegistryIsInvalid.set(true);
+	}
+
+	/**
+	 * Rebuilds the flat Channel registry if it was invalidated or if a registered
+	 * Component added or removed Channels.
+	 */
+	private void updateChannelRegistry() {
+		if (!this.channelRegistryIsInvalid.getAndSet(false) && !this.hasChannelCountChanged()) {
+			return;
+		}
+
+		var components = new ArrayList<OpenemsComponent>();
+		var channels = new ArrayList<Channel<?>>();
+		for (var component : this.parent.componentManager.getEnabledComponents()) {
+			if (!component.isEnabled() || component instanceof Sum || component == this.parent) {
+				continue;
+			}
+			components.add(component);
+		}
+		components.add(this.parent);
+		var sum = this.parent.sumComponent;
+		components.add(sum);
+
+		var channelCounts = new int[components.size()];
+		for (var i = 0; i < channelCounts.length; i++) {
+			var component = components.get(i);
+			// Count before copying: a Channel that is added meanwhile triggers a rebuild
+			channelCounts[i] = component.channels().size();
+			if (component != sum) {
+				channels.addAll(component.channels());
+			}
+		}
+
+		this.components = components.toArray(new OpenemsComponent[components.size()]);
+		this.channelCounts = channelCounts;
+		this.channels = channels.toArray(new Channel<?>[channels.size()]);
+		this.sumChannels = sum.channels().toArray(new Channel<?>[0]);
+	}
+
+	private boolean hasChannelCountChanged() {
+		var components = this.components;
+		var channelCounts = this.channelCounts;
+		for (var i = 0; i < components.length; i++) {
+			if (components[i].channels().size() != channelCounts[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
 	}
 
 }
@@ -0,0 +1,83 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Wraps a JSON-RPC Response to "getCycleProfile" Request.
+ *
+ * <p>
+ * Durations are in [ms] over the sliding window.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "windowSeconds": number,
+ *     "phases": {
+ *       "processImage" | "controllers" | "write": {
+ *         "count": number, "p50": number, "p90": number, "p99": number, "max": number
+ *       }
+ *     },
+ *     "events": {
+ *       [topic: string]: { "count": number, "p50": number, ... }
+ *     },
+ *     "controllers": {
+ *       [controllerId: string]: { "count": number, "p50": number, ... }
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfileResponse extends JsonrpcResponseSuccess {
+
+	private final int windowSeconds;
+	private final Map<String, SlidingWindowHistogram.Snapshot> phases;
+	private final Map<String, SlidingWindowHistogram.Snapshot> events;
+	private final Map<String, SlidingWindowHistogram.Snapshot> controllers;
+
+	public GetCycleProfileResponse(UUID id, int windowSeconds, Map<String, SlidingWindowHistogram.Snapshot> phases,
+			Map<String, SlidingWindowHistogram.Snapshot> events,
+			Map<String, SlidingWindowHistogram.Snapshot> controllers) {
+		super(id);
+		this.windowSeconds = windowSeconds;
+		this.phases = phases;
+		this.events = events;
+		this.controllers = controllers;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("windowSeconds", this.windowSeconds) //
+				.add("phases", toJson(this.phases)) //
+				.add("events", toJson(this.events)) //
+				.add("controllers", toJson(this.controllers)) //
+				.build();
+	}
+
+	private static JsonObject toJson(Map<String, SlidingWindowHistogram.Snapshot> snapshots) {
+		var result = new JsonObject();
+		snapshots.forEach((key, snapshot) -> {
+			result.add(key, JsonUtils.buildJsonObject() //
+					.addProperty("count", snapshot.getCount()) //
+					.addProperty("p50", toMillis(snapshot.getValueAtPercentile(50))) //
+					.addProperty("p90", toMillis(snapshot.getValueAtPercentile(90))) //
+					.addProperty("p99", toMillis(snapshot.getValueAtPercentile(99))) //
+					.addProperty("max", toMillis(snapshot.getMax())) //
+					.build());
+		});
+		return result;
+	}
+
+	private static double toMillis(long micros) {
+		return micros / 1_000.;
+	}
+
+}
@@ -0,0 +1,140 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * Executes the Controllers of one Cycle on a bounded thread pool.
+ *
+ * <p>
+ * A Controller waits for all preceding Controllers (in Scheduler order) whose
+ * write targets overlap with its own. Controllers that do not declare their
+ * write targets (see {@link Controller#getWriteTargets()}) act as barriers,
+ * i.e. they wait for all preceding Controllers and all following Controllers
+ * wait for them. If all Controllers are barriers, they are executed serially
+ * on the calling thread.
+ */
+public class ParallelControllerExecutor {
+
+	private final ExecutorService executor;
+
+	/**
+	 * Falls back to running on the submitting thread if the executor was shut
+	 * down, so that no Controller is skipped.
+	 */
+	private final Executor callerRunsOnReject;
+
+	/**
+	 * Builds a {@link ParallelControllerExecutor}.
+	 *
+	 * @param threads the number of threads
+	 */
+	public ParallelControllerExecutor(int threads) {
+		this.executor = Executors.newFixedThreadPool(Math.max(1, threads),
+				new ThreadFactoryBuilder().setNameFormat("Cycle-Controller-%d").setDaemon(true).build());
+		this.callerRunsOnReject = command -> {
+			try {
+				this.executor.execute(command);
+			} catch (RejectedExecutionException e) {
+				command.run();
+			}
+		};
+	}
+
+	/**
+	 * Executes the Controllers and waits till all of them finished.
+	 *
+	 * @param controllers the Controllers in Scheduler order
+	 * @param runner      runs one Controller; expected to handle all exceptions
+	 */
+	public void execute(List<Controller> controllers, Consumer<Controller> runner) {
+		var size = controllers.size();
+		var writeTargets = new ArrayList<Set<ChannelAddress>>(size);
+		var hasDeclaredWriteTargets = false;
+		for (var controller : controllers) {
+			var targets = controller.getWriteTargets();
+			writeTargets.add(targets);
+			hasDeclaredWriteTargets |= targets != null;
+		}
+		if (size < 2 || !hasDeclaredWriteTargets) {
+			controllers.forEach(runner);
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		CompletableFuture<Void>[] futures = new CompletableFuture[size];
+		for (var i = 0; i < size; i++) {
+			var controller = controllers.get(i);
+			var dependencies = new ArrayList<CompletableFuture<Void>>();
+			for (var j = 0; j < i; j++) {
+				if (controllers.get(j) == controller || conflicts(writeTargets.get(i), writeTargets.get(j))) {
+					dependencies.add(futures[j]);
+				}
+			}
+			Runnable task = () -> runner.accept(controller);
+			if (dependencies.isEmpty()) {
+				futures[i] = CompletableFuture.runAsync(task, this.callerRunsOnReject);
+			} else {
+				// Run even if a dependency failed, to keep the serial semantics
+				futures[i] = CompletableFuture
+						.allOf(dependencies.toArray(new CompletableFuture[dependencies.size()])) //
+						.handleAsync((r, e) -> {
+							task.run();
+							return null;
+						}, this.callerRunsOnReject);
+			}
+		}
+
+		for (var future : futures) {
+			try {
+				future.join();
+			} catch (RuntimeException e) {
+				// Errors are handled by the runner
+			}
+		}
+	}
+
+	/**
+	 * Shuts down the thread pool. Running Controllers are not interrupted.
+	 */
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+
+	/**
+	 * Checks if two sets of write targets overlap.
+	 *
+	 * @param a the first write targets; null if unknown
+	 * @param b the second write targets; null if unknown
+	 * @return true if they overlap or if either is unknown
+	 */
+	protected static boolean conflicts(Set<ChannelAddress> a, Set<ChannelAddress> b) {
+		if (a == null || b == null) {
+			return true;
+		}
+		for (var x : a) {
+			for (var y : b) {
+				if (x.getComponentId().equals(y.getComponentId()) //
+						&& (x.getChannelId().equals(y.getChannelId()) //
+								|| Controller.ALL_CHANNELS.equals(x.getChannelId())
+								|| Controller.ALL_CHANNELS.equals(y.getChannelId()))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
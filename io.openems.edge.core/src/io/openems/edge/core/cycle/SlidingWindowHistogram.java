@@ -0,0 +1,241 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+
+/**
+ * A latency histogram over a sliding time window.
+ *
+ * <p>
+ * Values are recorded in microseconds into power-of-two buckets with 16 linear
+ * sub-buckets each (similar to an HDR histogram), i.e. with a relative error of
+ * at most 1/16. The window is split into slots; the oldest slot is cleared when
+ * the window moves on.
+ *
+ * <p>
+ * Recording does not allocate any objects.
+ */
+public class SlidingWindowHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** Highest trackable exponent: 2^35 us = ~9.5 hours. */
+	private static final int MAX_EXPONENT = 35;
+	private static final int NUMBER_OF_BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+	private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+	/**
+	 * An immutable snapshot of a {@link SlidingWindowHistogram}.
+	 */
+	public static class Snapshot {
+
+		private final long[] counts;
+		private final long totalCount;
+		private final long max;
+
+		private Snapshot(long[] counts, long totalCount, long max) {
+			this.counts = counts;
+			this.totalCount = totalCount;
+			this.max = max;
+		}
+
+		/**
+		 * Gets the number of recorded values.
+		 *
+		 * @return the count
+		 */
+		public long getCount() {
+			return this.totalCount;
+		}
+
+		/**
+		 * Gets the maximum recorded value.
+		 *
+		 * @return the value in [us]; 0 if nothing was recorded
+		 */
+		public long getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Gets the value at the given percentile, i.e. the highest value of the
+		 * bucket that holds the percentile.
+		 *
+		 * @param percentile the percentile in [0, 100]
+		 * @return the value in [us]; 0 if nothing was recorded
+		 */
+		public long getValueAtPercentile(double percentile) {
+			return valueAtPercentile(this.counts, this.totalCount, this.max, percentile);
+		}
+	}
+
+	private final long slotNanos;
+	private final long[][] counts;
+	private final long[] totalCounts;
+	private final long[] maxs;
+	private final long[] slotEpochs;
+
+	/**
+	 * Builds a {@link SlidingWindowHistogram}.
+	 *
+	 * @param windowSeconds the length of the window in [s]
+	 * @param numberOfSlots the number of slots the window is split into
+	 */
+	public SlidingWindowHistogram(int windowSeconds, int numberOfSlots) {
+		this.slotNanos = Math.max(1, windowSeconds * 1_000_000_000L / numberOfSlots);
+		this.counts = new long[numberOfSlots][NUMBER_OF_BUCKETS];
+		this.totalCounts = new long[numberOfSlots];
+		this.maxs = new long[numberOfSlots];
+		this.slotEpochs = new long[numberOfSlots];
+		Arrays.fill(this.slotEpochs, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param durationNanos the duration in [ns]
+	 * @param nowNanos      the current {@link System#nanoTime()}
+	 */
+	public synchronized void record(long durationNanos, long nowNanos) {
+		var value = Math.min(Math.max(durationNanos / 1_000, 0), MAX_VALUE);
+		var epoch = Math.floorDiv(nowNanos, this.slotNanos);
+		var slot = (int) Math.floorMod(epoch, (long) this.slotEpochs.length);
+		if (this.slotEpochs[slot] != epoch) {
+			Arrays.fill(this.counts[slot], 0L);
+			this.totalCounts[slot] = 0;
+			this.maxs[slot] = 0;
+			this.slotEpochs[slot] = epoch;
+		}
+		this.counts[slot][bucketIndex(value)]++;
+		this.totalCounts[slot]++;
+		if (value > this.maxs[slot]) {
+			this.maxs[slot] = value;
+		}
+	}
+
+	/**
+	 * Gets the value at the given percentile within the current window, without
+	 * allocating objects.
+	 *
+	 * @param percentile the percentile in [0, 100]
+	 * @param nowNanos   the current {@link System#nanoTime()}
+	 * @return the value in [us]; 0 if nothing was recorded
+	 */
+	public synchronized long getValueAtPercentile(double percentile, long nowNanos) {
+		var minEpoch = this.getMinEpoch(nowNanos);
+		var totalCount = 0L;
+		var max = 0L;
+		for (var slot = 0; slot < this.slotEpochs.length; slot++) {
+			if (this.slotEpochs[slot] >= minEpoch) {
+				totalCount += this.totalCounts[slot];
+				max = Math.max(max, this.maxs[slot]);
+			}
+		}
+		if (totalCount == 0) {
+			return 0;
+		}
+		var rank = rank(totalCount, percentile);
+		var count = 0L;
+		for (var bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+			for (var slot = 0; slot < this.slotEpochs.length; slot++) {
+				if (this.slotEpochs[slot] >= minEpoch) {
+					count += this.counts[slot][bucket];
+				}
+			}
+			if (count >= rank) {
+				return Math.min(highestValueInBucket(bucket), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Gets the maximum value within the current window.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return the value in [us]; 0 if nothing was recorded
+	 */
+	public synchronized long getMax(long nowNanos) {
+		var minEpoch = this.getMinEpoch(nowNanos);
+		var max = 0L;
+		for (var slot = 0; slot < this.slotEpochs.length; slot++) {
+			if (this.slotEpochs[slot] >= minEpoch) {
+				max = Math.max(max, this.maxs[slot]);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Creates a {@link Snapshot} of the current window.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return the {@link Snapshot}
+	 */
+	public synchronized Snapshot getSnapshot(long nowNanos) {
+		var minEpoch = this.getMinEpoch(nowNanos);
+		var counts = new long[NUMBER_OF_BUCKETS];
+		var totalCount = 0L;
+		var max = 0L;
+		for (var slot = 0; slot < this.slotEpochs.length; slot++) {
+			if (this.slotEpochs[slot] < minEpoch) {
+				continue;
+			}
+			for (var bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+				counts[bucket] += this.counts[slot][bucket];
+			}
+			totalCount += this.totalCounts[slot];
+			max = Math.max(max, this.maxs[slot]);
+		}
+		return new Snapshot(counts, totalCount, max);
+	}
+
+	private long getMinEpoch(long nowNanos) {
+		return Math.floorDiv(nowNanos, this.slotNanos) - this.slotEpochs.length + 1;
+	}
+
+	private static long valueAtPercentile(long[] counts, long totalCount, long max, double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		var rank = rank(totalCount, percentile);
+		var count = 0L;
+		for (var bucket = 0; bucket < counts.length; bucket++) {
+			count += counts[bucket];
+			if (count >= rank) {
+				return Math.min(highestValueInBucket(bucket), max);
+			}
+		}
+		return max;
+	}
+
+	private static long rank(long totalCount, double percentile) {
+		var p = Math.min(Math.max(percentile, 0.), 100.);
+		return Math.max(1, (long) Math.ceil(p / 100. * totalCount));
+	}
+
+	protected static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		var exponent = 63 - Long.numberOfLeadingZeros(value);
+		var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	protected static long lowestValueInBucket(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		var exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		var subBucket = index % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	protected static long highestValueInBucket(int index) {
+		if (index + 1 >= NUMBER_OF_BUCKETS) {
+			return MAX_VALUE;
+		}
+		return lowestValueInBucket(index + 1) - 1;
+	}
+
+}
@@ -0,0 +1,145 @@
+package io.openems.edge.core.user;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.openems.edge.common.user.User;
+
+/**
+ * Caches successfully verified credentials for a short time, so that repeated
+ * requests with the same credentials do not need to run the expensive PBKDF2
+ * password hashing again.
+ *
+ * <p>
+ * Credentials are never stored in plain text: every entry holds an HMAC-SHA256
+ * digest of the credentials with a random key that is created per instance.
+ * Lookups compare the digest against every entry in constant time. Failed
+ * authentications are never cached.
+ */
+public class CredentialCache {
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+	public static final int DEFAULT_MAX_SIZE = 32;
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int KEY_LENGTH = 32;
+
+	private static class Entry {
+		private final byte[] digest;
+		private final User user;
+		private final Instant expiresAt;
+
+		private Entry(byte[] digest, User user, Instant expiresAt) {
+			this.digest = digest;
+			this.user = user;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private final Clock clock;
+	private final Duration timeToLive;
+	private final int maxSize;
+	private final Mac mac;
+
+	/**
+	 * Entries ordered by insertion; the oldest entry is evicted first.
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+
+	public CredentialCache(Clock clock) {
+		this(clock, DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_SIZE);
+	}
+
+	public CredentialCache(Clock clock, Duration timeToLive, int maxSize) {
+		this.clock = clock;
+		this.timeToLive = timeToLive;
+		this.maxSize = maxSize;
+		var key = new byte[KEY_LENGTH];
+		new SecureRandom().nextBytes(key);
+		try {
+			this.mac = Mac.getInstance(ALGORITHM);
+			this.mac.init(new SecretKeySpec(key, ALGORITHM));
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the {@link User} for previously verified credentials.
+	 *
+	 * @param username the username; null for authentication with password only
+	 * @param password the password
+	 * @return the {@link User}; empty if the credentials are not cached or expired
+	 */
+	public synchronized Optional<User> get(String username, String password) {
+		var digest = this.digest(username, password);
+		var now = Instant.now(this.clock);
+		this.entries.removeIf(e -> !e.expiresAt.isAfter(now));
+		User result = null;
+		for (Entry entry : this.entries) {
+			// check every entry to not leak the position via timing
+			if (MessageDigest.isEqual(entry.digest, digest)) {
+				result = entry.user;
+			}
+		}
+		return Optional.ofNullable(result);
+	}
+
+	/**
+	 * Adds successfully verified credentials.
+	 *
+	 * @param username the username; null for authentication with password only
+	 * @param password the password
+	 * @param user     the authenticated {@link User}
+	 */
+	public synchronized void put(String username, String password, User user) {
+		var digest = this.digest(username, password);
+		this.entries.removeIf(e -> MessageDigest.isEqual(e.digest, digest));
+		while (this.entries.size() >= this.maxSize) {
+			this.entries.remove(0);
+		}
+		this.entries.add(new Entry(digest, user, Instant.now(this.clock).plus(this.timeToLive)));
+	}
+
+	/**
+	 * Removes all entries. Must be called whenever the User configuration changes.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Gets the number of cached entries, including expired ones.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	private byte[] digest(String username, String password) {
+		if (username == null) {
+			this.mac.update((byte) 0);
+		} else {
+			var bytes = username.getBytes(StandardCharsets.UTF_8);
+			this.mac.update((byte) 1);
+			this.mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+			this.mac.update(bytes);
+		}
+		return this.mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.edge.core.user;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -36,8 +37,15 @@ public class UserServiceImpl implements UserService {
 	 */
 	private final List<ManagedUser> users = new ArrayList<>();
 
+	/**
+	 * Recently verified credentials. Avoids hashing the password for every
+	 * request of frequently polling clients, e.g. via REST-Api.
+	 */
+	private final CredentialCache credentialCache = new CredentialCache(Clock.systemDefaultZone());
+
 	@Activate
 	void activate(Config config) {
+		this.credentialCache.clear();
 		this.users.add(//
 				new ManagedUser("admin", "Admin", Language.DEFAULT, Role.ADMIN, config.adminPassword(),
 						config.adminSalt()));
@@ -54,15 +62,21 @@ public class UserServiceImpl implements UserService {
 
 	@Deactivate
 	void deactivate() {
+		this.credentialCache.clear();
 	}
 
 	@Override
 	public final Optional<User> authenticate(String username, String password) {
+		var cached = this.credentialCache.get(username, password);
+		if (cached.isPresent()) {
+			return cached;
+		}
 		// Search for user with given username
 		for (ManagedUser user : this.users) {
 			if (username.equals(user.getName())) {
 				if (user.validatePassword(password)) {
 					this.log.info("Authentication successful for user[" + username + "].");
+					this.credentialCache.put(username, password, user);
 					return Optional.of(user);
 				}
 				this.log.info("Authentication failed for user[" + username + "]: wrong password");
@@ -75,10 +89,15 @@ public class UserServiceImpl implements UserService {
 
 	@Override
 	public final Optional<User> authenticate(String password) {
+		var cached = this.credentialCache.get(null, password);
+		if (cached.isPresent()) {
+			return cached;
+		}
 		// Search for any user with the given password
 		for (ManagedUser user : this.users) {
 			if (user.validatePassword(password)) {
 				this.log.info("Authentication successful with password only for user [" + user.getName() + "].");
+				this.credentialCache.put(null, password, user);
 				return Optional.ofNullable(user);
 			}
 		}
@@ -0,0 +1,94 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.test.DummyController;
+
+public class ComponentRegistryTest {
+
+	private static final int NUMBER_OF_COMPONENTS = 250;
+
+	@Test
+	public void testLookups() {
+		var sut = new ComponentRegistry(null);
+		assertTrue(sut.getEnabledComponents().isEmpty());
+		assertNull(sut.getComponent("ctrl0", false));
+
+		var ctrl0 = new DummyController("ctrl0");
+		var ctrl1 = new DummyController("ctrl1");
+		var cycle = new DummyCycle(1000);
+		sut.put("ref0", ctrl0, "ctrl0", true, false);
+		sut.put("ref1", ctrl1, "ctrl1", false, false);
+		sut.put("ref2", cycle, "_cycle", true, false);
+		sut.put("ref3", new DummyController("_componentManager"), "_componentManager", true, true);
+
+		assertEquals(List.of(ctrl0, cycle), sut.getEnabledComponents());
+		assertEquals(List.of(ctrl0, ctrl1, cycle), sut.getAllComponents());
+		assertEquals(List.of(ctrl0), sut.getEnabledComponentsOfType(Controller.class));
+		assertEquals(List.of(cycle), sut.getEnabledComponentsOfType(Cycle.class));
+		assertSame(ctrl0, sut.getComponent("ctrl0", true));
+		assertNull(sut.getComponent("ctrl1", true));
+		assertSame(ctrl1, sut.getComponent("ctrl1", false));
+		assertSame(ctrl1, sut.getComponent("ctrl1", false));
+
+		// Enable ctrl1
+		sut.put("ref1", ctrl1, "ctrl1", true, false);
+		assertEquals(List.of(ctrl0, ctrl1), sut.getEnabledComponentsOfType(Controller.class));
+		assertSame(ctrl1, sut.getComponent("ctrl1", true));
+
+		// Remove ctrl0
+		sut.remove("ref0");
+		assertEquals(List.of(ctrl1, cycle), sut.getEnabledComponents());
+		assertNull(sut.getComponent("ctrl0", false));
+	}
+
+	@Test
+	public void testDuplicatedId() {
+		var sut = new ComponentRegistry(null);
+		var disabled = new DummyController("ctrl0");
+		var enabled = new DummyController("ctrl0");
+		sut.put("ref0", disabled, "ctrl0", false, false);
+		sut.put("ref1", enabled, "ctrl0", true, false);
+		assertSame(enabled, sut.getComponent("ctrl0", true));
+		assertSame(enabled, sut.getComponent("ctrl0", false));
+	}
+
+	/**
+	 * Runs many lookups with {@link #NUMBER_OF_COMPONENTS} Components, e.g. for
+	 * profiling. The previous implementation built an LDAP filter and called
+	 * getServiceReferences/getService/ungetService for every lookup.
+	 */
+	@Ignore
+	@Test
+	public void benchmarkLookups() {
+		var sut = new ComponentRegistry(null);
+		var components = new ArrayList<OpenemsComponent>();
+		for (var i = 0; i < NUMBER_OF_COMPONENTS; i++) {
+			var component = new DummyController("ctrl" + i);
+			components.add(component);
+			sut.put("ref" + i, component, component.id(), true, false);
+		}
+		assertEquals(components, sut.getEnabledComponents());
+
+		final var iterations = 200_000;
+		for (var i = 0; i < iterations; i++) {
+			var index = i % NUMBER_OF_COMPONENTS;
+			assertSame(components.get(index), sut.getComponent("ctrl" + index, true));
+			assertEquals(NUMBER_OF_COMPONENTS, sut.getEnabledComponentsOfType(Controller.class).size());
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.test.DummyController;
+
+public class ParallelControllerExecutorTest {
+
+	private static final int SLEEP = 10; // [ms]
+
+	private static DummyController slowController(String id, List<String> log) {
+		var controller = new DummyController(id);
+		controller.withRunCallback(() -> {
+			try {
+				Thread.sleep(SLEEP);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			log.add(id);
+		});
+		return controller;
+	}
+
+	private static DummyController barrierController(String id, CyclicBarrier barrier, List<String> log) {
+		var controller = new DummyController(id);
+		controller.withRunCallback(() -> {
+			try {
+				// Passes only if all Controllers run at the same time
+				barrier.await(10, TimeUnit.SECONDS);
+				log.add(id);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (BrokenBarrierException | TimeoutException e) {
+				// Controllers did not overlap
+			}
+		});
+		return controller;
+	}
+
+	@Test
+	public void testConflicts() {
+		var a = new ChannelAddress("ess0", "SetActivePowerEquals");
+		var b = new ChannelAddress("ess0", "SetReactivePowerEquals");
+		var all = new ChannelAddress("ess0", Controller.ALL_CHANNELS);
+		var other = new ChannelAddress("io0", "Relay1");
+
+		assertTrue(ParallelControllerExecutor.conflicts(Set.of(a), Set.of(a)));
+		assertFalse(ParallelControllerExecutor.conflicts(Set.of(a), Set.of(b)));
+		assertTrue(ParallelControllerExecutor.conflicts(Set.of(a), Set.of(all)));
+		assertFalse(ParallelControllerExecutor.conflicts(Set.of(all), Set.of(other)));
+		assertTrue(ParallelControllerExecutor.conflicts(null, Set.of(other)));
+		assertFalse(ParallelControllerExecutor.conflicts(Set.of(), Set.of(other)));
+	}
+
+	@Test
+	public void testIndependentControllersRunConcurrently() {
+		var sut = new ParallelControllerExecutor(4);
+		try {
+			var log = new CopyOnWriteArrayList<String>();
+			var barrier = new CyclicBarrier(4);
+			var controllers = List.<Controller>of(//
+					barrierController("ctrl0", barrier, log)
+							.withWriteTargets(new ChannelAddress("evcs0", "SetChargePower")), //
+					barrierController("ctrl1", barrier, log)
+							.withWriteTargets(new ChannelAddress("evcs1", "SetChargePower")), //
+					barrierController("ctrl2", barrier, log).withWriteTargets(new ChannelAddress("io0", "Relay1")), //
+					barrierController("ctrl3", barrier, log).withWriteTargets(new ChannelAddress("io0", "Relay2")));
+
+			sut.execute(controllers, c -> runQuietly(c));
+
+			assertFalse(barrier.isBroken());
+			assertEquals(4, log.size());
+		} finally {
+			sut.shutdown();
+		}
+	}
+
+	@Test
+	public void testConflictingControllersKeepOrder() {
+		var sut = new ParallelControllerExecutor(4);
+		try {
+			var log = new CopyOnWriteArrayList<String>();
+			var ess = new ChannelAddress("ess0", Controller.ALL_CHANNELS);
+			var controllers = List.<Controller>of(//
+					slowController("ctrl0", log).withWriteTargets(new ChannelAddress("ess0", "SetActivePowerEquals")), //
+					slowController("ctrl1", log).withWriteTargets(new ChannelAddress("io0", "Relay1")), //
+					slowController("ctrl2", log).withWriteTargets(ess));
+
+			sut.execute(controllers, c -> runQuietly(c));
+
+			assertEquals(3, log.size());
+			assertTrue(log.indexOf("ctrl0") < log.indexOf("ctrl2"));
+		} finally {
+			sut.shutdown();
+		}
+	}
+
+	@Test
+	public void testUndeclaredControllerIsBarrier() {
+		var sut = new ParallelControllerExecutor(4);
+		try {
+			var log = new CopyOnWriteArrayList<String>();
+			var controllers = List.<Controller>of(//
+					slowController("ctrl0", log).withWriteTargets(new ChannelAddress("io0", "Relay1")), //
+					slowController("ctrl1", log), //
+					slowController("ctrl2", log).withWriteTargets(new ChannelAddress("io0", "Relay2")));
+
+			sut.execute(controllers, c -> runQuietly(c));
+
+			assertEquals(List.of("ctrl0", "ctrl1", "ctrl2"), log);
+		} finally {
+			sut.shutdown();
+		}
+	}
+
+	@Test
+	public void testShutdownFallsBackToSerial() {
+		var sut = new ParallelControllerExecutor(4);
+		sut.shutdown();
+		var log = new CopyOnWriteArrayList<String>();
+		var controllers = List.<Controller>of(//
+				slowController("ctrl0", log).withWriteTargets(new ChannelAddress("io0", "Relay1")), //
+				slowController("ctrl1", log).withWriteTargets(new ChannelAddress("io0", "Relay1")));
+
+		sut.execute(controllers, c -> runQuietly(c));
+
+		assertEquals(List.of("ctrl0", "ctrl1"), log);
+	}
+
+	private static void runQuietly(Controller controller) {
+		try {
+			controller.run();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
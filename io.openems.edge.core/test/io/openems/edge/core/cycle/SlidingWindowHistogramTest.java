@@ -0,0 +1,66 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SlidingWindowHistogramTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	public void testBuckets() {
+		for (var value = 0L; value < 100_000; value++) {
+			var index = SlidingWindowHistogram.bucketIndex(value);
+			assertTrue(SlidingWindowHistogram.lowestValueInBucket(index) <= value);
+			assertTrue(SlidingWindowHistogram.highestValueInBucket(index) >= value);
+		}
+		assertEquals(15, SlidingWindowHistogram.bucketIndex(15));
+		assertEquals(16, SlidingWindowHistogram.bucketIndex(16));
+		assertEquals(32, SlidingWindowHistogram.bucketIndex(32));
+		assertEquals(32, SlidingWindowHistogram.bucketIndex(33));
+	}
+
+	@Test
+	public void testPercentiles() {
+		var sut = new SlidingWindowHistogram(60, 6);
+		var now = 1_000 * SECOND;
+		for (var i = 1; i <= 100; i++) {
+			sut.record(i * 1_000_000L /* i ms */, now);
+		}
+		var snapshot = sut.getSnapshot(now);
+		assertEquals(100, snapshot.getCount());
+		assertEquals(100_000, snapshot.getMax());
+		assertWithinPrecision(50_000, snapshot.getValueAtPercentile(50));
+		assertWithinPrecision(99_000, snapshot.getValueAtPercentile(99));
+		assertEquals(100_000, snapshot.getValueAtPercentile(100));
+
+		// Allocation-free accessors match the snapshot
+		assertEquals(snapshot.getValueAtPercentile(99), sut.getValueAtPercentile(99, now));
+		assertEquals(100_000, sut.getMax(now));
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		var sut = new SlidingWindowHistogram(60, 6);
+		var now = 1_000 * SECOND;
+		sut.record(500_000_000L /* 500 ms */, now);
+		sut.record(1_000_000L /* 1 ms */, now + 30 * SECOND);
+		assertEquals(500_000, sut.getMax(now + 30 * SECOND));
+		assertEquals(2, sut.getSnapshot(now + 30 * SECOND).getCount());
+
+		// First value left the window
+		assertEquals(1_000, sut.getMax(now + 61 * SECOND));
+		assertEquals(1, sut.getSnapshot(now + 61 * SECOND).getCount());
+
+		// All values left the window
+		assertEquals(0, sut.getMax(now + 200 * SECOND));
+		assertEquals(0, sut.getValueAtPercentile(99, now + 200 * SECOND));
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue("Expected " + expected + " got " + actual, Math.abs(expected - actual) <= expected / 16);
+	}
+
+}
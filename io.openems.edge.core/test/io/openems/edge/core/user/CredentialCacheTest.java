@@ -0,0 +1,58 @@
+package io.openems.edge.core.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+import io.openems.edge.common.test.TimeLeapClock;
+import io.openems.edge.common.user.ManagedUser;
+
+public class CredentialCacheTest {
+
+	private static ManagedUser createUser(String name, String password) {
+		var salt = name.getBytes();
+		return new ManagedUser(name, name, Language.DEFAULT, Role.ADMIN,
+				ManagedUser.hashPassword(password, salt, ManagedUser.ITERATIONS, ManagedUser.KEY_LENGTH), salt);
+	}
+
+	@Test
+	public void test() {
+		var clock = new TimeLeapClock();
+		var sut = new CredentialCache(clock, Duration.ofMinutes(5), 2);
+		var admin = createUser("admin", "admin");
+		var guest = createUser("guest", "user");
+
+		assertFalse(sut.get("admin", "admin").isPresent());
+		sut.put("admin", "admin", admin);
+		sut.put(null, "user", guest);
+		assertSame(admin, sut.get("admin", "admin").get());
+		assertSame(guest, sut.get(null, "user").get());
+
+		// Username and password are distinguished
+		assertFalse(sut.get("admin", "wrong").isPresent());
+		assertFalse(sut.get(null, "admin").isPresent());
+		assertFalse(sut.get("adminuser", "").isPresent());
+
+		// Bounded size: oldest entry is evicted
+		sut.put("guest", "user", guest);
+		assertEquals(2, sut.size());
+		assertFalse(sut.get("admin", "admin").isPresent());
+
+		// Entries expire
+		clock.leap(5, ChronoUnit.MINUTES);
+		assertFalse(sut.get(null, "user").isPresent());
+		assertEquals(0, sut.size());
+
+		sut.put("guest", "user", guest);
+		sut.clear();
+		assertFalse(sut.get("guest", "user").isPresent());
+	}
+
+}
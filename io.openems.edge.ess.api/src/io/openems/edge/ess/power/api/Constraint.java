@@ -93,6 +93,18 @@ public class Constraint {
 		return this.value;
 	}
 
+	/**
+	 * Sets the value of the Constraint.
+	 *
+	 * <p>
+	 * If the Constraint was already added to the Power Component, the minimum and
+	 * maximum power of the ESS (e.g. {@link Power#getMaxPower}) may still reflect
+	 * the previous value until any Constraint is added or removed, at the latest
+	 * until the next Cycle. Remove and add the Constraint to apply the change
+	 * immediately.
+	 *
+	 * @param value the new value
+	 */
 	public void setValue(double value) {
 		this.value = Optional.ofNullable(value);
 	}
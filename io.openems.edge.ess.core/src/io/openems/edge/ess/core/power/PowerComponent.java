@@ -63,7 +63,40 @@ public interface PowerComponent extends OpenemsComponent, EventHandler, Power {
 		 * <li>Type: Boolean
 		 * </ul>
 		 */
-		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT));
+		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT)),
+		/**
+		 * Number of Min-/Max-Power queries in the last Cycle that were served from
+		 * cache.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_HITS(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Number of Min-/Max-Power queries in the last Cycle that required solving.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_MISSES(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Estimated time saved by the Min-/Max-Power cache in the last Cycle.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_SAVED_TIME(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
 
@@ -153,4 +186,62 @@ public interface PowerComponent extends OpenemsComponent, EventHandler, Power {
 		this.getStaticConstraintsFailedChannel().setNextValue(value);
 	}
 
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheHitsChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_HITS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheHits(int value) {
+		this.getExtremaCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheMissesChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheMisses(int value) {
+		this.getExtremaCacheMissesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_SAVED_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheSavedTimeChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_SAVED_TIME);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_SAVED_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheSavedTime(int value) {
+		this.getExtremaCacheSavedTimeChannel().setNextValue(value);
+	}
+
 }
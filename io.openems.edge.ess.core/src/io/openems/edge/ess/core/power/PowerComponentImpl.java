@@ -1,7 +1,5 @@
 package io.openems.edge.ess.core.power;
 
-import java.util.List;
-
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -31,7 +29,7 @@ import io.openems.edge.common.filter.PidFilter;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
-import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.PowerExtremaCache;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -49,6 +47,7 @@ import io.openems.edge.ess.power.api.Relationship;
 				"enabled=true" //
 		})
 @EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, //
 		EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 })
@@ -62,6 +61,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 
 	private final Data data;
 	private final Solver solver;
+	private final PowerExtremaCache extremaCache;
 
 	private boolean debugMode = PowerComponentImpl.DEFAULT_DEBUG_MODE;
 
@@ -82,6 +82,8 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 			this._setSolveDuration(duration);
 			this._setSolveStrategy(strategy);
 		});
+		this.extremaCache = new PowerExtremaCache(this.data.getCoefficients(),
+				this.data::getConstraintsForAllInverters);
 	}
 
 	@Activate
@@ -112,6 +114,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 
 	private void updateConfig(Config config) {
 		this.data.setSymmetricMode(config.symmetricMode());
+		this.extremaCache.invalidate();
 		this.debugMode = config.debugMode();
 		this.solver.setDebugMode(config.debugMode());
 		this.config = config;
@@ -133,25 +136,30 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 			target = "(enabled=true)")
 	protected synchronized void addEss(ManagedSymmetricEss ess) {
 		this.data.addEss(ess);
+		this.extremaCache.invalidate();
 	}
 
 	protected synchronized void removeEss(ManagedSymmetricEss ess) {
 		this.data.removeEss(ess);
+		this.extremaCache.invalidate();
 	}
 
 	@Override
 	public synchronized Constraint addConstraint(Constraint constraint) {
 		this.data.addConstraint(constraint);
+		this.extremaCache.invalidate();
 		return constraint;
 	}
 
 	@Override
 	public synchronized Constraint addConstraintAndValidate(Constraint constraint) throws OpenemsException {
 		this.data.addConstraint(constraint);
+		this.extremaCache.invalidate();
 		try {
 			this.solver.isSolvableOrError();
 		} catch (OpenemsException e) {
 			this.data.removeConstraint(constraint);
+			this.extremaCache.invalidate();
 			if (this.debugMode) {
 				var allConstraints = this.data.getConstraintsForAllInverters();
 				LogUtil.debugLogConstraints(this.log, "Unable to validate with following constraints:", allConstraints);
@@ -183,6 +191,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	@Override
 	public void removeConstraint(Constraint constraint) {
 		this.data.removeConstraint(constraint);
+		this.extremaCache.invalidate();
 	}
 
 	@Override
@@ -196,14 +205,13 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	}
 
 	private int getActivePowerExtrema(ManagedSymmetricEss ess, Phase phase, Pwr pwr, GoalType goal) {
-		final List<Constraint> allConstraints;
+		final double power;
 		try {
-			allConstraints = this.data.getConstraintsForAllInverters();
+			power = this.extremaCache.get(ess.id(), phase, pwr, goal);
 		} catch (OpenemsException e) {
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
@@ -218,15 +226,28 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	@Override
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			// ESS Constraints depend on Channel values
+			this.extremaCache.invalidate();
+			break;
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE:
+			this.updateExtremaCacheChannels();
 			this.solver.solve(this.config.strategy());
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE:
 			this.data.initializeCycle();
+			this.extremaCache.invalidate();
 			break;
 		}
 	}
 
+	private void updateExtremaCacheChannels() {
+		var statistics = this.extremaCache.getAndResetStatistics();
+		this._setExtremaCacheHits(statistics.getHits());
+		this._setExtremaCacheMisses(statistics.getMisses());
+		this._setExtremaCacheSavedTime((int) (statistics.getSavedNanos() / 1_000_000));
+	}
+
 	/**
 	 * Gets the Ess component with the given ID.
 	 *
@@ -1,6 +1,7 @@
 package io.openems.edge.ess.core.power;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,7 @@ import io.openems.common.function.ThrowingFunction;
 import io.openems.edge.ess.api.ManagedAsymmetricEss;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.InverterPrecision;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.data.TargetDirection;
@@ -27,7 +29,8 @@ import io.openems.edge.ess.core.power.optimizers.KeepAllEqual;
 import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeInOrder;
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
-import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.ClosedFormSolver;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -43,6 +46,7 @@ public class Solver {
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Data data;
 	private final Optimizers optimizers = new Optimizers();
+	private final IncrementalSolver incrementalSolver;
 
 	private boolean debugMode = PowerComponent.DEFAULT_DEBUG_MODE;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
@@ -50,11 +54,20 @@ public class Solver {
 
 	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
 
+	/**
+	 * Constraints for all Inverters of the current {@link #solve(SolverStrategy)}
+	 * run; created only once and shared by all feasibility checks.
+	 */
+	private List<Constraint> constraintsForAllInverters = Collections.emptyList();
+
 	public Solver(Data data) {
 		this.data = data;
+		this.incrementalSolver = new IncrementalSolver(data.getCoefficients());
 
 		/**
-		 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
+		 * Checks whether the problem is solvable, while setting all DisabledInverters
+		 * to EQUALS zero. Only the EQUALS zero Constraints are added to the
+		 * Constraints for all Inverters of the current run.
 		 *
 		 * @param disabledInverters a list of disabled inverters
 		 * @return a solution
@@ -63,8 +76,10 @@ public class Solver {
 		 * @throws OpenemsException
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
-			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			var constraints = ConstraintUtil.createDisableConstraintsForInactiveInverters(this.data.getCoefficients(),
+					disabledInverters);
+			constraints.addAll(this.constraintsForAllInverters);
+			return this.incrementalSolver.findFeasibleSolution(constraints);
 		};
 	}
 
@@ -84,7 +99,7 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			this.incrementalSolver.findFeasibleSolution(this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -99,7 +114,7 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			this.incrementalSolver.findFeasibleSolution(this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -121,6 +136,8 @@ public class Solver {
 
 		// No Inverters -> nothing to do
 		if (this.data.getInverters().isEmpty()) {
+			// still forget the converted Constraints of this Cycle
+			this.incrementalSolver.nextCycle(null);
 			this.onSolvedCallback.accept(true, 0, SolverStrategy.NONE);
 			return;
 		}
@@ -134,57 +151,68 @@ public class Solver {
 			// Check if the Problem is solvable at all.
 			allConstraints = this.data.getConstraintsForAllInverters();
 
-			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			// Try to solve without linear optimisation, e.g. for a single Inverter
+			var closedFormSolution = this.debugMode ? null
+					: ClosedFormSolver.solve(this.data.getCoefficients(), allInverters, allConstraints);
+			if (closedFormSolution != null) {
+				targetDirection = closedFormSolution.getTargetDirection();
+				solution = new SolveSolution(getSolvedBy(strategy), closedFormSolution.getPoints());
 
-			// Print log with currently active EQUALS != 0 Constraints
-			if (this.debugMode) {
-				this.log.info("Currently active EQUALS constraints");
-				for (Constraint c : allConstraints) {
-					if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
-						this.log.info("- " + c.toString());
+			} else {
+				this.constraintsForAllInverters = new ArrayList<>(allConstraints);
+
+				// Add Strict constraints if required
+				AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
+						allConstraints, this.incrementalSolver);
+
+				// Print log with currently active EQUALS != 0 Constraints
+				if (this.debugMode) {
+					this.log.info("Currently active EQUALS constraints");
+					for (Constraint c : allConstraints) {
+						if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
+							this.log.info("- " + c.toString());
+						}
 					}
 				}
-			}
-
-			// Evaluates whether it is a CHARGE or DISCHARGE problem.
-			targetDirection = TargetDirection.from(//
-					this.data.getInverters(), //
-					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
-			);
-
-			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
-			// solve the Problem.
-			var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
-					this.solveWithDisabledInverters);
-
-			switch (strategy) {
-			case UNDEFINED:
-			case ALL_CONSTRAINTS:
-			case NONE:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
-				break;
-
-			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
-				break;
-
-			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
 
-			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
+				// Evaluates whether it is a CHARGE or DISCHARGE problem.
+				targetDirection = TargetDirection.from(//
+						this.data.getInverters(), //
+						this.data.getCoefficients(), //
+						new ArrayList<>(this.constraintsForAllInverters) //
+				);
+
+				// Gets the target-Inverters, i.e. the Inverters that are minimally required to
+				// solve the Problem.
+				var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
+						this.solveWithDisabledInverters);
+
+				switch (strategy) {
+				case UNDEFINED:
+				case ALL_CONSTRAINTS:
+				case NONE:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
+					break;
+
+				case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
+					solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+				}
 			}
 
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
@@ -198,6 +226,10 @@ public class Solver {
 			this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
 		}
 
+		// keep the solution as starting point for the next Cycle
+		this.constraintsForAllInverters = Collections.emptyList();
+		this.incrementalSolver.nextCycle(solution.getPoints() == null ? null : solution.getPoints().getPoint());
+
 		// finish time measure (in milliseconds)
 		var duration = (int) (System.nanoTime() - startTime) / 1_000_000;
 
@@ -244,7 +276,7 @@ public class Solver {
 			case NONE:
 				break;
 			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+				solution = this.incrementalSolver.solve(allConstraints);
 				break;
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
 				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
@@ -264,13 +296,35 @@ public class Solver {
 			}
 		}
 		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		solution = this.incrementalSolver.solve(allConstraints);
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
 		return new SolveSolution(SolverStrategy.NONE, null);
 	}
 
+	/**
+	 * Gets the {@link SolverStrategy} that is reported for a solution that was not
+	 * found by linear optimisation; i.e. the first strategy that would have been
+	 * tried for the given strategy.
+	 *
+	 * @param strategy the configured {@link SolverStrategy}
+	 * @return the {@link SolverStrategy}
+	 */
+	private static SolverStrategy getSolvedBy(SolverStrategy strategy) {
+		switch (strategy) {
+		case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
+		case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
+		case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
+			return strategy;
+		case UNDEFINED:
+		case ALL_CONSTRAINTS:
+		case NONE:
+		default:
+			return SolverStrategy.ALL_CONSTRAINTS;
+		}
+	}
+
 	private Map<Inverter, PowerTuple> getZeroSolution(List<Inverter> allInverters) {
 		Map<Inverter, PowerTuple> result = new HashMap<>();
 		for (Inverter inv : allInverters) {
@@ -24,30 +24,45 @@ public class LinearSolverUtil {
 			List<Constraint> constraints) {
 		List<LinearConstraint> result = new ArrayList<>();
 		for (Constraint c : constraints) {
-			if (c.getValue().isPresent()) {
-				var cos = generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
-				for (LinearCoefficient co : c.getCoefficients()) {
-					// TODO verify, that ESS is enabled
-					cos[co.getCoefficient().getIndex()] = co.getValue();
-				}
-				org.apache.commons.math3.optim.linear.Relationship relationship = null;
-				switch (c.getRelationship()) {
-				case EQUALS:
-					relationship = org.apache.commons.math3.optim.linear.Relationship.EQ;
-					break;
-				case GREATER_OR_EQUALS:
-					relationship = org.apache.commons.math3.optim.linear.Relationship.GEQ;
-					break;
-				case LESS_OR_EQUALS:
-					relationship = org.apache.commons.math3.optim.linear.Relationship.LEQ;
-					break;
-				}
-				result.add(new LinearConstraint(cos, relationship, c.getValue().get()));
+			var linearConstraint = convertToLinearConstraint(coefficients, c);
+			if (linearConstraint != null) {
+				result.add(linearConstraint);
 			}
 		}
 		return result;
 	}
 
+	/**
+	 * Gets a Constraint converted to a Linear Constraint.
+	 *
+	 * @param coefficients the data object
+	 * @param c            the Constraint
+	 * @return the LinearConstraint; null if the Constraint is disabled
+	 */
+	public static LinearConstraint convertToLinearConstraint(Coefficients coefficients, Constraint c) {
+		if (!c.getValue().isPresent()) {
+			return null;
+		}
+		var cos = generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
+		for (LinearCoefficient co : c.getCoefficients()) {
+			// TODO verify, that ESS is enabled
+			cos[co.getCoefficient().getIndex()] = co.getValue();
+		}
+		org.apache.commons.math3.optim.linear.Relationship relationship = null;
+		switch (c.getRelationship()) {
+		case EQUALS:
+			relationship = org.apache.commons.math3.optim.linear.Relationship.EQ;
+			break;
+		case GREATER_OR_EQUALS:
+			relationship = org.apache.commons.math3.optim.linear.Relationship.GEQ;
+			break;
+		case LESS_OR_EQUALS:
+			relationship = org.apache.commons.math3.optim.linear.Relationship.LEQ;
+			break;
+		}
+		return new LinearConstraint(cos, relationship, c.getValue().get());
+	}
+
 	/**
 	 * Gets an empty coefficients array required for linear solver.
 	 *
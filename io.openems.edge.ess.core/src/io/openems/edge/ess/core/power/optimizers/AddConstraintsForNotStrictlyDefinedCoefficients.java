@@ -13,7 +13,7 @@ import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
-import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -27,15 +27,15 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 	 * Adds Constraints for not strictly defined Coefficients, e.g. if only a P <= X
 	 * is defined, but no P = X.
 	 *
-	 * @param allInverters   a list of all {@link Inverter}s
-	 * @param coefficients   the {@link Coefficients}
-	 * @param allConstraints a list of all {@link Constraint}s
+	 * @param allInverters      a list of all {@link Inverter}s
+	 * @param coefficients      the {@link Coefficients}
+	 * @param allConstraints    a list of all {@link Constraint}s
+	 * @param incrementalSolver the {@link IncrementalSolver}
 	 * @throws OpenemsException on error
 	 */
-	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints)
-			throws OpenemsException {
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
+	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints,
+			IncrementalSolver incrementalSolver) throws OpenemsException {
+		var constraints = new LinearConstraintSet(incrementalSolver.convertToLinearConstraints(allConstraints));
 
 		for (Pwr pwr : Pwr.values()) {
 			// prepare objective function
@@ -130,7 +130,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			allConstraints.addAll(newConstraints);
 			for (Constraint constraint : newConstraints) {
 				try {
-					ConstraintSolver.solve(coefficients, allConstraints);
+					incrementalSolver.findFeasibleSolution(allConstraints);
 					break;
 				} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 					// Unable to add Constraint
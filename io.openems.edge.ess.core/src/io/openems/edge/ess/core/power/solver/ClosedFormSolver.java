@@ -0,0 +1,224 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.optim.PointValuePair;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.core.power.data.TargetDirection;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Inverter;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Solves the problem for a single symmetric {@link Inverter} without a linear
+ * optimisation.
+ *
+ * <p>
+ * With only one {@link Inverter} in Symmetric-Mode the problem has exactly two
+ * variables: ActivePower and ReactivePower. All Constraints are half-planes in
+ * this two-dimensional space, so the feasible region is a convex polygon whose
+ * vertices are the intersections of the Constraint boundaries. The ranges of
+ * ActivePower and ReactivePower are taken from these vertices and the target
+ * values are selected exactly like in
+ * AddConstraintsForNotStrictlyDefinedCoefficients, i.e. the value closest to
+ * zero within each range.
+ *
+ * <p>
+ * If the problem is infeasible or unbounded this solver returns null and the
+ * caller falls back to the linear optimisation.
+ */
+public class ClosedFormSolver {
+
+	/**
+	 * Tolerance for checking a point against the Constraints. Matches the default
+	 * epsilon of the Simplex solver.
+	 */
+	private static final double EPSILON = 1e-6;
+
+	/**
+	 * Artificial bounds to detect unbounded problems.
+	 */
+	private static final double BOUND = 1e12;
+
+	/**
+	 * The solution of the {@link ClosedFormSolver}.
+	 */
+	public static class Solution {
+
+		private final TargetDirection targetDirection;
+		private final PointValuePair points;
+
+		private Solution(TargetDirection targetDirection, PointValuePair points) {
+			this.targetDirection = targetDirection;
+			this.points = points;
+		}
+
+		public TargetDirection getTargetDirection() {
+			return this.targetDirection;
+		}
+
+		public PointValuePair getPoints() {
+			return this.points;
+		}
+	}
+
+	/**
+	 * A half-plane of the form a * ActivePower + b * ReactivePower &lt;= c.
+	 */
+	private static class HalfPlane {
+		private final double a;
+		private final double b;
+		private final double c;
+
+		private HalfPlane(double a, double b, double c) {
+			this.a = a;
+			this.b = b;
+			this.c = c;
+		}
+
+		private boolean contains(double p, double q) {
+			return this.a * p + this.b * q <= this.c + EPSILON * Math.max(1d, Math.abs(this.c));
+		}
+	}
+
+	private ClosedFormSolver() {
+	}
+
+	/**
+	 * Tries to solve the problem analytically.
+	 *
+	 * @param coefficients   the {@link Coefficients}
+	 * @param allInverters   all {@link Inverter}s
+	 * @param allConstraints all active {@link Constraint}s
+	 * @return the {@link Solution}; null if the topology is not supported or the
+	 *         problem is infeasible or unbounded
+	 * @throws OpenemsException on error
+	 */
+	public static Solution solve(Coefficients coefficients, List<Inverter> allInverters,
+			List<Constraint> allConstraints) throws OpenemsException {
+		if (allInverters.size() != 1 || coefficients.getNoOfCoefficients() != 2) {
+			// Only a single Inverter in Symmetric-Mode is supported
+			return null;
+		}
+		var inv = allInverters.get(0);
+		var pIndex = coefficients.of(inv.getEssId(), inv.getPhase(), Pwr.ACTIVE).getIndex();
+		var qIndex = coefficients.of(inv.getEssId(), inv.getPhase(), Pwr.REACTIVE).getIndex();
+
+		// Convert Constraints to half-planes
+		var halfPlanes = new ArrayList<HalfPlane>(allConstraints.size() + 4);
+		for (Constraint constraint : allConstraints) {
+			var lc = LinearSolverUtil.convertToLinearConstraint(coefficients, constraint);
+			if (lc == null) {
+				continue;
+			}
+			var a = lc.getCoefficients().getEntry(pIndex);
+			var b = lc.getCoefficients().getEntry(qIndex);
+			var c = lc.getValue();
+			switch (lc.getRelationship()) {
+			case LEQ:
+				halfPlanes.add(new HalfPlane(a, b, c));
+				break;
+			case GEQ:
+				halfPlanes.add(new HalfPlane(-a, -b, -c));
+				break;
+			case EQ:
+				halfPlanes.add(new HalfPlane(a, b, c));
+				halfPlanes.add(new HalfPlane(-a, -b, -c));
+				break;
+			}
+		}
+		var noOfConstraints = halfPlanes.size();
+		halfPlanes.add(new HalfPlane(1, 0, BOUND));
+		halfPlanes.add(new HalfPlane(-1, 0, BOUND));
+		halfPlanes.add(new HalfPlane(0, 1, BOUND));
+		halfPlanes.add(new HalfPlane(0, -1, BOUND));
+
+		// Find ranges from vertices of the feasible region
+		var pMin = Double.POSITIVE_INFINITY;
+		var pMax = Double.NEGATIVE_INFINITY;
+		var qMin = Double.POSITIVE_INFINITY;
+		var qMax = Double.NEGATIVE_INFINITY;
+		for (var i = 0; i < halfPlanes.size(); i++) {
+			var h1 = halfPlanes.get(i);
+			for (var j = i + 1; j < halfPlanes.size(); j++) {
+				var h2 = halfPlanes.get(j);
+				var det = h1.a * h2.b - h2.a * h1.b;
+				if (Math.abs(det) < 1e-12) {
+					// parallel
+					continue;
+				}
+				var p = (h1.c * h2.b - h2.c * h1.b) / det;
+				var q = (h1.a * h2.c - h2.a * h1.c) / det;
+				if (!isFeasible(halfPlanes, halfPlanes.size(), p, q)) {
+					continue;
+				}
+				pMin = Math.min(pMin, p);
+				pMax = Math.max(pMax, p);
+				qMin = Math.min(qMin, q);
+				qMax = Math.max(qMax, q);
+			}
+		}
+		if (pMin > pMax) {
+			// No feasible solution
+			return null;
+		}
+		if (Math.max(Math.max(-pMin, pMax), Math.max(-qMin, qMax)) >= BOUND / 2) {
+			// Unbounded solution
+			return null;
+		}
+
+		// Select targets like AddConstraintsForNotStrictlyDefinedCoefficients
+		var p = getTarget(pMin, pMax);
+		var q = getTarget(qMin, qMax);
+		if (!isFeasible(halfPlanes, noOfConstraints, p, q)) {
+			// Targets are not feasible in combination
+			return null;
+		}
+
+		// Evaluate TargetDirection like TargetDirection.from()
+		final TargetDirection targetDirection;
+		if (pMin <= EPSILON && pMax >= -EPSILON) {
+			targetDirection = TargetDirection.KEEP_ZERO;
+		} else if (pMax >= -EPSILON) {
+			targetDirection = TargetDirection.DISCHARGE;
+		} else {
+			targetDirection = TargetDirection.CHARGE;
+		}
+
+		var point = new double[2];
+		point[pIndex] = p;
+		point[qIndex] = q;
+		return new Solution(targetDirection, new PointValuePair(point, p + q));
+	}
+
+	private static double getTarget(double min, double max) {
+		if (min == max) {
+			// Already strictly defined.
+			return min;
+		}
+		if (0 < max && 0 > min) {
+			// set to zero
+			return 0;
+		} else if (Math.abs(max) < Math.abs(min)) {
+			// set to smallest distance from zero -> max
+			return max;
+		} else {
+			// set to smallest distance from zero -> min
+			return min;
+		}
+	}
+
+	private static boolean isFeasible(List<HalfPlane> halfPlanes, int size, double p, double q) {
+		for (var i = 0; i < size; i++) {
+			if (!halfPlanes.get(i).contains(p, q)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,225 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Relationship;
+
+/**
+ * Solves the problem incrementally within a Cycle and between Cycles.
+ *
+ * <ul>
+ * <li>Every {@link Constraint} is converted to a {@link LinearConstraint} only
+ * once per Cycle; later calls only convert the new or changed Constraints.
+ * <li>Feasibility checks first test the last feasible point - possibly of the
+ * previous Cycle - against the current Constraints and run the Simplex solver
+ * only if this point violates any of them.
+ * </ul>
+ */
+public class IncrementalSolver {
+
+	/**
+	 * Tolerance for checking a point against the Constraints. Matches the default
+	 * epsilon of the Simplex solver.
+	 */
+	private static final double EPSILON = 1e-6;
+
+	private static class CachedConstraint {
+		private final Relationship relationship;
+		private final Optional<Double> value;
+		private final LinearConstraint linearConstraint;
+
+		private CachedConstraint(Relationship relationship, Optional<Double> value,
+				LinearConstraint linearConstraint) {
+			this.relationship = relationship;
+			this.value = value;
+			this.linearConstraint = linearConstraint;
+		}
+
+		private boolean isValidFor(Constraint constraint) {
+			return this.relationship == constraint.getRelationship()
+					&& Objects.equals(this.value, constraint.getValue());
+		}
+	}
+
+	private final Coefficients coefficients;
+
+	/**
+	 * Converted Constraints of the current Cycle. {@link Constraint}s are mutable,
+	 * so entries are validated against relationship and value on every use.
+	 */
+	private final Map<Constraint, CachedConstraint> linearConstraints = new IdentityHashMap<>();
+
+	private double[] lastFeasiblePoint = null;
+	private int noOfCoefficients = -1;
+	private long simplexSolves = 0;
+	private long reusedSolutions = 0;
+
+	public IncrementalSolver(Coefficients coefficients) {
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Forgets the converted Constraints of the finished Cycle. The final solution
+	 * is kept as starting point for the next Cycle.
+	 *
+	 * @param solution the final solution of the finished Cycle; null if the
+	 *                 problem was not solved
+	 */
+	public synchronized void nextCycle(double[] solution) {
+		this.linearConstraints.clear();
+		if (solution != null && solution.length == this.noOfCoefficients) {
+			this.lastFeasiblePoint = solution;
+		}
+	}
+
+	/**
+	 * Gets the given Constraints converted to Linear Constraints. Disabled
+	 * Constraints are skipped.
+	 *
+	 * @param constraints a list of Constraints
+	 * @return a list of LinearConstraints
+	 */
+	public synchronized List<LinearConstraint> convertToLinearConstraints(List<Constraint> constraints) {
+		var noOfCoefficients = this.coefficients.getNoOfCoefficients();
+		if (noOfCoefficients != this.noOfCoefficients) {
+			// Coefficients were re-initialized, e.g. after an ESS was added
+			this.linearConstraints.clear();
+			this.lastFeasiblePoint = null;
+			this.noOfCoefficients = noOfCoefficients;
+		}
+		var result = new ArrayList<LinearConstraint>(constraints.size());
+		for (Constraint constraint : constraints) {
+			var cached = this.linearConstraints.get(constraint);
+			if (cached == null || !cached.isValidFor(constraint)) {
+				cached = new CachedConstraint(constraint.getRelationship(), constraint.getValue(),
+						LinearSolverUtil.convertToLinearConstraint(this.coefficients, constraint));
+				this.linearConstraints.put(constraint, cached);
+			}
+			if (cached.linearConstraint != null) {
+				result.add(cached.linearConstraint);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Solves the problem with the given list of Constraints using the default
+	 * objective function.
+	 *
+	 * @param constraints a list of Constraints
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public synchronized PointValuePair solve(List<Constraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		var linearConstraints = this.convertToLinearConstraints(constraints);
+		this.simplexSolves++;
+		var solution = LinearConstraintsSolver.solve(this.coefficients, linearConstraints);
+		this.lastFeasiblePoint = solution.getPoint();
+		return solution;
+	}
+
+	/**
+	 * Finds any solution that fulfills the given list of Constraints.
+	 *
+	 * <p>
+	 * The result is not necessarily optimal regarding the default objective
+	 * function: if the last feasible point still fulfills all Constraints it is
+	 * returned without running the Simplex solver. Use this method only to check
+	 * whether a problem is solvable.
+	 *
+	 * @param constraints a list of Constraints
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public synchronized PointValuePair findFeasibleSolution(List<Constraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		var linearConstraints = this.convertToLinearConstraints(constraints);
+		var point = this.lastFeasiblePoint;
+		if (point != null && isFeasible(linearConstraints, point)) {
+			this.reusedSolutions++;
+			var value = 0d;
+			for (double p : point) {
+				value += p;
+			}
+			return new PointValuePair(point, value);
+		}
+		this.simplexSolves++;
+		var solution = LinearConstraintsSolver.solve(this.coefficients, linearConstraints);
+		this.lastFeasiblePoint = solution.getPoint();
+		return solution;
+	}
+
+	/**
+	 * Gets the number of Simplex solver runs.
+	 *
+	 * @return the number of runs
+	 */
+	public synchronized long getSimplexSolves() {
+		return this.simplexSolves;
+	}
+
+	/**
+	 * Gets the number of feasibility checks that were answered by reusing the last
+	 * feasible point.
+	 *
+	 * @return the number of reused solutions
+	 */
+	public synchronized long getReusedSolutions() {
+		return this.reusedSolutions;
+	}
+
+	/**
+	 * Checks whether a point fulfills all LinearConstraints.
+	 *
+	 * @param linearConstraints a list of LinearConstraints
+	 * @param point             the point
+	 * @return true if all LinearConstraints are fulfilled
+	 */
+	protected static boolean isFeasible(List<LinearConstraint> linearConstraints, double[] point) {
+		var vector = new ArrayRealVector(point, false);
+		for (LinearConstraint c : linearConstraints) {
+			if (c.getCoefficients().getDimension() != point.length) {
+				return false;
+			}
+			var lhs = c.getCoefficients().dotProduct(vector);
+			var rhs = c.getValue();
+			var epsilon = EPSILON * Math.max(1d, Math.abs(rhs));
+			switch (c.getRelationship()) {
+			case EQ:
+				if (Math.abs(lhs - rhs) > epsilon) {
+					return false;
+				}
+				break;
+			case GEQ:
+				if (lhs < rhs - epsilon) {
+					return false;
+				}
+				break;
+			case LEQ:
+				if (lhs > rhs + epsilon) {
+					return false;
+				}
+				break;
+			}
+		}
+		return true;
+	}
+
+}
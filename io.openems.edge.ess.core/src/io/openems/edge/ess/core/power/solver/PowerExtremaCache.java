@@ -0,0 +1,194 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Caches the results of {@link CalculatePowerExtrema} until the Constraints
+ * change.
+ *
+ * <p>
+ * The Constraints are fetched and converted only once after every
+ * {@link #invalidate()}. On a cache miss both the minimum and the maximum of
+ * the requested Coefficient are calculated, as Controllers usually query both.
+ *
+ * <p>
+ * Changing the value of an already added {@link Constraint} via
+ * {@link Constraint#setValue(double)} does not invalidate the cache; such a
+ * change is reflected after the next {@link #invalidate()}, i.e. when any
+ * Constraint is added or removed, at the latest in the next Cycle.
+ */
+public class PowerExtremaCache {
+
+	/**
+	 * Statistics of the {@link PowerExtremaCache}.
+	 */
+	public static class Statistics {
+
+		private final int hits;
+		private final int misses;
+		private final long savedNanos;
+
+		private Statistics(int hits, int misses, long savedNanos) {
+			this.hits = hits;
+			this.misses = misses;
+			this.savedNanos = savedNanos;
+		}
+
+		public int getHits() {
+			return this.hits;
+		}
+
+		public int getMisses() {
+			return this.misses;
+		}
+
+		/**
+		 * Gets the estimated time saved by cache hits, i.e. the number of hits
+		 * multiplied with the average duration of a cache miss.
+		 *
+		 * @return the saved time in nanoseconds
+		 */
+		public long getSavedNanos() {
+			return this.savedNanos;
+		}
+	}
+
+	private static class Key {
+		private final String essId;
+		private final Phase phase;
+		private final Pwr pwr;
+		private final GoalType goal;
+
+		private Key(String essId, Phase phase, Pwr pwr, GoalType goal) {
+			this.essId = essId;
+			this.phase = phase;
+			this.pwr = pwr;
+			this.goal = goal;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.essId, this.phase, this.pwr, this.goal);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			var other = (Key) obj;
+			return this.phase == other.phase && this.pwr == other.pwr && this.goal == other.goal
+					&& Objects.equals(this.essId, other.essId);
+		}
+	}
+
+	private final Coefficients coefficients;
+	private final ThrowingSupplier<List<Constraint>, OpenemsException> getConstraints;
+	private final Map<Key, Double> values = new HashMap<>();
+
+	private LinearConstraintSet constraints = null;
+
+	private int hits = 0;
+	private int misses = 0;
+	private long totalMisses = 0;
+	private long totalMissNanos = 0;
+
+	/**
+	 * Creates a {@link PowerExtremaCache}.
+	 *
+	 * @param coefficients   the {@link Coefficients}
+	 * @param getConstraints gets all currently active {@link Constraint}s
+	 */
+	public PowerExtremaCache(Coefficients coefficients,
+			ThrowingSupplier<List<Constraint>, OpenemsException> getConstraints) {
+		this.coefficients = coefficients;
+		this.getConstraints = getConstraints;
+	}
+
+	/**
+	 * Invalidates the cache. Must be called whenever the Constraints change.
+	 */
+	public synchronized void invalidate() {
+		this.values.clear();
+		this.constraints = null;
+	}
+
+	/**
+	 * Gets the extrema under the current Constraints for the given parameters.
+	 *
+	 * @param essId the ID of the ESS
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 * @throws OpenemsException if the Constraints are not available
+	 */
+	public synchronized double get(String essId, Phase phase, Pwr pwr, GoalType goal) throws OpenemsException {
+		var value = this.values.get(new Key(essId, phase, pwr, goal));
+		if (value != null) {
+			this.hits++;
+			return value;
+		}
+
+		var start = System.nanoTime();
+		var constraints = this.getLinearConstraints();
+		var result = 0d;
+		for (GoalType g : new GoalType[] { GoalType.MINIMIZE, GoalType.MAXIMIZE }) {
+			var key = new Key(essId, phase, pwr, g);
+			var v = this.values.get(key);
+			if (v == null) {
+				v = CalculatePowerExtrema.from(this.coefficients, constraints, essId, phase, pwr, g);
+				this.values.put(key, v);
+			}
+			if (g == goal) {
+				result = v;
+			}
+		}
+		this.misses++;
+		this.totalMisses++;
+		this.totalMissNanos += System.nanoTime() - start;
+		return result;
+	}
+
+	/**
+	 * Gets the {@link Statistics} since the last call and resets them.
+	 *
+	 * @return the {@link Statistics}
+	 */
+	public synchronized Statistics getAndResetStatistics() {
+		var savedNanos = 0L;
+		if (this.totalMisses > 0) {
+			savedNanos = this.hits * (this.totalMissNanos / this.totalMisses);
+		}
+		var result = new Statistics(this.hits, this.misses, savedNanos);
+		this.hits = 0;
+		this.misses = 0;
+		return result;
+	}
+
+	private LinearConstraintSet getLinearConstraints() throws OpenemsException {
+		if (this.constraints == null) {
+			this.constraints = new LinearConstraintSet(
+					LinearSolverUtil.convertToLinearConstraints(this.coefficients, this.getConstraints.get()));
+		}
+		return this.constraints;
+	}
+
+}
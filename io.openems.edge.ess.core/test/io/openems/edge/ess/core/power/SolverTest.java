@@ -0,0 +1,158 @@
+package io.openems.edge.ess.core.power;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.optim.PointValuePair;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.TargetDirection;
+import io.openems.edge.ess.core.power.optimizers.AddConstraintsForNotStrictlyDefinedCoefficients;
+import io.openems.edge.ess.core.power.solver.ClosedFormSolver;
+import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class SolverTest {
+
+	private static final int CYCLES = 50;
+
+	/**
+	 * Benchmarks the {@link Solver} duration for a growing number of Inverters.
+	 * Not part of the default test suite; remove the {@link Ignore} annotation to
+	 * run it manually.
+	 *
+	 * @throws OpenemsException on error
+	 */
+	@Ignore
+	@Test
+	public void testBenchmark() throws OpenemsException {
+		for (var noOfInverters : new int[] { 1, 4, 16, 64 }) {
+			var data = new Data();
+			data.setSymmetricMode(true);
+			var esss = new ArrayList<DummyManagedSymmetricEss>();
+			for (var i = 0; i < noOfInverters; i++) {
+				var ess = new DummyManagedSymmetricEss("ess" + i) //
+						.withAllowedChargePower(-10000) //
+						.withAllowedDischargePower(10000) //
+						.withMaxApparentPower(10000) //
+						.withSoc(10 + i % 80);
+				esss.add(ess);
+				data.addEss(ess);
+			}
+			var solver = new Solver(data);
+			var notSolved = new ArrayList<Integer>();
+			solver.onSolved((isSolved, duration, strategy) -> {
+				if (!isSolved) {
+					notSolved.add(duration);
+				}
+			});
+
+			var totalNanos = 0L;
+			var maxNanos = 0L;
+			for (var cycle = 0; cycle < CYCLES; cycle++) {
+				data.initializeCycle();
+				// Slowly changing setpoint for the sum of all ESS
+				var setpoint = (cycle / 10 % 2 == 0 ? 1 : -1) * 2500 * noOfInverters;
+				data.addConstraint(createSumOfPConstraint(data, esss, setpoint));
+
+				var start = System.nanoTime();
+				solver.solve(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+				var nanos = System.nanoTime() - start;
+				if (cycle > 0) {
+					// ignore warm-up
+					totalNanos += nanos;
+					maxNanos = Math.max(maxNanos, nanos);
+				}
+			}
+
+			assertTrue(notSolved.isEmpty());
+			System.out.println(String.format("Solver with %2d Inverters: avg %8.3f ms, max %8.3f ms", noOfInverters,
+					totalNanos / (CYCLES - 1) / 1_000_000d, maxNanos / 1_000_000d));
+		}
+	}
+
+	/**
+	 * Validates the {@link ClosedFormSolver} against the linear optimisation on
+	 * randomized Constraints.
+	 *
+	 * @throws OpenemsException on error
+	 */
+	@Test
+	public void testClosedFormSolver() throws OpenemsException {
+		var random = new Random(4711);
+		var relationships = Relationship.values();
+		var solved = 0;
+		for (var i = 0; i < 1000; i++) {
+			var data = new Data();
+			data.setSymmetricMode(true);
+			var ess = new DummyManagedSymmetricEss("ess0") //
+					.withAllowedChargePower(-random.nextInt(20000)) //
+					.withAllowedDischargePower(random.nextInt(20000)) //
+					.withMaxApparentPower(random.nextInt(4) == 0 ? 0 : random.nextInt(20000)) //
+					.withSoc(random.nextInt(101));
+			data.addEss(ess);
+			data.initializeCycle();
+			for (var j = random.nextInt(4); j > 0; j--) {
+				var pwr = random.nextBoolean() ? Pwr.ACTIVE : Pwr.REACTIVE;
+				data.addSimpleConstraint("Random", ess.id(), Phase.ALL, pwr,
+						relationships[random.nextInt(relationships.length)], random.nextInt(30000) - 15000);
+			}
+			var coefficients = data.getCoefficients();
+			var inverters = data.getInverters();
+			var constraints = data.getConstraintsForAllInverters();
+
+			// Reference: linear optimisation
+			PointValuePair expected;
+			TargetDirection expectedTargetDirection;
+			try {
+				var allConstraints = new ArrayList<>(constraints);
+				AddConstraintsForNotStrictlyDefinedCoefficients.apply(inverters, coefficients, allConstraints,
+						new IncrementalSolver(coefficients));
+				expectedTargetDirection = TargetDirection.from(inverters, coefficients, new ArrayList<>(constraints));
+				expected = ConstraintSolver.solve(coefficients, allConstraints);
+			} catch (MathIllegalStateException e) {
+				expected = null;
+				expectedTargetDirection = null;
+			}
+
+			var actual = ClosedFormSolver.solve(coefficients, inverters, constraints);
+			if (expected == null) {
+				assertNull(actual);
+				continue;
+			}
+			assertNotNull(actual);
+			assertEquals(expectedTargetDirection, actual.getTargetDirection());
+			for (var k = 0; k < expected.getPoint().length; k++) {
+				assertEquals(expected.getPoint()[k], actual.getPoints().getPoint()[k], 0.01);
+			}
+			solved++;
+		}
+		assertTrue(solved > 0);
+	}
+
+	private static Constraint createSumOfPConstraint(Data data, List<DummyManagedSymmetricEss> esss, int value)
+			throws OpenemsException {
+		var cos = new ArrayList<LinearCoefficient>();
+		for (var ess : esss) {
+			cos.add(new LinearCoefficient(data.getCoefficient(ess.id(), Phase.ALL, Pwr.ACTIVE), 1));
+		}
+		return new Constraint("Sum of P", cos, Relationship.EQUALS, value);
+	}
+
+}
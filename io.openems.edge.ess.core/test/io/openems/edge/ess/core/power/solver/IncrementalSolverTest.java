@@ -0,0 +1,107 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class IncrementalSolverTest {
+
+	private Coefficients coefficients;
+	private IncrementalSolver sut;
+
+	@Before
+	public void before() {
+		this.coefficients = new Coefficients();
+		this.coefficients.initialize(true, Set.of("ess0", "ess1"));
+		this.sut = new IncrementalSolver(this.coefficients);
+	}
+
+	private Constraint constraint(String essId, Relationship relationship, double value) throws OpenemsException {
+		return ConstraintUtil.createSimpleConstraint(this.coefficients, essId, essId, Phase.ALL, Pwr.ACTIVE,
+				relationship, value);
+	}
+
+	private List<Constraint> bounds() throws OpenemsException {
+		List<Constraint> result = new ArrayList<>();
+		for (var essId : List.of("ess0", "ess1")) {
+			for (var pwr : Pwr.values()) {
+				result.add(ConstraintUtil.createSimpleConstraint(this.coefficients, "Min", essId, Phase.ALL, pwr,
+						Relationship.GREATER_OR_EQUALS, -10000));
+				result.add(ConstraintUtil.createSimpleConstraint(this.coefficients, "Max", essId, Phase.ALL, pwr,
+						Relationship.LESS_OR_EQUALS, 10000));
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testReuseLastFeasiblePoint() throws OpenemsException {
+		var constraints = this.bounds();
+		constraints.add(0, this.constraint("ess0", Relationship.EQUALS, 1000));
+		constraints.add(this.constraint("ess1", Relationship.LESS_OR_EQUALS, 500));
+		constraints.add(this.constraint("ess1", Relationship.GREATER_OR_EQUALS, -500));
+
+		this.sut.findFeasibleSolution(constraints);
+		assertEquals(1, this.sut.getSimplexSolves());
+		assertEquals(0, this.sut.getReusedSolutions());
+
+		// Still fulfilled by the last point -> no Simplex run
+		constraints.add(this.constraint("ess0", Relationship.GREATER_OR_EQUALS, 0));
+		var solution = this.sut.findFeasibleSolution(constraints);
+		assertEquals(1, this.sut.getSimplexSolves());
+		assertEquals(1, this.sut.getReusedSolutions());
+		assertEquals(1000, solution.getPoint()[this.coefficients.of("ess0", Phase.ALL, Pwr.ACTIVE).getIndex()], 0.001);
+
+		// Changed value of a Constraint -> Simplex run
+		constraints.get(0).setValue(2000);
+		solution = this.sut.findFeasibleSolution(constraints);
+		assertEquals(2, this.sut.getSimplexSolves());
+		assertEquals(2000, solution.getPoint()[this.coefficients.of("ess0", Phase.ALL, Pwr.ACTIVE).getIndex()], 0.001);
+
+		// Final solution of the Cycle is kept
+		this.sut.nextCycle(solution.getPoint());
+		this.sut.findFeasibleSolution(constraints);
+		assertEquals(2, this.sut.getSimplexSolves());
+		assertEquals(2, this.sut.getReusedSolutions());
+	}
+
+	@Test(expected = NoFeasibleSolutionException.class)
+	public void testNoFeasibleSolution() throws OpenemsException {
+		var constraints = this.bounds();
+		constraints.add(this.constraint("ess0", Relationship.GREATER_OR_EQUALS, 1000));
+		constraints.add(this.constraint("ess0", Relationship.LESS_OR_EQUALS, 500));
+		this.sut.findFeasibleSolution(constraints);
+	}
+
+	@Test
+	public void testIsFeasible() throws OpenemsException {
+		var constraints = this.sut.convertToLinearConstraints(List.of(//
+				this.constraint("ess0", Relationship.LESS_OR_EQUALS, 1000), //
+				this.constraint("ess1", Relationship.EQUALS, 0)));
+		var point = new double[this.coefficients.getNoOfCoefficients()];
+		assertTrue(IncrementalSolver.isFeasible(constraints, point));
+
+		point[this.coefficients.of("ess0", Phase.ALL, Pwr.ACTIVE).getIndex()] = 1000.0000001;
+		assertTrue(IncrementalSolver.isFeasible(constraints, point));
+
+		point[this.coefficients.of("ess1", Phase.ALL, Pwr.ACTIVE).getIndex()] = 1;
+		assertFalse(IncrementalSolver.isFeasible(constraints, point));
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class PowerExtremaCacheTest {
+
+	@Test
+	public void test() throws OpenemsException {
+		var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0", "ess1"));
+		List<Constraint> constraints = new ArrayList<>();
+		for (var essId : List.of("ess0", "ess1")) {
+			for (var pwr : Pwr.values()) {
+				constraints.add(ConstraintUtil.createSimpleConstraint(coefficients, "Min", essId, Phase.ALL, pwr,
+						Relationship.GREATER_OR_EQUALS, -5000));
+				constraints.add(ConstraintUtil.createSimpleConstraint(coefficients, "Max", essId, Phase.ALL, pwr,
+						Relationship.LESS_OR_EQUALS, 5000));
+			}
+		}
+		var queries = new AtomicInteger();
+		var sut = new PowerExtremaCache(coefficients, () -> {
+			queries.incrementAndGet();
+			return constraints;
+		});
+
+		assertEquals(5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		// Minimum was calculated in the same pass
+		assertEquals(-5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MINIMIZE), 0.001);
+		assertEquals(5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(1, queries.get());
+
+		var statistics = sut.getAndResetStatistics();
+		assertEquals(2, statistics.getHits());
+		assertEquals(1, statistics.getMisses());
+
+		// Invalidate on new Constraint
+		constraints.add(ConstraintUtil.createSimpleConstraint(coefficients, "Limit", "ess0", Phase.ALL, Pwr.ACTIVE,
+				Relationship.LESS_OR_EQUALS, 1000));
+		sut.invalidate();
+		assertEquals(1000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(2, queries.get());
+	}
+
+}
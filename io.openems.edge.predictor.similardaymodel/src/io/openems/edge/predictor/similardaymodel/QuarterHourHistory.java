@@ -0,0 +1,121 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import java.util.Arrays;
+
+/**
+ * A rolling window of 15-minute values of one Channel.
+ *
+ * <p>
+ * Values are stored in a primitive ring buffer that is indexed by the number of
+ * quarter-hours since epoch ('slot'). Moving the window forward only requires
+ * the new quarter-hours to be queried from Timedata.
+ */
+public class QuarterHourHistory {
+
+	/** Seconds per slot. */
+	public static final int SLOT_SECONDS = 900;
+
+	/** Slots per day. */
+	public static final int SLOTS_PER_DAY = 96;
+
+	/** Slots per week. */
+	public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+
+	private final int[] values;
+
+	/** The first slot after the window; Long.MIN_VALUE if the window is empty. */
+	private long endSlot = Long.MIN_VALUE;
+
+	public QuarterHourHistory(int numberOfWeeks) {
+		this.values = new int[numberOfWeeks * SLOTS_PER_WEEK];
+	}
+
+	/**
+	 * Converts an epoch second to a slot.
+	 *
+	 * @param epochSecond the epoch second
+	 * @return the slot that contains the epoch second
+	 */
+	public static long toSlot(long epochSecond) {
+		return Math.floorDiv(epochSecond, SLOT_SECONDS);
+	}
+
+	/**
+	 * Moves the end of the window. Slots that newly enter the window are reset to
+	 * zero.
+	 *
+	 * @param endSlot the first slot after the window
+	 * @return the first slot that has to be queried. This includes the formerly
+	 *         last slot, as its value might not have been complete.
+	 */
+	public long moveTo(long endSlot) {
+		var startSlot = endSlot - this.values.length;
+		if (this.endSlot == Long.MIN_VALUE || endSlot < this.endSlot || this.endSlot <= startSlot) {
+			// Empty, time went backwards or no overlap
+			Arrays.fill(this.values, 0);
+			this.endSlot = endSlot;
+			return startSlot;
+		}
+		for (var slot = this.endSlot; slot < endSlot; slot++) {
+			this.values[this.index(slot)] = 0;
+		}
+		var result = this.endSlot - 1;
+		this.endSlot = endSlot;
+		return Math.max(result, startSlot);
+	}
+
+	/**
+	 * Sets the value of a slot. Slots outside the window are ignored.
+	 *
+	 * @param slot  the slot
+	 * @param value the value
+	 */
+	public void put(long slot, int value) {
+		if (this.isInWindow(slot)) {
+			this.values[this.index(slot)] = value;
+		}
+	}
+
+	/**
+	 * Gets the value of a slot.
+	 *
+	 * @param slot the slot
+	 * @return the value; zero if the slot is outside the window
+	 */
+	public int get(long slot) {
+		if (this.isInWindow(slot)) {
+			return this.values[this.index(slot)];
+		}
+		return 0;
+	}
+
+	/**
+	 * Calculates the average of the same 24 hours in each week of the window.
+	 *
+	 * @return the values of the 24 hours following the window
+	 */
+	public int[] getSimilarDayAverage() {
+		var numberOfWeeks = this.values.length / SLOTS_PER_WEEK;
+		var result = new int[SLOTS_PER_DAY];
+		if (numberOfWeeks == 0) {
+			return result;
+		}
+		for (var i = 0; i < SLOTS_PER_DAY; i++) {
+			var sum = 0L;
+			for (var week = 1; week <= numberOfWeeks; week++) {
+				sum += this.get(this.endSlot - week * SLOTS_PER_WEEK + i);
+			}
+			result[i] = (int) (sum / numberOfWeeks);
+		}
+		return result;
+	}
+
+	private boolean isInWindow(long slot) {
+		return this.endSlot != Long.MIN_VALUE && slot < this.endSlot && slot >= this.endSlot - this.values.length;
+	}
+
+	private int index(long slot) {
+		return (int) Math.floorMod(slot, (long) this.values.length);
+	}
+
+}
@@ -1,12 +1,12 @@
 package io.openems.edge.predictor.similardaymodel;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.SortedMap;
-import java.util.stream.Collectors;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -61,6 +61,8 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 	@Reference
 	private ComponentManager componentManager;
 
+	private final Map<ChannelAddress, QuarterHourHistory> histories = new HashMap<>();
+
 	public SimilarDayPredictorImpl() throws OpenemsNamedException {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -72,6 +74,7 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 	@Activate
 	protected void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		this.config = config;
+		this.histories.clear();
 		super.activate(context, this.config.id(), this.config.alias(), this.config.enabled(),
 				this.config.channelAddresses());
 	}
@@ -89,133 +92,47 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 
 	@Override
 	protected Prediction24Hours createNewPrediction(ChannelAddress channelAddress) {
-
 		var now = ZonedDateTime.now(this.componentManager.getClock());
-		// From now time to Last 4 weeks
-		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
+		var nowSlot = QuarterHourHistory.toSlot(now.toEpochSecond());
 
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		var history = this.histories.computeIfAbsent(channelAddress,
+				c -> new QuarterHourHistory(this.config.numOfWeeks()));
+		var fromSlot = history.moveTo(nowSlot);
 
-		// Query database
+		// Query database for the new quarter-hours only
+		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
+			queryResult = this.timedata.queryHistoricData(null, toZonedDateTime(fromSlot, now.getZone()),
+					toZonedDateTime(nowSlot, now.getZone()), Sets.newHashSet(channelAddress),
 					new Resolution(15, ChronoUnit.MINUTES));
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, e.getMessage());
 			e.printStackTrace();
+			this.histories.remove(channelAddress);
 			return Prediction24Hours.EMPTY;
 		}
 
-		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.collect(Collectors.toList());
-
-		// Num of Data per day
-		// TODO change this variable based on the resolution which is 900 in query
-		var numOfDataPerDay = 96;
-
-		var mainData = getSlicedArrayList(result, numOfDataPerDay);
-
-		// Getting the indexes of the last four similar days
-		var lastFourSimilarDays = getCorrectIndexes(mainData, NUM_OF_DAYS_OF_WEEK, PREDCTION_FOR_ONE_DAY);
-
-		// Getting the average predictions
-		var nextOneDayPredictions = getAverage(lastFourSimilarDays);
-
-		return new Prediction24Hours(nextOneDayPredictions.stream().toArray(Integer[]::new));
-	}
-
-	/**
-	 * This methods takes a List of integers and returns a 2dimension List of
-	 * integers, specific to correct days.
-	 *
-	 * @param arrlist array list of all data.
-	 * @param n       number of data per day.
-	 * @return 2dimension array list
-	 */
-	private static List<List<Integer>> getSlicedArrayList(List<Integer> arrlist, int n) {
-		List<List<Integer>> twoDimensionalArrayList = new ArrayList<>();
-		for (var i = 0; i < arrlist.size(); i = i + n) {
-			twoDimensionalArrayList.add(arrlist.subList(i, i + n));
-		}
-		return twoDimensionalArrayList;
-
-	}
-
-	/**
-	 * This methods get the average of data based on the indexes.
-	 *
-	 * @param twoDimensionalArrayList The actual data.
-	 * @return Average values of the last four days.
-	 */
-	private static List<Integer> getAverage(List<List<Integer>> twoDimensionalArrayList) {
-		List<Integer> averageList = new ArrayList<>();
-		var rows = twoDimensionalArrayList.size();
-		var cols = twoDimensionalArrayList.get(0).size();
-		for (var i = 0; i < cols; i++) {
-			var sumRow = 0;
-			for (var j = 0; j < rows; j++) {
-				if (twoDimensionalArrayList.get(j).get(i) != null) {
-					sumRow += twoDimensionalArrayList.get(j).get(i);
-				}
+		// Extract data; timestamps mark the start of the quarter-hour
+		for (var entry : queryResult.entrySet()) {
+			var value = entry.getValue().get(channelAddress);
+			if (value == null || value.isJsonNull()) {
+				continue;
 			}
-			averageList.add(sumRow / twoDimensionalArrayList.size());
+			history.put(QuarterHourHistory.toSlot(entry.getKey().toEpochSecond()), value.getAsInt());
 		}
-		return averageList;
-
-	}
 
-	/**
-	 * Data manipulation, to get the proper indexes.
-	 *
-	 * @param mainData      all data points.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param whichDay      current actual day.
-	 * @return proper indexed days.
-	 */
-	private static List<List<Integer>> getCorrectIndexes(List<List<Integer>> mainData, int numDaysOfWeek,
-			int whichDay) {
-		List<Integer> indexes = new ArrayList<>();
-		List<List<Integer>> days = new ArrayList<>();
-		for (var i = 0; i < mainData.size(); i++) {
-			if (isMember(whichDay, numDaysOfWeek, i)) {
-				indexes.add(i);
-			}
-		}
+		// Getting the average of the similar days
+		var nextOneDayPredictions = history.getSimilarDayAverage();
 
-		for (Integer i : indexes) {
-			days.add(mainData.get(i));
+		var result = new Integer[nextOneDayPredictions.length];
+		for (var i = 0; i < nextOneDayPredictions.length; i++) {
+			result[i] = nextOneDayPredictions[i];
 		}
-
-		return days;
-
+		return new Prediction24Hours(result);
 	}
 
-	/**
-	 * Check if the day belongs to correct day.
-	 *
-	 * @param whichDay      current actual day.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param nthTerm       nthterm
-	 * @return boolean value to represent is value member of correct day
-	 */
-	private static boolean isMember(int whichDay, int numDaysOfWeek, int nthTerm) {
-		if (numDaysOfWeek == 0) {
-			return nthTerm == whichDay;
-		}
-		return (nthTerm - whichDay) % numDaysOfWeek == 0 && (nthTerm - whichDay) / numDaysOfWeek >= 0;
-
+	private static ZonedDateTime toZonedDateTime(long slot, ZoneId zone) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(slot * QuarterHourHistory.SLOT_SECONDS), zone);
 	}
 
 }
@@ -235,15 +235,15 @@ public class Data {
 
 	};
 
-	public static final Integer[] predictedData = { 8931905, 12081183, 13140283, 7890941, 14283475, 10869967, 9203245,
-			14450631, 8856705, 12104258, 13130344, 7731838, 14527199, 10794645, 9064588, 14608937, 8823195, 12172205,
-			13051236, 7545362, 14801416, 10708873, 9027609, 14723334, 8754347, 12263946, 12909274, 7489182, 14961291,
-			10577290, 9215333, 14666870, 8623358, 12483200, 12643272, 7623844, 14964723, 10380271, 9467619, 14572030,
-			8515648, 12750934, 12343975, 7781289, 15019471, 10155035, 9670343, 14638097, 8395602, 12894626, 12140855,
-			7848232, 15058938, 10126444, 9702186, 14646087, 8281407, 12949820, 12205576, 7800028, 15005580, 10290326,
-			9666610, 14525533, 8189920, 13065421, 12270269, 7888022, 14853165, 10294449, 9823395, 14312157, 8205314,
-			13121095, 12306997, 8021604, 14667519, 10359409, 9873441, 14147271, 8213434, 13151785, 12394432, 8070486,
-			14604112, 10274089, 9947941, 14142882, 8263493, 13041683, 12486538, 7995124, 14638527, 10254334, 9974679,
-			14108152 };
+	public static final Integer[] predictedData = { 14331962, 8931905, 12081183, 13140283, 7890941, 14283475, 10869967,
+			9203245, 14450631, 8856705, 12104258, 13130344, 7731838, 14527199, 10794645, 9064588, 14608937, 8823195,
+			12172205, 13051236, 7545362, 14801416, 10708873, 9027609, 14723334, 8754347, 12263946, 12909274, 7489182,
+			14961291, 10577290, 9215333, 14666870, 8623358, 12483200, 12643272, 7623844, 14964723, 10380271, 9467619,
+			14572030, 8515648, 12750934, 12343975, 7781289, 15019471, 10155035, 9670343, 14638097, 8395602, 12894626,
+			12140855, 7848232, 15058938, 10126444, 9702186, 14646087, 8281407, 12949820, 12205576, 7800028, 15005580,
+			10290326, 9666610, 14525533, 8189920, 13065421, 12270269, 7888022, 14853165, 10294449, 9823395, 14312157,
+			8205314, 13121095, 12306997, 8021604, 14667519, 10359409, 9873441, 14147271, 8213434, 13151785, 12394432,
+			8070486, 14604112, 10274089, 9947941, 14142882, 8263493, 13041683, 12486538, 7995124, 14638527, 10254334,
+			9974679 };
 
 }
@@ -1,15 +1,25 @@
 package io.openems.edge.predictor.similardaymodel;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
@@ -33,7 +43,7 @@ public class SimilardayModelPredictorTest {
 		var predictedValues = Data.predictedData;
 
 		var timedata = new DummyTimedata(TIMEDATA_ID);
-		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC);
 
 		for (var i = 0; i < values.length; i++) {
 			timedata.add(start.plusMinutes(i * 15), METER1_ACTIVE_POWER, values[i]);
@@ -60,4 +70,105 @@ public class SimilardayModelPredictorTest {
 
 	}
 
+	@Test
+	public void testIncremental() throws Exception {
+		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800) /* starts at 1. January 2020 00:00:00 */,
+				ZoneOffset.UTC);
+		var queries = new ArrayList<ZonedDateTime>();
+		var timedata = new DummyTimedata(TIMEDATA_ID) {
+			@Override
+			public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
+					ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
+					throws OpenemsNamedException {
+				queries.add(fromDate);
+				return super.queryHistoricData(edgeId, fromDate, toDate, channels, resolution);
+			}
+		};
+		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		for (var i = 0; i < Data.data.length; i++) {
+			timedata.add(start.plusMinutes(i * 15), METER1_ACTIVE_POWER, Data.data[i]);
+		}
+
+		var sut = new SimilarDayPredictorImpl();
+		new ComponentTest(sut) //
+				.addReference("timedata", timedata) //
+				.addReference("componentManager", new DummyComponentManager(clock)) //
+				.activate(MyConfig.create() //
+						.setId(PREDICTOR_ID) //
+						.setNumOfWeeks(4) //
+						.setChannelAddresses(METER1_ACTIVE_POWER.toString()).build());
+		sut.get24HoursPrediction(METER1_ACTIVE_POWER);
+
+		clock.leap(15, ChronoUnit.MINUTES);
+		var prediction = sut.get24HoursPrediction(METER1_ACTIVE_POWER);
+
+		// Second query only covers the last and the new quarter-hour
+		assertEquals(2, queries.size());
+		assertEquals(ZonedDateTime.of(2019, 12, 31, 23, 45, 0, 0, ZoneOffset.UTC), queries.get(1));
+
+		// Same result as a full query
+		var fresh = new SimilarDayPredictorImpl();
+		new ComponentTest(fresh) //
+				.addReference("timedata", timedata) //
+				.addReference("componentManager", new DummyComponentManager(clock)) //
+				.activate(MyConfig.create() //
+						.setId(PREDICTOR_ID) //
+						.setNumOfWeeks(4) //
+						.setChannelAddresses(METER1_ACTIVE_POWER.toString()).build());
+		assertArrayEquals(fresh.get24HoursPrediction(METER1_ACTIVE_POWER).getValues(), prediction.getValues());
+	}
+
+	@Test
+	public void testSlotAlignment() throws Exception {
+		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800) /* starts at 1. January 2020 00:00:00 */,
+				ZoneOffset.UTC);
+		var timedata = new DummyTimedata(TIMEDATA_ID);
+		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		for (var i = 0; i < Data.data.length; i++) {
+			timedata.add(start.plusMinutes(i * 15), METER1_ACTIVE_POWER, Data.data[i]);
+		}
+
+		var sut = new SimilarDayPredictorImpl();
+		new ComponentTest(sut) //
+				.addReference("timedata", timedata) //
+				.addReference("componentManager", new DummyComponentManager(clock)) //
+				.activate(MyConfig.create() //
+						.setId(PREDICTOR_ID) //
+						.setNumOfWeeks(4) //
+						.setChannelAddresses(METER1_ACTIVE_POWER.toString()).build());
+
+		// Timedata keys mark the start of the quarter-hour
+		timedata.add(ZonedDateTime.of(2019, 12, 25, 0, 0, 0, 0, ZoneOffset.UTC), METER1_ACTIVE_POWER, 40_000_000);
+		var expected = baselinePrediction(timedata, ZonedDateTime.now(clock), 4);
+		assertArrayEquals(expected, sut.get24HoursPrediction(METER1_ACTIVE_POWER).getValues());
+		assertEquals(Integer.valueOf(10_000_000 + (Data.data[3 * 96] + Data.data[10 * 96] + Data.data[17 * 96]) / 4),
+				expected[0]);
+	}
+
+	/**
+	 * Calculates the prediction like SimilarDayPredictor did before it kept a
+	 * rolling history: the query result of the last weeks is split into days by
+	 * position and the days of the same weekday are averaged.
+	 */
+	private static Integer[] baselinePrediction(DummyTimedata timedata, ZonedDateTime now, int numOfWeeks)
+			throws OpenemsNamedException {
+		var queryResult = timedata.queryHistoricData(null, now.minusWeeks(numOfWeeks), now,
+				Set.of(METER1_ACTIVE_POWER), new Resolution(15, ChronoUnit.MINUTES));
+		List<JsonElement> values = queryResult.values().stream() //
+				.map(v -> v.get(METER1_ACTIVE_POWER)) //
+				.collect(Collectors.toList());
+		var result = new Integer[96];
+		for (var i = 0; i < 96; i++) {
+			var sum = 0;
+			for (var week = 0; week < numOfWeeks; week++) {
+				var index = week * 7 * 96 + i;
+				if (index < values.size()) {
+					sum += values.get(index).getAsInt();
+				}
+			}
+			result[i] = sum / numOfWeeks;
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,376 @@
+package io.openems.edge.simulator.app;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.TimeLeapClock;
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * Executes a simulation headless and as fast as possible on the calling thread.
+ *
+ * <p>
+ * While the {@link SimulatorApp} drives the live Core.Cycle, a
+ * {@link BatchSimulation} owns an isolated graph of activated Components, e.g.
+ * Simulator Datasources, Meters and Energy Storage Systems created by the
+ * {@link BatchSimulationFactory}. Every simulated Cycle executes the same
+ * phases as Core.Cycle:
+ *
+ * <ul>
+ * <li>sends the Cycle events to all Components that are {@link EventHandler}s
+ * <li>switches the process images of all Channels
+ * <li>runs the {@link Controller}s in the order they were added
+ * </ul>
+ *
+ * <p>
+ * The {@link TimeLeapClock} is then moved forward by a fixed time-leap. There
+ * are no wall-clock waits, so results are deterministic.
+ *
+ * <p>
+ * {@link #close()} deactivates the Components via the callback that was set
+ * with {@link Builder#setOnClose(Runnable)}.
+ */
+public class BatchSimulation implements AutoCloseable {
+
+	public static class Builder {
+		private final TimeLeapClock clock;
+		private final List<OpenemsComponent> components = new ArrayList<>();
+		private final List<ChannelAddress> collects = new ArrayList<>();
+		private Duration timeleapPerCycle = Duration.ofSeconds(1);
+		private Duration collectInterval = Duration.ZERO;
+		private boolean executeCycleTwice = false;
+		private Runnable onClose = () -> {
+		};
+
+		private Builder(TimeLeapClock clock) {
+			this.clock = clock;
+		}
+
+		/**
+		 * Adds activated Components to the simulation.
+		 *
+		 * @param components the {@link OpenemsComponent}s
+		 * @return myself
+		 */
+		public Builder addComponents(OpenemsComponent... components) {
+			this.components.addAll(Arrays.asList(components));
+			return this;
+		}
+
+		/**
+		 * Sets the simulated time per Cycle; defaults to one second.
+		 *
+		 * @param timeleapPerCycle the time-leap per Cycle
+		 * @return myself
+		 */
+		public Builder setTimeleapPerCycle(Duration timeleapPerCycle) {
+			this.timeleapPerCycle = timeleapPerCycle;
+			return this;
+		}
+
+		/**
+		 * Executes every Cycle twice before the time-leap, to simulate immediate
+		 * execution; like 'executeCycleTwice' of {@link ExecuteSimulationRequest}.
+		 *
+		 * @param executeCycleTwice true to execute every Cycle twice
+		 * @return myself
+		 */
+		public Builder setExecuteCycleTwice(boolean executeCycleTwice) {
+			this.executeCycleTwice = executeCycleTwice;
+			return this;
+		}
+
+		/**
+		 * Adds Channels whose values should be collected.
+		 *
+		 * @param channelAddresses the {@link ChannelAddress}es
+		 * @return myself
+		 */
+		public Builder addCollects(ChannelAddress... channelAddresses) {
+			this.collects.addAll(Arrays.asList(channelAddresses));
+			return this;
+		}
+
+		/**
+		 * Sets the simulated time between two collected values; defaults to every
+		 * Cycle.
+		 *
+		 * @param collectInterval the interval
+		 * @return myself
+		 */
+		public Builder setCollectInterval(Duration collectInterval) {
+			this.collectInterval = collectInterval;
+			return this;
+		}
+
+		/**
+		 * Sets the callback that deactivates the Components on {@link #close()}.
+		 *
+		 * @param onClose the callback
+		 * @return myself
+		 */
+		public Builder setOnClose(Runnable onClose) {
+			this.onClose = onClose;
+			return this;
+		}
+
+		public BatchSimulation build() {
+			return new BatchSimulation(this);
+		}
+	}
+
+	/**
+	 * Creates a {@link Builder} for a {@link BatchSimulation}.
+	 *
+	 * @param clock the {@link TimeLeapClock} that is used by the Components
+	 * @return a {@link Builder}
+	 */
+	public static Builder create(TimeLeapClock clock) {
+		return new Builder(clock);
+	}
+
+	private static final Event BEFORE_PROCESS_IMAGE = createEvent(
+			EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+	private static final Event AFTER_PROCESS_IMAGE = createEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+	private static final Event BEFORE_CONTROLLERS = createEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+	private static final Event AFTER_CONTROLLERS = createEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+	private static final Event BEFORE_WRITE = createEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+	private static final Event EXECUTE_WRITE = createEvent(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+	private static final Event AFTER_WRITE = createEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+	private final Logger log = LoggerFactory.getLogger(BatchSimulation.class);
+
+	private final TimeLeapClock clock;
+	private final Duration timeleapPerCycle;
+	private final Duration collectInterval;
+	private final boolean executeCycleTwice;
+	private final Runnable onClose;
+	private final OpenemsComponent[] components;
+	private final EventHandler[] eventHandlers;
+	private final Controller[] controllers;
+	private final Sum sum;
+	private final ChannelAddress[] collects;
+	private final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> collectedData = new TreeMap<>();
+	private final Set<String> failedControllers = new HashSet<>();
+
+	private Channel<?>[] channels = new Channel<?>[0];
+	private Channel<?>[] sumChannels = new Channel<?>[0];
+	private Instant nextCollect = Instant.MIN;
+	private long cycles = 0;
+
+	private BatchSimulation(Builder builder) {
+		this.clock = builder.clock;
+		this.timeleapPerCycle = builder.timeleapPerCycle;
+		this.collectInterval = builder.collectInterval;
+		this.executeCycleTwice = builder.executeCycleTwice;
+		this.onClose = builder.onClose;
+		this.components = builder.components.toArray(new OpenemsComponent[builder.components.size()]);
+		this.collects = builder.collects.toArray(new ChannelAddress[builder.collects.size()]);
+
+		var eventHandlers = new ArrayList<EventHandler>();
+		var controllers = new ArrayList<Controller>();
+		Sum sum = null;
+		for (var component : this.components) {
+			if (component instanceof EventHandler) {
+				eventHandlers.add((EventHandler) component);
+			}
+			if (component instanceof Controller) {
+				controllers.add((Controller) component);
+			}
+			if (component instanceof Sum) {
+				sum = (Sum) component;
+			}
+		}
+		this.eventHandlers = eventHandlers.toArray(new EventHandler[eventHandlers.size()]);
+		this.controllers = controllers.toArray(new Controller[controllers.size()]);
+		this.sum = sum;
+	}
+
+	/**
+	 * Executes Cycles until the {@link TimeLeapClock} reaches the given end.
+	 *
+	 * @param end the end of the simulation
+	 * @return the collected data
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> run(ZonedDateTime end) {
+		var endInstant = end.toInstant();
+		while (this.clock.instant().isBefore(endInstant)) {
+			this.executeCycle();
+			if (this.executeCycleTwice) {
+				this.executeCycle();
+			}
+			this.clock.leap(this.timeleapPerCycle.toMillis(), ChronoUnit.MILLIS);
+		}
+		return this.collectedData;
+	}
+
+	/**
+	 * Executes one Cycle without applying a time-leap.
+	 */
+	public void executeCycle() {
+		this.updateChannelRegistry();
+
+		this.sendEvent(BEFORE_PROCESS_IMAGE);
+		var channels = this.channels;
+		for (var i = 0; i < channels.length; i++) {
+			channels[i].nextProcessImage();
+		}
+		if (this.sum != null) {
+			this.sum.updateChannelsBeforeProcessImage();
+			var sumChannels = this.sumChannels;
+			for (var i = 0; i < sumChannels.length; i++) {
+				sumChannels[i].nextProcessImage();
+			}
+		}
+		this.sendEvent(AFTER_PROCESS_IMAGE);
+		this.collectData();
+
+		this.sendEvent(BEFORE_CONTROLLERS);
+		for (var controller : this.controllers) {
+			this.runController(controller);
+		}
+		this.sendEvent(AFTER_CONTROLLERS);
+
+		this.sendEvent(BEFORE_WRITE);
+		this.sendEvent(EXECUTE_WRITE);
+		this.sendEvent(AFTER_WRITE);
+		this.cycles++;
+	}
+
+	/**
+	 * Gets the number of executed Cycles.
+	 *
+	 * @return the number of Cycles
+	 */
+	public long getCycles() {
+		return this.cycles;
+	}
+
+	/**
+	 * Gets the collected data.
+	 *
+	 * @return the collected data
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getCollectedData() {
+		return this.collectedData;
+	}
+
+	/**
+	 * Deactivates the Components of this simulation.
+	 */
+	@Override
+	public void close() {
+		this.onClose.run();
+	}
+
+	private void sendEvent(Event event) {
+		var eventHandlers = this.eventHandlers;
+		for (var i = 0; i < eventHandlers.length; i++) {
+			eventHandlers[i].handleEvent(event);
+		}
+	}
+
+	/**
+	 * Runs a Controller and announces the result via its RunFailed Channel, like
+	 * Core.Cycle does. Errors are logged only once per Controller.
+	 *
+	 * @param controller the {@link Controller}
+	 */
+	private void runController(Controller controller) {
+		try {
+			controller.run();
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			if (this.failedControllers.add(controller.id())) {
+				this.log.warn("Error in Controller [" + controller.id() + "] at [" + this.clock.instant() + "]. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+			controller._setRunFailed(true);
+		}
+	}
+
+	private void collectData() {
+		if (this.collects.length == 0) {
+			return;
+		}
+		var now = this.clock.instant();
+		if (now.isBefore(this.nextCollect)) {
+			return;
+		}
+		this.nextCollect = now.plus(this.collectInterval);
+
+		SortedMap<ChannelAddress, JsonElement> values = new TreeMap<>();
+		for (var address : this.collects) {
+			values.put(address, this.getValue(address));
+		}
+		this.collectedData.put(ZonedDateTime.now(this.clock), values);
+	}
+
+	private JsonElement getValue(ChannelAddress address) {
+		for (var component : this.components) {
+			if (component.id().equals(address.getComponentId())) {
+				try {
+					return component.channel(address.getChannelId()).value().asJson();
+				} catch (IllegalArgumentException e) {
+					break;
+				}
+			}
+		}
+		return JsonNull.INSTANCE;
+	}
+
+	/**
+	 * Rebuilds the flat Channel registry if a Component added or removed Channels.
+	 */
+	private void updateChannelRegistry() {
+		var count = 0;
+		for (var component : this.components) {
+			if (component != this.sum) {
+				count += component.channels().size();
+			}
+		}
+		if (count == this.channels.length) {
+			return;
+		}
+		var channels = new ArrayList<Channel<?>>(count);
+		for (var component : this.components) {
+			if (component != this.sum) {
+				channels.addAll(component.channels());
+			}
+		}
+		this.channels = channels.toArray(new Channel<?>[channels.size()]);
+		if (this.sum != null) {
+			this.sumChannels = this.sum.channels().toArray(new Channel<?>[0]);
+		}
+	}
+
+	private static Event createEvent(String topic) {
+		return new Event(topic, new HashMap<String, Object>());
+	}
+
+}
@@ -0,0 +1,673 @@
+package io.openems.edge.simulator.app;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.cm.ConfigurationAdmin;
+import org.osgi.service.component.ComponentConstants;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.runtime.ServiceComponentRuntime;
+import org.osgi.service.component.runtime.dto.ComponentDescriptionDTO;
+import org.osgi.service.component.runtime.dto.ReferenceDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingFunction;
+import io.openems.common.jsonrpc.request.CreateComponentConfigRequest;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentContext;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.common.test.DummyConfigurationAdmin.DummyConfiguration;
+import io.openems.edge.common.test.TimeLeapClock;
+
+/**
+ * Creates {@link BatchSimulation}s from Component configurations, i.e. the
+ * same Factory-PIDs and properties that are used for a
+ * {@link CreateComponentConfigRequest}.
+ *
+ * <p>
+ * Every {@link BatchSimulation} gets its own graph of Components. The
+ * Components are instantiated and activated like Declarative Services would
+ * do it, but they are never registered in the OSGi framework:
+ *
+ * <ul>
+ * <li>'activate()' gets a Config that is created from the properties and the
+ * defaults of the Config annotation
+ * <li>References are injected from the Components of the same graph that
+ * provide the interface and match the target filter; every graph has its own
+ * {@link ComponentManager} and {@link ConfigurationAdmin}
+ * <li>if 'activate()' changes the configuration of the Component, e.g. via
+ * {@link OpenemsComponent#updateReferenceFilter(ConfigurationAdmin, String, String, String...)},
+ * the Component is deactivated and activated again
+ * <li>dynamic References are updated once all Components are activated
+ * </ul>
+ *
+ * <p>
+ * Components are activated in the given order, so a Component has to be given
+ * after the Components of its static References. They are deactivated in the
+ * reverse order when the {@link BatchSimulation} is closed or if activating the
+ * graph fails.
+ */
+public class BatchSimulationFactory {
+
+	/**
+	 * Describes a Component type by its Declarative Services metadata and its
+	 * implementation class.
+	 */
+	public static class ComponentType {
+		private final ComponentDescriptionDTO description;
+		private final Class<?> implementation;
+
+		public ComponentType(ComponentDescriptionDTO description, Class<?> implementation) {
+			this.description = description;
+			this.implementation = implementation;
+		}
+	}
+
+	/**
+	 * An activated Component of a graph.
+	 */
+	private static class Instance {
+		private final ComponentType type;
+		private final OpenemsComponent component;
+		private final String servicePid;
+		private final String factoryPid;
+		private final DummyConfiguration configuration;
+		private final Map<String, Set<Object>> boundServices = new HashMap<>();
+		private Hashtable<String, Object> properties = new Hashtable<>();
+
+		private Instance(ComponentType type, OpenemsComponent component, String servicePid, String factoryPid,
+				DummyConfiguration configuration) {
+			this.type = type;
+			this.component = component;
+			this.servicePid = servicePid;
+			this.factoryPid = factoryPid;
+			this.configuration = configuration;
+		}
+
+		/**
+		 * Updates the Component properties from the description and the current
+		 * configuration.
+		 */
+		private void updateProperties() {
+			var properties = new Hashtable<String, Object>();
+			if (this.type.description.properties != null) {
+				properties.putAll(this.type.description.properties);
+			}
+			var configuration = this.configuration.getProperties();
+			var keys = configuration.keys();
+			while (keys.hasMoreElements()) {
+				var key = keys.nextElement();
+				properties.put(key, configuration.get(key));
+			}
+			properties.putIfAbsent("enabled", true);
+			properties.put(Constants.SERVICE_PID, this.servicePid);
+			properties.put(ComponentConstants.COMPONENT_NAME, this.type.description.name);
+			if (!this.servicePid.equals(this.factoryPid)) {
+				properties.put(ConfigurationAdmin.SERVICE_FACTORYPID, this.factoryPid);
+			}
+			this.properties = properties;
+		}
+	}
+
+	private static final String POLICY_DYNAMIC = "dynamic";
+	private static final int MAX_REACTIVATIONS = 10;
+
+	/**
+	 * Creates a {@link BatchSimulationFactory} that looks up the Component types
+	 * of all installed bundles via the {@link ServiceComponentRuntime}.
+	 *
+	 * @param scr           the {@link ServiceComponentRuntime}
+	 * @param bundleContext the {@link BundleContext}
+	 * @return a {@link BatchSimulationFactory}
+	 */
+	public static BatchSimulationFactory from(ServiceComponentRuntime scr, BundleContext bundleContext) {
+		return new BatchSimulationFactory(factoryPid -> {
+			for (var description : scr.getComponentDescriptionDTOs()) {
+				if (!factoryPid.equals(description.name)) {
+					continue;
+				}
+				var bundle = bundleContext.getBundle(description.bundle.id);
+				if (bundle == null) {
+					break;
+				}
+				try {
+					return new ComponentType(description, bundle.loadClass(description.implementationClass));
+				} catch (ClassNotFoundException e) {
+					throw new OpenemsException(
+							"Unable to load [" + description.implementationClass + "]: " + e.getMessage());
+				}
+			}
+			throw new OpenemsException("Factory-PID [" + factoryPid + "] is not available");
+		});
+	}
+
+	private final Logger log = LoggerFactory.getLogger(BatchSimulationFactory.class);
+	private final ThrowingFunction<String, ComponentType, OpenemsException> componentTypes;
+
+	public BatchSimulationFactory(ThrowingFunction<String, ComponentType, OpenemsException> componentTypes) {
+		this.componentTypes = componentTypes;
+	}
+
+	/**
+	 * Executes all variants of a {@link ExecuteBatchSimulationRequest} in
+	 * parallel via {@link BatchSimulationSweep}.
+	 *
+	 * @param request the {@link ExecuteBatchSimulationRequest}
+	 * @return the {@link ExecuteBatchSimulationResponse}
+	 * @throws OpenemsException on error
+	 */
+	public ExecuteBatchSimulationResponse execute(ExecuteBatchSimulationRequest request) throws OpenemsException {
+		var variants = IntStream.range(0, request.variants.size()).boxed().collect(Collectors.toList());
+		var collects = request.collects.toArray(new ChannelAddress[request.collects.size()]);
+		var results = BatchSimulationSweep.run(variants, variant -> this //
+				.create(request.getComponents(variant), request.clock.start) //
+				.setTimeleapPerCycle(Duration.ofMillis(request.clock.timeleapPerCycle)) //
+				.setExecuteCycleTwice(request.clock.executeCycleTwice) //
+				.addCollects(collects) //
+				.setCollectInterval(request.collectInterval) //
+				.build(), request.clock.end);
+		return new ExecuteBatchSimulationResponse(request.getId(), new ArrayList<>(results.values()));
+	}
+
+	/**
+	 * Creates and activates a new graph of Components and prepares a
+	 * {@link BatchSimulation} for it.
+	 *
+	 * @param components the Component configurations in activation order
+	 * @param start      the start of the simulated time
+	 * @return a {@link BatchSimulation.Builder} with the Clock and the Components
+	 * @throws OpenemsException on error
+	 */
+	public BatchSimulation.Builder create(List<CreateComponentConfigRequest> components, ZonedDateTime start)
+			throws OpenemsException {
+		var clock = new TimeLeapClock(start.toInstant(), start.getZone());
+		var componentManager = new DummyComponentManager(clock);
+		var cm = new DummyConfigurationAdmin();
+		var services = List.<Object>of(componentManager, cm);
+
+		var instances = new ArrayList<Instance>();
+		try {
+			for (var request : components) {
+				var instance = this.activate(request, cm, services, instances);
+				instances.add(instance);
+				componentManager.addComponent(instance.component);
+			}
+			for (var instance : instances) {
+				bindReferences(instance, services, instances, true);
+			}
+		} catch (OpenemsException | RuntimeException e) {
+			this.deactivate(instances);
+			throw e;
+		}
+
+		var builder = BatchSimulation.create(clock) //
+				.setOnClose(() -> this.deactivate(instances));
+		for (var instance : instances) {
+			builder.addComponents(instance.component);
+		}
+		return builder;
+	}
+
+	/**
+	 * Deactivates Components in the reverse order of their activation. Errors
+	 * are logged, so that all Components get deactivated.
+	 *
+	 * @param instances the activated Components
+	 */
+	private void deactivate(List<Instance> instances) {
+		for (var i = instances.size() - 1; i >= 0; i--) {
+			var instance = instances.get(i);
+			try {
+				invoke(instance, findMethod(instance.type.implementation, instance.type.description.deactivate));
+			} catch (OpenemsException | RuntimeException e) {
+				this.log.warn("Unable to deactivate Component [" + instance.servicePid + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Instantiates and activates a Component.
+	 *
+	 * @param request   the Component configuration
+	 * @param cm        the {@link DummyConfigurationAdmin} of the graph
+	 * @param services  the services that are provided to every Component
+	 * @param instances the already activated Components
+	 * @return the activated {@link Instance}
+	 * @throws OpenemsException on error
+	 */
+	private Instance activate(CreateComponentConfigRequest request, DummyConfigurationAdmin cm, List<Object> services,
+			List<Instance> instances) throws OpenemsException {
+		var factoryPid = request.getFactoryPid();
+		var type = this.componentTypes.apply(factoryPid);
+		var componentId = request.getComponentId();
+		var servicePid = componentId.isEmpty() ? factoryPid : componentId;
+
+		final Object component;
+		try {
+			var constructor = type.implementation.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			component = constructor.newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new OpenemsException("Unable to create [" + factoryPid + "]: " + e.getMessage());
+		}
+		if (!(component instanceof OpenemsComponent)) {
+			throw new OpenemsException("[" + factoryPid + "] is not an OpenEMS Component");
+		}
+
+		var activate = findMethod(type.implementation, type.description.activate);
+		var configuration = cm.getOrCreateEmptyConfiguration(servicePid);
+		if (activate != null) {
+			addDefaults(configuration, activate);
+		}
+		for (var property : request.getProperties()) {
+			configuration.addProperty(property.getName(), toObject(property.getValue()));
+		}
+
+		var instance = new Instance(type, (OpenemsComponent) component, servicePid, factoryPid, configuration);
+		for (var i = 0;; i++) {
+			instance.updateProperties();
+			bindReferences(instance, services, instances, false);
+			var changeCount = configuration.getChangeCount();
+			invoke(instance, activate);
+			if (changeCount == configuration.getChangeCount()) {
+				return instance;
+			}
+			// Configuration was changed -> deactivate and activate again, like OSGi does
+			invoke(instance, findMethod(type.implementation, type.description.deactivate));
+			if (i == MAX_REACTIVATIONS) {
+				throw new OpenemsException("Component [" + servicePid + "] keeps changing its configuration");
+			}
+		}
+	}
+
+	/**
+	 * Injects the References of a Component.
+	 *
+	 * @param instance    the {@link Instance}
+	 * @param services    the services that are provided to every Component
+	 * @param instances   the activated Components
+	 * @param dynamicOnly inject only dynamic References, after all Components are
+	 *                    activated
+	 * @throws OpenemsException if a mandatory Reference is not satisfied
+	 */
+	private static void bindReferences(Instance instance, List<Object> services, List<Instance> instances,
+			boolean dynamicOnly) throws OpenemsException {
+		var references = instance.type.description.references;
+		if (references == null) {
+			return;
+		}
+		for (var reference : references) {
+			var isDynamic = POLICY_DYNAMIC.equals(reference.policy);
+			if (dynamicOnly && !isDynamic) {
+				continue;
+			}
+			var matches = findServices(instance, reference, services, instances);
+			if (matches.isEmpty() && isMandatory(reference) && (dynamicOnly || !isDynamic)) {
+				throw new OpenemsException("Unable to satisfy Reference [" + reference.name + "] of Component ["
+						+ instance.servicePid + "]");
+			}
+			if (!isMultiple(reference) && matches.size() > 1) {
+				matches = matches.subList(0, 1);
+			}
+			bindReference(instance, reference, matches);
+		}
+	}
+
+	private static List<Object> findServices(Instance instance, ReferenceDTO reference, List<Object> services,
+			List<Instance> instances) throws OpenemsException {
+		final Class<?> serviceType;
+		try {
+			serviceType = instance.type.implementation.getClassLoader().loadClass(reference.interfaceName);
+		} catch (ClassNotFoundException e) {
+			throw new OpenemsException("Unable to load [" + reference.interfaceName + "]: " + e.getMessage());
+		}
+
+		var result = new ArrayList<Object>();
+		for (var service : services) {
+			if (serviceType.isInstance(service)) {
+				result.add(service);
+			}
+		}
+
+		var target = (String) instance.properties.get(reference.name + ".target");
+		if (target == null) {
+			target = reference.target;
+		}
+		Filter filter = null;
+		if (target != null && !target.isEmpty()) {
+			try {
+				filter = FrameworkUtil.createFilter(target);
+			} catch (InvalidSyntaxException e) {
+				throw new OpenemsException("Invalid target [" + target + "] of Reference [" + reference.name
+						+ "] of Component [" + instance.servicePid + "]: " + e.getMessage());
+			}
+		}
+		for (var other : instances) {
+			if (other != instance && serviceType.isInstance(other.component)
+					&& (filter == null || filter.matches(other.properties))) {
+				result.add(other.component);
+			}
+		}
+		return result;
+	}
+
+	private static void bindReference(Instance instance, ReferenceDTO reference, List<Object> services)
+			throws OpenemsException {
+		try {
+			if (reference.field != null) {
+				var field = findField(instance.type.implementation, reference.field);
+				if (field == null) {
+					throw new OpenemsException("Field [" + reference.field + "] of Component [" + instance.servicePid
+							+ "] does not exist");
+				}
+				field.setAccessible(true);
+				if (isMultiple(reference)) {
+					field.set(instance.component, new CopyOnWriteArrayList<>(services));
+				} else {
+					field.set(instance.component, services.isEmpty() ? null : services.get(0));
+				}
+
+			} else if (reference.bind != null) {
+				var method = findMethod(instance.type.implementation, reference.bind);
+				if (method == null || method.getParameterCount() != 1) {
+					throw new OpenemsException("Bind-Method [" + reference.bind + "] of Component ["
+							+ instance.servicePid + "] is not supported");
+				}
+				method.setAccessible(true);
+				var boundServices = instance.boundServices.computeIfAbsent(reference.name,
+						name -> Collections.newSetFromMap(new IdentityHashMap<>()));
+				for (var service : services) {
+					if (boundServices.add(service)) {
+						method.invoke(instance.component, service);
+					}
+				}
+			}
+		} catch (IllegalAccessException e) {
+			throw new OpenemsException("Unable to bind Reference [" + reference.name + "] of Component ["
+					+ instance.servicePid + "]: " + e.getMessage());
+		} catch (InvocationTargetException e) {
+			throw new OpenemsException("Unable to bind Reference [" + reference.name + "] of Component ["
+					+ instance.servicePid + "]: " + e.getCause().getMessage(), e.getCause());
+		}
+	}
+
+	/**
+	 * Invokes the 'activate()' or 'deactivate()' method of a Component.
+	 *
+	 * @param instance the {@link Instance}
+	 * @param method   the method; null if the Component does not have one
+	 * @throws OpenemsException on error
+	 */
+	private static void invoke(Instance instance, Method method) throws OpenemsException {
+		if (method == null) {
+			return;
+		}
+		var parameterTypes = method.getParameterTypes();
+		var args = new Object[parameterTypes.length];
+		for (var i = 0; i < parameterTypes.length; i++) {
+			var parameterType = parameterTypes[i];
+			if (ComponentContext.class.isAssignableFrom(parameterType)) {
+				args[i] = new DummyComponentContext(new Hashtable<>(instance.properties));
+			} else if (BundleContext.class.isAssignableFrom(parameterType)) {
+				args[i] = null;
+			} else if (Map.class.isAssignableFrom(parameterType)) {
+				args[i] = Collections.unmodifiableMap(instance.properties);
+			} else if (parameterType == int.class || parameterType == Integer.class) {
+				// Deactivation reason
+				args[i] = ComponentConstants.DEACTIVATION_REASON_UNSPECIFIED;
+			} else if (parameterType.isInterface()) {
+				args[i] = createConfig(parameterType, instance.properties);
+			} else {
+				throw new OpenemsException("Unsupported parameter [" + parameterType.getSimpleName() + "] of ["
+						+ method.getName() + "()] of Component [" + instance.servicePid + "]");
+			}
+		}
+		try {
+			method.setAccessible(true);
+			method.invoke(instance.component, args);
+		} catch (IllegalAccessException e) {
+			throw new OpenemsException("Unable to call [" + method.getName() + "()] of Component ["
+					+ instance.servicePid + "]: " + e.getMessage());
+		} catch (InvocationTargetException e) {
+			var cause = e.getCause();
+			throw new OpenemsException("Unable to call [" + method.getName() + "()] of Component ["
+					+ instance.servicePid + "]: " + cause.getClass().getSimpleName() + ": " + cause.getMessage(),
+					cause);
+		}
+	}
+
+	/**
+	 * Adds the defaults of the Config annotation of an 'activate()' method, like
+	 * the ComponentManager does when it creates a configuration.
+	 *
+	 * @param configuration the {@link DummyConfiguration}
+	 * @param activate      the 'activate()' method
+	 */
+	private static void addDefaults(DummyConfiguration configuration, Method activate) {
+		for (var parameterType : activate.getParameterTypes()) {
+			if (!parameterType.isAnnotation()) {
+				continue;
+			}
+			for (var method : parameterType.getDeclaredMethods()) {
+				var value = method.getDefaultValue();
+				if (value != null) {
+					configuration.addProperty(toPropertyKey(method.getName()), value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates an instance of a Config annotation or interface that is backed by
+	 * the Component properties.
+	 *
+	 * @param type       the Config type
+	 * @param properties the Component properties
+	 * @return the Config
+	 */
+	private static Object createConfig(Class<?> type, Dictionary<String, Object> properties) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			if (method.getDeclaringClass() == Object.class) {
+				switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return type.getSimpleName() + properties;
+				}
+			}
+			if (method.getDeclaringClass() == Annotation.class) {
+				return type;
+			}
+			var key = toPropertyKey(method.getName());
+			var value = properties.get(key);
+			if (value == null) {
+				value = method.getDefaultValue();
+			}
+			if (value == null) {
+				if (method.getReturnType().isPrimitive()) {
+					throw new IllegalArgumentException("Property [" + key + "] is missing");
+				}
+				return null;
+			}
+			return convert(value, method.getReturnType());
+		});
+	}
+
+	/**
+	 * Converts a property value to the type of a Config method.
+	 *
+	 * @param value the property value
+	 * @param type  the type
+	 * @return the converted value
+	 */
+	private static Object convert(Object value, Class<?> type) {
+		if (type.isArray()) {
+			var values = new ArrayList<Object>();
+			if (value.getClass().isArray()) {
+				for (var i = 0; i < Array.getLength(value); i++) {
+					values.add(Array.get(value, i));
+				}
+			} else if (value instanceof Collection<?>) {
+				values.addAll((Collection<?>) value);
+			} else {
+				values.add(value);
+			}
+			var result = Array.newInstance(type.getComponentType(), values.size());
+			for (var i = 0; i < values.size(); i++) {
+				Array.set(result, i, convert(values.get(i), type.getComponentType()));
+			}
+			return result;
+		}
+		if (type.isInstance(value)) {
+			return value;
+		}
+		var string = value.toString().trim();
+		if (type == String.class) {
+			return string;
+		}
+		if (type == boolean.class || type == Boolean.class) {
+			return Boolean.parseBoolean(string);
+		}
+		if (type == char.class || type == Character.class) {
+			return string.isEmpty() ? '\0' : string.charAt(0);
+		}
+		if (type.isEnum()) {
+			for (var constant : type.getEnumConstants()) {
+				if (((Enum<?>) constant).name().equals(string)) {
+					return constant;
+				}
+			}
+			throw new IllegalArgumentException("[" + string + "] is not a value of [" + type.getSimpleName() + "]");
+		}
+		var number = value instanceof Number ? (Number) value : Double.valueOf(string);
+		if (type == int.class || type == Integer.class) {
+			return number.intValue();
+		}
+		if (type == long.class || type == Long.class) {
+			return number.longValue();
+		}
+		if (type == double.class || type == Double.class) {
+			return number.doubleValue();
+		}
+		if (type == float.class || type == Float.class) {
+			return number.floatValue();
+		}
+		if (type == short.class || type == Short.class) {
+			return number.shortValue();
+		}
+		if (type == byte.class || type == Byte.class) {
+			return number.byteValue();
+		}
+		throw new IllegalArgumentException("Unable to convert [" + value + "] to [" + type.getSimpleName() + "]");
+	}
+
+	/**
+	 * Converts a JSON property value to the Object that is stored in the
+	 * configuration.
+	 *
+	 * @param j the {@link JsonElement}
+	 * @return the Object; a List for a JSON array
+	 */
+	private static Object toObject(JsonElement j) {
+		if (j.isJsonArray()) {
+			var result = new ArrayList<Object>();
+			for (var element : j.getAsJsonArray()) {
+				result.add(toObject(element));
+			}
+			return result;
+		}
+		if (!j.isJsonPrimitive()) {
+			return j.toString();
+		}
+		var p = j.getAsJsonPrimitive();
+		if (p.isBoolean()) {
+			return p.getAsBoolean();
+		}
+		if (p.isNumber()) {
+			var value = p.getAsDouble();
+			if (value == Math.rint(value) && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+				return (int) value;
+			}
+			return value;
+		}
+		return p.getAsString();
+	}
+
+	/**
+	 * Converts the name of a Config method to a property key, like Declarative
+	 * Services does: '_' becomes '.' and '__' becomes '_'.
+	 *
+	 * @param name the method name
+	 * @return the property key
+	 */
+	private static String toPropertyKey(String name) {
+		return name.replace("__", "\0").replace('_', '.').replace('\0', '_');
+	}
+
+	private static boolean isMandatory(ReferenceDTO reference) {
+		return reference.cardinality != null && reference.cardinality.startsWith("1");
+	}
+
+	private static boolean isMultiple(ReferenceDTO reference) {
+		return reference.cardinality != null && reference.cardinality.endsWith("n");
+	}
+
+	private static Method findMethod(Class<?> clazz, String name) {
+		if (name == null) {
+			return null;
+		}
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			for (var method : c.getDeclaredMethods()) {
+				if (method.getName().equals(name)) {
+					return method;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Field findField(Class<?> clazz, String name) {
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			try {
+				return c.getDeclaredField(name);
+			} catch (NoSuchFieldException e) {
+				// try superclass
+			}
+		}
+		return null;
+	}
+
+}
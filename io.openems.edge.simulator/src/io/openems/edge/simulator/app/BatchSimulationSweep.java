@@ -0,0 +1,94 @@
+package io.openems.edge.simulator.app;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingFunction;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Runs a parameter sweep of {@link BatchSimulation}s in parallel, e.g. to
+ * compare different Controller configurations.
+ *
+ * <p>
+ * Every {@link BatchSimulation} is created by the factory on its worker thread
+ * and has its own Components and Clock, so simulations do not share any state.
+ * Each {@link BatchSimulation} is closed after it ran, also on error.
+ */
+public class BatchSimulationSweep {
+
+	private BatchSimulationSweep() {
+	}
+
+	/**
+	 * Runs one {@link BatchSimulation} per parameter, using all available
+	 * processors.
+	 *
+	 * @param <P>        the type of the parameter
+	 * @param parameters the parameters
+	 * @param factory    creates a {@link BatchSimulation} for a parameter
+	 * @param end        the end of each simulation
+	 * @return the collected data per parameter, in the order of the parameters
+	 * @throws OpenemsException on error
+	 */
+	public static <P> Map<P, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> run(List<P> parameters,
+			ThrowingFunction<P, BatchSimulation, Exception> factory, ZonedDateTime end) throws OpenemsException {
+		return run(parameters, factory, end, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Runs one {@link BatchSimulation} per parameter.
+	 *
+	 * @param <P>         the type of the parameter
+	 * @param parameters  the parameters
+	 * @param factory     creates a {@link BatchSimulation} for a parameter
+	 * @param end         the end of each simulation
+	 * @param parallelism the maximum number of simulations that run in parallel
+	 * @return the collected data per parameter, in the order of the parameters
+	 * @throws OpenemsException on error
+	 */
+	public static <P> Map<P, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> run(List<P> parameters,
+			ThrowingFunction<P, BatchSimulation, Exception> factory, ZonedDateTime end, int parallelism)
+			throws OpenemsException {
+		var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, parameters.size())));
+		try {
+			var futures = new ArrayList<Future<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>>>();
+			for (var parameter : parameters) {
+				futures.add(executor.submit(() -> {
+					try (var simulation = factory.apply(parameter)) {
+						return simulation.run(end);
+					}
+				}));
+			}
+
+			var result = new LinkedHashMap<P, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>>();
+			for (var i = 0; i < parameters.size(); i++) {
+				var parameter = parameters.get(i);
+				try {
+					result.put(parameter, futures.get(i).get());
+				} catch (ExecutionException e) {
+					var cause = e.getCause();
+					throw new OpenemsException("Simulation for [" + parameter + "] failed: " + cause.getMessage(), cause);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OpenemsException("Simulation for [" + parameter + "] was interrupted", e);
+				}
+			}
+			return result;
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
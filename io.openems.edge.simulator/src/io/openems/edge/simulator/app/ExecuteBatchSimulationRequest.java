@@ -0,0 +1,215 @@
+package io.openems.edge.simulator.app;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.request.CreateComponentConfigRequest;
+import io.openems.common.jsonrpc.request.UpdateComponentConfigRequest.Property;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.simulator.app.ExecuteSimulationRequest.Clock;
+
+/**
+ * Executes a headless simulation via {@link BatchSimulation}, without changing
+ * the configuration of the running system. Every variant is simulated in its
+ * own graph of Components; variants are executed in parallel.
+ *
+ * <p>
+ * Components are activated in the given order; 'Ess.Power' and 'Core.Sum'
+ * need to be given explicitly if required.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "executeBatchSimulation",
+ *   "params": {
+ *     "components": [{
+ *       "factoryPid": string,
+ *       "properties": [{
+ *         "name": string,
+ *         "value": any
+ *       }]
+ *     }],
+ *     "clock": {
+ *       "start": "yyyy-mm-ddTHH:MM:00.00Z", // ISO_INSTANT
+ *       "end": "yyyy-mm-ddTHH:MM:00.00Z", // ISO_INSTANT
+ *       "timeleapPerCycle": number [ms],
+ *       "executeCycleTwice": boolean // Execute every Cycle twice to simulate immediate execution
+ *     },
+ *     "collect": [
+ *       "meter0/ActivePower",... // Channels to be collected for response
+ *     ],
+ *     "collectInterval"?: number [s], // defaults to every Cycle
+ *     "variants"?: [{ // defaults to one variant without changes
+ *       "componentId": [{ // properties that are changed in this variant
+ *         "name": string,
+ *         "value": any
+ *       }]
+ *     }]
+ *   }
+ * }
+ * </pre>
+ */
+public class ExecuteBatchSimulationRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "executeBatchSimulation";
+
+	/**
+	 * Create {@link ExecuteBatchSimulationRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link ExecuteBatchSimulationRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static ExecuteBatchSimulationRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		var p = r.getParams();
+		List<CreateComponentConfigRequest> components = new ArrayList<>();
+		for (JsonElement jComponent : JsonUtils.getAsJsonArray(p, "components")) {
+			components.add(CreateComponentConfigRequest.from(JsonUtils.getAsJsonObject(jComponent)));
+		}
+		var clock = Clock.from(JsonUtils.getAsJsonObject(p, "clock"));
+		List<ChannelAddress> collects = new ArrayList<>();
+		for (JsonElement jCollect : JsonUtils.getAsJsonArray(p, "collect")) {
+			collects.add(ChannelAddress.fromString(JsonUtils.getAsString(jCollect)));
+		}
+		var collectInterval = Duration.ofSeconds(JsonUtils.getAsOptionalInt(p, "collectInterval").orElse(0));
+		List<Map<String, List<Property>>> variants = new ArrayList<>();
+		var jVariantsOpt = JsonUtils.getAsOptionalJsonArray(p, "variants");
+		if (jVariantsOpt.isPresent()) {
+			for (JsonElement jVariant : jVariantsOpt.get()) {
+				Map<String, List<Property>> variant = new LinkedHashMap<>();
+				for (Entry<String, JsonElement> entry : JsonUtils.getAsJsonObject(jVariant).entrySet()) {
+					List<Property> properties = new ArrayList<>();
+					for (JsonElement jProperty : JsonUtils.getAsJsonArray(entry.getValue())) {
+						properties.add(new Property(JsonUtils.getAsString(jProperty, "name"),
+								JsonUtils.getSubElement(jProperty, "value")));
+					}
+					variant.put(entry.getKey(), properties);
+				}
+				variants.add(variant);
+			}
+		}
+		if (variants.isEmpty()) {
+			variants.add(Map.of());
+		}
+		return new ExecuteBatchSimulationRequest(r, components, clock, collects, collectInterval, variants);
+	}
+
+	public final List<CreateComponentConfigRequest> components;
+	public final Clock clock;
+	public final List<ChannelAddress> collects;
+	public final Duration collectInterval;
+	public final List<Map<String, List<Property>>> variants;
+
+	public ExecuteBatchSimulationRequest(List<CreateComponentConfigRequest> components, Clock clock,
+			List<ChannelAddress> collects, Duration collectInterval, List<Map<String, List<Property>>> variants) {
+		super(UUID.randomUUID(), METHOD, JsonrpcRequest.NO_TIMEOUT);
+		this.components = components;
+		this.clock = clock;
+		this.collects = collects;
+		this.collectInterval = collectInterval;
+		this.variants = variants;
+	}
+
+	public ExecuteBatchSimulationRequest(JsonrpcRequest request, List<CreateComponentConfigRequest> components,
+			Clock clock, List<ChannelAddress> collects, Duration collectInterval,
+			List<Map<String, List<Property>>> variants) {
+		super(request, METHOD);
+		this.components = components;
+		this.clock = clock;
+		this.collects = collects;
+		this.collectInterval = collectInterval;
+		this.variants = variants;
+	}
+
+	/**
+	 * Gets the Component configurations of a variant.
+	 *
+	 * @param variant the index of the variant
+	 * @return the Component configurations in activation order
+	 * @throws OpenemsException if the variant changes an unknown Component
+	 */
+	public List<CreateComponentConfigRequest> getComponents(int variant) throws OpenemsException {
+		var changes = this.variants.get(variant);
+		var unknownComponentIds = new HashSet<>(changes.keySet());
+		var result = new ArrayList<CreateComponentConfigRequest>(this.components.size());
+		for (var component : this.components) {
+			var componentId = component.getComponentId();
+			var changedProperties = changes.get(componentId);
+			if (changedProperties == null) {
+				result.add(component);
+				continue;
+			}
+			unknownComponentIds.remove(componentId);
+			var properties = new LinkedHashMap<String, Property>();
+			for (var property : component.getProperties()) {
+				properties.put(property.getName(), property);
+			}
+			for (var property : changedProperties) {
+				properties.put(property.getName(), property);
+			}
+			result.add(new CreateComponentConfigRequest(component.getFactoryPid(),
+					new ArrayList<>(properties.values())));
+		}
+		if (!unknownComponentIds.isEmpty()) {
+			throw new OpenemsException("Variant [" + variant + "] changes unknown Components " + unknownComponentIds);
+		}
+		return result;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		var components = new JsonArray();
+		for (var component : this.components) {
+			components.add(component.getParams());
+		}
+		var collects = new JsonArray();
+		for (var collect : this.collects) {
+			collects.add(collect.toString());
+		}
+		var variants = new JsonArray();
+		for (var variant : this.variants) {
+			var jVariant = new JsonObject();
+			for (var entry : variant.entrySet()) {
+				var properties = new JsonArray();
+				for (var property : entry.getValue()) {
+					properties.add(JsonUtils.buildJsonObject() //
+							.addProperty("name", property.getName()) //
+							.add("value", property.getValue()) //
+							.build());
+				}
+				jVariant.add(entry.getKey(), properties);
+			}
+			variants.add(jVariant);
+		}
+		return JsonUtils.buildJsonObject() //
+				.add("components", components) //
+				.add("clock", JsonUtils.buildJsonObject() //
+						.addProperty("start", this.clock.start.format(DateTimeFormatter.ISO_INSTANT)) //
+						.addProperty("end", this.clock.end.format(DateTimeFormatter.ISO_INSTANT)) //
+						.addProperty("timeleapPerCycle", this.clock.timeleapPerCycle) //
+						.addProperty("executeCycleTwice", this.clock.executeCycleTwice) //
+						.build()) //
+				.add("collect", collects) //
+				.addProperty("collectInterval", this.collectInterval.toSeconds()) //
+				.add("variants", variants) //
+				.build();
+	}
+
+}
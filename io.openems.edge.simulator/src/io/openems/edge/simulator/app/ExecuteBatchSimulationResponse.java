@@ -0,0 +1,72 @@
+package io.openems.edge.simulator.app;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Represents a JSON-RPC Response for 'executeBatchSimulation'.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "variants": [{ // in the order of the variants of the request
+ *       "timestamps": [
+ *         '2011-12-03T10:15:30Z',...
+ *       ],
+ *       "data": {
+ *         "componentId/channelId": [
+ *           value1, value2,...
+ *         ]
+ *       }
+ *     }]
+ *   }
+ * }
+ * </pre>
+ */
+public class ExecuteBatchSimulationResponse extends JsonrpcResponseSuccess {
+
+	private final List<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> variants;
+
+	public ExecuteBatchSimulationResponse(
+			List<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> variants) {
+		this(UUID.randomUUID(), variants);
+	}
+
+	public ExecuteBatchSimulationResponse(UUID id,
+			List<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> variants) {
+		super(id);
+		this.variants = variants;
+	}
+
+	/**
+	 * Gets the collected data per variant.
+	 *
+	 * @return the collected data, in the order of the variants of the request
+	 */
+	public List<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>> getVariants() {
+		return this.variants;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		var variants = new JsonArray();
+		for (var data : this.variants) {
+			variants.add(new ExecuteSimulationResponse(this.getId(), data).getResult());
+		}
+		var result = new JsonObject();
+		result.add("variants", variants);
+		return result;
+	}
+
+}
@@ -18,8 +18,10 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
+import org.osgi.framework.BundleContext;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -27,6 +29,7 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.runtime.ServiceComponentRuntime;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
@@ -98,6 +101,11 @@ public class SimulatorApp extends AbstractOpenemsComponent
 	@Reference
 	private ComponentManager componentManager;
 
+	@Reference
+	private ServiceComponentRuntime serviceComponentRuntime;
+
+	private BundleContext bundleContext;
+
 	private static class CurrentSimulation {
 		private final User user;
 		private final ExecuteSimulationRequest request;
@@ -150,6 +158,7 @@ public class SimulatorApp extends AbstractOpenemsComponent
 	@Activate
 	private void activate(ComponentContext componentContext, Config config) throws OpenemsException {
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, config.enabled());
+		this.bundleContext = componentContext.getBundleContext();
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
 			return;
@@ -184,6 +193,9 @@ public class SimulatorApp extends AbstractOpenemsComponent
 		case ExecuteSimulationRequest.METHOD:
 			return this.handleExecuteSimulationRequest(user, ExecuteSimulationRequest.from(request));
 
+		case ExecuteBatchSimulationRequest.METHOD:
+			return this.handleExecuteBatchSimulationRequest(ExecuteBatchSimulationRequest.from(request));
+
 		default:
 			throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
 		}
@@ -239,6 +251,33 @@ public class SimulatorApp extends AbstractOpenemsComponent
 		return response;
 	}
 
+	/**
+	 * Handles a {@link ExecuteBatchSimulationRequest}.
+	 *
+	 * <p>
+	 * Other than {@link ExecuteSimulationRequest} this does not touch the
+	 * configuration and the Cycle of the running system: every variant is
+	 * simulated headless in its own graph of Components.
+	 *
+	 * @param request the {@link ExecuteBatchSimulationRequest}
+	 * @return the Future JSON-RPC Response
+	 */
+	private CompletableFuture<ExecuteBatchSimulationResponse> handleExecuteBatchSimulationRequest(
+			ExecuteBatchSimulationRequest request) {
+		this.logInfo(this.log, "Starting Batch-Simulation with [" + request.variants.size() + "] variant(s)");
+		var factory = BatchSimulationFactory.from(this.serviceComponentRuntime, this.bundleContext);
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				var response = factory.execute(request);
+				this.logInfo(this.log, "Finished Batch-Simulation");
+				return response;
+			} catch (OpenemsException e) {
+				this.logError(this.log, "Batch-Simulation failed: " + e.getMessage());
+				throw new CompletionException(e);
+			}
+		});
+	}
+
 	@Override
 	public void handleEvent(Event event) {
 		if (!this.isEnabled() || this.currentSimulation == null) {
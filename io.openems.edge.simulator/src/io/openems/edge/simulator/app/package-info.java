@@ -0,0 +1,14 @@
+/**
+ * This package holds the Simulator App and the headless batch simulation.
+ *
+ * <p>
+ * {@link io.openems.edge.simulator.app.BatchSimulationFactory} creates isolated
+ * graphs of Components at runtime. Each graph uses the
+ * {@link io.openems.edge.common.test.DummyComponentManager},
+ * {@link io.openems.edge.common.test.DummyConfigurationAdmin} and
+ * {@link io.openems.edge.common.test.TimeLeapClock} of the
+ * 'io.openems.edge.common.test' package instead of the real OSGi services, as
+ * these are shared with the running system. Changes to these helpers
+ * therefore also affect the 'executeBatchSimulation' JSON-RPC Request.
+ */
+package io.openems.edge.simulator.app;
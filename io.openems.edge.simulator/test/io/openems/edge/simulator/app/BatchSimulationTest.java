@@ -0,0 +1,399 @@
+package io.openems.edge.simulator.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.osgi.service.cm.ConfigurationAdmin;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.runtime.dto.ComponentDescriptionDTO;
+import org.osgi.service.component.runtime.dto.ReferenceDTO;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+import com.google.gson.JsonArray;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.request.CreateComponentConfigRequest;
+import io.openems.common.jsonrpc.request.UpdateComponentConfigRequest.Property;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.power.api.Coefficient;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.PidFilter;
+import io.openems.edge.ess.power.api.Power;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.test.DummyPower;
+import io.openems.edge.meter.api.SymmetricMeter;
+import io.openems.edge.simulator.app.BatchSimulationFactory.ComponentType;
+import io.openems.edge.simulator.app.ExecuteSimulationRequest.Clock;
+import io.openems.edge.simulator.datasource.api.SimulatorDatasource;
+import io.openems.edge.simulator.datasource.single.direct.SingleDatasourceDirect;
+import io.openems.edge.simulator.ess.symmetric.reacting.EssSymmetric;
+import io.openems.edge.simulator.meter.grid.acting.GridMeter;
+import io.openems.edge.timedata.api.Timedata;
+
+public class BatchSimulationTest {
+
+	private static final ChannelAddress GRID_ACTIVE_POWER = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress ESS_SOC = new ChannelAddress("ess0", "Soc");
+
+	private static final List<String> DEACTIVATED = new CopyOnWriteArrayList<>();
+
+	@interface PeakShavingConfig {
+		String id();
+
+		String alias() default "";
+
+		boolean enabled() default true;
+
+		String ess_id();
+
+		String meter_id();
+
+		int threshold();
+	}
+
+	/**
+	 * Discharges the ESS by the simulated consumption above a threshold.
+	 */
+	private static class PeakShavingController extends AbstractOpenemsComponent implements Controller {
+
+		private ConfigurationAdmin cm;
+		private ManagedSymmetricEss ess;
+		private SymmetricMeter meter;
+		private int threshold;
+
+		public PeakShavingController() {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					Controller.ChannelId.values() //
+			);
+		}
+
+		@SuppressWarnings("unused")
+		private void activate(ComponentContext context, PeakShavingConfig config) {
+			super.activate(context, config.id(), config.alias(), config.enabled());
+			this.threshold = config.threshold();
+			if (OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "ess", config.ess_id())) {
+				return;
+			}
+			if (OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "meter", config.meter_id())) {
+				return;
+			}
+		}
+
+		@Override
+		protected void deactivate() {
+			super.deactivate();
+			DEACTIVATED.add(this.id());
+		}
+
+		@Override
+		public void run() throws OpenemsNamedException {
+			IntegerReadChannel channel = this.meter.channel(GridMeter.ChannelId.SIMULATED_ACTIVE_POWER);
+			var consumption = channel.value().get();
+			if (consumption == null) {
+				return;
+			}
+			this.ess.setActivePowerEquals(Math.max(0, consumption - this.threshold));
+		}
+	}
+
+	/**
+	 * Applies the set-points of the Controller to the ESSs on BEFORE_WRITE, like
+	 * Ess.Power does.
+	 */
+	private static class ApplyPower extends AbstractOpenemsComponent implements Power, EventHandler {
+
+		private final DummyPower power = new DummyPower();
+		private volatile List<ManagedSymmetricEss> esss = new CopyOnWriteArrayList<>();
+
+		public ApplyPower() {
+			super(//
+					OpenemsComponent.ChannelId.values() //
+			);
+		}
+
+		@SuppressWarnings("unused")
+		private void activate(ComponentContext context, Map<String, Object> properties) {
+			super.activate(context, (String) properties.get("id"), "", true);
+		}
+
+		@Override
+		protected void deactivate() {
+			super.deactivate();
+			DEACTIVATED.add(this.id());
+		}
+
+		@Override
+		public void handleEvent(Event event) {
+			if (!event.getTopic().equals(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE)) {
+				return;
+			}
+			for (var ess : this.esss) {
+				var activePower = ess.getSetActivePowerEqualsChannel().getNextWriteValueAndReset();
+				if (activePower.isPresent()) {
+					try {
+						ess.applyPower(activePower.get(), 0);
+					} catch (OpenemsException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			}
+		}
+
+		@Override
+		public Constraint addConstraint(Constraint constraint) {
+			return this.power.addConstraint(constraint);
+		}
+
+		@Override
+		public Constraint addConstraintAndValidate(Constraint constraint) throws OpenemsException {
+			return this.power.addConstraintAndValidate(constraint);
+		}
+
+		@Override
+		public Constraint createSimpleConstraint(String description, ManagedSymmetricEss ess, Phase phase, Pwr pwr,
+				Relationship relationship, double value) throws OpenemsException {
+			return this.power.createSimpleConstraint(description, ess, phase, pwr, relationship, value);
+		}
+
+		@Override
+		public void removeConstraint(Constraint constraint) {
+			this.power.removeConstraint(constraint);
+		}
+
+		@Override
+		public int getMaxPower(ManagedSymmetricEss ess, Phase phase, Pwr pwr) {
+			return this.power.getMaxPower(ess, phase, pwr);
+		}
+
+		@Override
+		public int getMinPower(ManagedSymmetricEss ess, Phase phase, Pwr pwr) {
+			return this.power.getMinPower(ess, phase, pwr);
+		}
+
+		@Override
+		public Coefficient getCoefficient(ManagedSymmetricEss ess, Phase phase, Pwr pwr) throws OpenemsException {
+			return this.power.getCoefficient(ess, phase, pwr);
+		}
+
+		@Override
+		public PidFilter getPidFilter() {
+			return this.power.getPidFilter();
+		}
+
+		@Override
+		public boolean isPidEnabled() {
+			return this.power.isPidEnabled();
+		}
+	}
+
+	private static final Map<String, ComponentType> COMPONENT_TYPES = Map.of(//
+			"Test.Power", componentType("Test.Power", ApplyPower.class, //
+					reference("esss", ManagedSymmetricEss.class, "0..n", "dynamic")), //
+			"Simulator.Datasource.Single.Direct", componentType("Simulator.Datasource.Single.Direct", //
+					SingleDatasourceDirect.class, //
+					reference("componentManager", ComponentManager.class, "1..1", "static")), //
+			"Simulator.EssSymmetric.Reacting", componentType("Simulator.EssSymmetric.Reacting", EssSymmetric.class, //
+					reference("power", Power.class, "1..1", "static"), //
+					reference("cm", ConfigurationAdmin.class, "1..1", "static"), //
+					reference("componentManager", ComponentManager.class, "1..1", "static"), //
+					reference("timedata", Timedata.class, "0..1", "dynamic")), //
+			"Simulator.GridMeter.Acting", componentType("Simulator.GridMeter.Acting", GridMeter.class, //
+					reference("cm", ConfigurationAdmin.class, "1..1", "static"), //
+					reference("datasource", SimulatorDatasource.class, "1..1", "static"), //
+					reference("symmetricEsss", ManagedSymmetricEss.class, "0..n", "dynamic"), //
+					reference("timedata", Timedata.class, "0..1", "dynamic")), //
+			"Test.PeakShaving", componentType("Test.PeakShaving", PeakShavingController.class, //
+					reference("cm", ConfigurationAdmin.class, "1..1", "static"), //
+					reference("ess", ManagedSymmetricEss.class, "1..1", "static"), //
+					reference("meter", SymmetricMeter.class, "1..1", "static")));
+
+	private static final BatchSimulationFactory FACTORY = new BatchSimulationFactory(factoryPid -> {
+		var componentType = COMPONENT_TYPES.get(factoryPid);
+		if (componentType == null) {
+			throw new OpenemsException("Factory-PID [" + factoryPid + "] is not available");
+		}
+		return componentType;
+	});
+
+	private static ComponentType componentType(String factoryPid, Class<?> implementation,
+			ReferenceDTO... references) {
+		var description = new ComponentDescriptionDTO();
+		description.name = factoryPid;
+		description.implementationClass = implementation.getName();
+		description.activate = "activate";
+		description.deactivate = "deactivate";
+		description.properties = new HashMap<>();
+		description.references = references;
+		return new ComponentType(description, implementation);
+	}
+
+	private static ReferenceDTO reference(String name, Class<?> type, String cardinality, String policy) {
+		var reference = new ReferenceDTO();
+		reference.name = name;
+		reference.interfaceName = type.getName();
+		reference.cardinality = cardinality;
+		reference.policy = policy;
+		reference.field = name;
+		return reference;
+	}
+
+	private static List<CreateComponentConfigRequest> createComponents(int threshold) {
+		var values = new JsonArray();
+		values.add(5_000);
+		return List.of(//
+				new CreateComponentConfigRequest("Test.Power", List.of(//
+						new Property("id", "power0"))), //
+				new CreateComponentConfigRequest("Simulator.Datasource.Single.Direct", List.of(//
+						new Property("id", "datasource0"), //
+						new Property("values", values))), //
+				new CreateComponentConfigRequest("Simulator.EssSymmetric.Reacting", List.of(//
+						new Property("id", "ess0"), //
+						new Property("capacity", 20_000), //
+						new Property("maxApparentPower", 10_000), //
+						new Property("initialSoc", 50), //
+						new Property("gridMode", "ON_GRID"))), //
+				new CreateComponentConfigRequest("Simulator.GridMeter.Acting", List.of(//
+						new Property("id", "meter0"), //
+						new Property("datasource.id", "datasource0"))), //
+				new CreateComponentConfigRequest("Test.PeakShaving", List.of(//
+						new Property("id", "ctrlPeakShaving0"), //
+						new Property("ess.id", "ess0"), //
+						new Property("meter.id", "meter0"), //
+						new Property("threshold", threshold))));
+	}
+
+	private static Clock createClock() throws OpenemsNamedException {
+		return Clock.from(JsonUtils.buildJsonObject() //
+				.addProperty("start", "2020-01-01T00:00:00Z") //
+				.addProperty("end", "2020-01-01T02:00:00Z") //
+				.addProperty("timeleapPerCycle", 10_000) //
+				.build());
+	}
+
+	@Test
+	public void testRun() throws Exception {
+		var clock = createClock();
+		try (var sut = FACTORY.create(createComponents(3_000), clock.start) //
+				.setTimeleapPerCycle(Duration.ofMillis(clock.timeleapPerCycle)) //
+				.setCollectInterval(Duration.ofMinutes(15)) //
+				.addCollects(GRID_ACTIVE_POWER, ESS_SOC) //
+				.build()) {
+			var data = sut.run(clock.end);
+
+			assertEquals(720, sut.getCycles());
+			assertEquals(8, data.size());
+			assertEquals(ZonedDateTime.parse("2020-01-01T01:45:00Z"), data.lastKey());
+			var last = data.get(data.lastKey());
+			assertEquals(3_000, last.get(GRID_ACTIVE_POWER).getAsInt());
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		var clock = createClock();
+		var sut = FACTORY.create(createComponents(3_000), clock.start).build();
+		DEACTIVATED.clear();
+		try (sut) {
+			sut.executeCycle();
+			assertTrue(DEACTIVATED.isEmpty());
+		}
+
+		// Deactivated in reverse order
+		assertEquals(List.of("ctrlPeakShaving0", "power0"), DEACTIVATED);
+	}
+
+	@Test
+	public void testDeactivateOnError() throws Exception {
+		var components = new ArrayList<>(createComponents(3_000));
+		components.remove(3); // meter0
+		DEACTIVATED.clear();
+		try {
+			FACTORY.create(components, createClock().start);
+			fail("Expected OpenemsException");
+		} catch (OpenemsException e) {
+			assertTrue(e.getMessage().contains("[meter]"));
+		}
+		assertEquals(List.of("power0"), DEACTIVATED);
+	}
+
+	@Test
+	public void testExecute() throws Exception {
+		var thresholds = List.of(1_000, 2_000, 3_000);
+		var variants = new ArrayList<Map<String, List<Property>>>();
+		for (var threshold : thresholds) {
+			variants.add(Map.of("ctrlPeakShaving0", List.of(new Property("threshold", threshold))));
+		}
+		var request = new ExecuteBatchSimulationRequest(createComponents(0), createClock(),
+				List.of(GRID_ACTIVE_POWER, ESS_SOC), Duration.ofMinutes(15), variants);
+
+		// Serialize and parse like a JSON-RPC Request
+		var response = FACTORY.execute(
+				ExecuteBatchSimulationRequest.from(GenericJsonrpcRequest.from(request.toJsonObject())));
+
+		assertEquals(request.getId(), response.getId());
+		assertEquals(thresholds.size(), response.getVariants().size());
+		var socs = new int[thresholds.size()];
+		for (var i = 0; i < thresholds.size(); i++) {
+			var data = response.getVariants().get(i);
+			var last = data.get(data.lastKey());
+			assertEquals((int) thresholds.get(i), last.get(GRID_ACTIVE_POWER).getAsInt());
+			socs[i] = last.get(ESS_SOC).getAsInt();
+		}
+
+		// Lower threshold -> more discharge
+		assertTrue(socs[0] < socs[1]);
+		assertTrue(socs[1] < socs[2]);
+
+		var result = response.getResult().getAsJsonArray("variants");
+		assertEquals(thresholds.size(), result.size());
+		assertEquals(8, result.get(0).getAsJsonObject().getAsJsonArray("timestamps").size());
+	}
+
+	@Test
+	public void testUnknownComponentInVariant() throws Exception {
+		var request = new ExecuteBatchSimulationRequest(createComponents(3_000), createClock(), List.of(),
+				Duration.ZERO, List.of(Map.of("ctrl0", List.of(new Property("threshold", 1_000)))));
+		try {
+			request.getComponents(0);
+			fail("Expected OpenemsException");
+		} catch (OpenemsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnsatisfiedReference() throws Exception {
+		var components = createComponents(3_000).subList(1, 5);
+		try {
+			FACTORY.create(components, createClock().start);
+			fail("Expected OpenemsException");
+		} catch (OpenemsException e) {
+			assertTrue(e.getMessage().contains("[power]"));
+		}
+	}
+
+}
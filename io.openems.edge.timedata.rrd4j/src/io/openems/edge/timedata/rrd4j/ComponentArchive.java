@@ -0,0 +1,476 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.rrd4j.ConsolFun;
+
+/**
+ * Stores the values of all Channels of one Component in one memory-mapped
+ * file.
+ *
+ * <p>
+ * Like the RRD4j databases of {@link Rrd4jTimedataImpl} the file holds two
+ * round-robin archives: 5 minutes for 31 days and 60 minutes for 334 days. The
+ * layout is columnar:
+ *
+ * <pre>
+ * | Header | Channel directory | Row timestamps per archive | Channel 0 | Channel 1 | ...
+ * </pre>
+ *
+ * <p>
+ * The row timestamps are shared by all Channels, so all values of one
+ * timestamp are written in one batch. The values of one Channel are stored
+ * contiguously, so a query reads one contiguous range per Channel.
+ *
+ * <p>
+ * Each row is identified by the end of its period, e.g. the 5 minutes row
+ * '10:05' holds the samples of '10:00:01' to '10:05:00'.
+ */
+public class ComponentArchive implements AutoCloseable {
+
+	protected static final int MAGIC = 0x4F454D53; // "OEMS"
+	protected static final int VERSION = 1;
+	protected static final int MAX_CHANNELS = 1024;
+	protected static final int MAX_CHANNEL_ID_LENGTH = 62;
+
+	private static final int HEADER_SIZE = 64;
+	private static final int HEADER_MAGIC = 0;
+	private static final int HEADER_VERSION = 4;
+	private static final int HEADER_CHANNELS = 8;
+	private static final int HEADER_LAST_UPDATE = 16;
+	private static final int DIRECTORY_ENTRY_SIZE = 64;
+	private static final byte CONSOL_FUN_AVERAGE = 0;
+	private static final byte CONSOL_FUN_MAX = 1;
+
+	private static class Archive {
+		private final int stepsPerRow;
+		private final int rows;
+
+		private Archive(int stepsPerRow, int rows) {
+			this.stepsPerRow = stepsPerRow;
+			this.rows = rows;
+		}
+	}
+
+	/** Same archives as created by {@link Rrd4jTimedataImpl}. */
+	private static final Archive[] ARCHIVES = { //
+			new Archive(1, 8_928), // 1 step (5 minutes), 8928 rows (31 days)
+			new Archive(12, 8_016) // 12 steps (60 minutes), 8016 rows (334 days)
+	};
+
+	private static final long[] ARCHIVE_OFFSETS = new long[ARCHIVES.length];
+	private static final long BLOCKS_OFFSET;
+	private static final long BLOCK_SIZE;
+
+	static {
+		var offset = 0L;
+		for (var i = 0; i < ARCHIVES.length; i++) {
+			ARCHIVE_OFFSETS[i] = offset;
+			offset += ARCHIVES[i].rows * 8L;
+		}
+		BLOCK_SIZE = offset;
+		BLOCKS_OFFSET = HEADER_SIZE + MAX_CHANNELS * DIRECTORY_ENTRY_SIZE + BLOCK_SIZE;
+	}
+
+	private final Path path;
+	private final int step;
+	private final Map<String, Integer> columns = new HashMap<>();
+	private final ConsolFun[] consolFuns = new ConsolFun[MAX_CHANNELS];
+
+	/*
+	 * Sum and count of the samples of AVERAGE Channels within the current step.
+	 */
+	private final double[] sums = new double[MAX_CHANNELS];
+	private final int[] counts = new int[MAX_CHANNELS];
+	private long accumulatorRow = Long.MIN_VALUE;
+
+	private FileChannel fileChannel;
+	private MappedByteBuffer buffer;
+	private int channelCount = 0;
+	private long lastUpdate = 0;
+
+	/**
+	 * Opens or creates a {@link ComponentArchive}.
+	 *
+	 * @param path the file path
+	 * @param step the step in [s]
+	 * @throws IOException on error
+	 */
+	public ComponentArchive(Path path, int step) throws IOException {
+		this.path = path;
+		this.step = step;
+		this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		var size = this.fileChannel.size();
+		if (size == 0) {
+			this.map(BLOCKS_OFFSET);
+			this.buffer.putInt(HEADER_MAGIC, MAGIC);
+			this.buffer.putInt(HEADER_VERSION, VERSION);
+			this.buffer.putInt(HEADER_CHANNELS, 0);
+			this.buffer.putLong(HEADER_LAST_UPDATE, 0);
+			return;
+		}
+
+		this.map(size);
+		if (this.buffer.getInt(HEADER_MAGIC) != MAGIC || this.buffer.getInt(HEADER_VERSION) != VERSION) {
+			this.fileChannel.close();
+			throw new IOException("File [" + path + "] is not a valid Component archive");
+		}
+		this.channelCount = this.buffer.getInt(HEADER_CHANNELS);
+		this.lastUpdate = this.buffer.getLong(HEADER_LAST_UPDATE);
+		if (size < BLOCKS_OFFSET + this.channelCount * BLOCK_SIZE) {
+			this.fileChannel.close();
+			throw new IOException("File [" + path + "] is truncated");
+		}
+		for (var c = 0; c < this.channelCount; c++) {
+			var entry = HEADER_SIZE + c * DIRECTORY_ENTRY_SIZE;
+			var bytes = new byte[this.buffer.get(entry) & 0xff];
+			this.consolFuns[c] = this.buffer.get(entry + 1) == CONSOL_FUN_MAX ? ConsolFun.MAX : ConsolFun.AVERAGE;
+			for (var i = 0; i < bytes.length; i++) {
+				bytes[i] = this.buffer.get(entry + 2 + i);
+			}
+			this.columns.put(new String(bytes, StandardCharsets.UTF_8), c);
+		}
+	}
+
+	/**
+	 * Writes the values of multiple Channels for one timestamp.
+	 *
+	 * <p>
+	 * Samples older than the last written timestamp are ignored, like RRD4j does.
+	 * Further samples for the last written timestamp are accepted, as the
+	 * {@link RecordWorker} might split the Channels of one timestamp into multiple
+	 * batches.
+	 *
+	 * @param timestamp  the epoch seconds
+	 * @param channelIds the Channel-IDs
+	 * @param consolFuns the {@link ConsolFun} per Channel; used for new Channels.
+	 *                   Only AVERAGE and MAX are supported.
+	 * @param values     the values per Channel
+	 * @return false if the samples were ignored
+	 * @throws IOException              on error
+	 * @throws IllegalArgumentException on error
+	 */
+	public synchronized boolean write(long timestamp, String[] channelIds, ConsolFun[] consolFuns, double[] values)
+			throws IOException, IllegalArgumentException {
+		if (timestamp < this.lastUpdate) {
+			return false;
+		}
+		var columns = new int[channelIds.length];
+		for (var i = 0; i < channelIds.length; i++) {
+			columns[i] = this.getOrAddColumn(channelIds[i], consolFuns[i]);
+		}
+
+		// 5 minutes archive
+		var rowTime = this.getRowTime(timestamp, 0);
+		var row = this.getRow(rowTime, 0);
+		this.startRow(0, row, rowTime);
+		if (this.accumulatorRow != rowTime) {
+			this.accumulatorRow = rowTime;
+			Arrays.fill(this.sums, 0);
+			Arrays.fill(this.counts, 0);
+		}
+		for (var i = 0; i < columns.length; i++) {
+			var c = columns[i];
+			var offset = this.getValueOffset(c, 0, row);
+			switch (this.consolFuns[c]) {
+			case MAX:
+				this.buffer.putDouble(offset, max(this.buffer.getDouble(offset), values[i]));
+				break;
+			default:
+				if (!Double.isNaN(values[i])) {
+					this.sums[c] += values[i];
+					this.counts[c]++;
+					this.buffer.putDouble(offset, this.sums[c] / this.counts[c]);
+				}
+				break;
+			}
+		}
+
+		// Consolidate to the other archives
+		for (var a = 1; a < ARCHIVES.length; a++) {
+			var archive = ARCHIVES[a];
+			var consolidatedRowTime = this.getRowTime(timestamp, a);
+			var consolidatedRow = this.getRow(consolidatedRowTime, a);
+			this.startRow(a, consolidatedRow, consolidatedRowTime);
+			var stepRows = new int[archive.stepsPerRow];
+			for (var s = 0; s < archive.stepsPerRow; s++) {
+				var t = consolidatedRowTime - (archive.stepsPerRow - 1 - s) * (long) this.step;
+				var r = this.getRow(t, 0);
+				stepRows[s] = this.getRowTimestamp(0, r) == t ? r : -1;
+			}
+			for (var c : columns) {
+				this.buffer.putDouble(this.getValueOffset(c, a, consolidatedRow),
+						this.consolidate(c, 0, stepRows, archive.stepsPerRow));
+			}
+		}
+
+		this.lastUpdate = timestamp;
+		this.buffer.putLong(HEADER_LAST_UPDATE, timestamp);
+		return true;
+	}
+
+	/**
+	 * Fetches the values of multiple Channels with one pass over the file.
+	 *
+	 * <p>
+	 * Uses the 5 minutes archive if it covers 'fromTimestamp'; the 60 minutes
+	 * archive otherwise. Values are consolidated to 'resolution' using the
+	 * {@link ConsolFun} of the Channel.
+	 *
+	 * @param channelIds    the Channel-IDs
+	 * @param fromTimestamp the start epoch seconds (inclusive)
+	 * @param toTimestamp   the end epoch seconds (exclusive)
+	 * @param resolution    the resolution in [s]
+	 * @return one array per Channel-ID with one value per 'resolution'; null for
+	 *         unknown Channels
+	 */
+	public synchronized double[][] fetch(String[] channelIds, long fromTimestamp, long toTimestamp,
+			long resolution) {
+		var a = this.getArchiveIndex(fromTimestamp);
+		var archive = ARCHIVES[a];
+		var secondsPerRow = archive.stepsPerRow * (long) this.step;
+		var length = (int) Math.max(0, (toTimestamp - fromTimestamp) / resolution);
+
+		// Find the valid rows per result window once for all Channels
+		var windows = new int[length][];
+		for (var i = 0; i < length; i++) {
+			var windowStart = fromTimestamp + i * resolution;
+			var windowEnd = windowStart + resolution;
+			var firstRowTime = ceil(windowStart + 1, secondsPerRow);
+			var lastRowTime = Math.max(firstRowTime, windowEnd - windowEnd % secondsPerRow);
+			var rows = new int[(int) ((lastRowTime - firstRowTime) / secondsPerRow) + 1];
+			var n = 0;
+			for (var t = firstRowTime; t <= lastRowTime; t += secondsPerRow) {
+				var r = this.getRow(t, a);
+				if (this.getRowTimestamp(a, r) == t) {
+					rows[n++] = r;
+				}
+			}
+			windows[i] = Arrays.copyOf(rows, n);
+		}
+
+		var result = new double[channelIds.length][];
+		for (var k = 0; k < channelIds.length; k++) {
+			var c = this.columns.get(channelIds[k]);
+			if (c == null) {
+				continue;
+			}
+			var values = new double[length];
+			for (var i = 0; i < length; i++) {
+				values[i] = this.consolidate(c, a, windows[i], 0);
+			}
+			result[k] = values;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the resolution of the archive that is used for a query starting at
+	 * 'fromTimestamp'.
+	 *
+	 * @param fromTimestamp the start epoch seconds
+	 * @return the resolution in [s]
+	 */
+	public synchronized long getNativeResolution(long fromTimestamp) {
+		return ARCHIVES[this.getArchiveIndex(fromTimestamp)].stepsPerRow * (long) this.step;
+	}
+
+	/**
+	 * Gets the value of the most recent row.
+	 *
+	 * @param channelId the Channel-ID
+	 * @return the value; null if the Channel is unknown
+	 */
+	public synchronized Double getLatestValue(String channelId) {
+		var c = this.columns.get(channelId);
+		if (c == null || this.lastUpdate == 0) {
+			return null;
+		}
+		var row = this.getRow(this.getRowTime(this.lastUpdate, 0), 0);
+		return this.buffer.getDouble(this.getValueOffset(c, 0, row));
+	}
+
+	/**
+	 * Gets the {@link ConsolFun} of a Channel.
+	 *
+	 * @param channelId the Channel-ID
+	 * @return the {@link ConsolFun}; null if the Channel is unknown
+	 */
+	public synchronized ConsolFun getConsolFun(String channelId) {
+		var c = this.columns.get(channelId);
+		return c == null ? null : this.consolFuns[c];
+	}
+
+	/**
+	 * Gets the last written timestamp.
+	 *
+	 * @return the epoch seconds; 0 if nothing was written
+	 */
+	public synchronized long getLastUpdateTime() {
+		return this.lastUpdate;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (this.fileChannel.isOpen()) {
+			this.buffer.force();
+			this.fileChannel.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ComponentArchive [" + this.path + "]";
+	}
+
+	private int getOrAddColumn(String channelId, ConsolFun consolFun) throws IOException {
+		var c = this.columns.get(channelId);
+		if (c != null) {
+			return c;
+		}
+		var bytes = channelId.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > MAX_CHANNEL_ID_LENGTH) {
+			throw new IllegalArgumentException("Channel-ID [" + channelId + "] is too long");
+		}
+		if (this.channelCount >= MAX_CHANNELS) {
+			throw new IllegalArgumentException("More than [" + MAX_CHANNELS + "] Channels in [" + this.path + "]");
+		}
+
+		// Grow file by one Channel block and initialize it with NaN
+		c = this.channelCount;
+		this.map(BLOCKS_OFFSET + (c + 1) * BLOCK_SIZE);
+		var blockStart = BLOCKS_OFFSET + c * BLOCK_SIZE;
+		for (var offset = blockStart; offset < blockStart + BLOCK_SIZE; offset += 8) {
+			this.buffer.putDouble((int) offset, Double.NaN);
+		}
+
+		// Add directory entry
+		var entry = HEADER_SIZE + c * DIRECTORY_ENTRY_SIZE;
+		this.buffer.put(entry, (byte) bytes.length);
+		this.buffer.put(entry + 1, consolFun == ConsolFun.MAX ? CONSOL_FUN_MAX : CONSOL_FUN_AVERAGE);
+		for (var i = 0; i < bytes.length; i++) {
+			this.buffer.put(entry + 2 + i, bytes[i]);
+		}
+		this.consolFuns[c] = consolFun == ConsolFun.MAX ? ConsolFun.MAX : ConsolFun.AVERAGE;
+		this.columns.put(channelId, c);
+		this.channelCount++;
+		this.buffer.putInt(HEADER_CHANNELS, this.channelCount);
+		return c;
+	}
+
+	/**
+	 * Resets a row if it still holds values of a previous round.
+	 *
+	 * @param archive the archive index
+	 * @param row     the row
+	 * @param rowTime the timestamp of the row
+	 */
+	private void startRow(int archive, int row, long rowTime) {
+		if (this.getRowTimestamp(archive, row) == rowTime) {
+			return;
+		}
+		this.buffer.putLong(this.getTimestampOffset(archive, row), rowTime);
+		for (var c = 0; c < this.channelCount; c++) {
+			this.buffer.putDouble(this.getValueOffset(c, archive, row), Double.NaN);
+		}
+	}
+
+	/**
+	 * Consolidates rows of a Channel. Like RRD4j (xff = 0.5) the result is NaN if
+	 * more than half of the expected rows are unknown.
+	 *
+	 * @param c        the Channel column
+	 * @param archive  the archive index
+	 * @param rows     the rows; negative values are unknown
+	 * @param expected the expected number of rows; 0 to accept any number of
+	 *                 known rows
+	 * @return the consolidated value
+	 */
+	private double consolidate(int c, int archive, int[] rows, int expected) {
+		var known = 0;
+		var sum = 0.;
+		var max = Double.NaN;
+		for (var row : rows) {
+			if (row < 0) {
+				continue;
+			}
+			var value = this.buffer.getDouble(this.getValueOffset(c, archive, row));
+			if (Double.isNaN(value)) {
+				continue;
+			}
+			known++;
+			sum += value;
+			max = max(max, value);
+		}
+		if (known == 0 || known * 2 < expected) {
+			return Double.NaN;
+		}
+		switch (this.consolFuns[c]) {
+		case MAX:
+			return max;
+		default:
+			return sum / known;
+		}
+	}
+
+	private int getArchiveIndex(long fromTimestamp) {
+		var archive = ARCHIVES[0];
+		if (fromTimestamp >= this.lastUpdate - archive.rows * archive.stepsPerRow * (long) this.step) {
+			return 0;
+		}
+		return 1;
+	}
+
+	private long getRowTime(long timestamp, int archive) {
+		return ceil(timestamp, ARCHIVES[archive].stepsPerRow * (long) this.step);
+	}
+
+	private int getRow(long rowTime, int archive) {
+		return (int) Math.floorMod(rowTime / (ARCHIVES[archive].stepsPerRow * (long) this.step),
+				(long) ARCHIVES[archive].rows);
+	}
+
+	private long getRowTimestamp(int archive, int row) {
+		return this.buffer.getLong(this.getTimestampOffset(archive, row));
+	}
+
+	private int getTimestampOffset(int archive, int row) {
+		return (int) (HEADER_SIZE + MAX_CHANNELS * DIRECTORY_ENTRY_SIZE + ARCHIVE_OFFSETS[archive] + row * 8L);
+	}
+
+	private int getValueOffset(int c, int archive, int row) {
+		return (int) (BLOCKS_OFFSET + c * BLOCK_SIZE + ARCHIVE_OFFSETS[archive] + row * 8L);
+	}
+
+	private void map(long size) throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("File [" + this.path + "] exceeds maximum size");
+		}
+		this.buffer = this.fileChannel.map(MapMode.READ_WRITE, 0, size);
+	}
+
+	private static long ceil(long value, long divisor) {
+		return Math.floorDiv(value + divisor - 1, divisor) * divisor;
+	}
+
+	private static double max(double a, double b) {
+		if (Double.isNaN(a)) {
+			return b;
+		}
+		if (Double.isNaN(b)) {
+			return a;
+		}
+		return Math.max(a, b);
+	}
+
+}
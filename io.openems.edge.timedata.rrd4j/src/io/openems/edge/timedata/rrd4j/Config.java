@@ -22,5 +22,8 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Store only Channels with a Persistence Priority above this. Be aware that too many writes can wear-out your flash storage.")
 	PersistencePriority persistencePriority() default PersistencePriority.MEDIUM;
 
+	@AttributeDefinition(name = "Storage", description = "Store one RRD4J file per Channel or one memory-mapped file per Component. Existing data is not migrated.")
+	Storage storage() default Storage.FILE_PER_CHANNEL;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Manages one {@link ComponentArchive} per Component in a directory.
+ */
+public class MappedStorage {
+
+	private final Path directory;
+	private final int step;
+	private final Map<String, ComponentArchive> archives = new HashMap<>();
+
+	public MappedStorage(Path directory, int step) {
+		this.directory = directory;
+		this.step = step;
+	}
+
+	/**
+	 * Gets the {@link ComponentArchive} of a Component.
+	 *
+	 * @param componentId the Component-ID
+	 * @param create      create the {@link ComponentArchive} if it does not exist
+	 * @return the {@link ComponentArchive}; null if it does not exist and
+	 *         'create' is false
+	 * @throws IOException on error
+	 */
+	public synchronized ComponentArchive getArchive(String componentId, boolean create) throws IOException {
+		var archive = this.archives.get(componentId);
+		if (archive != null) {
+			return archive;
+		}
+		var file = this.directory.resolve(componentId);
+		if (!create && !Files.exists(file)) {
+			return null;
+		}
+		Files.createDirectories(this.directory);
+		archive = new ComponentArchive(file, this.step);
+		this.archives.put(componentId, archive);
+		return archive;
+	}
+
+	/**
+	 * Closes all {@link ComponentArchive}s.
+	 *
+	 * @throws IOException on error
+	 */
+	public synchronized void close() throws IOException {
+		IOException exception = null;
+		for (var archive : this.archives.values()) {
+			try {
+				archive.close();
+			} catch (IOException e) {
+				exception = e;
+			}
+		}
+		this.archives.clear();
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+}
@@ -1,16 +1,18 @@
 package io.openems.edge.timedata.rrd4j;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.OptionalDouble;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.function.ToDoubleFunction;
-import java.util.stream.DoubleStream;
 
+import org.rrd4j.ConsolFun;
 import org.rrd4j.core.RrdDb;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,19 +28,14 @@ import io.openems.edge.common.component.OpenemsComponent;
 
 public class RecordWorker extends AbstractImmediateWorker {
 
-	protected static final int DEFAULT_NO_OF_CYCLES = 60;
-
 	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
 	private final Rrd4jTimedataImpl parent;
 
-	// Counts the number of Cycles till data is recorded
-	private int cycleCount = 0;
-
-	private static class Record {
-		private final long timestamp;
-		private final ChannelAddress address;
-		private final Unit unit;
-		private final double value;
+	protected static class Record {
+		protected final long timestamp;
+		protected final ChannelAddress address;
+		protected final Unit unit;
+		protected final double value;
 
 		public Record(long timestamp, ChannelAddress address, Unit unit, double value) {
 			this.timestamp = timestamp;
@@ -48,12 +45,75 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Aggregates the values of one Channel since the last {@link Record}.
+	 *
+	 * <p>
+	 * Registered as {@link Channel#onUpdate(Consumer)} callback, i.e. it is called
+	 * on every process image switch with O(1) work; past values are never re-read.
+	 */
+	private static class ChannelAccumulator implements Consumer<Value<?>> {
+		private final ChannelAddress address;
+		private final Unit unit;
+		private final ToDoubleFunction<? super Object> mapFunction;
+		private final boolean useMax;
+
+		private double sum = 0;
+		private int count = 0;
+		private double max = Double.NEGATIVE_INFINITY;
+
+		private ChannelAccumulator(ChannelAddress address, Unit unit, ToDoubleFunction<? super Object> mapFunction,
+				boolean useMax) {
+			this.address = address;
+			this.unit = unit;
+			this.mapFunction = mapFunction;
+			this.useMax = useMax;
+		}
+
+		@Override
+		public void accept(Value<?> value) {
+			var v = value.get();
+			if (v == null) {
+				// only not-null values
+				return;
+			}
+			var d = this.mapFunction.applyAsDouble(v);
+			this.sum += d;
+			this.count++;
+			if (d > this.max) {
+				this.max = d;
+			}
+		}
+
+		/**
+		 * Gets the aggregated value and resets the accumulator.
+		 *
+		 * @return the average or max value; NaN if there was no value
+		 */
+		private double getAndReset() {
+			final double result;
+			if (this.count == 0) {
+				result = Double.NaN;
+			} else if (this.useMax) {
+				result = this.max;
+			} else {
+				result = this.sum / this.count;
+			}
+			this.sum = 0;
+			this.count = 0;
+			this.max = Double.NEGATIVE_INFINITY;
+			return result;
+		}
+	}
+
 	// Record queue
-	private final LinkedBlockingQueue<Record> records = new LinkedBlockingQueue<>();
+	protected final LinkedBlockingQueue<Record> records = new LinkedBlockingQueue<>();
 
-	// keeps the last recorded timestamp
-	private Instant lastTimestamp = Instant.MIN;
-	private LocalDateTime readChannelValuesSince = LocalDateTime.MIN;
+	// Accumulators per persisted Channel
+	private final Map<Channel<?>, ChannelAccumulator> accumulators = new HashMap<>();
+
+	// keeps the last recorded RRD4j step
+	private long lastStep = Long.MIN_VALUE;
 
 	public RecordWorker(Rrd4jTimedataImpl parent) {
 		this.parent = parent;
@@ -63,78 +123,152 @@ public class RecordWorker extends AbstractImmediateWorker {
 	 * Collects the data from Channels. This is called synchronously by the main
 	 * OpenEMS cycle. On finish it triggers a next async task to write the data to
 	 * RRD4J.
+	 *
+	 * <p>
+	 * Channel values are aggregated continuously by {@link ChannelAccumulator}s.
+	 * Once per RRD4j step this method creates one {@link Record} per Channel,
+	 * timestamped with the end of the step.
 	 */
-	public void collectData() {
-		var timestamp = Instant.now().truncatedTo(ChronoUnit.SECONDS);
-		final var nextReadChannelValuesSince = LocalDateTime.now();
-
-		// Increase CycleCount
-		this.cycleCount += 1;
-
-		// Same second as last run? -> RRD4j can only handle one sample per second per
-		// database. Timestamps are all stored "truncated to seconds".
-		if (timestamp.equals(this.lastTimestamp)) {
+	public synchronized void collectData() {
+		var now = Instant.now(this.parent.componentManager.getClock());
+		var step = Math.floorDiv(now.getEpochSecond(), Rrd4jTimedataImpl.DEFAULT_STEP_SECONDS);
+		if (step == this.lastStep) {
 			return;
 		}
 
-		if (
-		// No need to persist data, as it is still stored by the Channel itself. The
-		// Channel keeps the last NO_OF_PAST_VALUES values
-		this.cycleCount < Channel.NO_OF_PAST_VALUES
-				// RRD4j requires us to write one value per DEFAULT_HEARTBEAT_SECONDS
-				&& Duration.between(this.lastTimestamp, timestamp)
-						.getSeconds() < Rrd4jTimedataImpl.DEFAULT_HEARTBEAT_SECONDS - 1) {
-			return;
+		if (this.lastStep != Long.MIN_VALUE) {
+			var timestamp = step * Rrd4jTimedataImpl.DEFAULT_STEP_SECONDS;
+			for (var accumulator : this.accumulators.values()) {
+				var value = accumulator.getAndReset();
+				if (Double.isNaN(value)) {
+					// only available channels
+					continue;
+				}
+
+				if (this.records.offer(new Record(timestamp, accumulator.address, accumulator.unit, value))) {
+					this.parent._setQueueIsFull(false);
+
+				} else {
+					this.parent.logWarn(this.log,
+							"Unable to add record [" + accumulator.address + "]. Queue is full!");
+					this.parent._setQueueIsFull(true);
+				}
+			}
 		}
-		this.cycleCount = 0; // Reset Cycle-Count
+		this.lastStep = step;
 
-		this.lastTimestamp = timestamp;
+		this.updateAccumulators();
+	}
 
+	/**
+	 * Adds {@link ChannelAccumulator}s for new Channels and removes the ones of
+	 * Channels that are not available anymore.
+	 */
+	private void updateAccumulators() {
+		var channels = new HashSet<Channel<?>>();
 		for (OpenemsComponent component : this.parent.componentManager.getEnabledComponents()) {
 			for (Channel<?> channel : component.channels()) {
 				var doc = channel.channelDoc();
 				if (// Ignore Low-Priority Channels
 				doc.getPersistencePriority().isLowerThan(this.parent.persistencePriority)
 						// Ignore WRITE_ONLY Channels
-						|| channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY) {
+						|| doc.getAccessMode() == AccessMode.WRITE_ONLY) {
 					continue;
 				}
+				channels.add(channel);
+				this.accumulators.computeIfAbsent(channel, this::addAccumulator);
+			}
+		}
 
-				ToDoubleFunction<? super Object> channelMapFunction = this
-						.getChannelMapFunction(channel.channelDoc().getType());
-				var channelAggregateFunction = this.getChannelAggregateFunction(channel.channelDoc().getUnit());
-
-				var value = channelAggregateFunction.apply(//
-						channel.getPastValues() //
-								.tailMap(this.readChannelValuesSince, false) // new values since last recording
-								.values().stream() //
-								.map(Value::get) //
-								.filter(v -> v != null) // only not-null values
-								.mapToDouble(channelMapFunction) // convert to double
-				);
-				if (!value.isPresent()) {
-					// only available channels
-					continue;
-				}
+		for (var iterator = this.accumulators.entrySet().iterator(); iterator.hasNext();) {
+			var entry = iterator.next();
+			if (!channels.contains(entry.getKey())) {
+				entry.getKey().removeOnUpdateCallback(entry.getValue());
+				iterator.remove();
+			}
+		}
+	}
 
-				if (this.records.offer(//
-						new Record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
-								value.getAsDouble()))) {
-					this.parent._setQueueIsFull(false);
+	@SuppressWarnings("unchecked")
+	private ChannelAccumulator addAccumulator(Channel<?> channel) {
+		var doc = channel.channelDoc();
+		var accumulator = new ChannelAccumulator(channel.address(), doc.getUnit(),
+				this.getChannelMapFunction(doc.getType()), this.parent.getConsolFun(doc.getUnit()) == ConsolFun.MAX);
+		((Channel<Object>) channel).onUpdate((Consumer<Value<Object>>) (Consumer<?>) accumulator);
+		return accumulator;
+	}
 
-				} else {
-					this.parent.logWarn(this.log, "Unable to add record [" + channel.address() + "]. Queue is full!");
-					this.parent._setQueueIsFull(true);
-				}
-			}
+	/**
+	 * Removes all {@link ChannelAccumulator}s.
+	 */
+	private synchronized void removeAccumulators() {
+		for (var entry : this.accumulators.entrySet()) {
+			entry.getKey().removeOnUpdateCallback(entry.getValue());
 		}
+		this.accumulators.clear();
+		this.lastStep = Long.MIN_VALUE;
+	}
 
-		this.readChannelValuesSince = nextReadChannelValuesSince;
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.removeAccumulators();
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
 		var record = this.records.take();
+		var mappedStorage = this.parent.mappedStorage;
+		if (mappedStorage != null) {
+			var records = new ArrayList<Record>();
+			records.add(record);
+			this.records.drainTo(records);
+			this.writeToMappedStorage(mappedStorage, records);
+		} else {
+			this.writeToRrdDb(record);
+		}
+	}
+
+	/**
+	 * Writes {@link Record}s to the {@link MappedStorage}; one batch per Component
+	 * and timestamp.
+	 *
+	 * @param mappedStorage the {@link MappedStorage}
+	 * @param records       the {@link Record}s
+	 */
+	private void writeToMappedStorage(MappedStorage mappedStorage, List<Record> records) {
+		var batches = new LinkedHashMap<List<Object>, List<Record>>();
+		for (var record : records) {
+			batches.computeIfAbsent(List.of(record.timestamp, record.address.getComponentId()),
+					k -> new ArrayList<>()).add(record);
+		}
+
+		var failed = false;
+		for (var batch : batches.values()) {
+			var first = batch.get(0);
+			var channelIds = new String[batch.size()];
+			var consolFuns = new ConsolFun[batch.size()];
+			var values = new double[batch.size()];
+			for (var i = 0; i < batch.size(); i++) {
+				var record = batch.get(i);
+				channelIds[i] = record.address.getChannelId();
+				consolFuns[i] = this.parent.getConsolFun(record.unit);
+				values[i] = record.value;
+			}
+			try {
+				mappedStorage.getArchive(first.address.getComponentId(), true) //
+						.write(first.timestamp, channelIds, consolFuns, values);
+
+			} catch (Throwable e) {
+				failed = true;
+				this.parent.logWarn(this.log, "Unable to insert Samples [" + first.address.getComponentId() + "] "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+		}
+		this.parent._setUnableToInsertSample(failed);
+	}
+
+	private void writeToRrdDb(Record record) {
 		RrdDb database = null;
 
 		try {
@@ -199,52 +333,4 @@ public class RecordWorker extends AbstractImmediateWorker {
 		throw new IllegalArgumentException("Type [" + openemsType + "] is not supported.");
 	}
 
-	private Function<DoubleStream, OptionalDouble> getChannelAggregateFunction(Unit channelUnit) {
-		switch (channelUnit) {
-		case AMPERE:
-		case AMPERE_HOURS:
-		case DEGREE_CELSIUS:
-		case DEZIDEGREE_CELSIUS:
-		case EUROS_PER_MEGAWATT_HOUR:
-		case HERTZ:
-		case HOUR:
-		case KILOAMPERE_HOURS:
-		case KILOOHM:
-		case KILOVOLT_AMPERE:
-		case KILOVOLT_AMPERE_REACTIVE:
-		case KILOWATT:
-		case MICROOHM:
-		case MICROAMPERE:
-		case MICROVOLT:
-		case MILLIAMPERE_HOURS:
-		case MILLIAMPERE:
-		case MILLIHERTZ:
-		case MILLIOHM:
-		case MILLISECONDS:
-		case MILLIVOLT:
-		case MILLIWATT:
-		case MINUTE:
-		case NONE:
-		case WATT:
-		case VOLT:
-		case VOLT_AMPERE:
-		case VOLT_AMPERE_REACTIVE:
-		case WATT_HOURS_BY_WATT_PEAK:
-		case OHM:
-		case SECONDS:
-		case THOUSANDTH:
-		case PERCENT:
-		case ON_OFF:
-			return DoubleStream::average;
-		case CUMULATED_SECONDS:
-		case WATT_HOURS:
-		case KILOWATT_HOURS:
-		case VOLT_AMPERE_HOURS:
-		case VOLT_AMPERE_REACTIVE_HOURS:
-		case KILOVOLT_AMPERE_REACTIVE_HOURS:
-			return DoubleStream::max;
-		}
-		throw new IllegalArgumentException("Channel Unit [" + channelUnit + "] is not supported.");
-	}
-
 }
@@ -9,11 +9,13 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -71,6 +73,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	protected static final int DEFAULT_HEARTBEAT_SECONDS = DEFAULT_STEP_SECONDS;
 
 	private static final String RRD4J_PATH = "rrd4j";
+	private static final String MAPPED_PATH = "rrd4j-mapped";
 
 	private final Logger log = LoggerFactory.getLogger(Rrd4jTimedataImpl.class);
 
@@ -92,11 +95,21 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 
 	protected PersistencePriority persistencePriority = PersistencePriority.MEDIUM;
 
+	/**
+	 * The {@link MappedStorage}; null if {@link Storage#FILE_PER_CHANNEL} is used.
+	 */
+	protected volatile MappedStorage mappedStorage = null;
+
 	@Activate
 	void activate(ComponentContext context, Config config) throws Exception {
 		this.persistencePriority = config.persistencePriority();
 		super.activate(context, config.id(), config.alias(), config.enabled());
 
+		if (config.storage() == Storage.MAPPED_PER_COMPONENT) {
+			this.mappedStorage = new MappedStorage(
+					Paths.get(OpenemsConstants.getOpenemsDataDir(), MAPPED_PATH, config.id()), DEFAULT_STEP_SECONDS);
+		}
+
 		if (config.enabled()) {
 			this.worker.activate(config.id());
 		}
@@ -105,6 +118,14 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		this.worker.deactivate();
+		if (this.mappedStorage != null) {
+			try {
+				this.mappedStorage.close();
+			} catch (IOException e) {
+				this.logWarn(this.log, "Unable to close mapped storage: " + e.getMessage());
+			}
+			this.mappedStorage = null;
+		}
 		super.deactivate();
 	}
 
@@ -112,6 +133,10 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
+		var mappedStorage = this.mappedStorage;
+		if (mappedStorage != null) {
+			return this.queryHistoricDataFromMappedStorage(mappedStorage, fromDate, toDate, channels, resolution);
+		}
 		var timezone = fromDate.getZone();
 		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
 
@@ -249,9 +274,105 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		return result;
 	}
 
+	/**
+	 * Queries historic data from the {@link MappedStorage}. Reads all Channels of
+	 * a Component in one pass.
+	 *
+	 * @param mappedStorage the {@link MappedStorage}
+	 * @param fromDate      the From-Date
+	 * @param toDate        the To-Date
+	 * @param channels      the Channels
+	 * @param resolution    the Resolution
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricDataFromMappedStorage(
+			MappedStorage mappedStorage, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution resolution) throws OpenemsNamedException {
+		var timezone = fromDate.getZone();
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+		var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+		var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+
+		var errorCounter = 0;
+		var channelsPerComponent = channels.stream() //
+				.collect(Collectors.groupingBy(ChannelAddress::getComponentId));
+		for (var entry : channelsPerComponent.entrySet()) {
+			var channelAddresses = entry.getValue();
+			var result = this.fetchFromMappedStorage(mappedStorage, entry.getKey(), channelAddresses, fromTimestamp,
+					toTimeStamp, resolution.toSeconds());
+			for (var k = 0; k < channelAddresses.size(); k++) {
+				var values = result[k];
+				if (values == null) {
+					errorCounter++;
+					continue;
+				}
+				for (var i = 0; i < values.length; i++) {
+					var timestamp = fromTimestamp + (i * resolution.toSeconds());
+					var dateTime = ZonedDateTime.ofInstant(Instant.ofEpochSecond(timestamp), ZoneOffset.UTC)
+							.withZoneSameInstant(timezone);
+					var value = values[i];
+					table.computeIfAbsent(dateTime, t -> new TreeMap<>()).put(channelAddresses.get(k),
+							Double.isNaN(value) ? JsonNull.INSTANCE : new JsonPrimitive(value));
+				}
+			}
+		}
+
+		// If no Channel can be read successfully: throw exception; otherwise return the
+		// available data
+		if (errorCounter == channels.size()) {
+			throw new OpenemsException("No valid Channel available");
+		}
+		return table;
+	}
+
+	/**
+	 * Fetches the values of Channels of one Component from the
+	 * {@link MappedStorage}.
+	 *
+	 * @param mappedStorage    the {@link MappedStorage}
+	 * @param componentId      the Component-ID
+	 * @param channelAddresses the {@link ChannelAddress}es of the Component
+	 * @param fromTimestamp    the start epoch seconds
+	 * @param toTimestamp      the end epoch seconds
+	 * @param resolution       the resolution in [s]; 0 for the native resolution
+	 *                         of the archive
+	 * @return one array per {@link ChannelAddress}; null for missing Channels
+	 */
+	private double[][] fetchFromMappedStorage(MappedStorage mappedStorage, String componentId,
+			List<ChannelAddress> channelAddresses, long fromTimestamp, long toTimestamp, long resolution) {
+		var channelIds = channelAddresses.stream() //
+				.map(ChannelAddress::getChannelId) //
+				.toArray(String[]::new);
+		var result = new double[channelIds.length][];
+		try {
+			var archive = mappedStorage.getArchive(componentId, false);
+			if (archive == null) {
+				this.logWarn(this.log, "Mapped storage for [" + componentId + "] is missing");
+				return result;
+			}
+			if (resolution == 0) {
+				resolution = archive.getNativeResolution(fromTimestamp);
+			}
+			result = archive.fetch(channelIds, fromTimestamp, toTimestamp, resolution);
+			for (var k = 0; k < result.length; k++) {
+				if (result[k] == null) {
+					this.logWarn(this.log, "Mapped storage for [" + channelAddresses.get(k) + "] is missing");
+				}
+			}
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to query mapped storage [" + componentId + "]: " + e.getMessage());
+		}
+		return result;
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
+		var mappedStorage = this.mappedStorage;
+		if (mappedStorage != null) {
+			return this.queryHistoricEnergyFromMappedStorage(mappedStorage, fromDate, toDate, channels);
+		}
 		SortedMap<ChannelAddress, JsonElement> table = new TreeMap<>();
 		var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 		var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
@@ -318,6 +439,62 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		return table;
 	}
 
+	/**
+	 * Queries historic energy from the {@link MappedStorage}.
+	 *
+	 * @param mappedStorage the {@link MappedStorage}
+	 * @param fromDate      the From-Date
+	 * @param toDate        the To-Date
+	 * @param channels      the Channels
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	private SortedMap<ChannelAddress, JsonElement> queryHistoricEnergyFromMappedStorage(
+			MappedStorage mappedStorage, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels)
+			throws OpenemsNamedException {
+		SortedMap<ChannelAddress, JsonElement> table = new TreeMap<>();
+		var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+		var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+
+		var errorCounter = 0;
+		var channelsPerComponent = channels.stream() //
+				.collect(Collectors.groupingBy(ChannelAddress::getComponentId));
+		for (var entry : channelsPerComponent.entrySet()) {
+			var channelAddresses = entry.getValue();
+			var result = this.fetchFromMappedStorage(mappedStorage, entry.getKey(), channelAddresses, fromTimestamp,
+					toTimeStamp, 0 /* native resolution */);
+			for (var k = 0; k < channelAddresses.size(); k++) {
+				if (result[k] == null) {
+					errorCounter++;
+					continue;
+				}
+
+				// Find first and last energy value != null
+				var first = Double.NaN;
+				var last = Double.NaN;
+				for (var tmp : result[k]) {
+					if (Double.isNaN(first) && !Double.isNaN(tmp)) {
+						first = tmp;
+					}
+					if (!Double.isNaN(tmp)) {
+						last = tmp;
+					}
+				}
+
+				// Calculate difference between last and first value
+				var value = last - first;
+				table.put(channelAddresses.get(k), Double.isNaN(value) ? JsonNull.INSTANCE : new JsonPrimitive(value));
+			}
+		}
+
+		// If no Channel can be read successfully: throw exception; otherwise return the
+		// available data
+		if (errorCounter == channels.size()) {
+			throw new OpenemsException("No valid Channel available");
+		}
+		return table;
+	}
+
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
@@ -357,6 +534,19 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		// Prepare result
 		final var result = new CompletableFuture<Optional<Object>>();
 
+		var mappedStorage = this.mappedStorage;
+		if (mappedStorage != null) {
+			try {
+				var archive = mappedStorage.getArchive(channelAddress.getComponentId(), false);
+				result.complete(archive == null //
+						? Optional.empty() //
+						: Optional.ofNullable(archive.getLatestValue(channelAddress.getChannelId())));
+			} catch (IOException e) {
+				result.complete(Optional.empty());
+			}
+			return result;
+		}
+
 		CompletableFuture.runAsync(() -> {
 			var database = this.getExistingRrdDb(channelAddress);
 			if (database == null) {
@@ -491,6 +681,16 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	/**
+	 * Gets the {@link ConsolFun} for a given Channel.
+	 *
+	 * @param channelUnit the {@link Unit}
+	 * @return the {@link ConsolFun}
+	 */
+	protected ConsolFun getConsolFun(Unit channelUnit) {
+		return this.getDsDefForChannel(channelUnit).consolFun;
+	}
+
 	/**
 	 * Defines the datasource properties for a given Channel, i.e. min/max allowed
 	 * value and GAUGE vs. COUNTER type.
@@ -0,0 +1,12 @@
+package io.openems.edge.timedata.rrd4j;
+
+public enum Storage {
+	/**
+	 * One RRD4j file per Channel.
+	 */
+	FILE_PER_CHANNEL,
+	/**
+	 * One memory-mapped {@link ComponentArchive} file per Component.
+	 */
+	MAPPED_PER_COMPONENT;
+}
@@ -0,0 +1,194 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+
+public class ComponentArchiveTest {
+
+	private static final long START = 1577836800L; /* starts at 1. January 2020 00:00:00 */
+	private static final int STEP = Rrd4jTimedataImpl.DEFAULT_STEP_SECONDS;
+
+	private static final String[] CHANNEL_IDS = { "ActivePower", "ActiveProductionEnergy" };
+	private static final ConsolFun[] CONSOL_FUNS = { ConsolFun.AVERAGE, ConsolFun.MAX };
+
+	private Path directory;
+
+	@Before
+	public void before() throws IOException {
+		this.directory = Files.createTempDirectory("ComponentArchiveTest");
+	}
+
+	@After
+	public void after() throws IOException {
+		try (var files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	private static void writeFourHours(ComponentArchive archive) throws IOException {
+		for (var i = 0; i <= 60 /* minutes */ * 4 /* hours */; i++) {
+			archive.write(START + i * 60, CHANNEL_IDS, CONSOL_FUNS, new double[] { i, i * 10 });
+		}
+	}
+
+	@Test
+	public void testFetch() throws IOException {
+		try (var archive = new ComponentArchive(this.directory.resolve("meter0"), STEP)) {
+			writeFourHours(archive);
+
+			// Same as RRD4j step
+			var result = archive.fetch(CHANNEL_IDS, START, START + 3 * 3600, 300);
+			assertEquals(36, result[0].length);
+			assertEquals(3.0, result[0][0], 0.001);
+			assertEquals(8.0, result[0][1], 0.001);
+			assertEquals(13.0, result[0][2], 0.001);
+			assertEquals(50.0, result[1][0], 0.001);
+			assertEquals(100.0, result[1][1], 0.001);
+
+			// Merge
+			result = archive.fetch(CHANNEL_IDS, START, START + 3 * 3600, 900);
+			assertEquals(12, result[0].length);
+			assertEquals(8.0, result[0][0], 0.001);
+			assertEquals(23.0, result[0][1], 0.001);
+			assertEquals(38.0, result[0][2], 0.001);
+			assertEquals(150.0, result[1][0], 0.001);
+
+			// Unknown Channel
+			result = archive.fetch(new String[] { "Foo" }, START, START + 3600, 900);
+			assertNull(result[0]);
+
+			// Ignore older samples
+			archive.write(START, CHANNEL_IDS, CONSOL_FUNS, new double[] { 1000, 1000 });
+			assertEquals(238.0, archive.getLatestValue("ActivePower"), 0.001); // avg(236..240)
+		}
+	}
+
+	@Test
+	public void testConsolidatedArchive() throws IOException {
+		try (var archive = new ComponentArchive(this.directory.resolve("meter0"), STEP)) {
+			writeFourHours(archive);
+			assertEquals(300, archive.getNativeResolution(START));
+
+			// Move out of the 31 days of the 5 minutes archive
+			archive.write(START + 40 * 24 * 3600, CHANNEL_IDS, CONSOL_FUNS, new double[] { 0, 2400 });
+			assertEquals(3600, archive.getNativeResolution(START));
+
+			var result = archive.fetch(CHANNEL_IDS, START, START + 3 * 3600, 3600);
+			assertEquals(3, result[0].length);
+			assertEquals(30.5, result[0][0], 0.001);
+			assertEquals(90.5, result[0][1], 0.001);
+			assertEquals(600.0, result[1][0], 0.001);
+			assertEquals(1200.0, result[1][1], 0.001);
+		}
+	}
+
+	@Test
+	public void testReopen() throws IOException {
+		var file = this.directory.resolve("meter0");
+		try (var archive = new ComponentArchive(file, STEP)) {
+			writeFourHours(archive);
+		}
+		try (var archive = new ComponentArchive(file, STEP)) {
+			assertEquals(START + 4 * 3600, archive.getLastUpdateTime());
+			assertEquals(ConsolFun.MAX, archive.getConsolFun("ActiveProductionEnergy"));
+			assertEquals(238.0, archive.getLatestValue("ActivePower"), 0.001); // avg(236..240)
+
+			// Add a Channel
+			archive.write(START + 4 * 3600 + 60, new String[] { "Frequency" }, new ConsolFun[] { ConsolFun.AVERAGE },
+					new double[] { 50 });
+			var result = archive.fetch(new String[] { "ActivePower", "Frequency" }, START, START + 3600, 900);
+			assertEquals(8.0, result[0][0], 0.001);
+			assertEquals(Double.NaN, result[1][0], 0.001);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidFile() throws IOException {
+		var file = this.directory.resolve("meter0");
+		Files.write(file, "foo-bar-foo-bar-foo-bar".getBytes());
+		new ComponentArchive(file, STEP).close();
+	}
+
+	/**
+	 * Runs write bursts and 31-day queries of one RRD4j file per Channel and of
+	 * one {@link ComponentArchive} per Component, e.g. for profiling.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() throws IOException {
+		final var channels = 100;
+		final var bursts = 12; // one hour
+		var channelIds = new String[channels];
+		var consolFuns = new ConsolFun[channels];
+		for (var c = 0; c < channels; c++) {
+			channelIds[c] = "Channel" + c;
+			consolFuns[c] = ConsolFun.AVERAGE;
+		}
+		final var end = START + 31 * 24 * 3600;
+		final var firstBurst = end - bursts * STEP;
+
+		/*
+		 * One RRD4j file per Channel
+		 */
+		var factory = new RrdRandomAccessFileBackendFactory();
+		var rrdDirectory = Files.createDirectories(this.directory.resolve("rrd4j"));
+		for (var c = 0; c < channels; c++) {
+			var rrdDef = new RrdDef(rrdDirectory.resolve(channelIds[c]).toUri(), START, STEP);
+			rrdDef.addDatasource(new DsDef(Rrd4jTimedataImpl.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+					Rrd4jTimedataImpl.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+			rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 8_928);
+			rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 12, 8_016);
+			RrdDb.getBuilder().setBackendFactory(factory).usePool().setRrdDef(rrdDef).build().close();
+		}
+		for (var b = 1; b <= bursts; b++) {
+			for (var c = 0; c < channels; c++) {
+				var database = RrdDb.getBuilder().setBackendFactory(factory).usePool()
+						.setPath(rrdDirectory.resolve(channelIds[c]).toUri()).build();
+				var sample = database.createSample(firstBurst + b * STEP);
+				sample.setValue(0, b);
+				sample.update();
+				database.close();
+			}
+		}
+		for (var c = 0; c < channels; c++) {
+			var database = RrdDb.getBuilder().setBackendFactory(factory).usePool()
+					.setPath(rrdDirectory.resolve(channelIds[c]).toUri()).build();
+			var request = database.createFetchRequest(ConsolFun.AVERAGE, START, end, 900);
+			Rrd4jTimedataImpl.postProcessData(request, 900);
+			database.close();
+		}
+
+		/*
+		 * One ComponentArchive per Component
+		 */
+		try (var archive = new ComponentArchive(this.directory.resolve("meter0"), STEP)) {
+			archive.write(START, channelIds, consolFuns, new double[channels]);
+			for (var b = 1; b <= bursts; b++) {
+				var values = new double[channels];
+				Arrays.fill(values, b);
+				archive.write(firstBurst + b * STEP, channelIds, consolFuns, values);
+			}
+			var result = archive.fetch(channelIds, START, end, 900);
+
+			assertEquals(11.0, result[0][result[0].length - 1], 0.001); // avg(10, 11, 12)
+		}
+	}
+
+}
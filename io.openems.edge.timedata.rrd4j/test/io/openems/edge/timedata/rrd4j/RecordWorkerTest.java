@@ -0,0 +1,105 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class RecordWorkerTest {
+
+	private static class DummyComponent extends AbstractOpenemsComponent {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			POWER(Doc.of(OpenemsType.INTEGER) //
+					.unit(Unit.WATT) //
+					.persistencePriority(PersistencePriority.HIGH)), //
+			ENERGY(Doc.of(OpenemsType.LONG) //
+					.unit(Unit.WATT_HOURS) //
+					.persistencePriority(PersistencePriority.HIGH)), //
+			LOW(Doc.of(OpenemsType.INTEGER) //
+					.unit(Unit.WATT) //
+					.persistencePriority(PersistencePriority.VERY_LOW));
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+	}
+
+	private static final Instant START = Instant.parse("2020-01-01T00:00:01Z");
+
+	@Test
+	public void test() {
+		var clock = new TimeLeapClock(START, ZoneOffset.UTC);
+		var component = new DummyComponent("meter0");
+		var componentManager = new DummyComponentManager(clock).addComponent(component);
+		var parent = new Rrd4jTimedataImpl();
+		parent.componentManager = componentManager;
+		var sut = new RecordWorker(parent);
+
+		// Registers the accumulators
+		sut.collectData();
+
+		for (var i = 0; i <= 10; i++) {
+			component.channel(DummyComponent.ChannelId.POWER).setNextValue(i * 100);
+			component.channel(DummyComponent.ChannelId.ENERGY).setNextValue(i);
+			component.channel(DummyComponent.ChannelId.LOW).setNextValue(i);
+			for (Channel<?> channel : component.channels()) {
+				channel.nextProcessImage();
+			}
+			sut.collectData();
+			clock.leap(30, ChronoUnit.SECONDS);
+		}
+
+		var records = new HashMap<ChannelAddress, RecordWorker.Record>();
+		for (var record : sut.records) {
+			records.put(record.address, record);
+		}
+		var timestamp = Instant.parse("2020-01-01T00:05:00Z").getEpochSecond();
+
+		// Values of all Cycles until the first Cycle of the next step are aggregated
+		var power = records.get(new ChannelAddress("meter0", "Power"));
+		assertEquals(timestamp, power.timestamp);
+		assertEquals(500, power.value, 0.001);
+
+		var energy = records.get(new ChannelAddress("meter0", "Energy"));
+		assertEquals(timestamp, energy.timestamp);
+		assertEquals(10, energy.value, 0.001);
+
+		assertFalse(records.containsKey(new ChannelAddress("meter0", "Low")));
+
+		sut.deactivate();
+	}
+
+}